@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.type.RangeRestrictedTypeDefinition;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Range checks of integer values of types modeled after {@code ietf-inet-types} and {@code ietf-yang-types}, comparing
+ * {@link RangeChecker} against {@link RangeSet#contains(Comparable)} with boxed values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class RangeCheckerBenchmark {
+    private static final String NAMESPACE = "urn:opendaylight:benchmark:range";
+
+    @Param({ "port-number", "dscp", "vlan-id", "timeticks", "multi" })
+    public String leaf;
+
+    private RangeChecker checker;
+    private RangeSet<Long> ranges;
+    private long[] values;
+    private int index;
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + RangeCheckerBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        final var type = (RangeRestrictedTypeDefinition<?, ? extends Number>) ((LeafSchemaNode) YangParserTestUtils
+            .parseYang("""
+                module range {
+                  namespace "urn:opendaylight:benchmark:range";
+                  prefix rg;
+
+                  leaf port-number {
+                    type uint16 {
+                      range "0..65535";
+                    }
+                  }
+                  leaf dscp {
+                    type uint8 {
+                      range "0..63";
+                    }
+                  }
+                  leaf vlan-id {
+                    type uint16 {
+                      range "1..4094";
+                    }
+                  }
+                  leaf timeticks {
+                    type uint32;
+                  }
+                  leaf multi {
+                    type int32 {
+                      range "-100..-50 | -10..10 | 20 | 30..40 | 1000..max";
+                    }
+                  }
+                }""").getDataChildByName(QName.create(NAMESPACE, leaf))).getType();
+
+        final var constraint = type.getRangeConstraint();
+        final var builder = ImmutableRangeSet.<Long>builder();
+        if (constraint.isPresent()) {
+            for (var range : constraint.orElseThrow().getAllowedRanges().asRanges()) {
+                builder.add(Range.closed(range.lowerEndpoint().longValue(),
+                    range.upperEndpoint().longValue()));
+            }
+        } else {
+            builder.add(Range.closed(0L, 4294967295L));
+        }
+        ranges = builder.build();
+        checker = RangeChecker.of(ranges, Long::longValue);
+
+        values = new long[] { -75, -1, 0, 5, 20, 35, 63, 100, 4094, 65535, 100000 };
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean rangeChecker() {
+        return checker.contains(nextValue());
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean rangeSet() {
+        return ranges.contains(nextValue());
+    }
+
+    private long nextValue() {
+        final var ret = values[index];
+        index = (index + 1) % values.length;
+        return ret;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Deserialization of values of a union modeled after {@code ietf-inet-types}, comparing {@link UnionStringCodec}
+ * against probing each member type with {@link TypeDefinitionAwareCodec#deserialize(Object)}, i.e. using exceptions
+ * to reject a member type. Values are chosen so that they match the first, a middle and the last member type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class UnionCodecBenchmark {
+    private static final QName ADDRESS = QName.create("urn:opendaylight:benchmark:union", "address");
+
+    @Param({ "42", "192.0.2.1", "2001:db8::1", "any" })
+    public String value;
+
+    private TypeDefinitionAwareCodec<Object, ?> codec;
+    private List<TypeDefinitionAwareCodec<Object, ?>> memberCodecs;
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + UnionCodecBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        final var type = (UnionTypeDefinition) ((LeafSchemaNode) YangParserTestUtils.parseYang("""
+            module union {
+              namespace "urn:opendaylight:benchmark:union";
+              prefix un;
+
+              typedef ipv4-address {
+                type string {
+                  pattern '(([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])\\.){3}'
+                        + '([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])'
+                        + '(%[\\p{N}\\p{L}]+)?';
+                }
+              }
+
+              typedef ipv6-address {
+                type string {
+                  pattern '((:|[0-9a-fA-F]{0,4}):)([0-9a-fA-F]{0,4}:){0,5}'
+                        + '((([0-9a-fA-F]{0,4}:)?(:|[0-9a-fA-F]{0,4}))|'
+                        + '(((25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])\\.){3}'
+                        + '(25[0-5]|2[0-4][0-9]|[01]?[0-9]?[0-9])))'
+                        + '(%[\\p{N}\\p{L}]+)?';
+                }
+              }
+
+              leaf address {
+                type union {
+                  type uint32;
+                  type ipv4-address;
+                  type ipv6-address;
+                  type enumeration {
+                    enum any;
+                  }
+                }
+              }
+            }""").getDataChildByName(ADDRESS)).getType();
+
+        codec = TypeDefinitionAwareCodec.from(type);
+        memberCodecs = type.getTypes().stream().map(TypeDefinitionAwareCodec::from).toList();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Object unionCodec() {
+        return codec.deserialize(value);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Object exceptionProbing() {
+        List<IllegalArgumentException> suppressed = null;
+        for (var memberCodec : memberCodecs) {
+            try {
+                return memberCodec.deserialize(value);
+            } catch (IllegalArgumentException e) {
+                if (suppressed == null) {
+                    suppressed = new ArrayList<>();
+                }
+                suppressed.add(e);
+            }
+        }
+        throw new IllegalArgumentException("Invalid value \"" + value + "\" for union type.");
+    }
+}
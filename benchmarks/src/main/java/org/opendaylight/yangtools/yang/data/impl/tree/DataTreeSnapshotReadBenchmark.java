@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of {@link DataTreeSnapshot} read performance, comparing
+ * {@link DataTreeSnapshot#readNode(YangInstanceIdentifier)} with its allocation-free counterparts. Run with
+ * {@code -prof gc} to observe allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class DataTreeSnapshotReadBenchmark {
+    private static final int OUTER_LIST_SIZE = 10000;
+
+    private static final List<YangInstanceIdentifier> ENTRY_PATHS = IntStream.range(0, OUTER_LIST_SIZE)
+        .mapToObj(i -> BenchmarkModel.OUTER_LIST_PATH
+            .node(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i))
+            .node(BenchmarkModel.ID_QNAME)
+            .toOptimized())
+        .toList();
+
+    private DataTreeSnapshot snapshot;
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + DataTreeSnapshotReadBenchmark.class.getSimpleName() + ".*")
+            .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws DataValidationFailedException {
+        final DataTree tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            BenchmarkModel.createTestContext());
+
+        final var outerList = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < OUTER_LIST_SIZE; ++i) {
+            outerList.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(
+                    NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, i))
+                .build());
+        }
+
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(BenchmarkModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(outerList.build())
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+        snapshot = tree.takeSnapshot();
+    }
+
+    @Benchmark
+    public void readNode(final Blackhole bh) {
+        for (var path : ENTRY_PATHS) {
+            bh.consume(snapshot.readNode(path));
+        }
+    }
+
+    @Benchmark
+    public void nodeByPath(final Blackhole bh) {
+        for (var path : ENTRY_PATHS) {
+            bh.consume(snapshot.nodeByPath(path));
+        }
+    }
+
+    @Benchmark
+    public void nodesByPath(final Blackhole bh) {
+        bh.consume(snapshot.nodesByPath(ENTRY_PATHS));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.journal.JournalConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.journal.JournalConfiguration.Durability;
+import org.opendaylight.yangtools.yang.data.tree.journal.JournaledDataTree;
+import org.opendaylight.yangtools.yang.data.tree.journal.JournaledDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of {@link JournaledDataTree} commit latency and recovery time.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class JournaledDataTreeBenchmark {
+    private static final EffectiveModelContext MODEL_CONTEXT = BenchmarkModel.createTestContext();
+
+    /**
+     * An open tree, committing a single list entry in each invocation.
+     */
+    @State(Scope.Benchmark)
+    public static class CommitState {
+        @Param({ "SYNC", "GROUP" })
+        public Durability durability;
+
+        private Path directory;
+        private JournaledDataTree tree;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException, DataValidationFailedException {
+            directory = Files.createTempDirectory("journal-commit");
+            tree = openTree(directory, JournalConfiguration.builder().setDurability(durability).build());
+            commitEmptyList(tree);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            tree.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * A directory with a number of journal records, optionally preceded by a snapshot covering half of them.
+     */
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+        @Param({ "1000", "10000" })
+        public int commitCount;
+        @Param({ "false", "true" })
+        public boolean snapshot;
+
+        private Path directory;
+        private JournalConfiguration config;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException, DataValidationFailedException {
+            directory = Files.createTempDirectory("journal-recovery");
+            config = JournalConfiguration.builder()
+                .setSnapshotInterval(snapshot ? commitCount / 2 : Long.MAX_VALUE)
+                .build();
+
+            try (var tree = openTree(directory, config)) {
+                commitEmptyList(tree);
+                for (int i = 1; i < commitCount; ++i) {
+                    commitEntry(tree, i);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteRecursively(directory);
+        }
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + JournaledDataTreeBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build()).run();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void commit(final CommitState state) throws DataValidationFailedException {
+        commitEntry(state.tree, state.next++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void recover(final RecoveryState state) throws IOException {
+        openTree(state.directory, state.config).close();
+    }
+
+    private static JournaledDataTree openTree(final Path directory, final JournalConfiguration config) {
+        return new JournaledDataTreeFactory(new InMemoryDataTreeFactory(), directory, config)
+            .create(DataTreeConfiguration.DEFAULT_OPERATIONAL, MODEL_CONTEXT);
+    }
+
+    private static void commitEmptyList(final DataTree tree) throws DataValidationFailedException {
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(BenchmarkModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST).build())
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    private static void commitEntry(final DataTree tree, final int id) throws DataValidationFailedException {
+        final var nid = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, id);
+        final MapEntryNode entry = ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(nid)
+            .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, id))
+            .build();
+
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(BenchmarkModel.OUTER_LIST_PATH.node(nid), entry);
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    private static void deleteRecursively(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
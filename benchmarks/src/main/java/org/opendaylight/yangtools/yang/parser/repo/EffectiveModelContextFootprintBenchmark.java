@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.repo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Memory footprint of many {@link EffectiveModelContext}s sharing most of their modules, as is the case with mount
+ * points of devices differing only in a few modules. Each context is made up of a common module and a single
+ * device-specific module augmenting it. The retained heap is reported through {@link Footprint} counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class EffectiveModelContextFootprintBenchmark {
+    private static final String COMMON_MODULE = createCommonModule(200);
+
+    @Param({ "10", "100", "1000" })
+    public int contextCount;
+
+    /**
+     * Retained heap measured after all contexts have been built.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+        public long bytesPerContext;
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + EffectiveModelContextFootprintBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build()).run();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public List<EffectiveModelContext> buildContexts(final Footprint footprint) {
+        final long before = usedHeap();
+        final var contexts = new ArrayList<EffectiveModelContext>(contextCount);
+        for (int i = 0; i < contextCount; ++i) {
+            contexts.add(YangParserTestUtils.parseYang(COMMON_MODULE, createDeviceModule(i)));
+        }
+
+        footprint.retainedBytes = usedHeap() - before;
+        footprint.bytesPerContext = footprint.retainedBytes / contextCount;
+        return contexts;
+    }
+
+    private static long usedHeap() {
+        final var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String createCommonModule(final int leafCount) {
+        final var sb = new StringBuilder()
+            .append("module common {\n")
+            .append("  namespace \"urn:opendaylight:benchmark:common\";\n")
+            .append("  prefix cmn;\n")
+            .append("  description \"Common module shared by all device contexts.\";\n")
+            .append("  container interfaces {\n")
+            .append("    list interface {\n")
+            .append("      key name;\n")
+            .append("      leaf name {\n")
+            .append("        type string;\n")
+            .append("      }\n");
+        for (int i = 0; i < leafCount; ++i) {
+            sb.append("      leaf counter-").append(i).append(" {\n")
+                .append("        type uint64;\n")
+                .append("        units packets;\n")
+                .append("        config false;\n")
+                .append("        description \"Number of packets observed by counter ").append(i)
+                .append(" since the last discontinuity of this interface.\";\n")
+                .append("        reference \"RFC 8343: A YANG Data Model for Interface Management\";\n")
+                .append("      }\n");
+        }
+        return sb.append("    }\n  }\n}\n").toString();
+    }
+
+    private static String createDeviceModule(final int index) {
+        return "module device-" + index + " {\n"
+            + "  namespace \"urn:opendaylight:benchmark:device-" + index + "\";\n"
+            + "  prefix dev;\n"
+            + "  import common { prefix cmn; }\n"
+            + "  augment /cmn:interfaces/cmn:interface {\n"
+            + "    leaf vendor-specific {\n"
+            + "      type string;\n"
+            + "      description \"Device-specific leaf.\";\n"
+            + "    }\n"
+            + "  }\n"
+            + "}\n";
+    }
+}
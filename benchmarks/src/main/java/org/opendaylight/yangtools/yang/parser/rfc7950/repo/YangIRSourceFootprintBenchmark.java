@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.rfc7950.repo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.spi.source.StringYangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.parser.api.YangSyntaxErrorException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Memory footprint of {@link YangIRSource}s of many similar modules, as is the case with a large corpus of vendor
+ * models, all of which are held while the reactor runs. The retained heap is reported through {@link Footprint}
+ * counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class YangIRSourceFootprintBenchmark {
+    @Param({ "10", "100", "1000" })
+    public int sourceCount;
+
+    /**
+     * Retained heap measured after all sources have been parsed.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+        public long bytesPerSource;
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + YangIRSourceFootprintBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build()).run();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public List<YangIRSource> parseSources(final Footprint footprint) throws IOException, YangSyntaxErrorException {
+        final long before = usedHeap();
+        final var sources = new ArrayList<YangIRSource>(sourceCount);
+        for (int i = 0; i < sourceCount; ++i) {
+            final var name = "vendor-" + i;
+            sources.add(TextToIRTransformer.transformText(
+                new StringYangTextSource(new SourceIdentifier(name), createModule(name, 100))));
+        }
+
+        footprint.retainedBytes = usedHeap() - before;
+        footprint.bytesPerSource = footprint.retainedBytes / sourceCount;
+        return sources;
+    }
+
+    private static long usedHeap() {
+        final var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String createModule(final String name, final int leafCount) {
+        final var sb = new StringBuilder()
+            .append("module ").append(name).append(" {\n")
+            .append("  namespace \"urn:opendaylight:benchmark:").append(name).append("\";\n")
+            .append("  prefix vnd;\n")
+            .append("  container statistics {\n")
+            .append("    config false;\n");
+        for (int i = 0; i < leafCount; ++i) {
+            sb.append("    leaf counter-").append(i).append(" {\n")
+                .append("      type uint64;\n")
+                .append("      units packets;\n")
+                .append("      description \"Number of packets observed by this counter.\";\n")
+                .append("    }\n");
+        }
+        return sb.append("  }\n}\n").toString();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.SubtreeCodec;
+
+/**
+ * A {@link SubtreeCodec} using {@link NormalizedNodeStreamVersion#POTASSIUM} encoding.
+ */
+public final class PotassiumSubtreeCodec implements SubtreeCodec {
+    public static final @NonNull PotassiumSubtreeCodec INSTANCE = new PotassiumSubtreeCodec();
+
+    private PotassiumSubtreeCodec() {
+        // Hidden on purpose
+    }
+
+    @Override
+    public byte[] encode(final NormalizedNode node) throws IOException {
+        final var out = ByteStreams.newDataOutput();
+        try (var nnout = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(out)) {
+            nnout.writeNormalizedNode(node);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public NormalizedNode decode(final byte[] bytes) throws IOException {
+        return NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(bytes)).readNormalizedNode();
+    }
+
+    @Override
+    public String toString() {
+        return "PotassiumSubtreeCodec";
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class PotassiumSubtreeCodecTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+    private static final YangInstanceIdentifier FOO_PATH = YangInstanceIdentifier.of(new NodeIdentifier(FOO));
+
+    @Test
+    void testRoundTrip() throws Exception {
+        final var container = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+            .build();
+        final var codec = PotassiumSubtreeCodec.INSTANCE;
+        assertEquals(container, codec.decode(codec.encode(container)));
+    }
+
+    @Test
+    void testDataTree() throws Exception {
+        final var tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.builder(TreeType.OPERATIONAL)
+            .setOffHeapCodec(PotassiumSubtreeCodec.INSTANCE)
+            .build(), YangParserTestUtils.parseYang("""
+                module foo {
+                  namespace foo;
+                  prefix foo;
+                  container foo {
+                    leaf bar {
+                      type string;
+                    }
+                  }
+                }"""));
+
+        final var container = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+            .build();
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(FOO_PATH, container);
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+
+        assertEquals(Optional.of(container), tree.takeSnapshot().readNode(FOO_PATH));
+        assertEquals(Optional.of(ImmutableNodes.leafNode(BAR, "bar")),
+            tree.takeSnapshot().readNode(FOO_PATH.node(BAR)));
+    }
+}
@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.data.codec.gson;
 
 import static java.util.Objects.requireNonNull;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.impl.codec.DataStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
 
@@ -35,6 +36,10 @@ abstract sealed class AbstractJSONCodec<T> implements JSONCodec<T>
         return codec.deserialize(str);
     }
 
+    final @Nullable T tryParseValue(final String str) {
+        return codec.tryDeserialize(str);
+    }
+
     final String serialize(final T input) {
         return codec.serialize(input);
     }
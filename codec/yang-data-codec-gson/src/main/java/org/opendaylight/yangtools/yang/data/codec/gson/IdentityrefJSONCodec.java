@@ -16,16 +16,22 @@ import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONValue.Kind;
 import org.opendaylight.yangtools.yang.data.util.codec.IdentityCodecUtil;
+import org.opendaylight.yangtools.yang.data.util.codec.IdentityIndex;
+import org.opendaylight.yangtools.yang.data.util.codec.IdentityIndex.DerivedIdentities;
 import org.opendaylight.yangtools.yang.data.util.codec.QNameCodecUtil;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
 
 final class IdentityrefJSONCodec implements JSONCodec<QName> {
     private final @NonNull EffectiveModelContext context;
     private final @NonNull QNameModule parentModule;
+    private final @NonNull DerivedIdentities derived;
 
-    IdentityrefJSONCodec(final EffectiveModelContext context, final QNameModule parentModule) {
+    IdentityrefJSONCodec(final EffectiveModelContext context, final IdentityrefTypeDefinition type,
+            final QNameModule parentModule) {
         this.context = requireNonNull(context);
         this.parentModule = requireNonNull(parentModule);
+        derived = IdentityIndex.of(context).derivedIdentities(type.getIdentities());
     }
 
     @Override
@@ -35,7 +41,13 @@ final class IdentityrefJSONCodec implements JSONCodec<QName> {
 
     @Override
     public QName parseValue(final String value) {
-        return IdentityCodecUtil.parseIdentity(value, context, prefix -> {
+        // Fast path: fully-qualified name of a valid identity
+        final var known = derived.lookupJsonName(value);
+        if (known != null) {
+            return known;
+        }
+
+        return derived.checkMember(IdentityCodecUtil.parseIdentity(value, context, prefix -> {
             if (prefix.isEmpty()) {
                 return parentModule;
             }
@@ -43,7 +55,7 @@ final class IdentityrefJSONCodec implements JSONCodec<QName> {
             final var modules = context.findModuleStatements(prefix).iterator();
             checkArgument(modules.hasNext(), "Could not find module %s", prefix);
             return modules.next().localQNameModule();
-        }).getQName();
+        }).getQName());
     }
 
     @Override
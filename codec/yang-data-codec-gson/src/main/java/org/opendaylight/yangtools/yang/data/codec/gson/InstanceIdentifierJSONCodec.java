@@ -51,11 +51,16 @@ abstract sealed class InstanceIdentifierJSONCodec extends AbstractStringInstance
         }
     }
 
+    // JSON encoding is context-free, hence results can be cached
+    private static final int CACHE_SIZE = Integer.getInteger(
+        "org.opendaylight.yangtools.yang.data.codec.gson.instance-identifier-cache.max-size", 4096);
+
     private final @NonNull DataSchemaContextTree dataContextTree;
     private final JSONCodecFactory codecFactory;
     private final EffectiveModelContext context;
 
     InstanceIdentifierJSONCodec(final EffectiveModelContext context, final JSONCodecFactory jsonCodecFactory) {
+        super(CACHE_SIZE);
         this.context = requireNonNull(context);
         dataContextTree = DataSchemaContextTree.from(context);
         codecFactory = requireNonNull(jsonCodecFactory);
@@ -9,6 +9,9 @@ package org.opendaylight.yangtools.yang.data.codec.gson;
 
 import static com.google.common.base.Verify.verifyNotNull;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.gson.JsonParseException;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
@@ -30,17 +33,15 @@ import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizationExcep
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizationResult;
 import org.opendaylight.yangtools.yang.data.impl.codec.AbstractIntegerStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.BinaryStringCodec;
-import org.opendaylight.yangtools.yang.data.impl.codec.BitsStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.BooleanStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.DecimalStringCodec;
-import org.opendaylight.yangtools.yang.data.impl.codec.EnumStringCodec;
-import org.opendaylight.yangtools.yang.data.impl.codec.StringStringCodec;
+import org.opendaylight.yangtools.yang.data.impl.codec.SharedTypeCodecs;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.util.codec.AbstractInputStreamNormalizer;
 import org.opendaylight.yangtools.yang.data.util.codec.CodecCache;
 import org.opendaylight.yangtools.yang.data.util.codec.LazyCodecCache;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
 import org.opendaylight.yangtools.yang.model.api.type.BinaryTypeDefinition;
@@ -111,7 +112,15 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
         }
     }
 
+    private static final int PARSER_POOL_SIZE = Integer.getInteger(
+        "org.opendaylight.yangtools.yang.data.codec.gson.parser-pool.max-size", 16);
+
+    private final LoadingCache<DataSchemaNode, JsonNameTable> nameTables = CacheBuilder.newBuilder().weakKeys()
+        .build(CacheLoader.from(node -> JsonNameTable.of(node, modelContext())));
+    private final @NonNull SharedTypeCodecs sharedCodecs;
     private final @NonNull InstanceIdentifierJSONCodec iidCodec;
+    // Parsers used by InputStreamNormalizer methods, so that parsing small documents does not allocate them anew
+    private final @NonNull JsonParserPool parsers = new JsonParserPool(this, PARSER_POOL_SIZE);
 
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR",
         justification = "https://github.com/spotbugs/spotbugs/issues/1867")
@@ -119,6 +128,7 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
             final @NonNull CodecCache<JSONCodec<?>> cache,
             final BiFunction<EffectiveModelContext, JSONCodecFactory, @NonNull InstanceIdentifierJSONCodec> iidCodec) {
         super(context, cache);
+        sharedCodecs = SharedTypeCodecs.of(context);
         this.iidCodec = verifyNotNull(iidCodec.apply(context, this));
     }
 
@@ -134,7 +144,7 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
 
     @Override
     protected final JSONCodec<?> bitsCodec(final BitsTypeDefinition type) {
-        return new QuotedJSONCodec<>(BitsStringCodec.from(type));
+        return new QuotedJSONCodec<>(sharedCodecs.bitsCodec(type));
     }
 
     @Override
@@ -149,12 +159,12 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
 
     @Override
     protected final JSONCodec<?> enumCodec(final EnumTypeDefinition type) {
-        return new QuotedJSONCodec<>(EnumStringCodec.from(type));
+        return new QuotedJSONCodec<>(sharedCodecs.enumCodec(type));
     }
 
     @Override
     protected final JSONCodec<QName> identityRefCodec(final IdentityrefTypeDefinition type, final QNameModule module) {
-        return new IdentityrefJSONCodec(modelContext(), module);
+        return new IdentityrefJSONCodec(modelContext(), type, module);
     }
 
     @Override
@@ -190,7 +200,7 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
 
     @Override
     protected final JSONCodec<?> stringCodec(final StringTypeDefinition type) {
-        return new QuotedJSONCodec<>(StringStringCodec.from(type));
+        return new QuotedJSONCodec<>(sharedCodecs.stringCodec(type));
     }
 
     @Override
@@ -215,7 +225,7 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
 
     @Override
     protected final JSONCodec<?> unionCodec(final UnionTypeDefinition type, final List<JSONCodec<?>> codecs) {
-        return UnionJSONCodec.create(type, codecs);
+        return UnionJSONCodec.create(type, sharedCodecs.unionClassifier(type), codecs);
     }
 
     // Returns a one-off factory for the purposes of normalizing an anydata tree.
@@ -233,6 +243,16 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
 
     abstract JSONCodecFactory rebaseTo(EffectiveModelContext newSchemaContext, CodecCache<JSONCodec<?>> newCache);
 
+    /**
+     * Return the {@link JsonNameTable} of JSON member names which can appear in a particular node.
+     *
+     * @param node Parent node
+     * @return A JsonNameTable
+     */
+    final @NonNull JsonNameTable nameTable(final DataSchemaNode node) {
+        return nameTables.getUnchecked(node);
+    }
+
     abstract JSONCodec<?> wrapDecimalCodec(DecimalStringCodec decimalCodec);
 
     abstract JSONCodec<?> wrapIntegerCodec(AbstractIntegerStringCodec<?, ?> integerCodec);
@@ -320,15 +340,16 @@ public abstract sealed class JSONCodecFactory extends AbstractInputStreamNormali
     private @NonNull NormalizationResult<?> parseStream(final @NonNull EffectiveStatementInference inference,
             final @NonNull InputStream stream) throws IOException, NormalizationException {
         try (var reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
-            final var holder = new NormalizationResultHolder();
-            try (var writer = ImmutableNormalizedNodeStreamWriter.from(holder)) {
-                try (var parser = JsonParserStream.create(writer, this, inference)) {
-                    parser.parse(reader);
-                } catch (JsonParseException e) {
-                    throw NormalizationException.ofCause(e);
-                }
+            final NormalizationResult<?> result;
+            try {
+                result = parsers.parse(inference, reader);
+            } catch (JsonParseException e) {
+                throw NormalizationException.ofCause(e);
+            }
+            if (result == null) {
+                throw new IllegalStateException("Parsing has not produced any data");
             }
-            return holder.getResult();
+            return result;
         }
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A source of JSON tokens consumed by {@link JsonParserStream}. This is the subset of {@link
+ * com.google.gson.stream.JsonReader} methods we need, plus a way to look up member names in a {@link JsonNameTable}.
+ */
+sealed interface JsonInput permits JsonReaderInput, Utf8JsonInput {
+
+    @NonNull JsonToken peek() throws IOException;
+
+    void beginArray() throws IOException;
+
+    void endArray() throws IOException;
+
+    void beginObject() throws IOException;
+
+    void endObject() throws IOException;
+
+    boolean hasNext() throws IOException;
+
+    @NonNull String nextName() throws IOException;
+
+    /**
+     * Consume the next member name and look it up in a {@link JsonNameTable}.
+     *
+     * @param table Table to look up the name in
+     * @return An {@link JsonNameTable.Entry}, which is unresolved if the name is not present in the table
+     * @throws IOException if an error occurs
+     */
+    JsonNameTable.@NonNull Entry nextName(@NonNull JsonNameTable table) throws IOException;
+
+    @NonNull String nextString() throws IOException;
+
+    boolean nextBoolean() throws IOException;
+
+    void nextNull() throws IOException;
+
+    void skipValue() throws IOException;
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * A table of JSON member names which can appear inside a particular {@link DataSchemaNode}. It holds both the
+ * unqualified {@code local-name} and the qualified {@code module-name:local-name} forms of each child, together with
+ * the namespace(s) they resolve to. Names can be looked up either as a {@link String} or as a slice of UTF-8 encoded
+ * bytes, so that a byte-oriented tokenizer can resolve known names without instantiating a {@link String}.
+ */
+final class JsonNameTable {
+    /**
+     * A single member name. Resolved entries come from the table and carry the information needed to pick the
+     * namespace, unresolved entries carry only the name and need to be resolved by the caller.
+     */
+    static final class Entry {
+        private final @NonNull String name;
+        private final String localName;
+        private final XMLNamespace namespace;
+        private final ImmutableSet<XMLNamespace> candidates;
+
+        private Entry(final String name, final String localName, final XMLNamespace namespace,
+                final ImmutableSet<XMLNamespace> candidates) {
+            this.name = requireNonNull(name);
+            this.localName = localName;
+            this.namespace = namespace;
+            this.candidates = candidates;
+        }
+
+        /**
+         * Return the name as it appeared in the JSON document.
+         *
+         * @return The name as it appeared in the JSON document
+         */
+        @NonNull String name() {
+            return name;
+        }
+
+        boolean isResolved() {
+            return localName != null;
+        }
+
+        /**
+         * Return the local name part of a resolved entry.
+         *
+         * @return Local name part
+         */
+        String localName() {
+            return localName;
+        }
+
+        /**
+         * Return the namespace of a resolved entry, if the name was qualified with a module name.
+         *
+         * @return Namespace, or {@code null} if the name was not qualified
+         */
+        @Nullable XMLNamespace namespace() {
+            return namespace;
+        }
+
+        /**
+         * Return the namespaces of the children matching an unqualified resolved entry.
+         *
+         * @return Candidate namespaces
+         */
+        ImmutableSet<XMLNamespace> candidates() {
+            return candidates;
+        }
+    }
+
+    private static final JsonNameTable EMPTY = new JsonNameTable(ImmutableMap.of());
+
+    private final ImmutableMap<String, Entry> byName;
+    // Open-addressed table keyed by UTF-8 encoded names, with linear probing
+    private final byte[][] keys;
+    private final Entry[] values;
+    private final int mask;
+
+    private JsonNameTable(final ImmutableMap<String, Entry> byName) {
+        this.byName = requireNonNull(byName);
+
+        // Keep the load factor at or below 0.5
+        final int size = Integer.highestOneBit(Math.max(byName.size(), 1) * 4 - 1);
+        keys = new byte[size][];
+        values = new Entry[size];
+        mask = size - 1;
+
+        for (var entry : byName.values()) {
+            final var bytes = entry.name.getBytes(StandardCharsets.UTF_8);
+            int slot = hash(bytes, 0, bytes.length) & mask;
+            while (keys[slot] != null) {
+                slot = slot + 1 & mask;
+            }
+            keys[slot] = bytes;
+            values[slot] = entry;
+        }
+    }
+
+    /**
+     * Create a table of the names of the children of a {@link DataSchemaNode}. Children of {@code choice} statements
+     * are treated as direct children, as choices and cases are not visible in JSON.
+     *
+     * @param parent Parent node
+     * @param modelContext EffectiveModelContext used to map namespaces to module names
+     * @return A JsonNameTable
+     */
+    static @NonNull JsonNameTable of(final DataSchemaNode parent, final EffectiveModelContext modelContext) {
+        if (!(parent instanceof DataNodeContainer container)) {
+            return EMPTY;
+        }
+
+        final var localNames = new LinkedHashMap<String, Set<XMLNamespace>>();
+        collectChildren(container, localNames);
+
+        final var entries = new HashMap<String, Entry>();
+        for (var local : localNames.entrySet()) {
+            final var localName = local.getKey();
+            final var candidates = ImmutableSet.copyOf(local.getValue());
+            entries.put(localName, new Entry(localName, localName, null, candidates));
+
+            for (var namespace : candidates) {
+                for (var module : modelContext.findModuleStatements(namespace)) {
+                    final var qualified = module.argument().getLocalName() + ':' + localName;
+                    entries.putIfAbsent(qualified, new Entry(qualified, localName, namespace, null));
+                }
+            }
+        }
+        return new JsonNameTable(ImmutableMap.copyOf(entries));
+    }
+
+    private static void collectChildren(final DataNodeContainer container,
+            final Map<String, Set<XMLNamespace>> localNames) {
+        for (var child : container.getChildNodes()) {
+            if (child instanceof ChoiceSchemaNode choice) {
+                for (var caseNode : choice.getCases()) {
+                    collectChildren(caseNode, localNames);
+                }
+            } else {
+                final var qname = child.getQName();
+                localNames.computeIfAbsent(qname.getLocalName(), k -> new LinkedHashSet<>()).add(qname.getNamespace());
+            }
+        }
+    }
+
+    /**
+     * Look up a name.
+     *
+     * @param name Name to look up
+     * @return A resolved entry if the name is known, an unresolved entry otherwise
+     */
+    @NonNull Entry lookup(final String name) {
+        final var entry = byName.get(name);
+        return entry != null ? entry : new Entry(name, null, null, null);
+    }
+
+    /**
+     * Look up a name encoded in UTF-8.
+     *
+     * @param bytes Byte array holding the name
+     * @param offset Offset of the first byte of the name
+     * @param length Length of the name in bytes
+     * @return A resolved entry, or {@code null} if the name is not known
+     */
+    @Nullable Entry lookup(final byte[] bytes, final int offset, final int length) {
+        int slot = hash(bytes, offset, length) & mask;
+        while (true) {
+            final var key = keys[slot];
+            if (key == null) {
+                return null;
+            }
+            if (Arrays.equals(key, 0, key.length, bytes, offset, offset + length)) {
+                return values[slot];
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    private static int hash(final byte[] bytes, final int offset, final int length) {
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; ++i) {
+            hash = 31 * hash + bytes[i];
+        }
+        // Spread the higher bits, as we use only the lower ones
+        return hash ^ hash >>> 16;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.gson.stream.JsonReader;
+import java.util.concurrent.ArrayBlockingQueue;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizationResult;
+import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of {@link JsonParserStream}s, each paired with a {@link ReusableImmutableNormalizedNodeStreamWriter}.
+ * A pool is bound to a single {@link JSONCodecFactory}, hence to a single
+ * {@link org.opendaylight.yangtools.yang.model.api.EffectiveModelContext}. Pooled parsers keep their
+ * {@link org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack} and are re-targeted to the requested
+ * inference for each document, so that parsing a document does not allocate the parsing pipeline anew.
+ *
+ * <p>
+ * The pool does not rely on thread-local state, hence it works equally well with platform and virtual threads. When
+ * the pool is empty, a new parser is allocated, and when it is full, the parser being released is dropped.
+ */
+final class JsonParserPool {
+    private static final Logger LOG = LoggerFactory.getLogger(JsonParserPool.class);
+
+    private static final class Entry {
+        final @NonNull ReusableImmutableNormalizedNodeStreamWriter writer =
+            ReusableImmutableNormalizedNodeStreamWriter.create();
+        final @NonNull JsonParserStream parser;
+
+        Entry(final JSONCodecFactory codecs, final EffectiveStatementInference inference) {
+            parser = JsonParserStream.create(writer, codecs, inference);
+        }
+    }
+
+    private final ArrayBlockingQueue<Entry> idle;
+    private final @NonNull JSONCodecFactory codecs;
+
+    JsonParserPool(final JSONCodecFactory codecs, final int maxSize) {
+        this.codecs = requireNonNull(codecs);
+        idle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    /**
+     * Parse a JSON value with a pooled parser. The reader is not closed.
+     *
+     * @param inference Logical root node
+     * @param reader JSON input
+     * @return Parsed result, or {@code null} if the input did not produce any data
+     * @throws com.google.gson.JsonParseException if the input cannot be parsed
+     */
+    @Nullable NormalizationResult<?> parse(final EffectiveStatementInference inference, final JsonReader reader) {
+        var entry = idle.poll();
+        if (entry == null) {
+            entry = new Entry(codecs, inference);
+        } else {
+            entry.parser.reset(inference);
+        }
+
+        try {
+            entry.parser.parse(reader);
+            return entry.writer.result();
+        } finally {
+            // Reset the writer before returning it, so that we do not retain the result or any partial state
+            entry.writer.reset();
+            if (!idle.offer(entry)) {
+                LOG.trace("Pool {} is full, dropping parser", this);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("idle", idle.size()).toString();
+    }
+}
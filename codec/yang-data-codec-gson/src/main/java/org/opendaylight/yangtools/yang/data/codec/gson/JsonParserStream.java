@@ -18,6 +18,8 @@ import java.io.Closeable;
 import java.io.EOFException;
 import java.io.Flushable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -56,8 +58,8 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Text;
 
 /**
- * This class parses JSON elements from a GSON JsonReader. It disallows multiple elements of the same name unlike the
- * default GSON JsonParser.
+ * This class parses JSON elements from a GSON JsonReader, or directly from UTF-8 encoded bytes. It disallows multiple
+ * elements of the same name unlike the default GSON JsonParser.
  */
 public final class JsonParserStream implements Closeable, Flushable {
     static final String ANYXML_ARRAY_ELEMENT_ID = "array-element";
@@ -66,10 +68,10 @@ public final class JsonParserStream implements Closeable, Flushable {
     private final Deque<XMLNamespace> namespaces = new ArrayDeque<>();
     private final NormalizedNodeStreamWriter writer;
     private final JSONCodecFactory codecs;
-    private final DataSchemaNode parentNode;
-
     private final SchemaInferenceStack stack;
 
+    private DataSchemaNode parentNode;
+
     // TODO: consider class specialization to remove this field
     private final boolean lenient;
 
@@ -79,22 +81,25 @@ public final class JsonParserStream implements Closeable, Flushable {
         this.codecs = requireNonNull(codecs);
         this.stack = requireNonNull(stack);
         this.lenient = lenient;
+        parentNode = parentNodeOf(stack);
+    }
 
-        if (!stack.isEmpty()) {
-            final EffectiveStatement<?, ?> parent = stack.currentStatement();
-            if (parent instanceof DataSchemaNode data) {
-                parentNode = data;
-            } else if (parent instanceof OperationDefinition oper) {
-                parentNode = oper.toContainerLike();
-            } else if (parent instanceof NotificationDefinition notif) {
-                parentNode = notif.toContainerLike();
-            } else if (parent instanceof YangDataSchemaNode yangData) {
-                parentNode = yangData.toContainerLike();
-            } else {
-                throw new IllegalArgumentException("Illegal parent node " + parent);
-            }
+    private static @NonNull DataSchemaNode parentNodeOf(final SchemaInferenceStack stack) {
+        if (stack.isEmpty()) {
+            return stack.modelContext();
+        }
+
+        final EffectiveStatement<?, ?> parent = stack.currentStatement();
+        if (parent instanceof DataSchemaNode data) {
+            return data;
+        } else if (parent instanceof OperationDefinition oper) {
+            return oper.toContainerLike();
+        } else if (parent instanceof NotificationDefinition notif) {
+            return notif.toContainerLike();
+        } else if (parent instanceof YangDataSchemaNode yangData) {
+            return yangData.toContainerLike();
         } else {
-            parentNode = stack.modelContext();
+            throw new IllegalArgumentException("Illegal parent node " + parent);
         }
     }
 
@@ -173,18 +178,53 @@ public final class JsonParserStream implements Closeable, Flushable {
     }
 
     public JsonParserStream parse(final JsonReader reader) {
-        // code copied from gson's JsonParser and Stream classes
-
         final boolean readerLenient = reader.isLenient();
         reader.setLenient(true);
+        try {
+            return parse(new JsonReaderInput(reader));
+        } finally {
+            reader.setLenient(readerLenient);
+        }
+    }
+
+    /**
+     * Parse a JSON value from UTF-8 encoded bytes provided by an {@link InputStream}. Unlike {@link #parse(JsonReader)}
+     * this method tokenizes the bytes directly, without decoding them into characters, and it accepts only
+     * well-formed RFC8259 JSON. The stream is not closed.
+     *
+     * @param stream UTF-8 encoded JSON input
+     * @return This parser
+     * @throws NullPointerException if {@code stream} is null
+     * @throws JsonParseException if the input cannot be parsed
+     */
+    public JsonParserStream parse(final InputStream stream) {
+        return parse(Utf8JsonInput.of(stream));
+    }
+
+    /**
+     * Parse a JSON value from UTF-8 encoded bytes between the position and the limit of a {@link ByteBuffer}. Unlike
+     * {@link #parse(JsonReader)} this method tokenizes the bytes directly, without decoding them into characters, and
+     * it accepts only well-formed RFC8259 JSON. The buffer's position, limit and contents are not modified.
+     *
+     * @param buffer UTF-8 encoded JSON input
+     * @return This parser
+     * @throws NullPointerException if {@code buffer} is null
+     * @throws JsonParseException if the input cannot be parsed
+     */
+    public JsonParserStream parse(final ByteBuffer buffer) {
+        return parse(Utf8JsonInput.of(buffer));
+    }
+
+    @NonNull JsonParserStream parse(final JsonInput in) {
+        // code copied from gson's JsonParser and Stream classes
         boolean isEmpty = true;
         try {
-            reader.peek();
+            in.peek();
             isEmpty = false;
             // FIXME: this has a special-case bypass for SchemaContext, where we end up emitting just the child while
             //        the usual of() would result in SchemaContext.NAME being the root
             final var compositeNodeDataWithSchema = new CompositeNodeDataWithSchema<>(parentNode);
-            read(reader, compositeNodeDataWithSchema);
+            read(in, compositeNodeDataWithSchema);
             compositeNodeDataWithSchema.write(writer);
 
             return this;
@@ -199,13 +239,25 @@ public final class JsonParserStream implements Closeable, Flushable {
         } catch (final IOException e) {
             throw new JsonIOException(e);
         } catch (StackOverflowError | OutOfMemoryError e) {
-            throw new JsonParseException("Failed parsing JSON source: " + reader + " to Json", e);
-        } finally {
-            reader.setLenient(readerLenient);
+            throw new JsonParseException("Failed parsing JSON source: " + in + " to Json", e);
         }
     }
 
-    private void traverseAnyXmlValue(final JsonReader in, final Document doc, final Element parentElement)
+    /**
+     * Reset this parser so that it can parse another document, logically rooted at the specified parent node. Internal
+     * state, including the {@link SchemaInferenceStack}, is reused. The backing {@link NormalizedNodeStreamWriter} is
+     * not touched, it is up to the caller to reset it.
+     *
+     * @param inference Logical root node, must be attached to this parser's {@link JSONCodecFactory#modelContext()}
+     * @throws IllegalArgumentException if {@code inference} is not valid
+     */
+    void reset(final EffectiveStatementInference inference) {
+        stack.resetTo(inference);
+        parentNode = parentNodeOf(stack);
+        namespaces.clear();
+    }
+
+    private void traverseAnyXmlValue(final JsonInput in, final Document doc, final Element parentElement)
             throws IOException {
         switch (in.peek()) {
             case STRING:
@@ -245,7 +297,7 @@ public final class JsonParserStream implements Closeable, Flushable {
         }
     }
 
-    private void readAnyXmlValue(final JsonReader in, final AnyXmlNodeDataWithSchema parent,
+    private void readAnyXmlValue(final JsonInput in, final AnyXmlNodeDataWithSchema parent,
             final String anyXmlObjectName) throws IOException {
         final var doc = UntrustedXML.newDocumentBuilder().newDocument();
         final var rootElement = doc.createElementNS(getCurrentNamespace().toString(), anyXmlObjectName);
@@ -255,7 +307,7 @@ public final class JsonParserStream implements Closeable, Flushable {
         parent.setValue(new DOMSource(doc.getDocumentElement()));
     }
 
-    private void read(final JsonReader in, AbstractNodeDataWithSchema<?> parent) throws IOException {
+    private void read(final JsonInput in, AbstractNodeDataWithSchema<?> parent) throws IOException {
         switch (in.peek()) {
             case STRING:
             case NUMBER:
@@ -292,12 +344,23 @@ public final class JsonParserStream implements Closeable, Flushable {
                 if (isArray(parent)) {
                     parent = newArrayEntry(parent);
                 }
+                final var parentSchema = parent.getSchema();
+                final var names = codecs.nameTable(parentSchema);
                 while (in.hasNext()) {
-                    final var jsonElementName = in.nextName();
-                    final var parentSchema = parent.getSchema();
-                    final var namespaceAndName = resolveNamespace(jsonElementName, parentSchema);
-                    final var localName = namespaceAndName.getKey();
-                    final var namespace = namespaceAndName.getValue();
+                    final var member = in.nextName(names);
+                    final var jsonElementName = member.name();
+                    final String localName;
+                    final XMLNamespace namespace;
+                    if (member.isResolved()) {
+                        localName = member.localName();
+                        final var qualified = member.namespace();
+                        namespace = qualified != null ? qualified
+                            : selectNamespace(localName, member.candidates(), parentSchema);
+                    } else {
+                        final var namespaceAndName = resolveNamespace(jsonElementName, parentSchema);
+                        localName = namespaceAndName.getKey();
+                        namespace = namespaceAndName.getValue();
+                    }
                     if (lenient && (localName == null || namespace == null)) {
                         LOG.debug("Schema node with name {} was not found under {}", localName,
                             parentSchema.getQName());
@@ -392,23 +455,30 @@ public final class JsonParserStream implements Closeable, Flushable {
         }
 
         if (namespace == null) {
-            final var potentialUris = resolveAllPotentialNamespaces(nodeNamePart, dataSchemaNode);
-            if (potentialUris.contains(getCurrentNamespace())) {
-                namespace = getCurrentNamespace();
-            } else if (potentialUris.size() == 1) {
-                namespace = potentialUris.iterator().next();
-            } else if (potentialUris.size() > 1) {
-                throw new IllegalStateException("Choose suitable module name for element " + nodeNamePart + ":"
-                        + toModuleNames(potentialUris));
-            } else if (potentialUris.isEmpty() && !lenient) {
-                throw new IllegalStateException("Schema node with name " + nodeNamePart + " was not found under "
-                        + dataSchemaNode.getQName() + ".");
-            }
+            namespace = selectNamespace(nodeNamePart, resolveAllPotentialNamespaces(nodeNamePart, dataSchemaNode),
+                dataSchemaNode);
         }
 
         return new SimpleImmutableEntry<>(nodeNamePart, namespace);
     }
 
+    private XMLNamespace selectNamespace(final String nodeNamePart, final Set<XMLNamespace> potentialUris,
+            final DataSchemaNode dataSchemaNode) {
+        final var currentNamespace = getCurrentNamespace();
+        if (potentialUris.contains(currentNamespace)) {
+            return currentNamespace;
+        } else if (potentialUris.size() == 1) {
+            return potentialUris.iterator().next();
+        } else if (potentialUris.size() > 1) {
+            throw new IllegalStateException("Choose suitable module name for element " + nodeNamePart + ":"
+                    + toModuleNames(potentialUris));
+        } else if (!lenient) {
+            throw new IllegalStateException("Schema node with name " + nodeNamePart + " was not found under "
+                    + dataSchemaNode.getQName() + ".");
+        }
+        return null;
+    }
+
     private String toModuleNames(final Set<XMLNamespace> potentialUris) {
         final var sb = new StringBuilder();
         for (var potentialUri : potentialUris) {
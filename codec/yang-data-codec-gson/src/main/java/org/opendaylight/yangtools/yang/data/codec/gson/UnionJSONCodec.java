@@ -12,8 +12,12 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableList;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.impl.codec.UnionClassifier;
 import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,8 +31,8 @@ import org.slf4j.LoggerFactory;
  */
 abstract sealed class UnionJSONCodec<T> implements JSONCodec<T> {
     private static final class Diverse extends UnionJSONCodec<Object> {
-        Diverse(final List<JSONCodec<?>> codecs) {
-            super(codecs);
+        Diverse(final UnionClassifier classifier, final List<JSONCodec<?>> codecs) {
+            super(classifier, codecs);
         }
 
         @Override
@@ -40,8 +44,8 @@ abstract sealed class UnionJSONCodec<T> implements JSONCodec<T> {
     private static final class SingleType<T> extends UnionJSONCodec<T> {
         private final Class<T> dataClass;
 
-        SingleType(final Class<T> dataClass, final List<JSONCodec<?>> codecs) {
-            super(codecs);
+        SingleType(final Class<T> dataClass, final UnionClassifier classifier, final List<JSONCodec<?>> codecs) {
+            super(classifier, codecs);
             this.dataClass = requireNonNull(dataClass);
         }
 
@@ -51,15 +55,46 @@ abstract sealed class UnionJSONCodec<T> implements JSONCodec<T> {
         }
     }
 
+    /**
+     * A non-throwing parser of a single member type, returning {@code null} if the member does not accept the input.
+     */
+    @FunctionalInterface
+    private interface MemberParser {
+        @Nullable Object tryParse(@NonNull String str);
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(UnionJSONCodec.class);
 
     private final ImmutableList<JSONCodec<?>> codecs;
+    private final ImmutableList<MemberParser> parsers;
+    private final UnionClassifier classifier;
 
-    UnionJSONCodec(final List<JSONCodec<?>> codecs) {
+    UnionJSONCodec(final UnionClassifier classifier, final List<JSONCodec<?>> codecs) {
+        this.classifier = requireNonNull(classifier);
         this.codecs = ImmutableList.copyOf(codecs);
+        parsers = this.codecs.stream().map(UnionJSONCodec::memberParser).collect(ImmutableList.toImmutableList());
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private static @NonNull MemberParser memberParser(final JSONCodec<?> codec) {
+        if (codec instanceof AbstractJSONCodec<?> simple) {
+            return simple::tryParseValue;
+        } else if (codec instanceof UnionJSONCodec<?> union) {
+            return union::tryParseValue;
+        }
+        // Codecs which depend on the model context, which do not have a non-throwing variant
+        return str -> {
+            try {
+                return codec.parseValue(str);
+            } catch (RuntimeException e) {
+                LOG.debug("Codec {} did not accept input '{}'", codec, str, e);
+                return null;
+            }
+        };
     }
 
-    static UnionJSONCodec<?> create(final UnionTypeDefinition type, final List<JSONCodec<?>> codecs) {
+    static UnionJSONCodec<?> create(final UnionTypeDefinition type, final UnionClassifier classifier,
+            final List<JSONCodec<?>> codecs) {
         final Iterator<JSONCodec<?>> it = codecs.iterator();
         verify(it.hasNext(), "Union %s has no subtypes", type);
 
@@ -68,30 +103,54 @@ abstract sealed class UnionJSONCodec<T> implements JSONCodec<T> {
             final Class<?> next = it.next().getDataType();
             if (!dataClass.equals(next)) {
                 LOG.debug("Type {} has diverse data classes: {} and {}", type, dataClass, next);
-                return new Diverse(codecs);
+                return new Diverse(classifier, codecs);
             }
         }
 
         LOG.debug("Type {} has single data class {}", type, dataClass);
-        return new SingleType<>(dataClass, codecs);
+        return new SingleType<>(dataClass, classifier, codecs);
     }
 
     @Override
-    @SuppressWarnings("checkstyle:illegalCatch")
     public final T parseValue(final String str) {
+        final var ret = tryParseValue(str);
+        return ret != null ? ret : parseWithDiagnostics(str);
+    }
+
+    final @Nullable T tryParseValue(final String str) {
+        final int lexicalClass = UnionClassifier.classify(str);
+        for (int i = 0, size = parsers.size(); i < size; ++i) {
+            if (classifier.mayAccept(i, lexicalClass)) {
+                final var ret = parsers.get(i).tryParse(str);
+                if (ret != null) {
+                    return getDataType().cast(ret);
+                }
+            }
+        }
+        return null;
+    }
+
+    // Slow path taken when no member type has accepted the value: collect the reasons each member rejected it
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private T parseWithDiagnostics(final String str) {
+        final var suppressed = new ArrayList<RuntimeException>();
+
         for (var codec : codecs) {
             final Object ret;
             try {
                 ret = codec.parseValue(str);
             } catch (RuntimeException e) {
                 LOG.debug("Codec {} did not accept input '{}'", codec, str, e);
+                suppressed.add(e);
                 continue;
             }
 
             return getDataType().cast(ret);
         }
 
-        throw new IllegalArgumentException("Invalid value \"" + str + "\" for union type.");
+        final var ex = new IllegalArgumentException("Invalid value \"" + str + "\" for union type.");
+        suppressed.forEach(ex::addSuppressed);
+        throw ex;
     }
 
     @Override
@@ -0,0 +1,647 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A {@link JsonInput} which tokenizes UTF-8 encoded bytes directly, without going through a {@link java.io.Reader}.
+ * Member names are matched against {@link JsonNameTable}s as raw bytes, so that known names do not result in a
+ * {@link String} being created. Strings are decoded only when they are requested and numbers, which are always ASCII,
+ * are handed out without charset decoding.
+ *
+ * <p>
+ * The accepted syntax is RFC8259 JSON, with the exception that multiple top-level values are allowed, so that callers
+ * can check what follows the value they are interested in. Strings must not contain unescaped control characters and
+ * must be well-formed UTF-8, as defined by RFC3629. A leading byte order mark is ignored, as permitted by
+ * RFC8259 section 8.1.
+ */
+final class Utf8JsonInput implements JsonInput, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // Scopes, kept in 'stack'
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final InputStream stream;
+    private final ByteBuffer source;
+
+    private byte[] buf;
+    private int pos;
+    private int limit;
+    // Number of bytes discarded from the start of buf, for error reporting
+    private long discarded;
+
+    private int[] stack = new int[32];
+    private int stackSize = 1;
+
+    private JsonToken peeked;
+    // Valid only when peeked is BOOLEAN
+    private boolean peekedBoolean;
+    // Valid only when peeked is NUMBER
+    private int numberStart;
+    private int numberLength;
+
+    private Utf8JsonInput(final InputStream stream, final ByteBuffer source, final byte[] buf, final int pos,
+            final int limit) {
+        this.stream = stream;
+        this.source = source;
+        this.buf = buf;
+        this.pos = pos;
+        this.limit = limit;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    static @NonNull Utf8JsonInput of(final InputStream stream) {
+        return new Utf8JsonInput(requireNonNull(stream), null, new byte[DEFAULT_BUFFER_SIZE], 0, 0);
+    }
+
+    static @NonNull Utf8JsonInput of(final ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            // Operate directly on the backing array, we will never write to it
+            final int offset = buffer.arrayOffset() + buffer.position();
+            final var ret = new Utf8JsonInput(null, null, buffer.array(), offset, offset + buffer.remaining());
+            ret.discarded = -offset;
+            return ret;
+        }
+        return new Utf8JsonInput(null, buffer.duplicate(),
+            new byte[Math.min(buffer.remaining(), DEFAULT_BUFFER_SIZE)], 0, 0);
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        final var local = peeked;
+        return local != null ? local : (peeked = doPeek());
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stackSize--;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stackSize--;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final var token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        return readString();
+    }
+
+    @Override
+    public JsonNameTable.Entry nextName(final JsonNameTable table) throws IOException {
+        expect(JsonToken.NAME);
+
+        // Fast path: find the closing quote, if there are no escapes we can look the bytes up directly
+        int len = 0;
+        while (true) {
+            if (pos + len == limit && !fill()) {
+                throw syntaxError("Unterminated name");
+            }
+            final byte b = buf[pos + len];
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\') {
+                return table.lookup(readString());
+            }
+            len++;
+        }
+
+        final var entry = table.lookup(buf, pos, len);
+        if (entry != null) {
+            pos += len + 1;
+            return entry;
+        }
+        return table.lookup(readString());
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        final var token = peek();
+        if (token == JsonToken.NUMBER) {
+            peeked = null;
+            // Numbers are pure ASCII, which makes ISO-8859-1 a simple copy
+            return new String(buf, numberStart, numberLength, StandardCharsets.ISO_8859_1);
+        }
+        expect(JsonToken.STRING);
+        return readString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        return peekedBoolean;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    depth++;
+                }
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    depth++;
+                }
+                case END_ARRAY -> {
+                    endArray();
+                    depth--;
+                }
+                case END_OBJECT -> {
+                    endObject();
+                    depth--;
+                }
+                case NAME, STRING -> {
+                    peeked = null;
+                    skipString();
+                }
+                case NUMBER, BOOLEAN, NULL -> peeked = null;
+                default -> {
+                    // END_DOCUMENT
+                    throw new EOFException("End of input" + location());
+                }
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Utf8JsonInput.class.getSimpleName() + location();
+    }
+
+    private void expect(final JsonToken expected) throws IOException {
+        final var token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token + location());
+        }
+        peeked = null;
+    }
+
+    private void push(final int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private JsonToken doPeek() throws IOException {
+        final int top = stackSize - 1;
+        switch (stack[top]) {
+            case EMPTY_ARRAY -> {
+                stack[top] = NONEMPTY_ARRAY;
+                if (nextNonWhitespace() == ']') {
+                    pos++;
+                    return JsonToken.END_ARRAY;
+                }
+            }
+            case NONEMPTY_ARRAY -> {
+                switch (nextNonWhitespace()) {
+                    case ']' -> {
+                        pos++;
+                        return JsonToken.END_ARRAY;
+                    }
+                    case ',' -> pos++;
+                    default -> throw syntaxError("Unterminated array");
+                }
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                int ch = nextNonWhitespace();
+                if (stack[top] == NONEMPTY_OBJECT) {
+                    switch (ch) {
+                        case '}' -> {
+                            pos++;
+                            return JsonToken.END_OBJECT;
+                        }
+                        case ',' -> {
+                            pos++;
+                            ch = nextNonWhitespace();
+                        }
+                        default -> throw syntaxError("Unterminated object");
+                    }
+                } else if (ch == '}') {
+                    pos++;
+                    return JsonToken.END_OBJECT;
+                }
+                if (ch != '"') {
+                    throw syntaxError("Expected name");
+                }
+                pos++;
+                stack[top] = DANGLING_NAME;
+                return JsonToken.NAME;
+            }
+            case DANGLING_NAME -> {
+                stack[top] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                pos++;
+            }
+            case EMPTY_DOCUMENT -> {
+                stack[top] = NONEMPTY_DOCUMENT;
+                skipByteOrderMark();
+                if (nextNonWhitespaceOrEnd() == -1) {
+                    throw new EOFException("End of input" + location());
+                }
+            }
+            case NONEMPTY_DOCUMENT -> {
+                if (nextNonWhitespaceOrEnd() == -1) {
+                    return JsonToken.END_DOCUMENT;
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected scope " + stack[top]);
+        }
+
+        return peekValue();
+    }
+
+    private JsonToken peekValue() throws IOException {
+        final int ch = nextNonWhitespace();
+        return switch (ch) {
+            case '"' -> {
+                pos++;
+                yield JsonToken.STRING;
+            }
+            case '{' -> {
+                pos++;
+                yield JsonToken.BEGIN_OBJECT;
+            }
+            case '[' -> {
+                pos++;
+                yield JsonToken.BEGIN_ARRAY;
+            }
+            case 't' -> {
+                consumeLiteral("true");
+                peekedBoolean = true;
+                yield JsonToken.BOOLEAN;
+            }
+            case 'f' -> {
+                consumeLiteral("false");
+                peekedBoolean = false;
+                yield JsonToken.BOOLEAN;
+            }
+            case 'n' -> {
+                consumeLiteral("null");
+                yield JsonToken.NULL;
+            }
+            default -> {
+                if (ch != '-' && (ch < '0' || ch > '9')) {
+                    throw syntaxError("Unexpected character '" + (char) (ch & 0xFF) + "'");
+                }
+                consumeNumber();
+                yield JsonToken.NUMBER;
+            }
+        };
+    }
+
+    private void consumeLiteral(final String literal) throws IOException {
+        final int len = literal.length();
+        for (int i = 0; i < len; ++i) {
+            if (pos + i == limit && !fill() || buf[pos + i] != literal.charAt(i)) {
+                throw syntaxError("Expected '" + literal + "'");
+            }
+        }
+        if ((pos + len < limit || fill()) && isLiteralPart(buf[pos + len])) {
+            throw syntaxError("Expected '" + literal + "'");
+        }
+        pos += len;
+    }
+
+    /*
+     * Consume a number conforming to the RFC8259 grammar:
+     *
+     *   number = [ minus ] int [ frac ] [ exp ]
+     *   int = zero / ( digit1-9 *DIGIT )
+     *   frac = decimal-point 1*DIGIT
+     *   exp = e [ minus / plus ] 1*DIGIT
+     */
+    private void consumeNumber() throws IOException {
+        int len = 0;
+        if (byteAt(len) == '-') {
+            len++;
+        }
+
+        int ch = byteAt(len);
+        if (ch == '0') {
+            len++;
+        } else if (isDigit(ch)) {
+            len = skipDigits(len + 1);
+        } else {
+            throw syntaxError("Malformed number");
+        }
+
+        if (byteAt(len) == '.') {
+            len = requireDigits(len + 1);
+        }
+
+        ch = byteAt(len);
+        if (ch == 'e' || ch == 'E') {
+            len++;
+            ch = byteAt(len);
+            if (ch == '+' || ch == '-') {
+                len++;
+            }
+            len = requireDigits(len);
+        }
+
+        if (isLiteralPart(byteAt(len))) {
+            throw syntaxError("Malformed number");
+        }
+
+        numberStart = pos;
+        numberLength = len;
+        pos += len;
+    }
+
+    private int requireDigits(final int offset) throws IOException {
+        if (!isDigit(byteAt(offset))) {
+            throw syntaxError("Malformed number");
+        }
+        return skipDigits(offset + 1);
+    }
+
+    private int skipDigits(final int offset) throws IOException {
+        int len = offset;
+        while (isDigit(byteAt(len))) {
+            len++;
+        }
+        return len;
+    }
+
+    // Return the byte at pos + offset, or -1 if the input ends before that
+    private int byteAt(final int offset) throws IOException {
+        while (pos + offset >= limit) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return buf[pos + offset];
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (discarded + pos == 0 && byteAt(0) == (byte) 0xEF && byteAt(1) == (byte) 0xBB
+            && byteAt(2) == (byte) 0xBF) {
+            pos += 3;
+        }
+    }
+
+    /*
+     * Read a string or a name, with pos pointing just past the opening quote. Segments between escapes are validated
+     * by stringByteLength() and then decoded as a whole, which is safe as neither quote nor backslash can appear within
+     * a multi-byte UTF-8 sequence.
+     */
+    private String readString() throws IOException {
+        StringBuilder sb = null;
+        while (true) {
+            int len = 0;
+            byte terminator;
+            while (true) {
+                if (pos + len == limit && !fill()) {
+                    throw syntaxError("Unterminated string");
+                }
+                terminator = buf[pos + len];
+                if (terminator == '"' || terminator == '\\') {
+                    break;
+                }
+                len += stringByteLength(len);
+            }
+
+            final var segment = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len + 1;
+            if (terminator == '"') {
+                return sb == null ? segment : sb.append(segment).toString();
+            }
+            if (sb == null) {
+                sb = new StringBuilder(len + 16);
+            }
+            sb.append(segment).append(readEscape());
+        }
+    }
+
+    private char readEscape() throws IOException {
+        final int ch = byteAt(0);
+        if (ch == -1) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        pos++;
+        return switch (ch) {
+            case '"', '\\', '/' -> (char) ch;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int value = 0;
+                for (int i = 0; i < 4; ++i) {
+                    final int digit = Character.digit(byteAt(i), 16);
+                    if (digit == -1) {
+                        throw syntaxError("Malformed unicode escape");
+                    }
+                    value = value << 4 | digit;
+                }
+                pos += 4;
+                yield (char) value;
+            }
+            default -> throw syntaxError("Invalid escape sequence");
+        };
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                throw syntaxError("Unterminated string");
+            }
+            final byte b = buf[pos];
+            if (b == '"') {
+                pos++;
+                return;
+            }
+            if (b == '\\') {
+                pos++;
+                readEscape();
+            } else {
+                pos += stringByteLength(0);
+            }
+        }
+    }
+
+    /*
+     * Return the length of the character starting at pos + offset within a string, which is neither a quote nor
+     * a backslash. Rejects unescaped control characters and UTF-8 sequences which are not well-formed according to
+     * RFC3629 section 4, i.e. overlong encodings, surrogates and code points beyond U+10FFFF.
+     */
+    private int stringByteLength(final int offset) throws IOException {
+        final int lead = buf[pos + offset] & 0xFF;
+        if (lead < 0x80) {
+            if (lead < 0x20) {
+                throw syntaxError("Unescaped control character");
+            }
+            return 1;
+        }
+
+        final int length;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            if (lead == 0xE0) {
+                min = 0xA0;
+            } else if (lead == 0xED) {
+                max = 0x9F;
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            if (lead == 0xF0) {
+                min = 0x90;
+            } else if (lead == 0xF4) {
+                max = 0x8F;
+            }
+        } else {
+            throw syntaxError("Malformed UTF-8");
+        }
+
+        // Only the second byte has a restricted range, the remaining ones are plain continuation bytes
+        for (int i = 1; i < length; ++i) {
+            final int next = byteAt(offset + i) & 0xFF;
+            if (next < min || next > max) {
+                throw syntaxError("Malformed UTF-8");
+            }
+            min = 0x80;
+            max = 0xBF;
+        }
+        return length;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        final int ch = nextNonWhitespaceOrEnd();
+        if (ch == -1) {
+            throw new EOFException("End of input" + location());
+        }
+        return ch;
+    }
+
+    private int nextNonWhitespaceOrEnd() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            final byte b = buf[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return b;
+            }
+            pos++;
+        }
+    }
+
+    /*
+     * Make more bytes available in buf. Bytes from pos onwards are retained, but they may be moved towards the start
+     * of buf. Callers therefore need to track their progress relative to pos.
+     */
+    private boolean fill() throws IOException {
+        if (stream == null && (source == null || !source.hasRemaining())) {
+            return false;
+        }
+
+        if (pos != 0) {
+            final int retained = limit - pos;
+            System.arraycopy(buf, pos, buf, 0, retained);
+            discarded += pos;
+            pos = 0;
+            limit = retained;
+        }
+        if (limit == buf.length) {
+            buf = Arrays.copyOf(buf, buf.length * 2);
+        }
+
+        final int count;
+        if (stream != null) {
+            count = stream.read(buf, limit, buf.length - limit);
+            if (count == -1) {
+                return false;
+            }
+        } else {
+            count = Math.min(source.remaining(), buf.length - limit);
+            source.get(buf, limit, count);
+        }
+        limit += count;
+        return true;
+    }
+
+    private MalformedJsonException syntaxError(final String message) {
+        return new MalformedJsonException(message + location());
+    }
+
+    private String location() {
+        return " at offset " + (discarded + pos);
+    }
+
+    private static boolean isDigit(final int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isLiteralPart(final int ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || isDigit(ch) || ch == '_' || ch == '.'
+            || ch == '+' || ch == '-';
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class InstanceIdentifierJSONCodecCacheTest {
+    private static final QName BAR = QName.create("barns", "bar");
+    private static final QName KEY = QName.create("barns", "key");
+    private static final YangInstanceIdentifier IID = YangInstanceIdentifier.builder()
+        .node(BAR)
+        .nodeWithKey(BAR, KEY, "one")
+        .build();
+    private static final String STR = "/bar:bar[key='one']";
+
+    private final InstanceIdentifierJSONCodec codec = assertInstanceOf(InstanceIdentifierJSONCodec.class,
+        JSONCodecFactorySupplier.RFC7951.createSimple(YangParserTestUtils.parseYang("""
+            module bar {
+              namespace barns;
+              prefix br;
+
+              list bar {
+                key key;
+                leaf key {
+                  type string;
+                }
+              }
+            }""")).instanceIdentifierCodec());
+
+    @Test
+    void parseValueIsCached() {
+        final var first = codec.parseValue(STR);
+        assertEquals(IID, first);
+        assertSame(first, codec.parseValue(STR));
+
+        final var stats = codec.deserializeCacheStats();
+        assertNotNull(stats);
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void serializeIsCached() {
+        final var first = codec.unparseValue(IID).rawString();
+        assertEquals(STR, first);
+        assertSame(first, codec.unparseValue(IID).rawString());
+
+        final var stats = codec.serializeCacheStats();
+        assertNotNull(stats);
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> codec.parseValue("/bar:baz"));
+        assertThrows(IllegalArgumentException.class, () -> codec.parseValue("/bar:baz"));
+
+        final var stats = codec.deserializeCacheStats();
+        assertNotNull(stats);
+        assertEquals(0, stats.hitCount());
+        assertEquals(2, stats.missCount());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class JsonParserPoolTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName STR = QName.create("foo", "str");
+
+    private final JSONCodecFactory codecs = JSONCodecFactorySupplier.RFC7951.createSimple(
+        YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+
+              container foo {
+                leaf str {
+                  type string;
+                }
+              }
+            }"""));
+    private final JsonParserPool pool = new JsonParserPool(codecs, 1);
+
+    @Test
+    void parsersAreReused() {
+        final var root = Inference.of(codecs.modelContext());
+        assertEquals(ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(STR, "one"))
+            .build(), parse(root, """
+                { "foo:foo" : { "str" : "one" } }"""));
+        assertEquals("JsonParserPool{idle=1}", pool.toString());
+
+        // The idle parser is re-targeted to a different parent
+        assertEquals(ImmutableNodes.leafNode(STR, "two"), parse(SchemaInferenceStack.ofDataTreePath(
+            codecs.modelContext(), FOO).toInference(), """
+                { "foo:str" : "two" }"""));
+        assertEquals("JsonParserPool{idle=1}", pool.toString());
+
+        // ... and back
+        assertEquals(ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(STR, "three"))
+            .build(), parse(root, """
+                { "foo:foo" : { "str" : "three" } }"""));
+    }
+
+    @Test
+    void failedParserIsReused() {
+        final var root = Inference.of(codecs.modelContext());
+        assertThrows(JsonParseException.class, () -> parse(root, """
+            { "foo:foo" : { "str" : """));
+        assertEquals("JsonParserPool{idle=1}", pool.toString());
+
+        assertEquals(ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(STR, "str"))
+            .build(), parse(root, """
+                { "foo:foo" : { "str" : "str" } }"""));
+    }
+
+    private NormalizedNode parse(final EffectiveStatementInference inference, final String json) {
+        final var result = pool.parse(inference, new JsonReader(new StringReader(json)));
+        assertNotNull(result);
+        return result.data();
+    }
+}
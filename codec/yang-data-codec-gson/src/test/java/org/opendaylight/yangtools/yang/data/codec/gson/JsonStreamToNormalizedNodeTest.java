@@ -15,7 +15,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opendaylight.yangtools.yang.data.codec.gson.TestUtils.loadTextFile;
 
 import com.google.gson.stream.JsonReader;
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
@@ -235,10 +239,20 @@ class JsonStreamToNormalizedNodeTest extends AbstractComplexJsonTest {
 
     private static void verifyTransformationToNormalizedNode(final String inputJson,
             final NormalizedNode awaitedStructure) {
+        verifyTransformationToNormalizedNode(awaitedStructure,
+            parser -> parser.parse(new JsonReader(new StringReader(inputJson))));
+
+        final var bytes = inputJson.getBytes(StandardCharsets.UTF_8);
+        verifyTransformationToNormalizedNode(awaitedStructure,
+            parser -> parser.parse(new ByteArrayInputStream(bytes)));
+        verifyTransformationToNormalizedNode(awaitedStructure, parser -> parser.parse(ByteBuffer.wrap(bytes)));
+    }
+
+    private static void verifyTransformationToNormalizedNode(final NormalizedNode awaitedStructure,
+            final Consumer<JsonParserStream> parse) {
         final var result = new NormalizationResultHolder();
         final var streamWriter = ImmutableNormalizedNodeStreamWriter.from(result);
-        final var jsonParser = JsonParserStream.create(streamWriter, lhotkaCodecFactory);
-        jsonParser.parse(new JsonReader(new StringReader(inputJson)));
+        parse.accept(JsonParserStream.create(streamWriter, lhotkaCodecFactory));
         assertEquals(awaitedStructure, result.getResult().data(),
                 "Transformation of json input to normalized node wasn't successful.");
     }
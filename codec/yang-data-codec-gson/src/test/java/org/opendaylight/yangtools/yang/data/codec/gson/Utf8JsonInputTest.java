@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class Utf8JsonInputTest {
+    private static final String DOCUMENT = """
+        {
+          "foo:cont" : {
+            "str" : "a\\"b\\\\c\\/d\\b\\f\\n\\r\\t\\u0041\\ud83d\\ude00",
+            "utf" : "žluťoučký kůň €",
+            "nums" : [ 0, -1, 12.5, 1e3, -0.5E-2, 123456789012345678901234567890 ],
+            "flags" : [ true, false, null ],
+            "empty" : { },
+            "nested" : [ [ ], [ { "a\\u0062c" : "x" } ] ]
+          }
+        }""";
+
+    @Test
+    void testTokensMatchJsonReader() throws IOException {
+        final var expected = tokens(new JsonReaderInput(new JsonReader(new StringReader(DOCUMENT))));
+        final var bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected, tokens(Utf8JsonInput.of(new ByteArrayInputStream(bytes))));
+        assertEquals(expected, tokens(Utf8JsonInput.of(new OneByteInputStream(bytes))));
+        assertEquals(expected, tokens(Utf8JsonInput.of(ByteBuffer.wrap(bytes))));
+
+        final var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertEquals(expected, tokens(Utf8JsonInput.of(direct)));
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void testSlicedBuffer() throws IOException {
+        final var bytes = "xx[1,\"2\"]yy".getBytes(StandardCharsets.UTF_8);
+        final var input = Utf8JsonInput.of(ByteBuffer.wrap(bytes, 2, 7).slice());
+        input.beginArray();
+        assertEquals("1", input.nextString());
+        assertEquals("2", input.nextString());
+        input.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, input.peek());
+    }
+
+    @Test
+    void testLongString() throws IOException {
+        final var str = "ř".repeat(10000);
+        final var bytes = ('"' + str + '"').getBytes(StandardCharsets.UTF_8);
+        final var input = Utf8JsonInput.of(new OneByteInputStream(bytes));
+        assertEquals(JsonToken.STRING, input.peek());
+        assertEquals(str, input.nextString());
+        assertEquals(JsonToken.END_DOCUMENT, input.peek());
+    }
+
+    @Test
+    void testSkipValue() throws IOException {
+        final var input = Utf8JsonInput.of(ByteBuffer.wrap("""
+            { "a" : { "b" : [ 1, "x\\"}", { } ], "c" : null }, "d" : true }""".getBytes(StandardCharsets.UTF_8)));
+        input.beginObject();
+        assertEquals("a", input.nextName());
+        input.skipValue();
+        assertEquals("d", input.nextName());
+        assertTrue(input.nextBoolean());
+        assertFalse(input.hasNext());
+        input.endObject();
+    }
+
+    @Test
+    void testEmptyInput() {
+        assertThrows(EOFException.class, () -> Utf8JsonInput.of(ByteBuffer.wrap(new byte[] { ' ', '\n' })).peek());
+    }
+
+    @Test
+    void testMalformedInput() {
+        assertMalformed("{ \"a\" 1 }", "Expected ':' at offset 6");
+        assertMalformed("[ 1 2 ]", "Unterminated array at offset 4");
+        assertMalformed("{ 'a' : 1 }", "Expected name at offset 2");
+        assertMalformed("[ 01 ]", "Malformed number at offset 2");
+        assertMalformed("[ 1. ]", "Malformed number at offset 2");
+        assertMalformed("[ -x ]", "Malformed number at offset 2");
+        assertMalformed("[ tru ]", "Expected 'true' at offset 2");
+        assertMalformed("[ nulls ]", "Expected 'null' at offset 2");
+        assertMalformed("[ \"a\\x\" ]", "Invalid escape sequence at offset 6");
+        assertMalformed("[ \"abc", "Unterminated string at offset 3");
+    }
+
+    @Test
+    void testControlCharacter() {
+        assertMalformed("[ \"a\tb\" ]", "Unescaped control character at offset 3");
+        assertMalformed("{ \"a\nb\" : 1 }", "Unescaped control character at offset 3");
+
+        final var input = Utf8JsonInput.of(ByteBuffer.wrap("[ \"a\u0000b\" ]".getBytes(StandardCharsets.UTF_8)));
+        final var ex = assertThrows(MalformedJsonException.class, () -> {
+            input.beginArray();
+            input.skipValue();
+        });
+        assertEquals("Unescaped control character at offset 4", ex.getMessage());
+    }
+
+    @Test
+    void testMalformedUtf8() {
+        // overlong encoding of '/'
+        assertMalformed(new byte[] { '[', '"', (byte) 0xC0, (byte) 0xAF, '"', ']' }, "Malformed UTF-8 at offset 2");
+        // stray continuation byte
+        assertMalformed(new byte[] { '[', '"', 'a', (byte) 0x80, '"', ']' }, "Malformed UTF-8 at offset 2");
+        // encoded surrogate U+D800
+        assertMalformed(new byte[] { '[', '"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"', ']' },
+            "Malformed UTF-8 at offset 2");
+        // truncated sequence of U+20AC
+        assertMalformed(new byte[] { '[', '"', (byte) 0xE2, (byte) 0x82, '"', ']' }, "Malformed UTF-8 at offset 2");
+        // beyond U+10FFFF
+        assertMalformed(new byte[] { '[', '"', (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80, '"', ']' },
+            "Malformed UTF-8 at offset 2");
+    }
+
+    @Test
+    void testByteOrderMark() throws IOException {
+        final var bytes = "\uFEFF[ \"a\" ]".getBytes(StandardCharsets.UTF_8);
+        assertEquals(List.of("BEGIN_ARRAY", "STRING a", "END_ARRAY"),
+            tokens(Utf8JsonInput.of(new OneByteInputStream(bytes))));
+        assertEquals(List.of("BEGIN_ARRAY", "STRING a", "END_ARRAY"), tokens(Utf8JsonInput.of(ByteBuffer.wrap(bytes))));
+
+        // Only a leading byte order mark is ignored
+        assertMalformed("[ \uFEFF ]", "Unexpected character 'ï' at offset 2");
+    }
+
+    private static void assertMalformed(final String json, final String message) {
+        assertMalformed(json.getBytes(StandardCharsets.UTF_8), message);
+    }
+
+    private static void assertMalformed(final byte[] json, final String message) {
+        final var input = Utf8JsonInput.of(ByteBuffer.wrap(json));
+        final var ex = assertThrows(MalformedJsonException.class, () -> tokens(input));
+        assertEquals(message, ex.getMessage());
+    }
+
+    private static List<String> tokens(final JsonInput input) throws IOException {
+        final var ret = new ArrayList<String>();
+        while (true) {
+            final var token = input.peek();
+            switch (token) {
+                case BEGIN_ARRAY -> input.beginArray();
+                case END_ARRAY -> input.endArray();
+                case BEGIN_OBJECT -> input.beginObject();
+                case END_OBJECT -> input.endObject();
+                case NAME -> ret.add(token + " " + input.nextName());
+                case STRING, NUMBER -> ret.add(token + " " + input.nextString());
+                case BOOLEAN -> ret.add(token + " " + input.nextBoolean());
+                case NULL -> input.nextNull();
+                default -> {
+                    // END_DOCUMENT
+                    return ret;
+                }
+            }
+            if (token != JsonToken.NAME && token != JsonToken.STRING && token != JsonToken.NUMBER
+                && token != JsonToken.BOOLEAN) {
+                ret.add(token.toString());
+            }
+        }
+    }
+
+    private static final class OneByteInputStream extends FilterInputStream {
+        OneByteInputStream(final byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len) throws IOException {
+            return super.read(buf, off, Math.min(len, 1));
+        }
+    }
+}
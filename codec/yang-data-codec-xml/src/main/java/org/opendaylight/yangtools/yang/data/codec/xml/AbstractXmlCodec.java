@@ -10,6 +10,7 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 import static java.util.Objects.requireNonNull;
 
 import javax.xml.namespace.NamespaceContext;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.impl.codec.DataStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
 
@@ -19,7 +20,7 @@ import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
  * @param <T> Deserialized object type
  */
 abstract sealed class AbstractXmlCodec<T> implements XmlCodec<T>
-        permits BooleanXmlCodec, NumberXmlCodec, QuotedXmlCodec {
+        permits BinaryXmlCodec, BooleanXmlCodec, NumberXmlCodec, QuotedXmlCodec {
     private final DataStringCodec<T> codec;
 
     AbstractXmlCodec(final DataStringCodec<T> codec) {
@@ -36,6 +37,10 @@ abstract sealed class AbstractXmlCodec<T> implements XmlCodec<T>
         return codec.deserialize(str);
     }
 
+    final @Nullable T tryParseValue(final String str) {
+        return codec.tryDeserialize(str);
+    }
+
     final String serialize(final T input) {
         return codec.serialize(input);
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.codec.BinaryStringCodec;
+
+/**
+ * An {@link XmlCodec} for {@code binary} values. Large values are Base64-encoded by a wrapping encoder, see
+ * {@link Base64.Encoder#wrap(OutputStream)}, which reads directly from the value and passes the encoded characters
+ * straight to the {@link XMLStreamWriter}, so that we neither copy the value nor instantiate a {@link String} holding
+ * the entire encoded value.
+ */
+final class BinaryXmlCodec extends AbstractXmlCodec<byte[]> {
+    /**
+     * An {@link OutputStream} writing US-ASCII bytes, which the Base64 alphabet is a subset of, as characters to an
+     * {@link XMLStreamWriter}. {@link XMLStreamException}s are reported as {@link IOException}s with the original
+     * exception as their cause.
+     */
+    private static final class CharactersOutputStream extends OutputStream {
+        private final XMLStreamWriter ctx;
+
+        private char[] chars = new char[4];
+
+        CharactersOutputStream(final XMLStreamWriter ctx) {
+            this.ctx = requireNonNull(ctx);
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            chars[0] = (char) (value & 0xFF);
+            writeCharacters(1);
+        }
+
+        @Override
+        public void write(final byte[] buf, final int off, final int len) throws IOException {
+            if (chars.length < len) {
+                chars = new char[len];
+            }
+            for (int i = 0; i < len; ++i) {
+                chars[i] = (char) (buf[off + i] & 0xFF);
+            }
+            writeCharacters(len);
+        }
+
+        @Override
+        public void close() {
+            // No-op: the XMLStreamWriter is owned by the caller
+        }
+
+        private void writeCharacters(final int len) throws IOException {
+            try {
+                ctx.writeCharacters(chars, 0, len);
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    // Values up to this size are encoded into a String
+    private static final int STRING_MAX_BYTES = 3 * 1024;
+
+    BinaryXmlCodec(final BinaryStringCodec codec) {
+        super(codec);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:avoidHidingCauseException")
+    public void writeValue(final XMLStreamWriter ctx, final byte[] value) throws XMLStreamException {
+        if (value.length <= STRING_MAX_BYTES) {
+            ctx.writeCharacters(serialize(value));
+            return;
+        }
+
+        try (var out = Base64.getEncoder().wrap(new CharactersOutputStream(ctx))) {
+            out.write(value);
+        } catch (IOException e) {
+            if (e.getCause() instanceof XMLStreamException xse) {
+                // The IOException is only a carrier introduced by CharactersOutputStream, report the original failure
+                throw xse;
+            }
+            throw new XMLStreamException("Failed to encode binary value", e);
+        }
+    }
+}
@@ -20,19 +20,24 @@ import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.data.util.codec.IdentityCodecUtil;
+import org.opendaylight.yangtools.yang.data.util.codec.IdentityIndex;
+import org.opendaylight.yangtools.yang.data.util.codec.IdentityIndex.DerivedIdentities;
 import org.opendaylight.yangtools.yang.data.util.codec.QNameCodecUtil;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
 
 final class IdentityrefXmlCodec implements XmlCodec<QName> {
     private final @NonNull EffectiveModelContext modelContext;
     private final @NonNull QNameModule parentModule;
+    private final @NonNull DerivedIdentities derived;
     private final @Nullable PreferredPrefixes pref;
 
-    IdentityrefXmlCodec(final EffectiveModelContext modelContext, final QNameModule parentModule,
-            final @Nullable PreferredPrefixes pref) {
+    IdentityrefXmlCodec(final EffectiveModelContext modelContext, final IdentityrefTypeDefinition type,
+            final QNameModule parentModule, final @Nullable PreferredPrefixes pref) {
         this.modelContext = requireNonNull(modelContext);
         this.parentModule = requireNonNull(parentModule);
         this.pref = pref;
+        derived = IdentityIndex.of(modelContext).derivedIdentities(type.getIdentities());
     }
 
     @Override
@@ -42,7 +47,8 @@ final class IdentityrefXmlCodec implements XmlCodec<QName> {
 
     @Override
     public QName parseValue(final NamespaceContext ctx, final String str) {
-        return IdentityCodecUtil.parseIdentity(str, modelContext, prefix -> {
+        // Prefixes are bound by the document, hence we cannot look up the string directly
+        return derived.checkMember(IdentityCodecUtil.parseIdentity(str, modelContext, prefix -> {
             if (prefix.isEmpty()) {
                 return parentModule;
             }
@@ -53,7 +59,7 @@ final class IdentityrefXmlCodec implements XmlCodec<QName> {
             final var modules = modelContext.findModuleStatements(XMLNamespace.of(prefixedNS)).iterator();
             checkArgument(modules.hasNext(), "Could not find module for namespace %s", prefixedNS);
             return modules.next().localQNameModule();
-        }).getQName();
+        }).getQName());
     }
 
     @Override
@@ -69,6 +75,6 @@ final class IdentityrefXmlCodec implements XmlCodec<QName> {
 
     @Override
     public String toString() {
-        return MoreObjects.toStringHelper(this).add("module", parentModule).toString();
+        return MoreObjects.toStringHelper(this).add("module", parentModule).add("bases", derived.bases()).toString();
     }
 }
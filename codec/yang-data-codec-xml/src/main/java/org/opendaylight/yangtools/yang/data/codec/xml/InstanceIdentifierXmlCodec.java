@@ -9,6 +9,14 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
@@ -18,14 +26,89 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 
 final class InstanceIdentifierXmlCodec implements XmlCodec<YangInstanceIdentifier> {
+    /**
+     * A parsed identifier along with the prefix bindings which were consulted while parsing it. The identifier is
+     * valid for any {@link NamespaceContext} which has the same bindings.
+     */
+    private record ParsedIdentifier(
+            @NonNull YangInstanceIdentifier identifier,
+            @NonNull ImmutableMap<String, String> bindings) {
+        ParsedIdentifier {
+            requireNonNull(identifier);
+            requireNonNull(bindings);
+        }
+
+        boolean isValidIn(final NamespaceContext ctx) {
+            for (var entry : bindings.entrySet()) {
+                if (!Objects.equals(entry.getValue(), ctx.getNamespaceURI(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A {@link NamespaceContext} which records the prefix bindings looked up through it. Reverse lookups are not
+     * recorded, they mark the result as not cacheable instead.
+     */
+    private static final class RecordingNamespaceContext implements NamespaceContext {
+        private final Map<String, String> bindings = new HashMap<>();
+        private final NamespaceContext delegate;
+        private boolean cacheable = true;
+
+        RecordingNamespaceContext(final NamespaceContext delegate) {
+            this.delegate = requireNonNull(delegate);
+        }
+
+        @Override
+        public String getNamespaceURI(final String prefix) {
+            final var ret = delegate.getNamespaceURI(prefix);
+            bindings.put(prefix, ret);
+            return ret;
+        }
+
+        @Override
+        public String getPrefix(final String namespaceURI) {
+            cacheable = false;
+            return delegate.getPrefix(namespaceURI);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(final String namespaceURI) {
+            cacheable = false;
+            return delegate.getPrefixes(namespaceURI);
+        }
+
+        @Nullable ImmutableMap<String, String> bindings() {
+            return cacheable && !bindings.containsValue(null) ? ImmutableMap.copyOf(bindings) : null;
+        }
+    }
+
+    private static final int CACHE_SIZE = Integer.getInteger(
+        "org.opendaylight.yangtools.yang.data.codec.xml.instance-identifier-cache.max-size", 4096);
+
     private final @NonNull XmlCodecFactory codecFactory;
     private final @NonNull DataSchemaContextTree dataContextTree;
     private final @Nullable PreferredPrefixes pref;
+    private final @Nullable Cache<String, ParsedIdentifier> parseCache;
 
     InstanceIdentifierXmlCodec(final XmlCodecFactory codecFactory, final @Nullable PreferredPrefixes pref) {
         this.codecFactory = requireNonNull(codecFactory);
         this.pref = pref;
         dataContextTree = DataSchemaContextTree.from(codecFactory.modelContext());
+        parseCache = CACHE_SIZE > 0 ? CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).recordStats().build() : null;
+    }
+
+    /**
+     * Return statistics of the cache of {@link #parseValue(NamespaceContext, String)} results. Note that hits include
+     * cached results which were not used because the prefix bindings did not match.
+     *
+     * @return Cache statistics, or {@code null} if caching is disabled
+     */
+    @Nullable CacheStats parseCacheStats() {
+        final var cache = parseCache;
+        return cache == null ? null : cache.stats();
     }
 
     @Override
@@ -35,7 +118,25 @@ final class InstanceIdentifierXmlCodec implements XmlCodec<YangInstanceIdentifie
 
     @Override
     public YangInstanceIdentifier parseValue(final NamespaceContext ctx, final String str) {
-        return new InstanceIdentifierDeserializer(dataContextTree, codecFactory, ctx).deserialize(str);
+        final var cache = parseCache;
+        if (cache == null) {
+            return new InstanceIdentifierDeserializer(dataContextTree, codecFactory, ctx).deserialize(str);
+        }
+
+        // The result depends on the prefix bindings in effect, hence we cache the bindings we have seen and reuse the
+        // result only if the current context binds them the same way
+        final var cached = cache.getIfPresent(str);
+        if (cached != null && cached.isValidIn(ctx)) {
+            return cached.identifier();
+        }
+
+        final var recording = new RecordingNamespaceContext(ctx);
+        final var ret = new InstanceIdentifierDeserializer(dataContextTree, codecFactory, recording).deserialize(str);
+        final var bindings = recording.bindings();
+        if (bindings != null) {
+            cache.put(str, new ParsedIdentifier(ret, bindings));
+        }
+        return ret;
     }
 
     @Override
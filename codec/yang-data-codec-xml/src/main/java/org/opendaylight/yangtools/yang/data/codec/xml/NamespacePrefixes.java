@@ -39,6 +39,10 @@ final class NamespacePrefixes implements Mutable {
     private final PreferredPrefixes pref;
     private final NamespaceContext context;
 
+    // Last namespace resolved through emittedPrefixes and its prefix
+    private XMLNamespace lastNamespace;
+    private String lastPrefix;
+
     NamespacePrefixes(final NamespaceContext context, final @Nullable PreferredPrefixes pref) {
         this.context = context;
         this.pref = pref;
@@ -52,8 +56,15 @@ final class NamespacePrefixes implements Mutable {
     }
 
     @NonNull String encodePrefix(final XMLNamespace namespace) {
+        // XMLNamespaces are interned and consecutive requests tend to be for the same namespace
+        if (namespace == lastNamespace) {
+            return lastPrefix;
+        }
+
         var prefix = emittedPrefixes.get(namespace);
         if (prefix != null) {
+            lastNamespace = namespace;
+            lastPrefix = prefix;
             return prefix;
         }
 
@@ -66,6 +77,8 @@ final class NamespacePrefixes implements Mutable {
 
         prefix = createPrefix(namespace);
         emittedPrefixes.put(namespace, prefix);
+        lastNamespace = namespace;
+        lastPrefix = prefix;
         return prefix;
     }
 
@@ -10,10 +10,16 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
@@ -32,9 +38,18 @@ import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
 abstract sealed class PreferredPrefixes {
     static final class Precomputed extends PreferredPrefixes {
         private final ImmutableBiMap<XMLNamespace, String> mappings;
+        private final ImmutableSet<String> usedPrefixes;
 
         Precomputed(final Map<XMLNamespace, String> mappings) {
+            this(mappings, Set.of());
+        }
+
+        private Precomputed(final Map<XMLNamespace, String> mappings, final Set<String> usedPrefixes) {
             this.mappings = ImmutableBiMap.copyOf(mappings);
+            this.usedPrefixes = ImmutableSet.<String>builder()
+                .addAll(this.mappings.values())
+                .addAll(usedPrefixes)
+                .build();
         }
 
         @Override
@@ -44,7 +59,7 @@ abstract sealed class PreferredPrefixes {
 
         @Override
         boolean isUsed(final String prefix) {
-            return mappings.inverse().containsKey(prefix);
+            return usedPrefixes.contains(prefix);
         }
 
         @Override
@@ -83,12 +98,15 @@ abstract sealed class PreferredPrefixes {
          *
          * @return A pre-computed {@link PreferredPrefixes} instance
          */
-        @NonNull PreferredPrefixes toPrecomputed() {
+        @NonNull Precomputed toPrecomputed() {
+            final var usedPrefixes = new HashSet<String>();
             for (var module : modelContext.getModuleStatements().values()) {
                 prefixForNamespace(module.namespace().argument());
+                usedPrefixes.add(module.prefix().argument());
             }
             return new Precomputed(
-                Maps.transformValues(Maps.filterValues(mappings, Optional::isPresent), Optional::orElseThrow));
+                Maps.transformValues(Maps.filterValues(mappings, Optional::isPresent), Optional::orElseThrow),
+                usedPrefixes);
         }
 
         @Override
@@ -131,10 +149,24 @@ abstract sealed class PreferredPrefixes {
         }
     }
 
+    private static final LoadingCache<EffectiveModelContext, Precomputed> PRECOMPUTED = CacheBuilder.newBuilder()
+        .weakKeys().build(CacheLoader.from(modelContext -> new Shared(modelContext).toPrecomputed()));
+
     private PreferredPrefixes() {
         // Hidden on purpose
     }
 
+    /**
+     * Return the {@link Precomputed} prefixes of an {@link EffectiveModelContext}. The returned instance is computed
+     * once and then shared by all users of the same model context.
+     *
+     * @param modelContext An {@link EffectiveModelContext}
+     * @return Precomputed prefixes
+     */
+    static @NonNull Precomputed of(final EffectiveModelContext modelContext) {
+        return PRECOMPUTED.getUnchecked(modelContext);
+    }
+
     abstract @Nullable String prefixForNamespace(@NonNull XMLNamespace namespace);
 
     abstract boolean isUsed(String prefix);
@@ -54,7 +54,7 @@ final class SchemaAwareXMLStreamNormalizedNodeStreamWriter
     SchemaAwareXMLStreamNormalizedNodeStreamWriter(final XMLStreamWriter writer,
             final EffectiveModelContext modelContext, final NormalizedNodeStreamWriterStack tracker,
             final boolean modelPrefixes) {
-        this(writer, modelContext, tracker, modelPrefixes ? new PreferredPrefixes.Shared(modelContext) : null);
+        this(writer, modelContext, tracker, modelPrefixes ? PreferredPrefixes.of(modelContext) : null);
     }
 
     @Override
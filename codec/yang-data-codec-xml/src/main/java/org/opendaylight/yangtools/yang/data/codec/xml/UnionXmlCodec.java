@@ -17,14 +17,17 @@ import java.util.List;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.impl.codec.UnionClassifier;
 import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 abstract sealed class UnionXmlCodec<T> implements XmlCodec<T> {
     private static final class Diverse extends UnionXmlCodec<Object> {
-        Diverse(final List<XmlCodec<?>> codecs) {
-            super(codecs);
+        Diverse(final UnionClassifier classifier, final List<XmlCodec<?>> codecs) {
+            super(classifier, codecs);
         }
 
         @Override
@@ -36,8 +39,8 @@ abstract sealed class UnionXmlCodec<T> implements XmlCodec<T> {
     private static final class SingleType<T> extends UnionXmlCodec<T> {
         private final Class<T> dataClass;
 
-        SingleType(final Class<T> dataClass, final List<XmlCodec<?>> codecs) {
-            super(codecs);
+        SingleType(final Class<T> dataClass, final UnionClassifier classifier, final List<XmlCodec<?>> codecs) {
+            super(classifier, codecs);
             this.dataClass = requireNonNull(dataClass);
         }
 
@@ -47,15 +50,46 @@ abstract sealed class UnionXmlCodec<T> implements XmlCodec<T> {
         }
     }
 
+    /**
+     * A non-throwing parser of a single member type, returning {@code null} if the member does not accept the input.
+     */
+    @FunctionalInterface
+    private interface MemberParser {
+        @Nullable Object tryParse(NamespaceContext ctx, @NonNull String str);
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(UnionXmlCodec.class);
 
     private final ImmutableList<XmlCodec<?>> codecs;
+    private final ImmutableList<MemberParser> parsers;
+    private final UnionClassifier classifier;
 
-    UnionXmlCodec(final List<XmlCodec<?>> codecs) {
+    UnionXmlCodec(final UnionClassifier classifier, final List<XmlCodec<?>> codecs) {
+        this.classifier = requireNonNull(classifier);
         this.codecs = ImmutableList.copyOf(codecs);
+        parsers = this.codecs.stream().map(UnionXmlCodec::memberParser).collect(ImmutableList.toImmutableList());
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private static @NonNull MemberParser memberParser(final XmlCodec<?> codec) {
+        if (codec instanceof AbstractXmlCodec<?> simple) {
+            return (ctx, str) -> simple.tryParseValue(str);
+        } else if (codec instanceof UnionXmlCodec<?> union) {
+            return union::tryParseValue;
+        }
+        // Codecs which depend on the namespace context, which do not have a non-throwing variant
+        return (ctx, str) -> {
+            try {
+                return codec.parseValue(ctx, str);
+            } catch (RuntimeException e) {
+                LOG.debug("Codec {} did not accept input '{}'", codec, str, e);
+                return null;
+            }
+        };
     }
 
-    static UnionXmlCodec<?> create(final UnionTypeDefinition type, final List<XmlCodec<?>> codecs) {
+    static UnionXmlCodec<?> create(final UnionTypeDefinition type, final UnionClassifier classifier,
+            final List<XmlCodec<?>> codecs) {
         final Iterator<XmlCodec<?>> it = codecs.iterator();
         verify(it.hasNext(), "Union %s has no subtypes", type);
 
@@ -64,17 +98,36 @@ abstract sealed class UnionXmlCodec<T> implements XmlCodec<T> {
             final Class<?> next = it.next().getDataType();
             if (!dataClass.equals(next)) {
                 LOG.debug("Type {} has diverse data classes: {} and {}", type, dataClass, next);
-                return new Diverse(codecs);
+                return new Diverse(classifier, codecs);
             }
         }
 
         LOG.debug("Type {} has single data class {}", type, dataClass);
-        return new SingleType<>(dataClass, codecs);
+        return new SingleType<>(dataClass, classifier, codecs);
     }
 
     @Override
-    @SuppressWarnings("checkstyle:illegalCatch")
     public final T parseValue(final NamespaceContext ctx, final String str) {
+        final var ret = tryParseValue(ctx, str);
+        return ret != null ? ret : parseWithDiagnostics(ctx, str);
+    }
+
+    final @Nullable T tryParseValue(final NamespaceContext ctx, final String str) {
+        final int lexicalClass = UnionClassifier.classify(str);
+        for (int i = 0, size = parsers.size(); i < size; ++i) {
+            if (classifier.mayAccept(i, lexicalClass)) {
+                final var ret = parsers.get(i).tryParse(ctx, str);
+                if (ret != null) {
+                    return getDataType().cast(ret);
+                }
+            }
+        }
+        return null;
+    }
+
+    // Slow path taken when no member type has accepted the value: collect the reasons each member rejected it
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private T parseWithDiagnostics(final NamespaceContext ctx, final String str) {
         final var suppressed = new ArrayList<RuntimeException>();
 
         for (XmlCodec<?> codec : codecs) {
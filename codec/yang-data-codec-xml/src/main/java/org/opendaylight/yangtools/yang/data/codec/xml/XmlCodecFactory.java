@@ -17,11 +17,9 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.MountPointContext;
 import org.opendaylight.yangtools.yang.data.impl.codec.AbstractIntegerStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.BinaryStringCodec;
-import org.opendaylight.yangtools.yang.data.impl.codec.BitsStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.BooleanStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.DecimalStringCodec;
-import org.opendaylight.yangtools.yang.data.impl.codec.EnumStringCodec;
-import org.opendaylight.yangtools.yang.data.impl.codec.StringStringCodec;
+import org.opendaylight.yangtools.yang.data.impl.codec.SharedTypeCodecs;
 import org.opendaylight.yangtools.yang.data.util.codec.AbstractCodecFactory;
 import org.opendaylight.yangtools.yang.data.util.codec.SharedCodecCache;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -49,13 +47,15 @@ import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
  */
 public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
     private final @NonNull InstanceIdentifierXmlCodec instanceIdentifierCodec;
+    private final @NonNull SharedTypeCodecs sharedCodecs;
     private final @NonNull MountPointContext mountCtx;
     private final @Nullable PreferredPrefixes pref;
 
     private XmlCodecFactory(final MountPointContext mountCtx, final boolean modelPrefixes) {
         super(mountCtx.modelContext(), new SharedCodecCache<>());
         this.mountCtx = requireNonNull(mountCtx);
-        pref = modelPrefixes ? new PreferredPrefixes.Shared(modelContext()) : null;
+        sharedCodecs = SharedTypeCodecs.of(modelContext());
+        pref = modelPrefixes ? PreferredPrefixes.of(modelContext()) : null;
         instanceIdentifierCodec = new InstanceIdentifierXmlCodec(this, pref);
     }
 
@@ -107,7 +107,7 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
 
     @Override
     protected XmlCodec<?> binaryCodec(final BinaryTypeDefinition type) {
-        return new QuotedXmlCodec<>(BinaryStringCodec.from(type));
+        return new BinaryXmlCodec(BinaryStringCodec.from(type));
     }
 
     @Override
@@ -117,7 +117,7 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
 
     @Override
     protected XmlCodec<?> bitsCodec(final BitsTypeDefinition type) {
-        return new QuotedXmlCodec<>(BitsStringCodec.from(type));
+        return new QuotedXmlCodec<>(sharedCodecs.bitsCodec(type));
     }
 
     @Override
@@ -127,12 +127,12 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
 
     @Override
     protected XmlCodec<?> enumCodec(final EnumTypeDefinition type) {
-        return new QuotedXmlCodec<>(EnumStringCodec.from(type));
+        return new QuotedXmlCodec<>(sharedCodecs.enumCodec(type));
     }
 
     @Override
     protected XmlCodec<?> identityRefCodec(final IdentityrefTypeDefinition type, final QNameModule module) {
-        return new IdentityrefXmlCodec(modelContext(), module, pref);
+        return new IdentityrefXmlCodec(modelContext(), type, module, pref);
     }
 
     @Override
@@ -172,7 +172,7 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
 
     @Override
     protected XmlCodec<?> stringCodec(final StringTypeDefinition type) {
-        return new QuotedXmlCodec<>(StringStringCodec.from(type));
+        return new QuotedXmlCodec<>(sharedCodecs.stringCodec(type));
     }
 
     @Override
@@ -197,6 +197,6 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
 
     @Override
     protected XmlCodec<?> unionCodec(final UnionTypeDefinition type, final List<XmlCodec<?>> codecs) {
-        return UnionXmlCodec.create(type, codecs);
+        return UnionXmlCodec.create(type, sharedCodecs.unionClassifier(type), codecs);
     }
 }
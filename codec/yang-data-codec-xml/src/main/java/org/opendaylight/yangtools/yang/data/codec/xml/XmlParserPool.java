@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizationResult;
+import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of {@link XmlParserStream}s, each paired with a {@link ReusableImmutableNormalizedNodeStreamWriter}.
+ * A pool is bound to a single {@link XmlCodecFactory}, hence to a single
+ * {@link org.opendaylight.yangtools.yang.model.api.EffectiveModelContext}. Pooled parsers keep their
+ * {@link org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack} and are re-targeted to the requested
+ * inference for each document, so that components parsing many small documents, such as request handlers, do not
+ * allocate the parsing pipeline anew for each of them.
+ *
+ * <p>
+ * The pool does not rely on thread-local state, hence it works equally well with platform and virtual threads. When
+ * the pool is empty, a new parser is allocated, and when it is full, the parser being released is dropped.
+ */
+@Beta
+public final class XmlParserPool {
+    private static final Logger LOG = LoggerFactory.getLogger(XmlParserPool.class);
+
+    private static final class Entry {
+        final @NonNull ReusableImmutableNormalizedNodeStreamWriter writer =
+            ReusableImmutableNormalizedNodeStreamWriter.create();
+        final @NonNull XmlParserStream parser;
+
+        Entry(final XmlCodecFactory codecs, final EffectiveStatementInference inference,
+                final boolean strictParsing) {
+            parser = XmlParserStream.create(writer, codecs, inference, strictParsing);
+        }
+    }
+
+    private final ArrayBlockingQueue<Entry> idle;
+    private final @NonNull XmlCodecFactory codecs;
+    private final boolean strictParsing;
+
+    /**
+     * Default constructor.
+     *
+     * @param codecs Shared codecs
+     * @param strictParsing parsing mode, if set to true, the parsers will throw an exception if they encounter unknown
+     *            child nodes, if set to false, they will skip unknown child nodes
+     * @param maxSize maximum number of idle parsers retained by this pool
+     * @throws NullPointerException if {@code codecs} is {@code null}
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public XmlParserPool(final XmlCodecFactory codecs, final boolean strictParsing, final int maxSize) {
+        this.codecs = requireNonNull(codecs);
+        this.strictParsing = strictParsing;
+        idle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    /**
+     * Parse an XML document with a pooled parser. The reader is not closed.
+     *
+     * @param inference Logical root node, must be attached to the {@link XmlCodecFactory#modelContext()} of this pool
+     * @param reader StAX reader which is to used to walk through the XML source
+     * @return Parsed result, or {@code null} if the input did not produce any data
+     * @throws XMLStreamException if a well-formedness error or an unexpected processing condition occurs while parsing
+     *                            the XML
+     * @throws IOException if an error occurs while parsing the value of an anyxml node
+     * @throws IllegalArgumentException if {@code inference} is not valid
+     */
+    public @Nullable NormalizationResult<?> parse(final EffectiveStatementInference inference,
+            final XMLStreamReader reader) throws XMLStreamException, IOException {
+        var entry = idle.poll();
+        if (entry == null) {
+            entry = new Entry(codecs, inference, strictParsing);
+        } else {
+            entry.parser.reset(inference);
+        }
+
+        try {
+            entry.parser.parse(reader);
+            return entry.writer.result();
+        } finally {
+            // Reset the writer before returning it, so that we do not retain the result or any partial state
+            entry.writer.reset();
+            if (!idle.offer(entry)) {
+                LOG.trace("Pool {} is full, dropping parser", this);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("strictParsing", strictParsing).add("idle", idle.size())
+            .toString();
+    }
+}
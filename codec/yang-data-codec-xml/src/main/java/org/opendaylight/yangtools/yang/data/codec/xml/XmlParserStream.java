@@ -38,6 +38,7 @@ import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stax.StAXSource;
+import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.rfc7952.model.api.AnnotationSchemaNode;
 import org.opendaylight.yangtools.rfc8040.model.api.YangDataSchemaNode;
 import org.opendaylight.yangtools.rfc8528.model.api.MountPointSchemaNode;
@@ -138,31 +139,35 @@ public final class XmlParserStream implements Closeable, Flushable {
     private final NormalizedNodeStreamWriter writer;
     private final SchemaInferenceStack stack;
     private final XmlCodecFactory codecs;
-    private final DataSchemaNode parentNode;
     private final boolean strictParsing;
 
+    private DataSchemaNode parentNode;
+
     private XmlParserStream(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
             final SchemaInferenceStack stack, final boolean strictParsing) {
         this.writer = requireNonNull(writer);
         this.codecs = requireNonNull(codecs);
         this.stack = requireNonNull(stack);
         this.strictParsing = strictParsing;
+        parentNode = parentNodeOf(stack);
+    }
 
-        if (!stack.isEmpty()) {
-            final var stmt = stack.currentStatement();
-            if (stmt instanceof DataSchemaNode data) {
-                parentNode = data;
-            } else if (stmt instanceof OperationDefinition oper) {
-                parentNode = oper.toContainerLike();
-            } else if (stmt instanceof NotificationDefinition notif) {
-                parentNode = notif.toContainerLike();
-            } else if (stmt instanceof YangDataSchemaNode yangData) {
-                parentNode = yangData.toContainerLike();
-            } else {
-                throw new IllegalArgumentException("Illegal parent node " + stmt);
-            }
+    private static @NonNull DataSchemaNode parentNodeOf(final SchemaInferenceStack stack) {
+        if (stack.isEmpty()) {
+            return stack.modelContext();
+        }
+
+        final var stmt = stack.currentStatement();
+        if (stmt instanceof DataSchemaNode data) {
+            return data;
+        } else if (stmt instanceof OperationDefinition oper) {
+            return oper.toContainerLike();
+        } else if (stmt instanceof NotificationDefinition notif) {
+            return notif.toContainerLike();
+        } else if (stmt instanceof YangDataSchemaNode yangData) {
+            return yangData.toContainerLike();
         } else {
-            parentNode = stack.modelContext();
+            throw new IllegalArgumentException("Illegal parent node " + stmt);
         }
     }
 
@@ -305,6 +310,22 @@ public final class XmlParserStream implements Closeable, Flushable {
         return create(writer, XmlCodecFactory.create(mountCtx), parentNode, strictParsing);
     }
 
+    /**
+     * Reset this parser so that it can parse another document, logically rooted at the specified parent node. Internal
+     * state, including the {@link SchemaInferenceStack}, is reused. The backing {@link NormalizedNodeStreamWriter} is
+     * not touched, it is up to the caller to reset it.
+     *
+     * @param inference Logical root node, must be attached to this parser's {@link XmlCodecFactory#modelContext()}
+     * @throws IllegalArgumentException if {@code inference} is not valid
+     */
+    void reset(final EffectiveStatementInference inference) {
+        stack.resetTo(inference);
+        parentNode = parentNodeOf(stack);
+        // Namespaces come from documents, do not let them accumulate
+        resolvedNamespaces.clear();
+        rawNamespaces.clear();
+    }
+
     /**
      * This method parses the XML source and emits node events into a NormalizedNodeStreamWriter based on the
      * YANG-modeled data contained in the XML source.
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.util.Base64;
+import java.util.Random;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opendaylight.yangtools.yang.data.impl.codec.BinaryStringCodec;
+import org.opendaylight.yangtools.yang.model.ri.type.BaseTypes;
+
+class BinaryXmlCodecTest {
+    private final BinaryXmlCodec codec = new BinaryXmlCodec(BinaryStringCodec.from(BaseTypes.binaryType()));
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3072, 3073, 6144, 10000, 100001 })
+    void writeValueMatchesEncoder(final int size) throws XMLStreamException {
+        final var value = new byte[size];
+        new Random(size).nextBytes(value);
+
+        final var stringWriter = new StringWriter();
+        final var xmlWriter = TestFactories.DEFAULT_OUTPUT_FACTORY.createXMLStreamWriter(stringWriter);
+        xmlWriter.writeStartElement("foo");
+        codec.writeValue(xmlWriter, value);
+        xmlWriter.writeEndElement();
+        xmlWriter.close();
+
+        final var encoded = Base64.getEncoder().encodeToString(value);
+        assertEquals("<foo>" + encoded + "</foo>", stringWriter.toString());
+        assertArrayEquals(value, codec.parseValue(null, encoded));
+    }
+}
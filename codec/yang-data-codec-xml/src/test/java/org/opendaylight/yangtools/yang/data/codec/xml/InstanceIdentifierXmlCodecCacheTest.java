@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Iterator;
+import java.util.Map;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class InstanceIdentifierXmlCodecCacheTest {
+    private static final QName BAR = QName.create("barns", "bar");
+    private static final QName KEY = QName.create("barns", "key");
+    private static final YangInstanceIdentifier IID = YangInstanceIdentifier.builder()
+        .node(BAR)
+        .nodeWithKey(BAR, KEY, "one")
+        .build();
+    private static final String STR = "/br:bar[br:key='one']";
+
+    private final InstanceIdentifierXmlCodec codec = assertInstanceOf(InstanceIdentifierXmlCodec.class,
+        XmlCodecFactory.create(YangParserTestUtils.parseYang("""
+            module bar {
+              namespace barns;
+              prefix br;
+
+              list bar {
+                key key;
+                leaf key {
+                  type string;
+                }
+              }
+            }""")).instanceIdentifierCodec());
+
+    @Test
+    void parseValueIsCachedPerBindings() {
+        final var first = codec.parseValue(new MapNamespaceContext(Map.of("br", "barns")), STR);
+        assertEquals(IID, first);
+        assertSame(first, codec.parseValue(new MapNamespaceContext(Map.of("br", "barns", "x", "xns")), STR));
+
+        var stats = codec.parseCacheStats();
+        assertNotNull(stats);
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+
+        // Same string, but the prefix is bound to an unknown namespace
+        assertThrows(IllegalArgumentException.class,
+            () -> codec.parseValue(new MapNamespaceContext(Map.of("br", "bazns")), STR));
+        // The original binding is still cached
+        assertSame(first, codec.parseValue(new MapNamespaceContext(Map.of("br", "barns")), STR));
+
+        stats = codec.parseCacheStats();
+        assertNotNull(stats);
+        assertEquals(3, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    private record MapNamespaceContext(Map<String, String> bindings) implements NamespaceContext {
+        @Override
+        public String getNamespaceURI(final String prefix) {
+            return bindings.getOrDefault(prefix, XMLConstants.NULL_NS_URI);
+        }
+
+        @Override
+        public String getPrefix(final String namespaceURI) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(final String namespaceURI) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
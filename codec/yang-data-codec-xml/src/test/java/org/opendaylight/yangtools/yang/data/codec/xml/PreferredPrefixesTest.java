@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
@@ -39,6 +40,7 @@ class PreferredPrefixesTest {
         assertNull(prefixes.prefixForNamespace(BARNS));
         assertEquals(Map.of(FOONS, Optional.empty(), BARNS, Optional.empty()), prefixes.mappings());
         assertEquals("Precomputed{mappings={}}", prefixes.toPrecomputed().toString());
+        assertTrue(prefixes.toPrecomputed().isUsed("conflict"));
     }
 
     @Test
@@ -105,4 +107,16 @@ class PreferredPrefixesTest {
         assertTrue(precomputed.isUsed("a"));
         assertEquals("Precomputed{mappings={foons=a}}", precomputed.toString());
     }
+
+    @Test
+    void precomputedIsShared() {
+        final var context = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foons;
+              prefix f;
+            }""");
+        final var precomputed = PreferredPrefixes.of(context);
+        assertSame(precomputed, PreferredPrefixes.of(context));
+        assertEquals(Map.of(FOONS, "f"), precomputed.mappings());
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class XmlParserPoolTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName STR = QName.create("foo", "str");
+
+    private final XmlCodecFactory codecs = XmlCodecFactory.create(YangParserTestUtils.parseYang("""
+        module foo {
+          namespace foo;
+          prefix foo;
+
+          container foo {
+            leaf str {
+              type string;
+            }
+          }
+        }"""));
+    private final XmlParserPool pool = new XmlParserPool(codecs, true, 1);
+
+    @Test
+    void parsersAreReused() throws Exception {
+        assertEquals(ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(STR, "one"))
+            .build(), parse(Inference.ofDataTreePath(codecs.modelContext(), FOO), """
+                <foo xmlns="foo"><str>one</str></foo>"""));
+        assertEquals("XmlParserPool{strictParsing=true, idle=1}", pool.toString());
+
+        // The idle parser is re-targeted to a different node
+        assertEquals(ImmutableNodes.leafNode(STR, "two"), parse(
+            Inference.ofDataTreePath(codecs.modelContext(), FOO, STR), """
+                <str xmlns="foo">two</str>"""));
+        assertEquals("XmlParserPool{strictParsing=true, idle=1}", pool.toString());
+    }
+
+    @Test
+    void failedParserIsReused() throws Exception {
+        final var foo = Inference.ofDataTreePath(codecs.modelContext(), FOO);
+        assertThrows(XMLStreamException.class, () -> parse(foo, """
+            <foo xmlns="foo"><bar/></foo>"""));
+        assertEquals("XmlParserPool{strictParsing=true, idle=1}", pool.toString());
+
+        assertEquals(ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(STR, "str"))
+            .build(), parse(foo, """
+                <foo xmlns="foo"><str>str</str></foo>"""));
+    }
+
+    private NormalizedNode parse(final EffectiveStatementInference inference, final String xml)
+            throws XMLStreamException, IOException {
+        final var result = pool.parse(inference, UntrustedXML.createXMLStreamReader(new StringReader(xml)));
+        assertNotNull(result);
+        return result.data();
+    }
+}
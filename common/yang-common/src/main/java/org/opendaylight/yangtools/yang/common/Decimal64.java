@@ -15,7 +15,9 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.Serial;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Either;
@@ -33,102 +35,9 @@ public class Decimal64 extends Number implements CanonicalValue<Decimal64> {
 
         @Override
         public Either<Decimal64, CanonicalValueViolation> fromString(final String str) {
-            // https://www.rfc-editor.org/rfc/rfc6020#section-9.3.1
-            //
-            // A decimal64 value is lexically represented as an optional sign ("+"
-            // or "-"), followed by a sequence of decimal digits, optionally
-            // followed by a period ('.') as a decimal indicator and a sequence of
-            // decimal digits.  If no sign is specified, "+" is assumed.
-            if (str.isEmpty()) {
-                return CanonicalValueViolation.variantOf("Empty string is not a valid decimal64 representation");
-            }
-
-            // Deal with optional sign
-            final boolean negative;
-            int idx = switch (str.charAt(0)) {
-                case '-' -> {
-                    negative = true;
-                    yield 1;
-                }
-                case '+' -> {
-                    negative = false;
-                    yield 1;
-                }
-                default -> {
-                    negative = false;
-                    yield 0;
-                }
-            };
-            // Sanity check length
-            if (idx == str.length()) {
-                return CanonicalValueViolation.variantOf("Missing digits after sign");
-            }
-
-            // Character limit, used for caching and cutting trailing zeroes
-            int limit = str.length() - 1;
-
-            // Skip any leading zeroes, but leave at least one
-            for (; idx < limit && str.charAt(idx) == '0'; idx++) {
-                final char ch = str.charAt(idx + 1);
-                if (ch < '0' || ch > '9') {
-                    break;
-                }
-            }
-
-            // Integer part and its length
-            int intLen = 0;
-            long intPart = 0;
-
-            for (; idx <= limit; idx++, intLen++) {
-                final char ch = str.charAt(idx);
-                if (ch == '.') {
-                    // Fractions are next
-                    break;
-                }
-                if (intLen == MAX_SCALE) {
-                    return CanonicalValueViolation.variantOf(
-                        "Integer part is longer than " + MAX_SCALE + " digits");
-                }
-
-                intPart = 10 * intPart + toInt(ch, idx);
-            }
-
-            if (idx > limit) {
-                // No fraction digits, we are done
-                return Either.ofFirst(new Decimal64((byte)1, intPart, 0, negative));
-            }
-
-            // Bump index to skip over period and check the remainder
-            idx++;
-            if (idx > limit) {
-                return CanonicalValueViolation.variantOf("Value '" + str + "' is missing fraction digits");
-            }
-
-            // Trim trailing zeroes, if any
-            while (idx < limit && str.charAt(limit) == '0') {
-                limit--;
-            }
-
-            final int fracLimit = MAX_SCALE - intLen + 1;
-            byte fracLen = 0;
-            long fracPart = 0;
-            for (; idx <= limit; idx++, fracLen++) {
-                final char ch = str.charAt(idx);
-                if (fracLen == fracLimit) {
-                    return CanonicalValueViolation.variantOf("Fraction part longer than " + fracLimit + " digits");
-                }
-
-                fracPart = 10 * fracPart + toInt(ch, idx);
-            }
-
-            return Either.ofFirst(new Decimal64(fracLen, intPart, fracPart, negative));
-        }
-
-        private static int toInt(final char ch, final int index) {
-            if (ch < '0' || ch > '9') {
-                throw new NumberFormatException("Illegal character at offset " + index);
-            }
-            return ch - '0';
+            final var errors = new ArrayList<String>(1);
+            final var ret = parse(str, 0, str.length(), errors::add);
+            return ret != null ? Either.ofFirst(ret) : CanonicalValueViolation.variantOf(errors.get(0));
         }
     }
 
@@ -343,6 +252,140 @@ public class Decimal64 extends Number implements CanonicalValue<Decimal64> {
         throw message.isPresent() ? new NumberFormatException(message.orElseThrow()) : new NumberFormatException();
     }
 
+    /**
+     * Attempt to parse a CharSequence into a Decimal64. This method behaves like {@link #valueOf(String)}, except it
+     * returns {@code null} instead of throwing an exception if the string does not contain a parsable decimal64.
+     * {@link Support#fromString(String)} is equivalent, except it reports a {@link CanonicalValueViolation} describing
+     * the problem instead of returning {@code null}.
+     *
+     * @param str CharSequence to parse
+     * @return A Decimal64 instance, or {@code null}
+     * @throws NullPointerException if value is null.
+     */
+    public static @Nullable Decimal64 tryParse(final CharSequence str) {
+        return parse(str, 0, str.length(), null);
+    }
+
+    // Parse a range of a CharSequence, reporting the reason for rejecting it to errors, if present
+    private static @Nullable Decimal64 parse(final CharSequence str, final int beginIndex, final int endIndex,
+            final @Nullable Consumer<String> errors) {
+        // https://www.rfc-editor.org/rfc/rfc6020#section-9.3.1
+        //
+        // A decimal64 value is lexically represented as an optional sign ("+"
+        // or "-"), followed by a sequence of decimal digits, optionally
+        // followed by a period ('.') as a decimal indicator and a sequence of
+        // decimal digits.  If no sign is specified, "+" is assumed.
+        if (beginIndex == endIndex) {
+            return reject(errors, "Empty string is not a valid decimal64 representation");
+        }
+
+        // Deal with optional sign
+        final boolean negative;
+        int idx = switch (str.charAt(beginIndex)) {
+            case '-' -> {
+                negative = true;
+                yield beginIndex + 1;
+            }
+            case '+' -> {
+                negative = false;
+                yield beginIndex + 1;
+            }
+            default -> {
+                negative = false;
+                yield beginIndex;
+            }
+        };
+        // Sanity check length
+        if (idx == endIndex) {
+            return reject(errors, "Missing digits after sign");
+        }
+
+        // Character limit, used for caching and cutting trailing zeroes
+        int limit = endIndex - 1;
+
+        // Skip any leading zeroes, but leave at least one
+        for (; idx < limit && str.charAt(idx) == '0'; idx++) {
+            final char ch = str.charAt(idx + 1);
+            if (ch < '0' || ch > '9') {
+                break;
+            }
+        }
+
+        // Integer part and its length
+        int intLen = 0;
+        long intPart = 0;
+
+        for (; idx <= limit; idx++, intLen++) {
+            final char ch = str.charAt(idx);
+            if (ch == '.') {
+                // Fractions are next
+                break;
+            }
+            if (intLen == MAX_SCALE) {
+                return reject(errors, "Integer part is longer than " + MAX_SCALE + " digits");
+            }
+            if (ch < '0' || ch > '9') {
+                return rejectCharacter(errors, idx - beginIndex);
+            }
+
+            intPart = 10 * intPart + ch - '0';
+        }
+
+        if (idx > limit) {
+            // No fraction digits, we are done
+            return new Decimal64((byte)1, intPart, 0, negative);
+        }
+
+        // Bump index to skip over period and check the remainder
+        idx++;
+        if (idx > limit) {
+            if (errors != null) {
+                errors.accept("Value '" + str.subSequence(beginIndex, endIndex) + "' is missing fraction digits");
+            }
+            return null;
+        }
+
+        // Trim trailing zeroes, if any
+        while (idx < limit && str.charAt(limit) == '0') {
+            limit--;
+        }
+
+        // A missing integer part still leaves room for only MAX_SCALE fraction digits
+        final int fracLimit = MAX_SCALE - Math.max(intLen, 1) + 1;
+        byte fracLen = 0;
+        long fracPart = 0;
+        for (; idx <= limit; idx++, fracLen++) {
+            final char ch = str.charAt(idx);
+            if (fracLen == fracLimit) {
+                if (errors != null) {
+                    errors.accept("Fraction part longer than " + fracLimit + " digits");
+                }
+                return null;
+            }
+            if (ch < '0' || ch > '9') {
+                return rejectCharacter(errors, idx - beginIndex);
+            }
+
+            fracPart = 10 * fracPart + ch - '0';
+        }
+
+        return new Decimal64(fracLen, intPart, fracPart, negative);
+    }
+
+    private static @Nullable Decimal64 reject(final @Nullable Consumer<String> errors, final String message) {
+        if (errors != null) {
+            errors.accept(message);
+        }
+        return null;
+    }
+
+    private static @Nullable Decimal64 rejectCharacter(final @Nullable Consumer<String> errors, final int offset) {
+        if (errors != null) {
+            errors.accept("Illegal character at offset " + offset);
+        }
+        return null;
+    }
+
     /**
      * Return the scale of this decimal. This is the number of fraction digits, in range {@code [1..18]}.
      *
@@ -442,6 +485,32 @@ public class Decimal64 extends Number implements CanonicalValue<Decimal64> {
         return new Decimal64(scaleOffset, trunc + increment);
     }
 
+    /**
+     * Return this decimal in the specified scale, if it can be represented without overflow or rounding. This method
+     * behaves like {@link #scaleTo(int)}, except it returns {@code null} instead of throwing an exception.
+     *
+     * @param scale target scale
+     * @return Scaled number, or {@code null}
+     * @throws IllegalArgumentException if {@code scale} is not valid
+     */
+    public @Nullable Decimal64 tryScaleTo(final int scale) {
+        final byte scaleOffset = offsetOf(scale);
+        final int diff = scaleOffset - offset;
+        if (diff == 0) {
+            return this;
+        } else if (value == 0) {
+            return new Decimal64(scaleOffset, 0);
+        } else if (diff > 0) {
+            final int diffOffset = diff - 1;
+            final var conv = CONVERSION[diffOffset];
+            return value < conv.minLong || value > conv.maxLong ? null
+                : new Decimal64(scaleOffset, value * FACTOR[diffOffset]);
+        } else {
+            final long factor = FACTOR[-diff - 1];
+            return value % factor == 0 ? new Decimal64(scaleOffset, value / factor) : null;
+        }
+    }
+
     public final BigDecimal decimalValue() {
         return BigDecimal.valueOf(value, scale());
     }
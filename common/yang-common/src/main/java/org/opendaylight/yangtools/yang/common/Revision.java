@@ -7,6 +7,8 @@
  */
 package org.opendaylight.yangtools.yang.common;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.DataInput;
 import java.io.IOException;
 import java.io.NotSerializableException;
@@ -58,6 +60,18 @@ public final class Revision implements RevisionUnion {
     private final @NonNull String str;
 
     private Revision(final @NonNull String str) {
+        this.str = requireNonNull(str);
+    }
+
+    /**
+     * Parse a revision string.
+     *
+     * @param str String to be parsed
+     * @return A Revision instance.
+     * @throws DateTimeParseException if the string format does not conform specification.
+     * @throws NullPointerException if the string is null
+     */
+    public static @NonNull Revision of(final @NonNull String str) {
         /*
          * According to RFC7950 (https://www.rfc-editor.org/rfc/rfc7950#section-7.1.9):
          *
@@ -69,30 +83,67 @@ public final class Revision implements RevisionUnion {
          * Hence we use JDK-provided parsing faculties to parse the date.
          */
         FORMATTER.parse(str);
-        this.str = str;
+        return new Revision(str);
     }
 
     /**
-     * Parse a revision string.
+     * Parse a (potentially null) revision string. Null strings result result in {@link Optional#empty()}.
      *
      * @param str String to be parsed
-     * @return A Revision instance.
+     * @return An optional Revision instance.
      * @throws DateTimeParseException if the string format does not conform specification.
-     * @throws NullPointerException if the string is null
      */
-    public static @NonNull Revision of(final @NonNull String str) {
-        return new Revision(str);
+    public static @NonNull Optional<Revision> ofNullable(final @Nullable String str) {
+        return str == null ? Optional.empty() : Optional.of(of(str));
     }
 
     /**
-     * Parse a (potentially null) revision string. Null strings result result in {@link Optional#empty()}.
+     * Attempt to parse a revision string. This method behaves like {@link #of(String)}, except it returns {@code null}
+     * instead of throwing an exception if the string does not conform to specification.
      *
      * @param str String to be parsed
-     * @return An optional Revision instance.
-     * @throws DateTimeParseException if the string format does not conform specification.
+     * @return A Revision instance, or {@code null}
+     * @throws NullPointerException if the string is null
      */
-    public static @NonNull Optional<Revision> ofNullable(final @Nullable String str) {
-        return str == null ? Optional.empty() : Optional.of(new Revision(str));
+    public static @Nullable Revision tryOf(final @NonNull String str) {
+        if (str.length() == 10) {
+            // The common case of a four-digit year: we can validate it without involving FORMATTER
+            return isValidDate(str) ? new Revision(str) : null;
+        }
+        if (str.isEmpty() || str.charAt(0) != '+') {
+            // Years outside of 1-9999 need to be signed
+            return null;
+        }
+        try {
+            return of(str);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Equivalent of FORMATTER.parse() for strings of length 10
+    private static boolean isValidDate(final String str) {
+        if (str.charAt(4) != '-' || str.charAt(7) != '-') {
+            return false;
+        }
+        final int year = parseDigits(str, 0, 4);
+        final int month = parseDigits(str, 5, 7);
+        final int day = parseDigits(str, 8, 10);
+        // Note: days beyond the end of month are accepted, as FORMATTER resolves them to the last day of the month
+        return year > 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    // Parse ASCII digits, returning -1 if any other character is encountered
+    private static int parseDigits(final String str, final int beginIndex, final int endIndex) {
+        int result = 0;
+        for (int i = beginIndex; i < endIndex; ++i) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            result = result * 10 + ch - '0';
+        }
+        return result;
     }
 
     @Override
@@ -29,11 +29,10 @@ public class Uint16 extends Number implements CanonicalValue<Uint16> {
 
         @Override
         public Either<Uint16, CanonicalValueViolation> fromString(final String str) {
-            try {
-                return Either.ofFirst(Uint16.valueOf(str));
-            } catch (IllegalArgumentException e) {
-                return CanonicalValueViolation.variantOf(e);
-            }
+            // Non-throwing, so that rejecting a value does not involve constructing an exception
+            final var value = tryParse(str);
+            return value != null ? Either.ofFirst(value)
+                : CanonicalValueViolation.variantOf("Invalid uint16 value '" + str + "'");
         }
     }
 
@@ -232,6 +231,36 @@ public class Uint16 extends Number implements CanonicalValue<Uint16> {
         return valueOf(Integer.parseInt(requireNonNull(string), radix));
     }
 
+    /**
+     * Returns an {@code Uint16} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String)}, except it does not throw exceptions.
+     * {@link Support#fromString(String)} is equivalent, except it reports a {@link CanonicalValueViolation} instead of
+     * returning {@code null}.
+     *
+     * @param str CharSequence to parse
+     * @return A Uint16 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     */
+    public static @Nullable Uint16 tryParse(final CharSequence str) {
+        return tryParse(str, 10);
+    }
+
+    /**
+     * Returns an {@code Uint16} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String, int)}, except it does not throw
+     * exceptions for invalid input.
+     *
+     * @param str CharSequence to parse
+     * @param radix Radix to use
+     * @return A Uint16 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     * @throws IllegalArgumentException if {@code radix} is outside of allowed range
+     */
+    public static @Nullable Uint16 tryParse(final CharSequence str, final int radix) {
+        final long value = UintConversions.tryParse(str, radix, MAX_VALUE_INT, true);
+        return value < 0 ? null : instanceFor((short) value);
+    }
+
     /**
      * Returns an {@code Uint16} corresponding to a given {@code byteVal} if it is representable. If the value is
      * negative {@link #ZERO} will be returned.
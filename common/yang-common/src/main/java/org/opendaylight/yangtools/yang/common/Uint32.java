@@ -30,11 +30,10 @@ public class Uint32 extends Number implements CanonicalValue<Uint32> {
 
         @Override
         public Either<Uint32, CanonicalValueViolation> fromString(final String str) {
-            try {
-                return Either.ofFirst(Uint32.valueOf(str));
-            } catch (IllegalArgumentException e) {
-                return CanonicalValueViolation.variantOf(e);
-            }
+            // Non-throwing, so that rejecting a value does not involve constructing an exception
+            final var value = tryParse(str);
+            return value != null ? Either.ofFirst(value)
+                : CanonicalValueViolation.variantOf("Invalid uint32 value '" + str + "'");
         }
     }
 
@@ -243,6 +242,36 @@ public class Uint32 extends Number implements CanonicalValue<Uint32> {
         return instanceFor(Integer.parseUnsignedInt(requireNonNull(string), radix));
     }
 
+    /**
+     * Returns an {@code Uint32} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String)}, except it does not throw exceptions.
+     * {@link Support#fromString(String)} is equivalent, except it reports a {@link CanonicalValueViolation} instead of
+     * returning {@code null}.
+     *
+     * @param str CharSequence to parse
+     * @return A Uint32 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     */
+    public static @Nullable Uint32 tryParse(final CharSequence str) {
+        return tryParse(str, 10);
+    }
+
+    /**
+     * Returns an {@code Uint32} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String, int)}, except it does not throw
+     * exceptions for invalid input.
+     *
+     * @param str CharSequence to parse
+     * @param radix Radix to use
+     * @return A Uint32 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     * @throws IllegalArgumentException if {@code radix} is outside of allowed range
+     */
+    public static @Nullable Uint32 tryParse(final CharSequence str, final int radix) {
+        final long value = UintConversions.tryParse(str, radix, MAX_VALUE_LONG, false);
+        return value < 0 ? null : instanceFor((int) value);
+    }
+
     /**
      * Returns an {@code Uint32} corresponding to a given {@code byteVal} if it is representable. If the value is
      * negative {@link #ZERO} will be returned.
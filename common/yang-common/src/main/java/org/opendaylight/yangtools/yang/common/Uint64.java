@@ -31,11 +31,10 @@ public class Uint64 extends Number implements CanonicalValue<Uint64> {
 
         @Override
         public Either<Uint64, CanonicalValueViolation> fromString(final String str) {
-            try {
-                return Either.ofFirst(Uint64.valueOf(str));
-            } catch (IllegalArgumentException e) {
-                return CanonicalValueViolation.variantOf(e);
-            }
+            // Non-throwing, so that rejecting a value does not involve constructing an exception
+            final var value = tryParse(str);
+            return value != null ? Either.ofFirst(value)
+                : CanonicalValueViolation.variantOf("Invalid uint64 value '" + str + "'");
         }
     }
 
@@ -258,6 +257,57 @@ public class Uint64 extends Number implements CanonicalValue<Uint64> {
         return instanceFor(Long.parseUnsignedLong(requireNonNull(string), radix));
     }
 
+    /**
+     * Returns an {@code Uint64} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String)}, except it does not throw exceptions.
+     * {@link Support#fromString(String)} is equivalent, except it reports a {@link CanonicalValueViolation} instead of
+     * returning {@code null}.
+     *
+     * @param str CharSequence to parse
+     * @return A Uint64 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     */
+    public static @Nullable Uint64 tryParse(final CharSequence str) {
+        return tryParse(str, 10);
+    }
+
+    /**
+     * Returns an {@code Uint64} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String, int)}, except it does not throw
+     * exceptions for invalid input.
+     *
+     * @param str CharSequence to parse
+     * @param radix Radix to use
+     * @return A Uint64 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     * @throws IllegalArgumentException if {@code radix} is outside of allowed range
+     */
+    public static @Nullable Uint64 tryParse(final CharSequence str, final int radix) {
+        UintConversions.checkRadix(radix);
+
+        // Same rules as Long.parseUnsignedLong(): an optional '+' sign followed by digits
+        final int length = str.length();
+        int idx = length != 0 && str.charAt(0) == '+' ? 1 : 0;
+        if (idx == length) {
+            return null;
+        }
+
+        final long limit = Long.divideUnsigned(-1L, radix);
+        long result = 0;
+        for (; idx < length; idx++) {
+            final int digit = Character.digit(str.charAt(idx), radix);
+            if (digit < 0 || Long.compareUnsigned(result, limit) > 0) {
+                return null;
+            }
+            final long shifted = result * radix;
+            result = shifted + digit;
+            if (Long.compareUnsigned(result, shifted) < 0) {
+                return null;
+            }
+        }
+        return instanceFor(result);
+    }
+
     /**
      * Returns an {@code Uint64} corresponding to a given {@code byteVal} if it is representable. If the value is
      * negative {@link #ZERO} will be returned.
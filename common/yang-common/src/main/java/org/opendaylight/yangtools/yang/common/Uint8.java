@@ -27,11 +27,10 @@ public class Uint8 extends Number implements CanonicalValue<Uint8> {
 
         @Override
         public Either<Uint8, CanonicalValueViolation> fromString(final String str) {
-            try {
-                return Either.ofFirst(Uint8.valueOf(str));
-            } catch (IllegalArgumentException e) {
-                return CanonicalValueViolation.variantOf(e);
-            }
+            // Non-throwing, so that rejecting a value does not involve constructing an exception
+            final var value = tryParse(str);
+            return value != null ? Either.ofFirst(value)
+                : CanonicalValueViolation.variantOf("Invalid uint8 value '" + str + "'");
         }
     }
 
@@ -215,6 +214,36 @@ public class Uint8 extends Number implements CanonicalValue<Uint8> {
         return valueOf(Short.parseShort(requireNonNull(string), radix));
     }
 
+    /**
+     * Returns an {@code Uint8} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String)}, except it does not throw exceptions.
+     * {@link Support#fromString(String)} is equivalent, except it reports a {@link CanonicalValueViolation} instead of
+     * returning {@code null}.
+     *
+     * @param str CharSequence to parse
+     * @return A Uint8 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     */
+    public static @Nullable Uint8 tryParse(final CharSequence str) {
+        return tryParse(str, 10);
+    }
+
+    /**
+     * Returns an {@code Uint8} holding the value of the specified {@code CharSequence}, or {@code null} if it does not
+     * contain a valid value. This method behaves like {@link #valueOf(String, int)}, except it does not throw
+     * exceptions for invalid input.
+     *
+     * @param str CharSequence to parse
+     * @param radix Radix to use
+     * @return A Uint8 instance, or {@code null}
+     * @throws NullPointerException if str is null
+     * @throws IllegalArgumentException if {@code radix} is outside of allowed range
+     */
+    public static @Nullable Uint8 tryParse(final CharSequence str, final int radix) {
+        final long value = UintConversions.tryParse(str, radix, MAX_VALUE_SHORT, true);
+        return value < 0 ? null : instanceFor((byte) value);
+    }
+
     /**
      * Returns an {@code Uint8} corresponding to a given {@code byteVal} if it is representable. If the value is
      * negative {@link #ZERO} will be returned.
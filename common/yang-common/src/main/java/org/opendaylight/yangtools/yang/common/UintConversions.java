@@ -7,6 +7,8 @@
  */
 package org.opendaylight.yangtools.yang.common;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
 import java.math.BigInteger;
@@ -135,6 +137,59 @@ public final class UintConversions {
         }
     }
 
+    /**
+     * Parse a CharSequence into an unsigned value not exceeding {@code max}, without throwing exceptions. The lexical
+     * rules are those of {@link Integer#parseInt(String, int)}: an optional sign followed by digits.
+     *
+     * @param str CharSequence to parse
+     * @param radix Radix to use
+     * @param max Maximum value, must be less than {@code 2^32}
+     * @param allowNegativeZero {@code true} if a negative sign should be accepted for a zero value
+     * @return Parsed value, or {@code -1} if {@code str} does not contain a valid value
+     * @throws IllegalArgumentException if {@code radix} is outside of allowed range
+     */
+    static long tryParse(final CharSequence str, final int radix, final long max, final boolean allowNegativeZero) {
+        checkRadix(radix);
+        final int endIndex = str.length();
+        if (endIndex == 0) {
+            return -1;
+        }
+
+        int idx = 0;
+        final boolean negative = switch (str.charAt(idx)) {
+            case '-' -> {
+                idx++;
+                yield true;
+            }
+            case '+' -> {
+                idx++;
+                yield false;
+            }
+            default -> false;
+        };
+        if (idx == endIndex) {
+            return -1;
+        }
+
+        long result = 0;
+        for (; idx < endIndex; idx++) {
+            final int digit = Character.digit(str.charAt(idx), radix);
+            if (digit < 0) {
+                return -1;
+            }
+            // Cannot overflow, as max < 2^32 and radix <= 36
+            result = result * radix + digit;
+            if (result > max) {
+                return -1;
+            }
+        }
+        return negative && (result != 0 || !allowNegativeZero) ? -1 : result;
+    }
+
+    static void checkRadix(final int radix) {
+        checkArgument(radix >= Character.MIN_RADIX && radix <= Character.MAX_RADIX, "Invalid radix %s", radix);
+    }
+
     private static void throwIAE(final long value, final long max) {
         // "Invalid range: 65536, expected: [[0..65535]]."
         throw new IllegalArgumentException("Invalid range: " + value + ", expected: [[0.." + max + "]].");
@@ -10,6 +10,7 @@ package org.opendaylight.yangtools.yang.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -88,6 +89,33 @@ public class Decimal64Test {
         assertThrows(NumberFormatException.class, () -> Decimal64.valueOf("0.1."));
     }
 
+    @Test
+    public void testParseLongFractionWithoutInteger() {
+        final var ex = assertThrows(NumberFormatException.class, () -> Decimal64.valueOf(".1234567890123456789"));
+        assertEquals("Fraction part longer than 18 digits", ex.getMessage());
+    }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(Decimal64.valueOf("-12.5"), Decimal64.tryParse("-12.50"));
+        assertEquals(Decimal64.valueOf("1.5"), Decimal64.tryParse(new StringBuilder("1.5")));
+        assertNull(Decimal64.tryParse(""));
+        assertNull(Decimal64.tryParse("-"));
+        assertNull(Decimal64.tryParse("0."));
+        assertNull(Decimal64.tryParse("0.1."));
+        assertNull(Decimal64.tryParse("1e3"));
+        assertNull(Decimal64.tryParse("1234567890123456789"));
+    }
+
+    @Test
+    public void testTryScaleTo() {
+        final var value = Decimal64.valueOf("12.5");
+        assertEquals(Decimal64.of(3, 12500), value.tryScaleTo(3));
+        assertNull(value.tryScaleTo(18));
+        assertNull(Decimal64.valueOf("12.25").tryScaleTo(1));
+        assertEquals(Decimal64.of(1, 122), Decimal64.of(2, 1220).tryScaleTo(1));
+    }
+
     @Test
     public void testParseLongString() {
         Decimal64.valueOf("123456789012345678");
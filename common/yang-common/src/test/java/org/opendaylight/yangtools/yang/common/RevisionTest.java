@@ -11,6 +11,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -66,6 +67,21 @@ public class RevisionTest {
         assertEquals(expectedMessage, ex.getMessage());
     }
 
+    @Test
+    void testTryOf() {
+        assertEquals(Revision.of("2017-12-25"), Revision.tryOf("2017-12-25"));
+        assertEquals(Revision.of("2017-02-30"), Revision.tryOf("2017-02-30"));
+        assertEquals(Revision.of("+10000-01-01"), Revision.tryOf("+10000-01-01"));
+        assertNull(Revision.tryOf(""));
+        assertNull(Revision.tryOf("invalid"));
+        assertNull(Revision.tryOf("0000-01-01"));
+        assertNull(Revision.tryOf("2017-13-01"));
+        assertNull(Revision.tryOf("2017-12-00"));
+        assertNull(Revision.tryOf("2017-12-32"));
+        assertNull(Revision.tryOf("2017/12/25"));
+        assertNull(Revision.tryOf("10000-01-01"));
+    }
+
     @Test
     void testEquals() {
         final var rev1 = Revision.of("2017-12-25");
@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -178,4 +179,17 @@ public class Uint64Test {
         assertThrows(NullPointerException.class, () -> Uint64.valueOf((String) null));
         assertThrows(NullPointerException.class, () -> Uint64.valueOf((BigInteger) null));
     }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(Uint64.MAX_VALUE, Uint64.tryParse("18446744073709551615"));
+        assertEquals(Uint64.MAX_VALUE, Uint64.tryParse("ffffffffffffffff", 16));
+        assertEquals(Uint64.TEN, Uint64.tryParse("+10"));
+        assertEquals(Uint64.TWO, Uint64.tryParse("10", 2));
+        assertNull(Uint64.tryParse("18446744073709551616"));
+        assertNull(Uint64.tryParse("10000000000000000", 16));
+        assertNull(Uint64.tryParse("-0"));
+        assertNull(Uint64.tryParse(""));
+        assertNull(Uint64.tryParse("1 "));
+    }
 }
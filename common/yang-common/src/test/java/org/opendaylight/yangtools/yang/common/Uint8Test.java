@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -153,4 +154,25 @@ public class Uint8Test {
     public void testNullValueOfString() {
         assertThrows(NullPointerException.class, () -> Uint8.valueOf((String) null));
     }
+
+    @Test
+    public void testTryParse() {
+        assertSame(Uint8.MAX_VALUE, Uint8.tryParse("255"));
+        assertSame(Uint8.MAX_VALUE, Uint8.tryParse("+ff", 16));
+        assertSame(Uint8.ZERO, Uint8.tryParse("-0"));
+        assertSame(Uint8.TEN, Uint8.tryParse(new StringBuilder("10"), 10));
+        assertNull(Uint8.tryParse("256"));
+        assertNull(Uint8.tryParse("-1"));
+        assertNull(Uint8.tryParse(""));
+        assertNull(Uint8.tryParse("+"));
+        assertNull(Uint8.tryParse("1a"));
+        assertThrows(IllegalArgumentException.class, () -> Uint8.tryParse("1", 37));
+    }
+
+    @Test
+    public void testSupportFromString() {
+        final var support = new Uint8.Support();
+        assertSame(Uint8.MAX_VALUE, support.fromString("255").getFirst());
+        assertEquals("Invalid uint8 value '256'", support.fromString("256").getSecond().getMessage().orElseThrow());
+    }
 }
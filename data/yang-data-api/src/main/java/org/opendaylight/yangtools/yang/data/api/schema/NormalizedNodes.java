@@ -101,6 +101,38 @@ public final class NormalizedNodes {
 
     public static Optional<NormalizedNode> getDirectChild(final NormalizedNode node,
             final PathArgument pathArg) {
+        return Optional.ofNullable(childByArg(node, pathArg));
+    }
+
+    /**
+     * Look up a node in a tree. Unlike {@link #findNode(NormalizedNode, YangInstanceIdentifier)}, this method does
+     * not allocate any intermediate objects and walks the path arguments already cached in {@code path}.
+     *
+     * @param tree Tree root
+     * @param path Path to the node
+     * @return Node at specified path, or {@code null} if it is not present
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static @Nullable NormalizedNode childByPath(final NormalizedNode tree, final YangInstanceIdentifier path) {
+        final var args = path.getPathArguments();
+        var current = requireNonNull(tree);
+        for (int i = 0, size = args.size(); i < size; ++i) {
+            current = childByArg(current, args.get(i));
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Look up a direct child of a node.
+     *
+     * @param node Parent node
+     * @param pathArg Child path argument
+     * @return Child node, or {@code null} if it is not present
+     */
+    public static @Nullable NormalizedNode childByArg(final NormalizedNode node, final PathArgument pathArg) {
         final NormalizedNode child;
         if (node instanceof DataContainerNode dataContainer && pathArg instanceof NodeIdentifier nid) {
             child = dataContainer.childByArg(nid);
@@ -112,7 +144,7 @@ public final class NormalizedNodes {
             // Anything else, including ValueNode
             child = null;
         }
-        return Optional.ofNullable(child);
+        return child;
     }
 
     /**
@@ -12,8 +12,8 @@ import static com.google.common.base.Verify.verifyNotNull;
 import com.google.common.annotations.Beta;
 import com.google.common.base.CharMatcher;
 import com.google.common.collect.RangeSet;
-import java.util.regex.Pattern;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.common.ErrorType;
 import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.common.Uint32;
@@ -38,18 +38,17 @@ import org.opendaylight.yangtools.yang.model.api.type.Uint8TypeDefinition;
 public abstract class AbstractIntegerStringCodec<N extends Number & Comparable<N>,
         T extends RangeRestrictedTypeDefinition<T, N>> extends TypeDefinitionAwareCodec<N, T> {
 
-    private static final Pattern INT_PATTERN = Pattern.compile("[+-]?[1-9][0-9]*$");
-    private static final Pattern HEX_PATTERN = Pattern.compile("[+-]?0[xX][0-9a-fA-F]+");
-    private static final Pattern OCT_PATTERN = Pattern.compile("[+-]?0[1-7][0-7]*$");
-
     // For up to two characters, this is very fast
     private static final CharMatcher X_MATCHER = CharMatcher.anyOf("xX");
 
     private final RangeConstraint<N> rangeConstraint;
+    private final RangeChecker rangeChecker;
 
     AbstractIntegerStringCodec(final Class<N> outputClass, final T typeDefinition) {
         super(outputClass, typeDefinition);
         rangeConstraint = typeDefinition.getRangeConstraint().orElse(null);
+        rangeChecker = rangeConstraint == null ? null
+            : RangeChecker.of(rangeConstraint.getAllowedRanges(), Number::longValue, Uint64.class.equals(outputClass));
     }
 
     public static @NonNull AbstractIntegerStringCodec<Byte, Int8TypeDefinition> from(final Int8TypeDefinition type) {
@@ -88,17 +87,42 @@ public abstract class AbstractIntegerStringCodec<N extends Number & Comparable<N
         return new Uint64StringCodec(type);
     }
 
+    @Override
+    public final N tryDeserialize(final String str) {
+        final int base = lexicalBase(str);
+        if (base == 0) {
+            return null;
+        }
+
+        final N deserialized = tryDeserialize(base != 16 ? str : X_MATCHER.removeFrom(str), base);
+        return deserialized != null && isInRange(deserialized) ? deserialized : null;
+    }
+
+    /**
+     * Non-throwing version of {@link #deserialize(String, int)}.
+     *
+     * @param stringRepresentation String representation
+     * @param radix numeric base.
+     * @return Deserialized value, or {@code null} if the value does not fit the type
+     */
+    protected abstract @Nullable N tryDeserialize(@NonNull String stringRepresentation, int radix);
+
     @Override
     protected final N deserializeImpl(final String product) {
-        final int base = provideBase(product);
-        final String stringRepresentation = base != 16 ? product : X_MATCHER.removeFrom(product);
-        final N deserialized = verifyNotNull(deserialize(stringRepresentation, base));
-        if (rangeConstraint != null) {
+        final int base = lexicalBase(product);
+        if (base == 0) {
+            throw new NumberFormatException("Incorrect lexical representation of integer value: " + product + ".\n"
+                        + "An integer value can be defined as:\n"
+                        + "  - a decimal number,\n"
+                        + "  - a hexadecimal number (prefix 0x)," + "%n  - an octal number (prefix 0).\n"
+                        + "Signed values are allowed. Spaces between digits are NOT allowed.");
+        }
+
+        final N deserialized = parse(product, base);
+        if (!isInRange(deserialized)) {
             final RangeSet<N> ranges = rangeConstraint.getAllowedRanges();
-            if (!ranges.contains(deserialized)) {
-                throw new YangInvalidValueException(ErrorType.APPLICATION, rangeConstraint,
-                    "Value '" + deserialized + "'  is not in required ranges " + ranges);
-            }
+            throw new YangInvalidValueException(ErrorType.APPLICATION, rangeConstraint,
+                "Value '" + deserialized + "'  is not in required ranges " + ranges);
         }
         return deserialized;
     }
@@ -118,19 +142,103 @@ public abstract class AbstractIntegerStringCodec<N extends Number & Comparable<N
      */
     protected abstract @NonNull N deserialize(@NonNull String stringRepresentation, int radix);
 
-    private static int provideBase(final String integer) {
-        if (integer.length() == 1 && integer.charAt(0) == '0' || INT_PATTERN.matcher(integer).matches()) {
+    /**
+     * Parse a signed value with the same rules as {@link Long#parseLong(String, int)}, returning {@code null} if the
+     * string is not valid or its value is not in range {@code [min, max]}.
+     *
+     * @param str String representation
+     * @param radix numeric base
+     * @param min minimum value, must be {@code -max - 1}
+     * @param max maximum value
+     * @return Parsed value, or {@code null}
+     */
+    static @Nullable Long tryParseSigned(final String str, final int radix, final long min, final long max) {
+        final int length = str.length();
+        if (length == 0) {
+            return null;
+        }
+        final boolean negative = str.charAt(0) == '-';
+        int idx = negative || str.charAt(0) == '+' ? 1 : 0;
+        if (idx == length) {
+            return null;
+        }
+
+        // Accumulate negatively, so that min is representable, just as Long.parseLong() does
+        final long limit = negative ? min : -max;
+        final long multmin = limit / radix;
+        long result = 0;
+        for (; idx < length; ++idx) {
+            final int digit = Character.digit(str.charAt(idx), radix);
+            if (digit < 0 || result < multmin) {
+                return null;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private @NonNull N parse(final String str, final int base) {
+        return verifyNotNull(deserialize(base != 16 ? str : X_MATCHER.removeFrom(str), base));
+    }
+
+    private boolean isInRange(final N value) {
+        return rangeChecker == null || rangeChecker.contains(value.longValue());
+    }
+
+    /**
+     * Determine the radix of a lexical integer representation without throwing. This is equivalent to matching
+     * {@code 0}, {@code [+-]?[1-9][0-9]*}, {@code [+-]?0[xX][0-9a-fA-F]+} and {@code [+-]?0[1-7][0-7]*}, in that order.
+     *
+     * @param str String to examine
+     * @return Radix of the representation, or {@code 0} if it is not a valid integer representation
+     */
+    private static int lexicalBase(final String str) {
+        final int length = str.length();
+        if (length == 1 && str.charAt(0) == '0') {
             return 10;
-        } else if (HEX_PATTERN.matcher(integer).matches()) {
-            return 16;
-        } else if (OCT_PATTERN.matcher(integer).matches()) {
-            return 8;
-        } else {
-            throw new NumberFormatException("Incorrect lexical representation of integer value: " + integer + ".\n"
-                        + "An integer value can be defined as:\n"
-                        + "  - a decimal number,\n"
-                        + "  - a hexadecimal number (prefix 0x)," + "%n  - an octal number (prefix 0).\n"
-                        + "Signed values are allowed. Spaces between digits are NOT allowed.");
         }
+
+        final int offset = length != 0 && (str.charAt(0) == '+' || str.charAt(0) == '-') ? 1 : 0;
+        if (offset == length) {
+            return 0;
+        }
+        final char first = str.charAt(offset);
+        if (first >= '1' && first <= '9') {
+            return hasOnlyDigits(str, offset + 1, 10) ? 10 : 0;
+        }
+        if (first != '0' || offset + 1 == length) {
+            return 0;
+        }
+
+        final char second = str.charAt(offset + 1);
+        if (second == 'x' || second == 'X') {
+            return offset + 2 != length && hasOnlyDigits(str, offset + 2, 16) ? 16 : 0;
+        }
+        return second >= '1' && second <= '7' && hasOnlyDigits(str, offset + 2, 8) ? 8 : 0;
+    }
+
+    private static boolean hasOnlyDigits(final String str, final int from, final int radix) {
+        for (int i = from, length = str.length(); i < length; ++i) {
+            final char ch = str.charAt(i);
+            // Note: not using Character.digit(), as it accepts non-ASCII digits
+            final int digit;
+            if (ch >= '0' && ch <= '9') {
+                digit = ch - '0';
+            } else if (ch >= 'a' && ch <= 'f') {
+                digit = ch - 'a' + 10;
+            } else if (ch >= 'A' && ch <= 'F') {
+                digit = ch - 'A' + 10;
+            } else {
+                return false;
+            }
+            if (digit >= radix) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -26,16 +26,18 @@ public abstract sealed class BinaryStringCodec extends TypeDefinitionAwareCodec<
         implements BinaryCodec<String> {
     private static final class Restricted extends BinaryStringCodec {
         private final LengthConstraint lengthConstraint;
+        private final RangeChecker lengthChecker;
 
         Restricted(final BinaryTypeDefinition typeDef, final LengthConstraint lengthConstraint) {
             super(typeDef);
             this.lengthConstraint = requireNonNull(lengthConstraint);
+            lengthChecker = RangeChecker.of(lengthConstraint.getAllowedRanges(), Integer::longValue);
         }
 
         @Override
         void validate(final byte[] value) {
-            final RangeSet<Integer> ranges = lengthConstraint.getAllowedRanges();
-            if (!ranges.contains(value.length)) {
+            if (!lengthChecker.contains(value.length)) {
+                final RangeSet<Integer> ranges = lengthConstraint.getAllowedRanges();
                 throw new YangInvalidValueException(ErrorType.APPLICATION, lengthConstraint,
                         "Value length " + value.length + " is not in required ranges " + ranges);
             }
@@ -53,6 +55,9 @@ public abstract sealed class BinaryStringCodec extends TypeDefinitionAwareCodec<
         }
     }
 
+    // Number of Base64 characters decoded in one slice, must be a multiple of 4 so that slices do not need padding
+    private static final int SLICE_CHARS = 4 * 1024;
+
     BinaryStringCodec(final BinaryTypeDefinition typeDef) {
         super(byte[].class, typeDef);
     }
@@ -64,12 +69,66 @@ public abstract sealed class BinaryStringCodec extends TypeDefinitionAwareCodec<
 
     @Override
     public final byte[] deserializeImpl(final String product) {
-        // https://www.rfc-editor.org/rfc/rfc4648#section-4 plus lenient to allow for MIME blocks
-        final byte[] ret = Base64.getMimeDecoder().decode(product);
+        final var ret = product.length() > SLICE_CHARS ? decodeSliced(product) : decodeLenient(product);
         validate(ret);
         return ret;
     }
 
+    private static byte[] decodeLenient(final String str) {
+        // https://www.rfc-editor.org/rfc/rfc4648#section-4 plus lenient to allow for MIME blocks
+        return Base64.getMimeDecoder().decode(str);
+    }
+
+    /*
+     * Decode a large value slice by slice, so that we do not need a byte[] copy of the entire input, as
+     * Base64.Decoder.decode(String) does. Only plain RFC4648 input, i.e. without line breaks, is handled here,
+     * anything else is handed over to the lenient decoder.
+     */
+    private static byte[] decodeSliced(final String str) {
+        final int length = str.length();
+        if (length % 4 != 0) {
+            return decodeLenient(str);
+        }
+
+        int padding = 0;
+        if (str.charAt(length - 1) == '=') {
+            padding = str.charAt(length - 2) == '=' ? 2 : 1;
+        }
+
+        final var decoder = Base64.getDecoder();
+        final var ret = new byte[length / 4 * 3 - padding];
+        final var slice = new byte[SLICE_CHARS];
+        final var decoded = new byte[SLICE_CHARS / 4 * 3];
+        int offset = 0;
+        int written = 0;
+        while (offset < length) {
+            final int len = Math.min(SLICE_CHARS, length - offset);
+            final var src = len == SLICE_CHARS ? slice : new byte[len];
+            for (int i = 0; i < len; ++i) {
+                final char ch = str.charAt(offset + i);
+                if (ch > 0x7F) {
+                    return decodeLenient(str);
+                }
+                src[i] = (byte) ch;
+            }
+            offset += len;
+
+            final int count;
+            try {
+                count = decoder.decode(src, decoded);
+            } catch (IllegalArgumentException e) {
+                return decodeLenient(str);
+            }
+            // Padding may only appear in the last slice, in which case it is accounted for in the size of ret
+            if (written + count > ret.length || offset < length && count != decoded.length) {
+                return decodeLenient(str);
+            }
+            System.arraycopy(decoded, 0, ret, written, count);
+            written += count;
+        }
+        return written == ret.length ? ret : decodeLenient(str);
+    }
+
     @Override
     protected final String serializeImpl(final byte[] data) {
         // We do not split data on 76 characters on output
@@ -32,7 +32,7 @@ public final class BitsStringCodec extends TypeDefinitionAwareCodec<Set<String>,
     private final ImmutableSet<String> validBits;
 
     @SuppressWarnings("unchecked")
-    private BitsStringCodec(final BitsTypeDefinition typeDef) {
+    BitsStringCodec(final BitsTypeDefinition typeDef) {
         super((Class<Set<String>>) (Class<?>) Set.class, typeDef);
         validBits = typeDef.getBits().stream()
             .map(Bit::getName)
@@ -43,17 +43,17 @@ public final class BitsStringCodec extends TypeDefinitionAwareCodec<Set<String>,
         return new BitsStringCodec(type);
     }
 
+    @Override
+    public Set<String> tryDeserialize(final String str) {
+        final Set<String> strings = ImmutableSet.copyOf(SPLITTER.split(str));
+        final var sorted = normalize(strings);
+        return sorted.size() == strings.size() ? toSet(sorted) : null;
+    }
+
     @Override
     protected Set<String> deserializeImpl(final String product) {
         final Set<String> strings = ImmutableSet.copyOf(SPLITTER.split(product));
-
-        // Normalize strings to schema first, retaining definition order
-        final List<String> sorted = new ArrayList<>(strings.size());
-        for (final String bit : validBits) {
-            if (strings.contains(bit)) {
-                sorted.add(bit);
-            }
-        }
+        final var sorted = normalize(strings);
 
         // Check sizes, if the normalized set does not match non-normalized size, non-normalized strings contain
         // an invalid bit.
@@ -63,7 +63,21 @@ public final class BitsStringCodec extends TypeDefinitionAwareCodec<Set<String>,
                     validBits);
             }
         }
+        return toSet(sorted);
+    }
+
+    // Normalize strings to schema, retaining definition order. Invalid bits are left out.
+    private List<String> normalize(final Set<String> strings) {
+        final List<String> sorted = new ArrayList<>(strings.size());
+        for (final String bit : validBits) {
+            if (strings.contains(bit)) {
+                sorted.add(bit);
+            }
+        }
+        return sorted;
+    }
 
+    private Set<String> toSet(final List<String> sorted) {
         // In case all valid bits have been specified, retain the set we have created for this codec
         return sorted.size() == validBits.size() ? validBits : ImmutableSet.copyOf(sorted);
     }
@@ -26,6 +26,15 @@ public final class BooleanStringCodec extends TypeDefinitionAwareCodec<Boolean,
         return new BooleanStringCodec(typeDef);
     }
 
+    @Override
+    public Boolean tryDeserialize(final String str) {
+        return switch (str) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
     @Override
     protected Boolean deserializeImpl(final String product) {
         return switch (product) {
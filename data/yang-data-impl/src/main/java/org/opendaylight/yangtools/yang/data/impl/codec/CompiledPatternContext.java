@@ -35,8 +35,12 @@ final class CompiledPatternContext {
         }
     }
 
+    boolean matches(final String str) {
+        return pattern.matcher(str).matches() != invert;
+    }
+
     void validate(final String str) {
-        if (pattern.matcher(str).matches() == invert) {
+        if (!matches(str)) {
             throw new YangInvalidValueException(ErrorType.APPLICATION, constraint,
                 "Value '" + str + "' " + (invert ? "matches" : "does not match") + " regular expression '"
                         + constraint.getRegularExpressionString() + "'");
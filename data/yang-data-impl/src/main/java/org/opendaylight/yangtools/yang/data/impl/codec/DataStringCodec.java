@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.impl.codec;
 
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.codec.IllegalArgumentCodec;
 
 // FIXME: 7.0.0: yang-data-api is tied to yang-model-api, hence it should be opinionated to export exceptions
@@ -15,4 +16,25 @@ import org.opendaylight.yangtools.yang.data.api.codec.IllegalArgumentCodec;
 public interface DataStringCodec<T> extends IllegalArgumentCodec<String, T> {
 
     @NonNull Class<T> getInputClass();
+
+    /**
+     * Attempt to deserialize a String, returning {@code null} if it is not a valid representation of this codec's type.
+     * This is a non-throwing counterpart to {@link #deserialize(Object)}, useful when a value is being probed against
+     * multiple types, such as when dispatching union values.
+     *
+     * <p>Default implementation delegates to {@link #deserialize(Object)} and catches any
+     * {@link IllegalArgumentException}. Implementations are encouraged to override this method so that rejecting
+     * an invalid value does not involve throwing an exception.
+     *
+     * @param str String representation
+     * @return Deserialized value, or {@code null} if the string is not valid
+     * @throws NullPointerException if {@code str} is {@code null}
+     */
+    default @Nullable T tryDeserialize(final @NonNull String str) {
+        try {
+            return deserialize(str);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
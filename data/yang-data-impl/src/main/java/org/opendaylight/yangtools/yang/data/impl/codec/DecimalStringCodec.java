@@ -29,6 +29,21 @@ public final class DecimalStringCodec extends TypeDefinitionAwareCodec<Decimal64
         return new DecimalStringCodec(type);
     }
 
+    @Override
+    public Decimal64 tryDeserialize(final String str) {
+        final var parsed = Decimal64.tryParse(str);
+        if (parsed == null) {
+            return null;
+        }
+        final var typeDef = typeDefinition();
+        final var value = parsed.tryScaleTo(typeDef.getFractionDigits());
+        if (value == null) {
+            return null;
+        }
+        final var constraint = typeDef.getRangeConstraint();
+        return constraint.isEmpty() || constraint.orElseThrow().getAllowedRanges().contains(value) ? value : null;
+    }
+
     @Override
     protected Decimal64 deserializeImpl(final String product) {
         final var typeDef = typeDefinition();
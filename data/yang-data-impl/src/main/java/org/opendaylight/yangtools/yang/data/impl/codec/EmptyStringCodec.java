@@ -19,6 +19,11 @@ final class EmptyStringCodec extends TypeDefinitionAwareCodec<Empty, EmptyTypeDe
         super(Empty.class, typeDef);
     }
 
+    @Override
+    public Empty tryDeserialize(final String str) {
+        return str.isEmpty() ? Empty.value() : null;
+    }
+
     @Override
     protected Empty deserializeImpl(final String product) {
         checkArgument(product.isEmpty(), "The value must be empty");
@@ -23,7 +23,7 @@ public final class EnumStringCodec extends TypeDefinitionAwareCodec<String, Enum
         implements EnumCodec<String> {
     private final ImmutableMap<String, String> values;
 
-    private EnumStringCodec(final EnumTypeDefinition typeDef) {
+    EnumStringCodec(final EnumTypeDefinition typeDef) {
         super(String.class, typeDef);
         values = typeDef.getValues().stream()
                 // Intern the String to get wide reuse
@@ -35,6 +35,11 @@ public final class EnumStringCodec extends TypeDefinitionAwareCodec<String, Enum
         return new EnumStringCodec(typeDef);
     }
 
+    @Override
+    public String tryDeserialize(final String str) {
+        return values.get(str);
+    }
+
     @Override
     protected String deserializeImpl(final String product) {
         // Lookup the serialized string in the values. Returned string is the interned instance, which we want
@@ -20,4 +20,10 @@ final class Int16StringCodec extends AbstractIntegerStringCodec<Short, Int16Type
     protected Short deserialize(final String stringRepresentation, final int base) {
         return Short.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Short tryDeserialize(final String stringRepresentation, final int base) {
+        final Long value = tryParseSigned(stringRepresentation, base, Short.MIN_VALUE, Short.MAX_VALUE);
+        return value == null ? null : value.shortValue();
+    }
 }
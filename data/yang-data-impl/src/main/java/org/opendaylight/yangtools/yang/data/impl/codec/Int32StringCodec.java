@@ -20,4 +20,10 @@ final class Int32StringCodec extends AbstractIntegerStringCodec<Integer, Int32Ty
     protected Integer deserialize(final String stringRepresentation, final int base) {
         return Integer.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Integer tryDeserialize(final String stringRepresentation, final int base) {
+        final Long value = tryParseSigned(stringRepresentation, base, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value == null ? null : value.intValue();
+    }
 }
@@ -20,4 +20,9 @@ final class Int64StringCodec extends AbstractIntegerStringCodec<Long, Int64TypeD
     protected Long deserialize(final String stringRepresentation, final int base) {
         return Long.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Long tryDeserialize(final String stringRepresentation, final int base) {
+        return tryParseSigned(stringRepresentation, base, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
 }
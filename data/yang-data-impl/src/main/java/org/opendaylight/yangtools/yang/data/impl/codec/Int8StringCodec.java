@@ -20,4 +20,10 @@ final class Int8StringCodec extends AbstractIntegerStringCodec<Byte, Int8TypeDef
     protected Byte deserialize(final String stringRepresentation, final int base) {
         return Byte.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Byte tryDeserialize(final String stringRepresentation, final int base) {
+        final Long value = tryParseSigned(stringRepresentation, base, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        return value == null ? null : value.byteValue();
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.RangeSet;
+import java.util.function.ToLongFunction;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A {@link RangeSet} of integral values compiled into sorted arrays of {@code long} bounds, so that checking a value
+ * does not involve boxing and {@link Comparable#compareTo(Object)} calls. A set with a single range, which is the
+ * usual case for YANG {@code range} and {@code length} statements, is checked with two comparisons, otherwise the
+ * matching range is found through binary search.
+ *
+ * <p>
+ * Unsigned 64-bit values are supported by biasing both the bounds and the checked values by {@link Long#MIN_VALUE},
+ * which maps unsigned ordering onto signed ordering.
+ */
+final class RangeChecker {
+    // Inclusive bounds of the ranges, biased, in ascending order
+    private final long[] lowers;
+    private final long[] uppers;
+    private final long bias;
+
+    private RangeChecker(final long[] lowers, final long[] uppers, final long bias) {
+        this.lowers = lowers;
+        this.uppers = uppers;
+        this.bias = bias;
+    }
+
+    /**
+     * Compile a {@link RangeSet} of signed values.
+     *
+     * @param <C> type of values
+     * @param ranges ranges to compile
+     * @param toLong function converting a value to a {@code long}
+     * @return A RangeChecker
+     */
+    static <C extends Comparable<?>> @NonNull RangeChecker of(final RangeSet<C> ranges,
+            final ToLongFunction<? super C> toLong) {
+        return of(ranges, toLong, false);
+    }
+
+    /**
+     * Compile a {@link RangeSet} of values.
+     *
+     * @param <C> type of values
+     * @param ranges ranges to compile
+     * @param toLong function converting a value to a {@code long}
+     * @param unsigned {@code true} if {@code long}s produced by {@code toLong} are to be treated as unsigned
+     * @return A RangeChecker
+     */
+    static <C extends Comparable<?>> @NonNull RangeChecker of(final RangeSet<C> ranges,
+            final ToLongFunction<? super C> toLong, final boolean unsigned) {
+        final long bias = unsigned ? Long.MIN_VALUE : 0;
+        final var asRanges = ranges.asRanges();
+        final var lowers = new long[asRanges.size()];
+        final var uppers = new long[lowers.length];
+
+        int idx = 0;
+        for (var range : asRanges) {
+            if (range.hasLowerBound()) {
+                final long lower = toLong.applyAsLong(range.lowerEndpoint()) ^ bias;
+                lowers[idx] = range.lowerBoundType() == BoundType.OPEN ? lower + 1 : lower;
+            } else {
+                lowers[idx] = Long.MIN_VALUE;
+            }
+            if (range.hasUpperBound()) {
+                final long upper = toLong.applyAsLong(range.upperEndpoint()) ^ bias;
+                uppers[idx] = range.upperBoundType() == BoundType.OPEN ? upper - 1 : upper;
+            } else {
+                uppers[idx] = Long.MAX_VALUE;
+            }
+            idx++;
+        }
+        return new RangeChecker(lowers, uppers, bias);
+    }
+
+    /**
+     * Check whether a value is contained in the ranges.
+     *
+     * @param value value to check
+     * @return {@code true} if the value is contained in the ranges
+     */
+    boolean contains(final long value) {
+        final long biased = value ^ bias;
+        if (lowers.length == 1) {
+            return lowers[0] <= biased && biased <= uppers[0];
+        }
+
+        // Find the last range whose lower bound is not greater than the value
+        int low = 0;
+        int high = lowers.length - 1;
+        while (low <= high) {
+            final int mid = low + high >>> 1;
+            if (lowers[mid] <= biased) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && biased <= uppers[high];
+    }
+}
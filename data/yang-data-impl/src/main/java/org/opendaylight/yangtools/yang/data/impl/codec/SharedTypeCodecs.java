@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.util.codec.ModelContextCache;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypedefEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+
+/**
+ * {@link TypeDefinitionAwareCodec}s, and other per-type state, whose construction involves analysis of the type, such
+ * as compiling {@code pattern} statements, indexing {@code enum} and {@code bits} values or classifying {@code union}
+ * members. There is one instance for each {@link EffectiveModelContext}, held in {@link ModelContextCache}, hence it is
+ * shared by all codec families (JSON, XML) operating on that context and it is released together with the context.
+ *
+ * <p>
+ * Codecs obtained through static {@code from()} methods, such as {@link StringStringCodec#from(StringTypeDefinition)},
+ * are not bound to a context and are therefore not shared.
+ *
+ * <p>
+ * Do not use this class outside of yangtools, its presence does not fall into the API stability contract.
+ */
+@Beta
+public final class SharedTypeCodecs {
+    // Note: we must not retain the EffectiveModelContext, as it is the weak key of ModelContextCache. Types are
+    //       compared by equality, which is fine, as these codecs depend only on the definition of their type.
+    private final ConcurrentHashMap<TypeDefinition<?>, TypeDefinitionAwareCodec<?, ?>> codecs =
+        new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UnionTypeDefinition, UnionClassifier> classifiers = new ConcurrentHashMap<>();
+
+    private SharedTypeCodecs() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Return the SharedTypeCodecs of an {@link EffectiveModelContext}.
+     *
+     * @param modelContext EffectiveModelContext
+     * @return A SharedTypeCodecs
+     */
+    public static @NonNull SharedTypeCodecs of(final EffectiveModelContext modelContext) {
+        return ModelContextCache.getComponent(modelContext, SharedTypeCodecs.class, unused -> new SharedTypeCodecs());
+    }
+
+    /**
+     * Create codecs for all leaves, leaf-lists and typedefs defined in an {@link EffectiveModelContext}, including
+     * those in operation inputs and outputs, notifications, augmentations and groupings, so that they are available
+     * before the first request arrives. Each module is processed as a separate task submitted to specified
+     * {@link Executor}.
+     *
+     * <p>
+     * This method is not invoked by yangtools itself, as it cannot know which executor is appropriate: callers which
+     * install a new context and want to avoid analysing types while processing first requests must invoke it
+     * explicitly.
+     *
+     * @param modelContext EffectiveModelContext to process
+     * @param executor Executor to run tasks
+     * @return A future completing when all modules have been processed
+     */
+    public static @NonNull CompletableFuture<Void> warmUp(final EffectiveModelContext modelContext,
+            final Executor executor) {
+        final var shared = of(modelContext);
+        return CompletableFuture.allOf(modelContext.getModuleStatements().values().stream()
+            .map(module -> CompletableFuture.runAsync(() -> shared.warmUp(module), executor))
+            .toArray(CompletableFuture[]::new));
+    }
+
+    // Walk all statements, not just the data tree, so that we also cover operation inputs and outputs, notifications,
+    // augmentations, groupings and typedefs
+    private void warmUp(final EffectiveStatement<?, ?> stmt) {
+        for (var substmt : stmt.effectiveSubstatements()) {
+            if (substmt instanceof TypedDataSchemaNode typed) {
+                warmUp(typed.getType());
+            } else if (substmt instanceof TypedefEffectiveStatement typedef) {
+                warmUp(typedef.getTypeDefinition());
+            } else {
+                warmUp(substmt);
+            }
+        }
+    }
+
+    private void warmUp(final TypeDefinition<?> type) {
+        if (type instanceof BitsTypeDefinition bitsType) {
+            bitsCodec(bitsType);
+        } else if (type instanceof EnumTypeDefinition enumType) {
+            enumCodec(enumType);
+        } else if (type instanceof StringTypeDefinition stringType) {
+            stringCodec(stringType);
+        } else if (type instanceof UnionTypeDefinition unionType) {
+            unionClassifier(unionType);
+            unionType.getTypes().forEach(this::warmUp);
+        }
+    }
+
+    /**
+     * Return the number of codecs and union classifiers held by this object.
+     *
+     * @return Number of codecs and union classifiers
+     */
+    public int size() {
+        return codecs.size() + classifiers.size();
+    }
+
+    /**
+     * Return the codec for a {@code bits} type.
+     *
+     * @param type type definition
+     * @return A BitsStringCodec
+     */
+    public @NonNull BitsStringCodec bitsCodec(final BitsTypeDefinition type) {
+        return get(type, BitsStringCodec::new);
+    }
+
+    /**
+     * Return the codec for an {@code enumeration} type.
+     *
+     * @param type type definition
+     * @return An EnumStringCodec
+     */
+    public @NonNull EnumStringCodec enumCodec(final EnumTypeDefinition type) {
+        return get(type, EnumStringCodec::new);
+    }
+
+    /**
+     * Return the codec for a {@code string} type. Only codecs checking {@code pattern} statements are shared.
+     *
+     * @param type type definition
+     * @return A StringStringCodec
+     */
+    public @NonNull StringStringCodec stringCodec(final StringTypeDefinition type) {
+        return type.getPatternConstraints().isEmpty() ? new StringStringCodec(type)
+            : get(type, StringPatternCheckingCodec::new);
+    }
+
+    /**
+     * Return the {@link UnionClassifier} of a {@code union} type.
+     *
+     * @param type type definition
+     * @return A UnionClassifier
+     */
+    public @NonNull UnionClassifier unionClassifier(final UnionTypeDefinition type) {
+        return classifiers.computeIfAbsent(type, UnionClassifier::of);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends TypeDefinition<T>, C extends TypeDefinitionAwareCodec<?, T>> @NonNull C get(final T type,
+            final Function<T, C> factory) {
+        return (C) codecs.computeIfAbsent(type, key -> factory.apply(type));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("codecs", codecs.size()).add("classifiers", classifiers.size())
+            .toString();
+    }
+}
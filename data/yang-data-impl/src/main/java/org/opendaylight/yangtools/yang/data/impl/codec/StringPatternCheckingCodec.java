@@ -44,4 +44,17 @@ final class StringPatternCheckingCodec extends StringStringCodec {
         }
     }
 
+    @Override
+    boolean isValid(final String str) {
+        if (!super.isValid(str)) {
+            return false;
+        }
+        for (var pattern : patterns) {
+            if (!pattern.matches(str)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
\ No newline at end of file
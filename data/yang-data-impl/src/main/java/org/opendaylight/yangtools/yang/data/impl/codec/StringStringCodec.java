@@ -22,10 +22,13 @@ import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
 public class StringStringCodec extends TypeDefinitionAwareCodec<String, StringTypeDefinition>
         implements StringCodec<String> {
     private final LengthConstraint lengthConstraint;
+    private final RangeChecker lengthChecker;
 
     StringStringCodec(final StringTypeDefinition typeDef) {
         super(String.class, typeDef);
         lengthConstraint = typeDef.getLengthConstraint().orElse(null);
+        lengthChecker = lengthConstraint == null ? null
+            : RangeChecker.of(lengthConstraint.getAllowedRanges(), Integer::longValue);
     }
 
     public static StringStringCodec from(final StringTypeDefinition normalizedType) {
@@ -33,6 +36,11 @@ public class StringStringCodec extends TypeDefinitionAwareCodec<String, StringTy
                 : new StringPatternCheckingCodec(normalizedType);
     }
 
+    @Override
+    public final String tryDeserialize(final String str) {
+        return isValid(str) ? str : null;
+    }
+
     @Override
     protected final String deserializeImpl(final String stringRepresentation) {
         validate(stringRepresentation);
@@ -45,12 +53,19 @@ public class StringStringCodec extends TypeDefinitionAwareCodec<String, StringTy
     }
 
     void validate(final String str) {
-        if (lengthConstraint != null) {
+        if (!isValidLength(str)) {
             final RangeSet<Integer> ranges = lengthConstraint.getAllowedRanges();
-            if (!ranges.contains(str.codePointCount(0, str.length()))) {
-                throw new YangInvalidValueException(ErrorType.APPLICATION, lengthConstraint,
-                    "String " + str + " does not match allowed lengths " + ranges);
-            }
+            throw new YangInvalidValueException(ErrorType.APPLICATION, lengthConstraint,
+                "String " + str + " does not match allowed lengths " + ranges);
         }
     }
+
+    // Non-throwing equivalent of validate()
+    boolean isValid(final String str) {
+        return isValidLength(str);
+    }
+
+    private boolean isValidLength(final String str) {
+        return lengthChecker == null || lengthChecker.contains(str.codePointCount(0, str.length()));
+    }
 }
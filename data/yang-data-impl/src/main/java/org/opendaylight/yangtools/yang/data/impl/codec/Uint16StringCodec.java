@@ -21,4 +21,9 @@ final class Uint16StringCodec extends AbstractIntegerStringCodec<Uint16, Uint16T
     protected Uint16 deserialize(final String stringRepresentation, final int base) {
         return Uint16.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Uint16 tryDeserialize(final String stringRepresentation, final int base) {
+        return Uint16.tryParse(stringRepresentation, base);
+    }
 }
@@ -21,4 +21,9 @@ final class Uint32StringCodec extends AbstractIntegerStringCodec<Uint32, Uint32T
     protected Uint32 deserialize(final String stringRepresentation, final int base) {
         return Uint32.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Uint32 tryDeserialize(final String stringRepresentation, final int base) {
+        return Uint32.tryParse(stringRepresentation, base);
+    }
 }
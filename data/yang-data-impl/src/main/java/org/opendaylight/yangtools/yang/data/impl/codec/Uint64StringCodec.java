@@ -21,4 +21,9 @@ final class Uint64StringCodec extends AbstractIntegerStringCodec<Uint64, Uint64T
     protected Uint64 deserialize(final String stringRepresentation, final int base) {
         return Uint64.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Uint64 tryDeserialize(final String stringRepresentation, final int base) {
+        return Uint64.tryParse(stringRepresentation, base);
+    }
 }
@@ -21,4 +21,9 @@ final class Uint8StringCodec extends AbstractIntegerStringCodec<Uint8, Uint8Type
     protected Uint8 deserialize(final String stringRepresentation, final int base) {
         return Uint8.valueOf(stringRepresentation, base);
     }
+
+    @Override
+    protected Uint8 tryDeserialize(final String stringRepresentation, final int base) {
+        return Uint8.tryParse(stringRepresentation, base);
+    }
 }
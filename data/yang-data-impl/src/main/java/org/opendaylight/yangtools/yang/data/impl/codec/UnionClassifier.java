@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.util.Arrays;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.DecimalTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EmptyTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+
+/**
+ * A lexical pre-classifier of {@code union} values. Each input is assigned a lexical class based on its first
+ * character: empty, numeric ({@code [0-9+.-]}), possibly boolean ({@code t} or {@code f}) or other. Each member type is
+ * assigned the set of lexical classes it can possibly accept, based solely on its type, so that union codecs can skip
+ * members which cannot accept an input without invoking them at all.
+ *
+ * <p>
+ * The classification is conservative: a member is skipped only if it certainly rejects the input. Member types whose
+ * lexical space is not restricted in a way visible from the first character, such as {@code string},
+ * {@code binary} or {@code identityref}, accept all classes.
+ *
+ * <p>
+ * Do not use this class outside of yangtools, its presence does not fall into the API stability contract.
+ */
+@Beta
+public final class UnionClassifier {
+    private static final int EMPTY = 1;
+    private static final int NUMERIC = 1 << 1;
+    private static final int BOOLEAN = 1 << 2;
+    private static final int OTHER = 1 << 3;
+    private static final int ANY = EMPTY | NUMERIC | BOOLEAN | OTHER;
+
+    // Lexical classes accepted by each member, indexed by its position in UnionTypeDefinition.getTypes()
+    private final int[] members;
+
+    private UnionClassifier(final int[] members) {
+        this.members = members;
+    }
+
+    /**
+     * Create a classifier for a union type.
+     *
+     * @param type Union type
+     * @return A UnionClassifier
+     */
+    public static @NonNull UnionClassifier of(final UnionTypeDefinition type) {
+        final var types = type.getTypes();
+        final var members = new int[types.size()];
+        for (int i = 0; i < members.length; ++i) {
+            members[i] = acceptedClasses(types.get(i));
+        }
+        return new UnionClassifier(members);
+    }
+
+    /**
+     * Determine the lexical class of an input. The result is to be passed to {@link #mayAccept(int, int)} for each
+     * member considered.
+     *
+     * @param str Input string
+     * @return Lexical class of the input
+     */
+    public static int classify(final String str) {
+        return str.isEmpty() ? EMPTY : classify(str.charAt(0));
+    }
+
+    private static int classify(final char first) {
+        return switch (first) {
+            case '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '+', '-', '.' -> NUMERIC;
+            case 't', 'f' -> BOOLEAN;
+            default -> OTHER;
+        };
+    }
+
+    /**
+     * Check whether a member type may accept an input of specified lexical class.
+     *
+     * @param member Index of the member type in {@link UnionTypeDefinition#getTypes()}
+     * @param lexicalClass Lexical class, as returned by {@link #classify(String)}
+     * @return {@code false} if the member certainly rejects the input
+     */
+    public boolean mayAccept(final int member, final int lexicalClass) {
+        return (members[member] & lexicalClass) != 0;
+    }
+
+    private static int acceptedClasses(final TypeDefinition<?> type) {
+        if (type instanceof Int8TypeDefinition || type instanceof Int16TypeDefinition
+            || type instanceof Int32TypeDefinition || type instanceof Int64TypeDefinition
+            || type instanceof Uint8TypeDefinition || type instanceof Uint16TypeDefinition
+            || type instanceof Uint32TypeDefinition || type instanceof Uint64TypeDefinition
+            || type instanceof DecimalTypeDefinition) {
+            return NUMERIC;
+        } else if (type instanceof BooleanTypeDefinition) {
+            return BOOLEAN;
+        } else if (type instanceof EmptyTypeDefinition) {
+            return EMPTY;
+        } else if (type instanceof EnumTypeDefinition enumType) {
+            int ret = 0;
+            for (var pair : enumType.getValues()) {
+                ret |= classify(pair.getName());
+            }
+            return ret;
+        } else if (type instanceof StringTypeDefinition string) {
+            // A string with a non-zero minimum length cannot be empty
+            return string.getLengthConstraint()
+                .filter(length -> length.getAllowedRanges().span().lowerEndpoint().intValue() > 0)
+                .isPresent() ? ANY & ~EMPTY : ANY;
+        } else if (type instanceof UnionTypeDefinition union) {
+            int ret = 0;
+            for (var member : union.getTypes()) {
+                ret |= acceptedClasses(member);
+            }
+            return ret;
+        } else {
+            return ANY;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("members", Arrays.toString(members)).toString();
+    }
+}
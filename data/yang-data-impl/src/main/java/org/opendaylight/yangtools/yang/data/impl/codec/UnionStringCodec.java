@@ -24,11 +24,13 @@ final class UnionStringCodec extends TypeDefinitionAwareCodec<Object, UnionTypeD
     private static final Logger LOG = LoggerFactory.getLogger(UnionStringCodec.class);
 
     private final ImmutableList<TypeDefinitionAwareCodec<Object, ?>> codecs;
+    private final UnionClassifier classifier;
 
     private UnionStringCodec(final UnionTypeDefinition typeDef,
             final ImmutableList<TypeDefinitionAwareCodec<Object, ?>> codecs) {
         super(Object.class, typeDef);
         this.codecs = requireNonNull(codecs);
+        classifier = UnionClassifier.of(typeDef);
     }
 
     static @Nullable TypeDefinitionAwareCodec<?, UnionTypeDefinition> from(final UnionTypeDefinition typeDef) {
@@ -45,8 +47,28 @@ final class UnionStringCodec extends TypeDefinitionAwareCodec<Object, UnionTypeD
         return new UnionStringCodec(typeDef, builder.build());
     }
 
+    @Override
+    public Object tryDeserialize(final String str) {
+        final int lexicalClass = UnionClassifier.classify(str);
+        for (int i = 0, size = codecs.size(); i < size; ++i) {
+            if (classifier.mayAccept(i, lexicalClass)) {
+                final var ret = codecs.get(i).tryDeserialize(str);
+                if (ret != null) {
+                    return ret;
+                }
+            }
+        }
+        return null;
+    }
+
     @Override
     protected Object deserializeImpl(final String stringRepresentation) {
+        final var ret = tryDeserialize(stringRepresentation);
+        if (ret != null) {
+            return ret;
+        }
+
+        // No member type has accepted the value: go through the throwing path to collect diagnostics
         List<IllegalArgumentException> suppressed = null;
         for (var codec : codecs) {
             try {
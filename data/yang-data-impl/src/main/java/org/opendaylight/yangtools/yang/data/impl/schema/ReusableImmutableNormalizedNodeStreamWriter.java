@@ -26,8 +26,9 @@ public final class ReusableImmutableNormalizedNodeStreamWriter extends Immutable
         implements ReusableStreamReceiver {
     private final NormalizationResultBuilder builder;
 
-    private final LeafSetEntryNode.Builder<?> leafsetEntryBuilder = ImmutableNodes.newLeafSetEntryBuilder();
-    private final LeafNode.Builder<?> leafNodeBuilder = ImmutableNodes.newLeafBuilder();
+    // Note: these are recreated on reset(), so that we do not retain the last value across sessions
+    private LeafSetEntryNode.Builder<?> leafsetEntryBuilder = ImmutableNodes.newLeafSetEntryBuilder();
+    private LeafNode.Builder<?> leafNodeBuilder = ImmutableNodes.newLeafBuilder();
 
     private ReusableImmutableNormalizedNodeStreamWriter(final NormalizationResultBuilder builder) {
         super(builder);
@@ -42,6 +43,8 @@ public final class ReusableImmutableNormalizedNodeStreamWriter extends Immutable
     public void reset() {
         builder.reset();
         reset(builder);
+        leafsetEntryBuilder = ImmutableNodes.newLeafSetEntryBuilder();
+        leafNodeBuilder = ImmutableNodes.newLeafBuilder();
     }
 
     @Override
@@ -9,8 +9,10 @@ package org.opendaylight.yangtools.yang.data.impl.codec;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Base64;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.data.api.codec.BinaryCodec;
 import org.opendaylight.yangtools.yang.model.ri.type.BaseTypes;
@@ -36,4 +38,30 @@ class BinaryCodecStringTest {
             TypeDefinitionAwareCodecTestHelper.getCodec(BaseTypes.binaryType(), BinaryCodec.class);
         assertArrayEquals(FOUR_ELEMENTS, codec.deserialize(Base64.getEncoder().encodeToString(FOUR_ELEMENTS)));
     }
+
+    @Test
+    void testDeserializeLarge() {
+        final var codec = BinaryStringCodec.from(BaseTypes.binaryType());
+        // Sizes around slice boundaries, with and without padding
+        for (int size : new int[] { 3072, 3073, 3074, 6144, 100001 }) {
+            final var value = new byte[size];
+            new Random(size).nextBytes(value);
+            assertArrayEquals(value, codec.deserialize(Base64.getEncoder().encodeToString(value)));
+            // MIME line breaks are handled by the lenient decoder
+            assertArrayEquals(value, codec.deserialize(Base64.getMimeEncoder().encodeToString(value)));
+        }
+    }
+
+    @Test
+    void testDeserializeLargeInvalid() {
+        final var codec = BinaryStringCodec.from(BaseTypes.binaryType());
+        final var encoded = Base64.getEncoder().encodeToString(new byte[6144]);
+        // Padding in the middle
+        assertThrows(IllegalArgumentException.class,
+            () -> codec.deserialize(encoded.substring(0, 4092) + "AA==" + encoded.substring(4096)));
+        // A character which is not in the alphabet, but maps onto it ('A') when truncated to a byte, is left to the
+        // lenient decoder
+        final var nonAscii = encoded.substring(0, 5000) + (char) 0x141 + encoded.substring(5001);
+        assertArrayEquals(Base64.getMimeDecoder().decode(nonAscii), codec.deserialize(nonAscii));
+    }
 }
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.impl.codec;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.common.Decimal64;
@@ -40,6 +41,17 @@ class DecimalCodecStringTest {
         TypeDefinitionAwareCodecTestHelper.deserializeWithExpectedIllegalArgEx(codec, "");
     }
 
+    @Test
+    void testTryDeserialize() {
+        final var codec = TypeDefinitionAwareCodecTestHelper.getCodec(getType(), DecimalStringCodec.class);
+
+        assertEquals(Decimal64.valueOf("123.456"), codec.tryDeserialize("123.456"));
+        assertEquals(Decimal64.of(3, 1500), codec.tryDeserialize("1.5"));
+        assertNull(codec.tryDeserialize("1.2345"));
+        assertNull(codec.tryDeserialize("12o.3"));
+        assertNull(codec.tryDeserialize(""));
+    }
+
     private static DecimalTypeDefinition getType() {
         return BaseTypes.decimalTypeBuilder(QName.create("foo", "foo")).setFractionDigits(3).build();
     }
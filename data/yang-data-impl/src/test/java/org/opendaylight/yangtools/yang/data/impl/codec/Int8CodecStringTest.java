@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.impl.codec;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.data.api.codec.Int8Codec;
@@ -49,4 +50,16 @@ class Int8CodecStringTest {
         TypeDefinitionAwareCodecTestHelper.deserializeWithExpectedIllegalArgEx(codec, "1o");
         TypeDefinitionAwareCodecTestHelper.deserializeWithExpectedIllegalArgEx(codec, "");
     }
+
+    @Test
+    void testTryDeserialize() {
+        final var codec = TypeDefinitionAwareCodecTestHelper.getCodec(BaseTypes.int8Type(), Int8StringCodec.class);
+
+        assertEquals(Byte.valueOf((byte) 64), codec.tryDeserialize("0x40"));
+        assertEquals(Byte.valueOf((byte) -64), codec.tryDeserialize("-0100"));
+        assertEquals(Byte.valueOf((byte) -128), codec.tryDeserialize("-128"));
+        assertNull(codec.tryDeserialize("128"));
+        assertNull(codec.tryDeserialize("1o"));
+        assertNull(codec.tryDeserialize(""));
+    }
 }
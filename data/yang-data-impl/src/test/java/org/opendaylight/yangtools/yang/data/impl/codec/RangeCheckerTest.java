@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+class RangeCheckerTest {
+    @Test
+    void testSingleRange() {
+        final var checker = RangeChecker.of(ImmutableRangeSet.of(Range.closed(1, 4094)), Integer::longValue);
+        assertFalse(checker.contains(0));
+        assertTrue(checker.contains(1));
+        assertTrue(checker.contains(4094));
+        assertFalse(checker.contains(4095));
+    }
+
+    @Test
+    void testMultipleRanges() {
+        final var ranges = ImmutableRangeSet.<Long>builder()
+            .add(Range.closed(-10L, -5L))
+            .add(Range.closedOpen(0L, 3L))
+            .add(Range.atLeast(100L))
+            .build();
+        final var checker = RangeChecker.of(ranges, Long::longValue);
+        for (long value = -20; value <= 120; ++value) {
+            assertEquals(ranges.contains(value), checker.contains(value), "Mismatch on " + value);
+        }
+        assertTrue(checker.contains(Long.MAX_VALUE));
+        assertFalse(checker.contains(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testEmptyRanges() {
+        assertFalse(RangeChecker.of(ImmutableRangeSet.<Integer>of(), Integer::longValue).contains(0));
+    }
+
+    @Test
+    void testUnsignedRanges() {
+        final var ranges = ImmutableRangeSet.<Uint64>builder()
+            .add(Range.closed(Uint64.valueOf(5), Uint64.valueOf(10)))
+            .add(Range.closed(Uint64.fromLongBits(Long.MIN_VALUE), Uint64.MAX_VALUE))
+            .build();
+        final var checker = RangeChecker.of(ranges, Uint64::longValue, true);
+        for (long value : new long[] { 0, 4, 5, 10, 11, Long.MAX_VALUE, Long.MIN_VALUE, -1 }) {
+            assertEquals(ranges.contains(Uint64.fromLongBits(value)), checker.contains(value), "Mismatch on " + value);
+        }
+    }
+}
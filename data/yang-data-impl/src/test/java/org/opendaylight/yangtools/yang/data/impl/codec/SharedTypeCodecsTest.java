@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class SharedTypeCodecsTest {
+    private static final String FOO = """
+        module foo {
+          namespace foo;
+          prefix foo;
+
+          container cont {
+            choice ch {
+              leaf str {
+                type string {
+                  pattern "[a-z]+";
+                }
+              }
+            }
+            leaf enm {
+              type enumeration {
+                enum one;
+                enum two;
+              }
+            }
+            leaf uni {
+              type union {
+                type string {
+                  pattern "[0-9]+";
+                }
+                type int8;
+              }
+            }
+            leaf plain {
+              type string;
+            }
+          }
+        }""";
+
+    @Test
+    void codecsAreSharedAndWarmedUp() throws Exception {
+        final var modelContext = YangParserTestUtils.parseYang(FOO);
+        final var shared = SharedTypeCodecs.of(modelContext);
+        assertSame(shared, SharedTypeCodecs.of(modelContext));
+        assertEquals(0, shared.size());
+
+        // Patterned string, enumeration, union classifier and union member with a pattern
+        SharedTypeCodecs.warmUp(modelContext, ForkJoinPool.commonPool()).get();
+        assertEquals(4, shared.size());
+
+        final var strType = assertInstanceOf(StringTypeDefinition.class, leafType(modelContext, "str"));
+        final var strCodec = shared.stringCodec(strType);
+        assertInstanceOf(StringPatternCheckingCodec.class, strCodec);
+        assertSame(strCodec, shared.stringCodec(strType));
+
+        final var enmType = assertInstanceOf(EnumTypeDefinition.class, leafType(modelContext, "enm"));
+        assertSame(shared.enumCodec(enmType), shared.enumCodec(enmType));
+
+        final var uniType = assertInstanceOf(UnionTypeDefinition.class, leafType(modelContext, "uni"));
+        assertSame(shared.unionClassifier(uniType), shared.unionClassifier(uniType));
+
+        // Unconstrained strings are not shared
+        final var plainType = assertInstanceOf(StringTypeDefinition.class, leafType(modelContext, "plain"));
+        assertNotSame(shared.stringCodec(plainType), shared.stringCodec(plainType));
+
+        assertEquals(4, shared.size());
+    }
+
+    @Test
+    void warmUpCoversWholeModel() throws Exception {
+        final var modelContext = YangParserTestUtils.parseYang("""
+            module bar {
+              yang-version 1.1;
+              namespace bar;
+              prefix bar;
+
+              typedef td {
+                type enumeration {
+                  enum a;
+                }
+              }
+
+              grouping grp {
+                leaf grp {
+                  type enumeration {
+                    enum b;
+                  }
+                }
+              }
+
+              rpc rpc {
+                input {
+                  leaf in {
+                    type enumeration {
+                      enum c;
+                    }
+                  }
+                }
+                output {
+                  leaf out {
+                    type bits {
+                      bit d;
+                    }
+                  }
+                }
+              }
+
+              notification notif {
+                leaf-list str {
+                  type string {
+                    pattern "[e]+";
+                  }
+                }
+              }
+
+              container cont {
+                action act {
+                  input {
+                    leaf in {
+                      type enumeration {
+                        enum f;
+                      }
+                    }
+                  }
+                }
+              }
+
+              augment /cont {
+                leaf aug {
+                  type enumeration {
+                    enum g;
+                  }
+                }
+              }
+            }""");
+        SharedTypeCodecs.warmUp(modelContext, ForkJoinPool.commonPool()).get();
+        assertEquals(7, SharedTypeCodecs.of(modelContext).size());
+    }
+
+    @Test
+    void codecsAreBoundToModelContext() {
+        final var first = YangParserTestUtils.parseYang(FOO);
+        final var second = YangParserTestUtils.parseYang(FOO);
+        final var firstShared = SharedTypeCodecs.of(first);
+        final var secondShared = SharedTypeCodecs.of(second);
+        assertNotSame(firstShared, secondShared);
+
+        firstShared.enumCodec(assertInstanceOf(EnumTypeDefinition.class, leafType(first, "enm")));
+        assertEquals(1, firstShared.size());
+        assertEquals(0, secondShared.size());
+    }
+
+    private static TypeDefinition<?> leafType(final EffectiveModelContext modelContext, final String localName) {
+        return ((LeafSchemaNode) modelContext.findDataTreeChild(QName.create("foo", "cont"),
+            QName.create("foo", localName)).orElseThrow()).getType();
+    }
+}
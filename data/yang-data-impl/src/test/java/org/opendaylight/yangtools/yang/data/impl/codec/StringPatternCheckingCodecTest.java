@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.data.impl.codec;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodecTestHelper.getCodec;
 
@@ -54,5 +55,9 @@ class StringPatternCheckingCodecTest {
 
         final var ex = assertThrows(IllegalArgumentException.class, () -> codec.deserialize("abcd"));
         assertEquals("Value 'abcd' does not match regular expression '[A-Z]+'", ex.getMessage());
+
+        final var stringCodec = getCodec(testLeaf.getType(), StringStringCodec.class);
+        assertEquals("ABCD", stringCodec.tryDeserialize("ABCD"));
+        assertNull(stringCodec.tryDeserialize("abcd"));
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.codec;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodecTestHelper.toEnumTypeDefinition;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.ri.type.BaseTypes;
+
+class UnionClassifierTest {
+    private static final UnionClassifier CLASSIFIER = UnionClassifier.of(
+        BaseTypes.unionTypeBuilder(QName.create("foo", "foo"))
+            .addType(BaseTypes.uint8Type())
+            .addType(BaseTypes.booleanType())
+            .addType(BaseTypes.emptyType())
+            .addType(toEnumTypeDefinition("one", "two"))
+            .addType(BaseTypes.stringType())
+            .build());
+
+    @Test
+    void testNumeric() {
+        final int lexicalClass = UnionClassifier.classify("-12");
+        assertTrue(CLASSIFIER.mayAccept(0, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(1, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(2, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(3, lexicalClass));
+        assertTrue(CLASSIFIER.mayAccept(4, lexicalClass));
+    }
+
+    @Test
+    void testBoolean() {
+        final int lexicalClass = UnionClassifier.classify("true");
+        assertFalse(CLASSIFIER.mayAccept(0, lexicalClass));
+        assertTrue(CLASSIFIER.mayAccept(1, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(2, lexicalClass));
+        // "two" starts with 't'
+        assertTrue(CLASSIFIER.mayAccept(3, lexicalClass));
+        assertTrue(CLASSIFIER.mayAccept(4, lexicalClass));
+    }
+
+    @Test
+    void testEmpty() {
+        final int lexicalClass = UnionClassifier.classify("");
+        assertFalse(CLASSIFIER.mayAccept(0, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(1, lexicalClass));
+        assertTrue(CLASSIFIER.mayAccept(2, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(3, lexicalClass));
+        assertTrue(CLASSIFIER.mayAccept(4, lexicalClass));
+    }
+
+    @Test
+    void testOther() {
+        final int lexicalClass = UnionClassifier.classify("one");
+        assertFalse(CLASSIFIER.mayAccept(0, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(1, lexicalClass));
+        assertFalse(CLASSIFIER.mayAccept(2, lexicalClass));
+        assertTrue(CLASSIFIER.mayAccept(3, lexicalClass));
+        assertTrue(CLASSIFIER.mayAccept(4, lexicalClass));
+    }
+}
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.impl.codec;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodecTestHelper.deserializeWithExpectedIllegalArgEx;
 import static org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodecTestHelper.getCodec;
 import static org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodecTestHelper.toEnumTypeDefinition;
@@ -15,6 +16,7 @@ import static org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwar
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint8;
 import org.opendaylight.yangtools.yang.data.api.codec.UnionCodec;
 import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
@@ -66,4 +68,24 @@ class UnionCodecStringTest {
         deserializeWithExpectedIllegalArgEx(codec, "123o");
         deserializeWithExpectedIllegalArgEx(codec, "true");
     }
+
+    @Test
+    void testTryDeserialize() {
+        final var codec = getCodec(toUnionTypeDefinition(BaseTypes.booleanType(), toEnumTypeDefinition("enum1"),
+                toUnionTypeDefinition(BaseTypes.uint8Type(), BaseTypes.int64Type()), BaseTypes.emptyType()),
+                UnionStringCodec.class);
+
+        assertEquals(Boolean.TRUE, codec.tryDeserialize("true"));
+        assertEquals("enum1", codec.tryDeserialize("enum1"));
+        assertEquals(Uint8.valueOf(255), codec.tryDeserialize("0xff"));
+        assertEquals(256L, codec.tryDeserialize("256"));
+        assertEquals(-8L, codec.tryDeserialize("-010"));
+        assertEquals(Empty.value(), codec.tryDeserialize(""));
+
+        assertNull(codec.tryDeserialize("enum2"));
+        assertNull(codec.tryDeserialize("-0"));
+        assertNull(codec.tryDeserialize("0x"));
+        assertNull(codec.tryDeserialize("09"));
+        assertNull(codec.tryDeserialize("99999999999999999999"));
+    }
 }
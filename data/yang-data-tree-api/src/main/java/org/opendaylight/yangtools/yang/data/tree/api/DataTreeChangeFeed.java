@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A pull-based feed of changes committed to a {@link DataTree}. Each commit is assigned a sequence number, which
+ * increases by one with each commit, starting at {@code 1} for the first commit. Subscribers keep track of the last
+ * sequence number they have seen and {@link #poll(long, int)} for subsequent changes.
+ *
+ * <p>
+ * Only a limited number of recent changes is retained, as configured by
+ * {@link DataTreeConfiguration#getChangeFeedCapacity()}. A subscriber which falls behind further than that is
+ * resynchronized: it receives a single {@link DataTreeCandidate} which takes it to the current state.
+ */
+@Beta
+public interface DataTreeChangeFeed {
+    /**
+     * A batch of changes returned from {@link DataTreeChangeFeed#poll(long, int)}.
+     *
+     * @param sequence Sequence number of the last change in this batch, to be used for the next poll
+     * @param candidates Changes in commit order
+     * @param resync {@code true} if the subscriber has fallen behind and {@code candidates} contains a single
+     *               candidate which takes it to the state at {@code sequence}
+     */
+    record Batch(long sequence, @NonNull List<DataTreeCandidate> candidates, boolean resync) {
+        public Batch {
+            checkArgument(sequence >= 0, "Invalid sequence %s", sequence);
+            candidates = List.copyOf(candidates);
+            checkArgument(!resync || candidates.size() == 1, "Resync requires a single candidate");
+        }
+
+        /**
+         * Return {@code true} if there are no changes in this batch.
+         *
+         * @return {@code true} if there are no changes in this batch
+         */
+        public boolean isEmpty() {
+            return candidates.isEmpty();
+        }
+    }
+
+    /**
+     * Return the sequence number of the last change committed.
+     *
+     * @return Sequence number of the last change, {@code 0} if nothing has been committed yet
+     */
+    long lastSequence();
+
+    /**
+     * Poll for changes following a particular sequence number. If no such changes are available, an
+     * {@link Batch#isEmpty() empty} batch is returned. This method does not block.
+     *
+     * @param lastSeen Last sequence number seen by the subscriber, {@code 0} if none
+     * @param maxCandidates Maximum number of candidates to return
+     * @return A batch of changes
+     * @throws IllegalArgumentException if {@code lastSeen} is negative or greater than {@link #lastSequence()}, or if
+     *                                  {@code maxCandidates} is not positive
+     */
+    @NonNull Batch poll(long lastSeen, int maxCandidates);
+}
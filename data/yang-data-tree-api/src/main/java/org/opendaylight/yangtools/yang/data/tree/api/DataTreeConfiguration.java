@@ -7,11 +7,13 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.api;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.concepts.Mutable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -25,6 +27,10 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
  * <li>treeType</li>
  * <li>enable/disable unique indexes and unique constraint validation</li>
  * <li>enable/disable mandatory nodes validation</li>
+ * <li>{@link SubtreeCodec} for storing infrequently-accessed subtrees off-heap</li>
+ * <li>capacity of the {@link DataTreeChangeFeed}</li>
+ * <li>size threshold for parallel verification of written data</li>
+ * <li>{@link DataTreeInstrumentation} receiving modification lifecycle measurements</li>
  * </ul>
  *
  * <p>
@@ -49,13 +55,23 @@ public class DataTreeConfiguration implements Immutable {
     private final @NonNull YangInstanceIdentifier rootPath;
     private final boolean uniqueIndexes;
     private final boolean mandatoryNodesValidation;
+    private final @Nullable SubtreeCodec offHeapCodec;
+    private final int changeFeedCapacity;
+    private final int parallelVerificationThreshold;
+    private final @Nullable DataTreeInstrumentation instrumentation;
 
     DataTreeConfiguration(final TreeType treeType, final YangInstanceIdentifier rootPath, final boolean uniqueIndexes,
-            final boolean mandatoryNodesValidation) {
+            final boolean mandatoryNodesValidation, final @Nullable SubtreeCodec offHeapCodec,
+            final int changeFeedCapacity, final int parallelVerificationThreshold,
+            final @Nullable DataTreeInstrumentation instrumentation) {
         this.treeType = requireNonNull(treeType);
         this.rootPath = requireNonNull(rootPath);
         this.uniqueIndexes = uniqueIndexes;
         this.mandatoryNodesValidation = mandatoryNodesValidation;
+        this.offHeapCodec = offHeapCodec;
+        this.changeFeedCapacity = changeFeedCapacity;
+        this.parallelVerificationThreshold = parallelVerificationThreshold;
+        this.instrumentation = instrumentation;
     }
 
     public @NonNull YangInstanceIdentifier getRootPath() {
@@ -74,11 +90,51 @@ public class DataTreeConfiguration implements Immutable {
         return mandatoryNodesValidation;
     }
 
+    /**
+     * Return the {@link SubtreeCodec} used to store infrequently-accessed subtrees outside of the Java heap.
+     *
+     * @return A SubtreeCodec, or {@code null} if all data is kept on heap
+     */
+    public @Nullable SubtreeCodec getOffHeapCodec() {
+        return offHeapCodec;
+    }
+
+    /**
+     * Return the number of most recent {@link DataTreeCandidate}s retained by the {@link DataTreeChangeFeed}.
+     *
+     * @return Number of retained candidates, {@code 0} if the change feed is disabled
+     */
+    public int getChangeFeedCapacity() {
+        return changeFeedCapacity;
+    }
+
+    /**
+     * Return the minimum number of children a written container needs to have for them to be verified in parallel.
+     *
+     * @return Minimum number of children, {@code 0} if parallel verification is disabled
+     */
+    public int getParallelVerificationThreshold() {
+        return parallelVerificationThreshold;
+    }
+
+    /**
+     * Return the {@link DataTreeInstrumentation} receiving measurements of modifications.
+     *
+     * @return A DataTreeInstrumentation, or {@code null} if instrumentation is disabled
+     */
+    public @Nullable DataTreeInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("type", treeType).add("root", rootPath)
                 .add("mandatory", mandatoryNodesValidation)
-                .add("unique", uniqueIndexes).toString();
+                .add("unique", uniqueIndexes)
+                .add("offHeapCodec", offHeapCodec)
+                .add("changeFeedCapacity", changeFeedCapacity)
+                .add("parallelVerificationThreshold", parallelVerificationThreshold)
+                .add("instrumentation", instrumentation).toString();
     }
 
     public static DataTreeConfiguration getDefault(final TreeType treeType) {
@@ -96,7 +152,11 @@ public class DataTreeConfiguration implements Immutable {
         return new Builder(treeType)
                 .setMandatoryNodesValidation(isMandatoryNodesValidationEnabled())
                 .setUniqueIndexes(isUniqueIndexEnabled())
-                .setRootPath(getRootPath());
+                .setRootPath(getRootPath())
+                .setOffHeapCodec(getOffHeapCodec())
+                .setChangeFeedCapacity(getChangeFeedCapacity())
+                .setParallelVerificationThreshold(getParallelVerificationThreshold())
+                .setInstrumentation(getInstrumentation());
     }
 
     public static class Builder implements Mutable {
@@ -105,6 +165,10 @@ public class DataTreeConfiguration implements Immutable {
         private YangInstanceIdentifier rootPath;
         private boolean uniqueIndexes;
         private boolean mandatoryNodesValidation;
+        private SubtreeCodec offHeapCodec;
+        private int changeFeedCapacity;
+        private int parallelVerificationThreshold;
+        private DataTreeInstrumentation instrumentation;
 
         public Builder(final TreeType treeType) {
             this.treeType = requireNonNull(treeType);
@@ -126,13 +190,66 @@ public class DataTreeConfiguration implements Immutable {
             return this;
         }
 
+        /**
+         * Set the {@link SubtreeCodec} used to store infrequently-accessed subtrees outside of the Java heap.
+         *
+         * @param offHeapCodec A SubtreeCodec, or {@code null} to keep all data on heap
+         * @return This builder
+         */
+        public @NonNull Builder setOffHeapCodec(final @Nullable SubtreeCodec offHeapCodec) {
+            this.offHeapCodec = offHeapCodec;
+            return this;
+        }
+
+        /**
+         * Set the number of most recent {@link DataTreeCandidate}s retained by the {@link DataTreeChangeFeed}. Note
+         * that each retained candidate keeps its data tree state reachable.
+         *
+         * @param changeFeedCapacity Number of retained candidates, {@code 0} to disable the change feed
+         * @return This builder
+         * @throws IllegalArgumentException if {@code changeFeedCapacity} is negative
+         */
+        public @NonNull Builder setChangeFeedCapacity(final int changeFeedCapacity) {
+            checkArgument(changeFeedCapacity >= 0, "Invalid change feed capacity %s", changeFeedCapacity);
+            this.changeFeedCapacity = changeFeedCapacity;
+            return this;
+        }
+
+        /**
+         * Set the minimum number of children a written container, such as a list, needs to have for them to be
+         * verified in parallel. Parallel verification uses the common {@link java.util.concurrent.ForkJoinPool} and
+         * pays off only for large bulk writes into a {@link TreeType#CONFIGURATION} tree.
+         *
+         * @param parallelVerificationThreshold Minimum number of children, {@code 0} to disable parallel verification
+         * @return This builder
+         * @throws IllegalArgumentException if {@code parallelVerificationThreshold} is negative
+         */
+        public @NonNull Builder setParallelVerificationThreshold(final int parallelVerificationThreshold) {
+            checkArgument(parallelVerificationThreshold >= 0, "Invalid parallel verification threshold %s",
+                parallelVerificationThreshold);
+            this.parallelVerificationThreshold = parallelVerificationThreshold;
+            return this;
+        }
+
+        /**
+         * Set the {@link DataTreeInstrumentation} receiving measurements of modifications.
+         *
+         * @param instrumentation A DataTreeInstrumentation, or {@code null} to disable instrumentation
+         * @return This builder
+         */
+        public @NonNull Builder setInstrumentation(final @Nullable DataTreeInstrumentation instrumentation) {
+            this.instrumentation = instrumentation;
+            return this;
+        }
+
         /**
          * Return {@link DataTreeConfiguration} as defined by this builder's current state.
          *
          * @return A DataTreeConfiguration
          */
         public @NonNull DataTreeConfiguration build() {
-            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation);
+            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation,
+                offHeapCodec, changeFeedCapacity, parallelVerificationThreshold, instrumentation);
         }
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import com.google.common.annotations.Beta;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Listener receiving measurements of the {@link DataTreeModification} lifecycle of a {@link DataTree}. It is installed
+ * via {@link DataTreeConfiguration.Builder#setInstrumentation(DataTreeInstrumentation)}. Implementations are invoked
+ * synchronously from the threads driving the modifications, hence they need to be thread-safe and should not block.
+ */
+@Beta
+public interface DataTreeInstrumentation {
+    /**
+     * Phases of a {@link DataTreeModification}'s lifecycle.
+     */
+    enum Phase {
+        /**
+         * {@link DataTreeModification#ready()}.
+         */
+        READY,
+        /**
+         * {@link DataTreeTip#validate(DataTreeModification)}.
+         */
+        VALIDATE,
+        /**
+         * {@link DataTreeTip#prepare(DataTreeModification)}.
+         */
+        PREPARE,
+        /**
+         * {@link DataTree#commit(DataTreeCandidate)}.
+         */
+        COMMIT
+    }
+
+    /**
+     * Invoked when a phase has completed successfully.
+     *
+     * @param phase Completed phase
+     * @param elapsedNanos Time spent in the phase, in nanoseconds
+     */
+    void phaseCompleted(@NonNull Phase phase, long elapsedNanos);
+
+    /**
+     * Invoked when a modification has been sealed. Counts are collected while the modification is being sealed, without
+     * looking into written data.
+     *
+     * @param modifiedNodes Number of nodes touched by the modification
+     * @param writtenValues Number of values written or merged by the modification
+     */
+    void modificationReady(int modifiedNodes, int writtenValues);
+
+    /**
+     * Invoked when a modification has been validated. Counts are collected by the validation itself.
+     *
+     * @param validatedNodes Number of validated nodes, keyed by the type of the strategy which validated them
+     */
+    void modificationValidated(@NonNull Map<String, Integer> validatedNodes);
+}
@@ -7,8 +7,11 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.api;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -33,6 +36,35 @@ public interface DataTreeSnapshot {
      */
     Optional<NormalizedNode> readNode(YangInstanceIdentifier path);
 
+    /**
+     * Read a particular node from the snapshot. This is a variant of {@link #readNode(YangInstanceIdentifier)}, which
+     * does not wrap the result in an {@link Optional}. Implementations are encouraged to make this method free of any
+     * allocations.
+     *
+     * @param path Path of the node
+     * @return Node at specified path, or {@code null} if it is not present
+     */
+    default @Nullable NormalizedNode nodeByPath(final YangInstanceIdentifier path) {
+        return readNode(path).orElse(null);
+    }
+
+    /**
+     * Read a number of nodes from the snapshot. This is equivalent to invoking
+     * {@link #nodeByPath(YangInstanceIdentifier)} for each of the paths, but allows implementations to share work
+     * between lookups.
+     *
+     * @param paths Paths of the nodes
+     * @return Nodes at specified paths, with {@code null} elements for nodes which are not present, in the order of
+     *         {@code paths}
+     */
+    default @NonNull List<@Nullable NormalizedNode> nodesByPath(final List<YangInstanceIdentifier> paths) {
+        final var result = new NormalizedNode[paths.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = nodeByPath(paths.get(i));
+        }
+        return Arrays.asList(result);
+    }
+
     /**
      * Create a new data tree modification based on this snapshot, using the specified data application strategy.
      *
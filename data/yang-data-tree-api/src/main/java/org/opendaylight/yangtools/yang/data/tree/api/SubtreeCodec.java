@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A codec for storing {@link NormalizedNode} subtrees in binary form. A {@link DataTree} configured with a codec via
+ * {@link DataTreeConfiguration.Builder#setOffHeapCodec(SubtreeCodec)} uses it to move infrequently-accessed subtrees
+ * out of the Java heap.
+ */
+@Beta
+@NonNullByDefault
+public interface SubtreeCodec {
+    /**
+     * Encode a subtree.
+     *
+     * @param node Subtree root
+     * @return Encoded bytes
+     * @throws IOException if the subtree cannot be encoded
+     */
+    byte[] encode(NormalizedNode node) throws IOException;
+
+    /**
+     * Decode a subtree previously encoded by {@link #encode(NormalizedNode)}.
+     *
+     * @param bytes Encoded bytes
+     * @return Subtree root
+     * @throws IOException if the bytes cannot be decoded
+     */
+    NormalizedNode decode(byte[] bytes) throws IOException;
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+module org.opendaylight.yangtools.yang.data.tree.journal {
+    exports org.opendaylight.yangtools.yang.data.tree.journal;
+
+    requires transitive org.opendaylight.yangtools.yang.data.tree.api;
+    requires com.google.common;
+    requires org.opendaylight.yangtools.concepts;
+    requires org.opendaylight.yangtools.yang.common;
+    requires org.opendaylight.yangtools.yang.data.api;
+    requires org.opendaylight.yangtools.yang.data.codec.binfmt;
+    requires org.opendaylight.yangtools.yang.data.tree.spi;
+    requires org.opendaylight.yangtools.yang.model.api;
+    requires org.slf4j;
+
+    // Annotations
+    requires static org.eclipse.jdt.annotation;
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.time.Duration;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.concepts.Mutable;
+
+/**
+ * Configuration of a {@link JournaledDataTree}.
+ *
+ * <p>
+ * JournalConfiguration supports currently the following options:
+ * <ul>
+ * <li>{@link Durability} of individual commits</li>
+ * <li>interval at which {@link Durability#GROUP} commits are flushed to stable storage</li>
+ * <li>size of individual journal segments</li>
+ * <li>number of commits between two snapshots</li>
+ * </ul>
+ */
+@Beta
+public final class JournalConfiguration implements Immutable {
+    /**
+     * Durability guarantee provided by {@link JournaledDataTree#commit(
+     * org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate)}.
+     */
+    public enum Durability {
+        /**
+         * Each commit is flushed to stable storage before it returns.
+         */
+        SYNC,
+        /**
+         * Commits are written to the journal before they return, but are flushed to stable storage in batches, at
+         * most {@link JournalConfiguration#getGroupCommitInterval()} apart. Callers requiring a durability guarantee
+         * can use {@link JournaledDataTree#sync()}.
+         */
+        GROUP
+    }
+
+    public static final @NonNull JournalConfiguration DEFAULT = new Builder().build();
+
+    private final @NonNull Durability durability;
+    private final @NonNull Duration groupCommitInterval;
+    private final long segmentSize;
+    private final long snapshotInterval;
+
+    JournalConfiguration(final Durability durability, final Duration groupCommitInterval, final long segmentSize,
+            final long snapshotInterval) {
+        this.durability = requireNonNull(durability);
+        this.groupCommitInterval = requireNonNull(groupCommitInterval);
+        this.segmentSize = segmentSize;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public @NonNull Durability getDurability() {
+        return durability;
+    }
+
+    public @NonNull Duration getGroupCommitInterval() {
+        return groupCommitInterval;
+    }
+
+    /**
+     * Return the size of a journal segment, in bytes. A segment is sealed once it reaches this size.
+     *
+     * @return Segment size, in bytes
+     */
+    public long getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Return the number of commits between two snapshots.
+     *
+     * @return Snapshot interval, in commits
+     */
+    public long getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("durability", durability)
+            .add("groupCommitInterval", groupCommitInterval)
+            .add("segmentSize", segmentSize)
+            .add("snapshotInterval", snapshotInterval).toString();
+    }
+
+    public static @NonNull Builder builder() {
+        return new Builder();
+    }
+
+    public @NonNull Builder copyBuilder() {
+        return new Builder()
+            .setDurability(durability)
+            .setGroupCommitInterval(groupCommitInterval)
+            .setSegmentSize(segmentSize)
+            .setSnapshotInterval(snapshotInterval);
+    }
+
+    public static final class Builder implements Mutable {
+        private Durability durability = Durability.GROUP;
+        private Duration groupCommitInterval = Duration.ofMillis(5);
+        private long segmentSize = 64 * 1024 * 1024;
+        private long snapshotInterval = 10_000;
+
+        public @NonNull Builder setDurability(final Durability durability) {
+            this.durability = requireNonNull(durability);
+            return this;
+        }
+
+        public @NonNull Builder setGroupCommitInterval(final Duration groupCommitInterval) {
+            checkArgument(!groupCommitInterval.isNegative() && !groupCommitInterval.isZero(),
+                "Invalid group commit interval %s", groupCommitInterval);
+            this.groupCommitInterval = groupCommitInterval;
+            return this;
+        }
+
+        public @NonNull Builder setSegmentSize(final long segmentSize) {
+            checkArgument(segmentSize > 0, "Invalid segment size %s", segmentSize);
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        public @NonNull Builder setSnapshotInterval(final long snapshotInterval) {
+            checkArgument(snapshotInterval > 0, "Invalid snapshot interval %s", snapshotInterval);
+            this.snapshotInterval = snapshotInterval;
+            return this;
+        }
+
+        /**
+         * Return {@link JournalConfiguration} as defined by this builder's current state.
+         *
+         * @return A JournalConfiguration
+         */
+        public @NonNull JournalConfiguration build() {
+            return new JournalConfiguration(durability, groupCommitInterval, segmentSize, snapshotInterval);
+        }
+    }
+}
@@ -0,0 +1,593 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.DataTreeCandidateInputOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DataTree} which persists each committed {@link DataTreeCandidate} into a {@link SegmentedJournal} and
+ * periodically saves a full snapshot of its contents. State is recovered by loading the latest snapshot and replaying
+ * the journal records which follow it.
+ *
+ * <p>
+ * All reads, validation and preparation are handled by the backing in-memory tree and are not affected by persistence.
+ * {@link #commit(DataTreeCandidate)} appends the candidate to the journal before it is committed to the backing tree,
+ * so that the backing tree never contains state which has not been journaled. A failure to persist leaves the backing
+ * tree untouched, but this tree enters a failed state, in which further commits are rejected. Candidates which are not
+ * based on the current state of the backing tree are rejected before they are journaled. Should the backing tree reject
+ * a journaled candidate nevertheless, the candidate is followed by a record marking it as aborted, so that it is not
+ * replayed.
+ *
+ * <p>
+ * Changes of the {@link EffectiveModelContext} are journaled as well, as the set of modules making up the model.
+ * Journal records are replayed only when the tree is opened with the model they were committed with. Data persisted
+ * with a different model is recovered by opening the tree with that model and then switching to the new model via
+ * {@link #setEffectiveModelContext(EffectiveModelContext)}, which is the same upgrade path the backing tree offers.
+ *
+ * <p>
+ * Snapshots are taken every {@link JournalConfiguration#getSnapshotInterval()} commits. The commit path only takes an
+ * in-memory snapshot of the backing tree, which is then serialized in the background, after which journal segments
+ * covered by it are deleted.
+ */
+@Beta
+public final class JournaledDataTree implements DataTree, AutoCloseable {
+    private record Waiter(long sequence, SettableFuture<Empty> future) {
+        // Nothing else
+    }
+
+    /**
+     * Replay of journal records, tracking the model each record was committed with.
+     */
+    private static final class Replay implements SegmentedJournal.RecordHandler {
+        private final @NonNull DataTree tree;
+        private final @NonNull ModelModules treeModules;
+
+        // Modules in effect at the current record, null if not known
+        private @Nullable ModelModules modules;
+        // Candidate record which has not been applied yet, as it may be followed by an ABORT_RECORD
+        private byte @Nullable [] pending;
+        private long pendingSequence;
+
+        Replay(final DataTree tree, final ModelModules treeModules, final @Nullable ModelModules modules) {
+            this.tree = requireNonNull(tree);
+            this.treeModules = requireNonNull(treeModules);
+            this.modules = modules;
+        }
+
+        @Override
+        public void handleRecord(final long sequence, final byte[] payload) throws IOException {
+            final var in = new DataInputStream(new ByteArrayInputStream(payload));
+            final byte type = in.readByte();
+            switch (type) {
+                case ABORT_RECORD -> {
+                    final long aborted = in.readLong();
+                    if (pending == null || aborted != pendingSequence) {
+                        throw new IOException("Journal record " + sequence + " aborts record " + aborted
+                            + ", which does not precede it");
+                    }
+                    LOG.debug("Skipping aborted journal record {}", aborted);
+                    pending = null;
+                }
+                case MODEL_RECORD -> {
+                    applyPending();
+                    modules = ModelModules.readFrom(in);
+                }
+                case CANDIDATE_RECORD -> {
+                    if (modules != null && !treeModules.equals(modules)) {
+                        throw new IOException("Journal record " + sequence + " was committed with model "
+                            + modules.modules() + ", which differs from " + treeModules.modules());
+                    }
+                    applyPending();
+                    pending = payload;
+                    pendingSequence = sequence;
+                }
+                default -> throw new IOException("Journal record " + sequence + " has unknown type " + type);
+            }
+        }
+
+        void applyPending() throws IOException {
+            final var local = pending;
+            if (local != null) {
+                pending = null;
+                replay(tree, pendingSequence, local);
+            }
+        }
+    }
+
+    private static final byte CANDIDATE_RECORD = 0;
+    private static final byte MODEL_RECORD = 1;
+    private static final byte ABORT_RECORD = 2;
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournaledDataTree.class);
+    private static final @NonNull ListenableFuture<Empty> SYNCED = Futures.immediateFuture(Empty.value());
+
+    private final @NonNull DataTree delegate;
+    private final @NonNull JournalConfiguration config;
+    private final @NonNull SegmentedJournal journal;
+    private final @NonNull SnapshotStore snapshots;
+    private final @NonNull ExecutorService snapshotExecutor;
+    private final @Nullable ScheduledExecutorService flushExecutor;
+    private final @NonNull Path directory;
+
+    // Guarded by waiters
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+    // Guarded by this
+    private @NonNull ModelModules modules;
+    private long sequence;
+    private long lastSnapshotSequence;
+    private boolean snapshotInProgress;
+
+    private volatile long durableSequence;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    private JournaledDataTree(final DataTree delegate, final JournalConfiguration config, final Path directory,
+            final SegmentedJournal journal, final SnapshotStore snapshots, final ModelModules modules,
+            final long sequence, final long lastSnapshotSequence) {
+        this.delegate = requireNonNull(delegate);
+        this.modules = requireNonNull(modules);
+        this.config = requireNonNull(config);
+        this.directory = requireNonNull(directory);
+        this.journal = requireNonNull(journal);
+        this.snapshots = requireNonNull(snapshots);
+        this.sequence = sequence;
+        this.lastSnapshotSequence = lastSnapshotSequence;
+        durableSequence = sequence;
+
+        final var name = directory.getFileName();
+        snapshotExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("journal-snapshot-" + name).setDaemon(true).build());
+        if (config.getDurability() == JournalConfiguration.Durability.GROUP) {
+            final long nanos = config.getGroupCommitInterval().toNanos();
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("journal-flush-" + name).setDaemon(true).build());
+            flushExecutor.scheduleWithFixedDelay(this::flush, nanos, nanos, TimeUnit.NANOSECONDS);
+        } else {
+            flushExecutor = null;
+        }
+    }
+
+    static @NonNull JournaledDataTree open(final DataTreeFactory factory, final Path directory,
+            final JournalConfiguration config, final DataTreeConfiguration treeConfig,
+            final @Nullable EffectiveModelContext modelContext, final @Nullable DistinctNodeContainer<?, ?> initialRoot)
+                throws IOException, DataValidationFailedException {
+        final var snapshots = new SnapshotStore(directory);
+        final var snapshot = snapshots.loadLatest();
+        final var rootPath = treeConfig.getRootPath();
+        final var treeModules = ModelModules.of(modelContext);
+
+        final DataTree tree;
+        final long snapshotSequence;
+        final ModelModules snapshotModules;
+        if (snapshot.isPresent()) {
+            final var found = snapshot.orElseThrow();
+            if (!rootPath.equals(found.rootPath())) {
+                throw new IOException("Snapshot " + found.sequence() + " holds data rooted at " + found.rootPath()
+                    + ", cannot restore it into a tree rooted at " + rootPath);
+            }
+            snapshotSequence = found.sequence();
+            snapshotModules = found.modules();
+            tree = createTree(factory, treeConfig, modelContext);
+            final var root = found.root();
+            if (root != null) {
+                // Modification paths are relative to the tree's root path, which matches the snapshot's
+                final var mod = tree.takeSnapshot().newModification();
+                mod.write(YangInstanceIdentifier.of(), root);
+                commitModification(tree, mod);
+            }
+            if (!treeModules.equals(snapshotModules)) {
+                LOG.info("{}: restored snapshot at {} taken with a different model", directory, snapshotSequence);
+            }
+            LOG.debug("{}: restored snapshot at {}", directory, snapshotSequence);
+        } else if (initialRoot != null && SegmentedJournal.isEmpty(directory)) {
+            // Fresh directory: persist the initial root so that subsequent journal records apply on top of it
+            snapshotSequence = 0;
+            snapshotModules = treeModules;
+            tree = factory.create(treeConfig, requireNonNull(modelContext), initialRoot);
+            snapshots.save(0, treeModules, rootPath, initialRoot);
+        } else {
+            snapshotSequence = 0;
+            snapshotModules = null;
+            tree = createTree(factory, treeConfig, modelContext);
+        }
+
+        final var replay = new Replay(tree, treeModules, snapshotModules);
+        final var journal = SegmentedJournal.open(directory, config.getSegmentSize(), snapshotSequence, replay);
+        try {
+            replay.applyPending();
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+        var sequence = journal.force();
+        LOG.info("{}: recovered {} journal records after snapshot at {}", directory, sequence - snapshotSequence,
+            snapshotSequence);
+
+        if (!treeModules.equals(replay.modules)) {
+            // Record the model the tree has been opened with, so that following records are tagged with it
+            journal.append(++sequence, modelPayload(treeModules));
+            journal.force();
+        }
+        return new JournaledDataTree(tree, config, directory, journal, snapshots, treeModules, sequence,
+            snapshotSequence);
+    }
+
+    private static DataTree createTree(final DataTreeFactory factory, final DataTreeConfiguration treeConfig,
+            final @Nullable EffectiveModelContext modelContext) {
+        return modelContext == null ? factory.create(treeConfig) : factory.create(treeConfig, modelContext);
+    }
+
+    private static void replay(final DataTree tree, final long sequence, final byte[] payload) throws IOException {
+        // Skip the record type
+        final var in = new DataInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1));
+        final var candidate = DataTreeCandidateInputOutput.readDataTreeCandidate(
+            NormalizedNodeDataInput.newDataInput(in));
+        final var mod = tree.takeSnapshot().newModification();
+        DataTreeCandidates.applyToModification(mod, candidate);
+        try {
+            commitModification(tree, mod);
+        } catch (DataValidationFailedException e) {
+            throw new IOException("Failed to replay journal record " + sequence, e);
+        }
+    }
+
+    private static void commitModification(final DataTree tree, final DataTreeModification mod)
+            throws DataValidationFailedException {
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    @Override
+    public YangInstanceIdentifier getRootPath() {
+        return delegate.getRootPath();
+    }
+
+    @Override
+    public DataTreeSnapshot takeSnapshot() {
+        return delegate.takeSnapshot();
+    }
+
+    @Override
+    public void validate(final DataTreeModification modification) throws DataValidationFailedException {
+        delegate.validate(modification);
+    }
+
+    @Override
+    public DataTreeCandidateTip prepare(final DataTreeModification modification)
+            throws DataValidationFailedException {
+        return delegate.prepare(modification);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The change is journaled before it is applied to the backing tree. A snapshot is then taken, so that the tree can
+     * be subsequently opened with the new model. Failure to save the snapshot is fatal, as the journal cannot be
+     * replayed with either model once it contains records committed with both of them.
+     *
+     * @throws IllegalStateException if this tree is closed, has failed, or the change cannot be persisted
+     */
+    @Override
+    public void setEffectiveModelContext(final EffectiveModelContext newModelContext) {
+        final var newModules = ModelModules.of(newModelContext);
+        final byte[] payload;
+        try {
+            payload = modelPayload(newModules);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize " + newModules, e);
+        }
+
+        final CompletableFuture<Void> snapshotFuture;
+        synchronized (this) {
+            checkOperational();
+            if (newModules.equals(modules)) {
+                delegate.setEffectiveModelContext(newModelContext);
+                return;
+            }
+
+            final long seq = append(payload);
+            modules = newModules;
+            delegate.setEffectiveModelContext(newModelContext);
+
+            // Records committed with the previous model cannot be replayed with the new one, hence we cover them with
+            // a snapshot. It is scheduled while holding the lock, so that it is ordered with background snapshots.
+            final var snapshot = delegate.takeSnapshot();
+            snapshotInProgress = true;
+            snapshotFuture = CompletableFuture.runAsync(() -> {
+                try {
+                    saveSnapshot(seq, newModules, snapshot);
+                } catch (IOException e) {
+                    fail(e);
+                    throw new UncheckedIOException(e);
+                }
+            }, snapshotExecutor);
+        }
+
+        try {
+            snapshotFuture.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed to save snapshot of " + directory + " after model change", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The candidate is persisted before it is applied to the backing tree. With
+     * {@link JournalConfiguration.Durability#SYNC} it is also flushed to stable storage, otherwise it becomes durable
+     * with the next group commit, which can be awaited via {@link #sync()}.
+     *
+     * @throws IllegalStateException if this tree is closed, has failed, the candidate is not based on the current state
+     *                               of this tree, or the candidate cannot be persisted
+     */
+    @Override
+    @SuppressWarnings("checkstyle:illegalCatch")
+    public void commit(final DataTreeCandidate candidate) {
+        checkOperational();
+        final var rootNode = candidate.getRootNode();
+        if (rootNode.modificationType() == ModificationType.UNMODIFIED) {
+            // Nothing to persist
+            delegate.commit(candidate);
+            return;
+        }
+
+        final var bytes = new ByteArrayOutputStream();
+        bytes.write(CANDIDATE_RECORD);
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(new DataOutputStream(bytes))) {
+            DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize " + candidate, e);
+        }
+        final var payload = bytes.toByteArray();
+
+        synchronized (this) {
+            checkOperational();
+            // Reject candidates the backing tree would reject, so they do not end up in the journal. The common case
+            // is satisfied by an identity check.
+            final var current = delegate.takeSnapshot().nodeByPath(YangInstanceIdentifier.of());
+            checkState(Objects.equals(rootNode.dataBefore(), current),
+                "Candidate %s is not based on current state of %s", candidate, directory);
+
+            final long seq = append(payload);
+            try {
+                delegate.commit(candidate);
+            } catch (RuntimeException e) {
+                // We need to make sure the record is not replayed before propagating the failure
+                LOG.debug("{}: journaled commit {} was rejected", directory, seq, e);
+                try {
+                    append(abortPayload(seq));
+                } catch (IllegalStateException ise) {
+                    e.addSuppressed(ise);
+                }
+                throw e;
+            }
+
+            if (!snapshotInProgress && seq - lastSnapshotSequence >= config.getSnapshotInterval()) {
+                snapshotInProgress = true;
+                final var snapshotModules = modules;
+                final var snapshot = delegate.takeSnapshot();
+                snapshotExecutor.execute(() -> {
+                    try {
+                        saveSnapshot(seq, snapshotModules, snapshot);
+                    } catch (IOException e) {
+                        // The journal is still intact and uses a single model, hence this is not fatal
+                        LOG.warn("{}: failed to save snapshot at {}", directory, seq, e);
+                    }
+                });
+            }
+        }
+    }
+
+    // Append a record, flushing it if required by durability. Needs to be called with this monitor held.
+    private long append(final byte[] payload) {
+        final long seq = sequence + 1;
+        try {
+            journal.append(seq, payload);
+            if (flushExecutor == null) {
+                durableSequence = journal.force();
+            }
+        } catch (IOException e) {
+            fail(e);
+            throw new IllegalStateException("Failed to persist record " + seq, e);
+        }
+        sequence = seq;
+        return seq;
+    }
+
+    private static byte[] abortPayload(final long seq) {
+        return ByteBuffer.allocate(Byte.BYTES + Long.BYTES).put(ABORT_RECORD).putLong(seq).array();
+    }
+
+    private static byte[] modelPayload(final ModelModules modules) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(MODEL_RECORD);
+            modules.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Return a future which completes once all commits which have returned before this method was invoked are flushed
+     * to stable storage.
+     *
+     * @return A future completing when prior commits are durable
+     */
+    public @NonNull ListenableFuture<Empty> sync() {
+        final long target;
+        synchronized (this) {
+            target = sequence;
+        }
+
+        synchronized (waiters) {
+            if (durableSequence >= target) {
+                return SYNCED;
+            }
+            final var local = failure;
+            if (local != null) {
+                return Futures.immediateFailedFuture(local);
+            }
+
+            final var future = SettableFuture.<Empty>create();
+            waiters.add(new Waiter(target, future));
+            return future;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        snapshotExecutor.shutdown();
+        try {
+            if (flushExecutor != null) {
+                flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("{}: interrupted while waiting for background tasks", directory, e);
+        }
+
+        // Final flush, completing any waiters
+        flush();
+        journal.close();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("directory", directory)
+            .add("config", config)
+            .add("durable", durableSequence)
+            .add("failure", failure)
+            .toString();
+    }
+
+    private void checkOperational() {
+        checkState(!closed, "Tree %s is closed", directory);
+        final var local = failure;
+        if (local != null) {
+            throw new IllegalStateException("Tree " + directory + " has failed", local);
+        }
+    }
+
+    private void flush() {
+        if (failure != null) {
+            return;
+        }
+
+        final long durable;
+        try {
+            durable = journal.force();
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+
+        durableSequence = durable;
+        synchronized (waiters) {
+            while (!waiters.isEmpty() && waiters.peek().sequence <= durable) {
+                waiters.poll().future.set(Empty.value());
+            }
+        }
+    }
+
+    private void fail(final IOException cause) {
+        LOG.error("{}: journal failed, rejecting further commits", directory, cause);
+        synchronized (waiters) {
+            failure = cause;
+            while (!waiters.isEmpty()) {
+                waiters.poll().future.setException(cause);
+            }
+        }
+    }
+
+    private void saveSnapshot(final long seq, final ModelModules snapshotModules, final DataTreeSnapshot snapshot)
+            throws IOException {
+        // Snapshot paths are relative to the tree's root path, which is recorded along with the data
+        final NormalizedNode root = snapshot.readNode(YangInstanceIdentifier.of()).orElse(null);
+        boolean saved = false;
+        try {
+            snapshots.save(seq, snapshotModules, delegate.getRootPath(), root);
+            saved = true;
+        } finally {
+            synchronized (this) {
+                if (saved && seq > lastSnapshotSequence) {
+                    lastSnapshotSequence = seq;
+                }
+                snapshotInProgress = false;
+            }
+        }
+
+        try {
+            journal.deleteUpTo(seq);
+        } catch (IOException e) {
+            // The snapshot is in place, the segments will be deleted after the next one
+            LOG.warn("{}: failed to delete journal segments up to {}", directory, seq, e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * A {@link DataTreeFactory} creating {@link JournaledDataTree}s persisted in a particular directory. Each tree is
+ * backed by a tree created by a delegate factory, typically an {@code InMemoryDataTreeFactory}, and its state is
+ * recovered from the directory when it is created. An initial root, if specified, is used only when the directory does
+ * not contain any persisted state.
+ *
+ * <p>
+ * Only a single tree can be open on a particular directory at any given time.
+ */
+@Beta
+public final class JournaledDataTreeFactory implements DataTreeFactory {
+    private final @NonNull DataTreeFactory delegate;
+    private final @NonNull Path directory;
+    private final @NonNull JournalConfiguration config;
+
+    public JournaledDataTreeFactory(final DataTreeFactory delegate, final Path directory,
+            final JournalConfiguration config) {
+        this.delegate = requireNonNull(delegate);
+        this.directory = requireNonNull(directory);
+        this.config = requireNonNull(config);
+    }
+
+    public JournaledDataTreeFactory(final DataTreeFactory delegate, final Path directory) {
+        this(delegate, directory, JournalConfiguration.DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the persisted state cannot be recovered
+     */
+    @Override
+    public JournaledDataTree create(final DataTreeConfiguration treeConfig) {
+        try {
+            return open(treeConfig, null, null);
+        } catch (DataValidationFailedException e) {
+            throw new IllegalStateException("Failed to restore persisted state", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the persisted state cannot be recovered
+     */
+    @Override
+    public JournaledDataTree create(final DataTreeConfiguration treeConfig,
+            final EffectiveModelContext initialSchemaContext) {
+        try {
+            return open(treeConfig, requireNonNull(initialSchemaContext), null);
+        } catch (DataValidationFailedException e) {
+            throw new IllegalStateException("Failed to restore persisted state", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the persisted state cannot be recovered
+     */
+    @Override
+    public JournaledDataTree create(final DataTreeConfiguration treeConfig,
+            final EffectiveModelContext initialSchemaContext, final DistinctNodeContainer<?, ?> initialRoot)
+                throws DataValidationFailedException {
+        return open(treeConfig, requireNonNull(initialSchemaContext), requireNonNull(initialRoot));
+    }
+
+    private @NonNull JournaledDataTree open(final DataTreeConfiguration treeConfig,
+            final @Nullable EffectiveModelContext modelContext, final @Nullable DistinctNodeContainer<?, ?> initialRoot)
+                throws DataValidationFailedException {
+        try {
+            Files.createDirectories(directory);
+            return JournaledDataTree.open(delegate, directory, config, treeConfig, modelContext, initialRoot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal in " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+
+/**
+ * The set of modules making up an {@link EffectiveModelContext}. It is persisted along with the data, so that recovery
+ * can detect whether it is replaying data against the model it was committed with.
+ */
+record ModelModules(@NonNull ImmutableSet<QNameModule> modules) {
+    static final @NonNull ModelModules EMPTY = new ModelModules(ImmutableSet.of());
+
+    ModelModules {
+        requireNonNull(modules);
+    }
+
+    static @NonNull ModelModules of(final @Nullable EffectiveModelContext modelContext) {
+        return modelContext == null ? EMPTY : new ModelModules(modelContext.getModules().stream()
+            .map(Module::getQNameModule)
+            .collect(ImmutableSet.toImmutableSet()));
+    }
+
+    static @NonNull ModelModules readFrom(final DataInput in) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid module count " + size);
+        }
+        final var builder = ImmutableSet.<QNameModule>builderWithExpectedSize(size);
+        for (int i = 0; i < size; ++i) {
+            final var namespace = in.readUTF();
+            final var revision = in.readUTF();
+            builder.add(QNameModule.ofRevision(namespace, revision.isEmpty() ? null : revision));
+        }
+        return new ModelModules(builder.build());
+    }
+
+    void writeTo(final DataOutput out) throws IOException {
+        out.writeInt(modules.size());
+        for (var module : modules) {
+            out.writeUTF(module.namespace().toString());
+            final var revision = module.revision();
+            out.writeUTF(revision == null ? "" : revision.toString());
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.eclipse.jdt.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only journal of opaque records, each identified by a contiguous sequence number. The journal is stored as
+ * a series of segment files, each named after the sequence number of its first record. Each record is stored as:
+ * <pre>
+ *   int  payload length
+ *   long sequence number
+ *   int  CRC32C of sequence number and payload
+ *   byte[length] payload
+ * </pre>
+ *
+ * <p>
+ * A record which is incomplete or fails its checksum at the end of the last segment is the result of a crash during
+ * append and is truncated during recovery. Any such record anywhere else indicates corruption and fails recovery.
+ *
+ * <p>
+ * This class is thread-safe, with {@link #force()} being invoked concurrently with {@link #append(long, byte[])}.
+ */
+final class SegmentedJournal implements AutoCloseable {
+    /**
+     * Callback invoked for each recovered record.
+     */
+    @FunctionalInterface
+    interface RecordHandler {
+        void handleRecord(long sequence, byte @NonNull [] payload) throws IOException;
+    }
+
+    private record Segment(long firstSequence, Path file) {
+        Segment {
+            requireNonNull(file);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentedJournal.class);
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private final @NonNull Path directory;
+    private final long segmentSize;
+
+    // Guarded by this
+    private final List<Segment> sealed;
+    private Segment current;
+    private FileChannel channel;
+    private long position;
+    private long nextSequence;
+    private long writtenSequence;
+
+    private SegmentedJournal(final Path directory, final long segmentSize, final List<Segment> sealed,
+            final Segment current, final FileChannel channel, final long position, final long nextSequence) {
+        this.directory = requireNonNull(directory);
+        this.segmentSize = segmentSize;
+        this.sealed = requireNonNull(sealed);
+        this.current = requireNonNull(current);
+        this.channel = requireNonNull(channel);
+        this.position = position;
+        this.nextSequence = nextSequence;
+        writtenSequence = nextSequence - 1;
+    }
+
+    /**
+     * Open the journal in specified directory, replaying all records following a particular sequence number.
+     *
+     * @param directory Journal directory
+     * @param segmentSize Segment size, in bytes
+     * @param afterSequence Sequence number of the last record already accounted for, records up to and including it
+     *                      are skipped
+     * @param handler Handler for replayed records
+     * @return An open SegmentedJournal
+     * @throws IOException if the journal cannot be recovered
+     */
+    static @NonNull SegmentedJournal open(final Path directory, final long segmentSize, final long afterSequence,
+            final RecordHandler handler) throws IOException {
+        final var segments = listSegments(directory);
+        long expected = afterSequence + 1;
+        long lastPosition = 0;
+        long tailSequence = expected;
+
+        for (int i = 0, size = segments.size(); i < size; ++i) {
+            final var segment = segments.get(i);
+            final boolean last = i == size - 1;
+            if (!last && segments.get(i + 1).firstSequence <= expected) {
+                // Fully covered by the snapshot
+                continue;
+            }
+            if (segment.firstSequence > expected) {
+                throw new IOException("Journal is missing records " + expected + " to " + segment.firstSequence);
+            }
+
+            final var content = ByteBuffer.wrap(Files.readAllBytes(segment.file));
+            long sequence = segment.firstSequence;
+            while (content.hasRemaining()) {
+                final int offset = content.position();
+                final int length = readRecordLength(content, sequence);
+                if (length < 0) {
+                    if (!last) {
+                        throw new IOException("Corrupted record " + sequence + " in " + segment.file + " at offset "
+                            + offset);
+                    }
+                    LOG.warn("Truncating incomplete record {} in {} at offset {}", sequence, segment.file, offset);
+                    try (var fc = FileChannel.open(segment.file, StandardOpenOption.WRITE)) {
+                        fc.truncate(offset);
+                        fc.force(true);
+                    }
+                    content.position(offset).limit(offset);
+                    break;
+                }
+
+                final var payload = new byte[length];
+                content.get(payload);
+                if (sequence >= expected) {
+                    handler.handleRecord(sequence, payload);
+                    expected = sequence + 1;
+                }
+                sequence++;
+            }
+            lastPosition = content.position();
+            tailSequence = sequence;
+        }
+
+        final List<Segment> sealed;
+        final Segment current;
+        if (segments.isEmpty()) {
+            sealed = new ArrayList<>();
+            current = new Segment(expected, segmentFile(directory, expected));
+            lastPosition = 0;
+        } else if (tailSequence != expected) {
+            // The snapshot is ahead of the journal, which happens when unflushed records are lost: start a new segment
+            LOG.info("Journal ends at {}, snapshot at {}, starting a new segment", tailSequence - 1, afterSequence);
+            sealed = new ArrayList<>(segments);
+            current = new Segment(expected, segmentFile(directory, expected));
+            lastPosition = 0;
+        } else {
+            sealed = new ArrayList<>(segments.subList(0, segments.size() - 1));
+            current = segments.get(segments.size() - 1);
+        }
+
+        final var channel = FileChannel.open(current.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(lastPosition);
+        return new SegmentedJournal(directory, segmentSize, sealed, current, channel, lastPosition, expected);
+    }
+
+    /**
+     * Check whether specified directory contains any journal segments.
+     *
+     * @param directory Journal directory
+     * @return {@code true} if the directory does not contain any segments
+     * @throws IOException if an I/O error occurs
+     */
+    static boolean isEmpty(final Path directory) throws IOException {
+        return listSegments(directory).isEmpty();
+    }
+
+    /**
+     * Append a record. The record is handed to the operating system, but is not necessarily durable until a subsequent
+     * {@link #force()} returns.
+     *
+     * @param sequence Record sequence number, must be the next expected one
+     * @param payload Record payload
+     * @throws IOException if an I/O error occurs
+     */
+    synchronized void append(final long sequence, final byte[] payload) throws IOException {
+        checkArgument(sequence == nextSequence, "Expected sequence %s, got %s", nextSequence, sequence);
+        if (position != 0 && position + HEADER_SIZE + payload.length > segmentSize) {
+            roll();
+        }
+
+        crc.reset();
+        crc.update(header.clear().putLong(0, sequence).limit(Long.BYTES));
+        crc.update(payload);
+        header.clear().putInt(payload.length).putLong(sequence).putInt((int) crc.getValue()).flip();
+
+        final var buffers = new ByteBuffer[] { header, ByteBuffer.wrap(payload) };
+        long remaining = HEADER_SIZE + payload.length;
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+
+        position += HEADER_SIZE + payload.length;
+        nextSequence = sequence + 1;
+        writtenSequence = sequence;
+    }
+
+    /**
+     * Flush all appended records to stable storage. This method does not block {@link #append(long, byte[])} while
+     * the flush is in progress.
+     *
+     * @return Sequence number of the last durable record
+     * @throws IOException if an I/O error occurs
+     */
+    long force() throws IOException {
+        final FileChannel fc;
+        final long sequence;
+        synchronized (this) {
+            checkState(channel != null, "Journal %s is closed", directory);
+            fc = channel;
+            sequence = writtenSequence;
+        }
+
+        try {
+            fc.force(false);
+        } catch (ClosedChannelException e) {
+            // Raced with roll(), which has forced the channel before closing it
+            LOG.trace("Segment closed while flushing", e);
+        }
+        return sequence;
+    }
+
+    /**
+     * Delete all sealed segments which contain only records up to and including specified sequence number.
+     *
+     * @param sequence Sequence number
+     * @throws IOException if an I/O error occurs
+     */
+    synchronized void deleteUpTo(final long sequence) throws IOException {
+        while (!sealed.isEmpty()) {
+            final long next = sealed.size() > 1 ? sealed.get(1).firstSequence : current.firstSequence;
+            if (next - 1 > sequence) {
+                break;
+            }
+
+            final var segment = sealed.remove(0);
+            LOG.debug("Deleting segment {}", segment.file);
+            Files.deleteIfExists(segment.file);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            try {
+                channel.force(false);
+            } finally {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    // Guarded by this
+    private void roll() throws IOException {
+        channel.force(false);
+        channel.close();
+
+        sealed.add(current);
+        current = new Segment(nextSequence, segmentFile(directory, nextSequence));
+        channel = FileChannel.open(current.file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        position = 0;
+        LOG.debug("Rolled journal to {}", current.file);
+    }
+
+    // Returns the length of the record at current position and positions the buffer at its payload, or returns -1
+    // if the record is incomplete or corrupted
+    private static int readRecordLength(final ByteBuffer content, final long sequence) {
+        final int offset = content.position();
+        if (content.remaining() < HEADER_SIZE) {
+            return -1;
+        }
+        final int length = content.getInt(offset);
+        final long recordSequence = content.getLong(offset + Integer.BYTES);
+        final int checksum = content.getInt(offset + Integer.BYTES + Long.BYTES);
+        if (length < 0 || length > content.remaining() - HEADER_SIZE || recordSequence != sequence) {
+            return -1;
+        }
+
+        final var check = new CRC32C();
+        check.update(ByteBuffer.allocate(Long.BYTES).putLong(0, recordSequence));
+        check.update(content.slice(offset + HEADER_SIZE, length));
+        if ((int) check.getValue() != checksum) {
+            return -1;
+        }
+        content.position(offset + HEADER_SIZE);
+        return length;
+    }
+
+    private static List<Segment> listSegments(final Path directory) throws IOException {
+        final var ret = new ArrayList<Segment>();
+        try (var files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (var file : files) {
+                final var name = file.getFileName().toString();
+                final long firstSequence;
+                try {
+                    firstSequence = Long.parseLong(name, PREFIX.length(), name.length() - SUFFIX.length(), 10);
+                } catch (NumberFormatException e) {
+                    LOG.warn("Ignoring unrecognized file {}", file, e);
+                    continue;
+                }
+                ret.add(new Segment(firstSequence, file));
+            }
+        }
+        ret.sort((first, second) -> Long.compare(first.firstSequence, second.firstSequence));
+        return ret;
+    }
+
+    private static Path segmentFile(final Path directory, final long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Storage of {@link JournaledDataTree} snapshots. Each snapshot is stored in a file named after the sequence number of
+ * the last journal record it includes. Snapshots are written to a temporary file, flushed to stable storage and then
+ * atomically renamed, so that a crash never leaves a partial snapshot behind. Each snapshot is stored as:
+ * <pre>
+ *   int  magic
+ *   long sequence number
+ *   int  number of modules in the model, followed by their namespaces and revisions
+ *   NormalizedNodeDataOutput.writeYangInstanceIdentifier() of the tree's root path
+ *   NormalizedNodeDataOutput.writeOptionalNormalizedNode() of the root
+ *   int  CRC32C of all of the above
+ * </pre>
+ */
+final class SnapshotStore {
+    /**
+     * A recovered snapshot.
+     */
+    record Snapshot(
+            long sequence,
+            @NonNull ModelModules modules,
+            @NonNull YangInstanceIdentifier rootPath,
+            @Nullable NormalizedNode root) {
+        Snapshot {
+            requireNonNull(modules);
+            requireNonNull(rootPath);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotStore.class);
+    private static final String PREFIX = "snapshot-";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int MAGIC = 0x59534E51;
+
+    private final @NonNull Path directory;
+
+    SnapshotStore(final Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    /**
+     * Load the latest valid snapshot, if one exists. Snapshots which fail validation are skipped.
+     *
+     * @return Latest snapshot, or empty
+     * @throws IOException if an I/O error occurs
+     */
+    @NonNull Optional<Snapshot> loadLatest() throws IOException {
+        final var files = listSnapshots();
+        for (int i = files.size() - 1; i >= 0; --i) {
+            final var file = files.get(i);
+            final var bytes = Files.readAllBytes(file);
+            final int length = bytes.length - Integer.BYTES;
+            if (length < Integer.BYTES + Long.BYTES) {
+                LOG.warn("Ignoring truncated snapshot {}", file);
+                continue;
+            }
+
+            final var crc = new CRC32C();
+            crc.update(bytes, 0, length);
+            if ((int) crc.getValue() != ByteBuffer.wrap(bytes, length, Integer.BYTES).getInt()) {
+                LOG.warn("Ignoring corrupted snapshot {}", file);
+                continue;
+            }
+
+            final var in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+            final int magic = in.readInt();
+            if (magic != MAGIC) {
+                LOG.warn("Ignoring snapshot {} with unrecognized magic {}", file, Integer.toHexString(magic));
+                continue;
+            }
+            final long sequence = in.readLong();
+            final var modules = ModelModules.readFrom(in);
+            final var nnin = NormalizedNodeDataInput.newDataInput(in);
+            final var rootPath = nnin.readYangInstanceIdentifier();
+            final var root = nnin.readOptionalNormalizedNode().orElse(null);
+            LOG.debug("Loaded snapshot {} at sequence {}", file, sequence);
+            return Optional.of(new Snapshot(sequence, modules, rootPath, root));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Save a snapshot and delete all older snapshots.
+     *
+     * @param sequence Sequence number of the last journal record included in the snapshot
+     * @param modules Modules of the model the root conforms to
+     * @param rootPath Root path of the tree
+     * @param root Root node, {@code null} if the tree is empty
+     * @throws IOException if an I/O error occurs
+     */
+    void save(final long sequence, final ModelModules modules, final YangInstanceIdentifier rootPath,
+            final @Nullable NormalizedNode root) throws IOException {
+        final var target = snapshotFile(sequence);
+        final var temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            final var crc = new CRC32C();
+            final var out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel)), crc));
+            out.writeInt(MAGIC);
+            out.writeLong(sequence);
+            modules.writeTo(out);
+            try (var nnout = NormalizedNodeStreamVersion.current().newDataOutput(out)) {
+                nnout.writeYangInstanceIdentifier(rootPath);
+                nnout.writeOptionalNormalizedNode(root);
+            }
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        LOG.debug("Saved snapshot {}", target);
+
+        for (var file : listSnapshots()) {
+            if (!file.equals(target)) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        final var ret = new ArrayList<Path>();
+        try (var files = Files.newDirectoryStream(directory, PREFIX + "*")) {
+            for (var file : files) {
+                if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    // Left over from a crash
+                    Files.deleteIfExists(file);
+                } else {
+                    ret.add(file);
+                }
+            }
+        }
+        // Names are zero-padded, hence lexicographic order is also the sequence order
+        ret.sort(Comparator.comparing(file -> file.getFileName().toString()));
+        return ret;
+    }
+
+    private Path snapshotFile(final long sequence) {
+        return directory.resolve(String.format("%s%020d", PREFIX, sequence));
+    }
+}
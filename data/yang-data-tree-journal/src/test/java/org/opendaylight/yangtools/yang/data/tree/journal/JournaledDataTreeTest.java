@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class JournaledDataTreeTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+    private static final YangInstanceIdentifier BAR_PATH = YangInstanceIdentifier.of(new NodeIdentifier(FOO),
+        new NodeIdentifier(BAR));
+
+    private static EffectiveModelContext CONTEXT;
+    private static EffectiveModelContext NEW_CONTEXT;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void beforeAll() {
+        CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container foo {
+                leaf bar {
+                  type string;
+                }
+              }
+            }""");
+        NEW_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container foo {
+                leaf bar {
+                  type string;
+                }
+              }
+            }""", """
+            module baz {
+              namespace baz;
+              prefix baz;
+            }""");
+    }
+
+    @Test
+    void testReopen() throws Exception {
+        final var config = JournalConfiguration.builder().setDurability(JournalConfiguration.Durability.SYNC).build();
+        try (var tree = open(config)) {
+            writeBar(tree, "one");
+            writeBar(tree, "two");
+        }
+        try (var tree = open(config)) {
+            assertBar(tree, "two");
+            writeBar(tree, "three");
+        }
+        try (var tree = open(config)) {
+            assertBar(tree, "three");
+        }
+    }
+
+    @Test
+    void testStaleCandidate() throws Exception {
+        final var config = JournalConfiguration.builder().setDurability(JournalConfiguration.Durability.SYNC).build();
+        try (var tree = open(config)) {
+            final var stale = tree.takeSnapshot().newModification();
+            stale.write(BAR_PATH, ImmutableNodes.leafNode(BAR, "stale"));
+            stale.ready();
+            tree.validate(stale);
+            final var candidate = tree.prepare(stale);
+
+            writeBar(tree, "one");
+            assertThrows(IllegalStateException.class, () -> tree.commit(candidate));
+
+            // The tree remains operational
+            writeBar(tree, "two");
+        }
+        try (var tree = open(config)) {
+            assertBar(tree, "two");
+        }
+    }
+
+    @Test
+    void testSnapshotAndTail() throws Exception {
+        final var config = JournalConfiguration.builder()
+            .setSegmentSize(256)
+            .setSnapshotInterval(5)
+            .build();
+        try (var tree = open(config)) {
+            for (int i = 0; i < 23; ++i) {
+                writeBar(tree, "value-" + i);
+            }
+            tree.sync().get(10, TimeUnit.SECONDS);
+        }
+
+        // At least one snapshot is in place and earlier segments have been pruned
+        try (var files = Files.list(directory)) {
+            final var names = files.map(file -> file.getFileName().toString()).toList();
+            assertTrue(names.stream().anyMatch(name -> name.startsWith("snapshot-")), names::toString);
+            assertFalse(names.contains("segment-00000000000000000001.log"), names::toString);
+        }
+
+        try (var tree = open(config)) {
+            assertBar(tree, "value-22");
+        }
+    }
+
+    @Test
+    void testTornTail() throws Exception {
+        final var config = JournalConfiguration.builder().setDurability(JournalConfiguration.Durability.SYNC).build();
+        try (var tree = open(config)) {
+            writeBar(tree, "one");
+            writeBar(tree, "two");
+        }
+
+        // Simulate a crash in the middle of an append
+        final var segment = directory.resolve("segment-00000000000000000001.log");
+        final long size = Files.size(segment);
+        Files.write(segment, new byte[] { 0, 0, 1, 0, 0, 0 }, StandardOpenOption.APPEND);
+
+        try (var tree = open(config)) {
+            assertBar(tree, "two");
+            assertEquals(size, Files.size(segment));
+            writeBar(tree, "three");
+        }
+        try (var tree = open(config)) {
+            assertBar(tree, "three");
+        }
+    }
+
+    @Test
+    void testCorruptedSealedSegment() throws Exception {
+        final var config = JournalConfiguration.builder()
+            .setDurability(JournalConfiguration.Durability.SYNC)
+            .setSegmentSize(64)
+            .build();
+        try (var tree = open(config)) {
+            writeBar(tree, "one");
+            writeBar(tree, "two");
+            writeBar(tree, "three");
+        }
+
+        final var segment = directory.resolve("segment-00000000000000000001.log");
+        final var bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x55;
+        Files.write(segment, bytes);
+
+        final var ex = assertThrows(UncheckedIOException.class, () -> open(config));
+        assertTrue(ex.getCause().getMessage().startsWith("Corrupted record 1 in "), ex.getCause()::getMessage);
+    }
+
+    @Test
+    void testInitialRoot() throws Exception {
+        final var factory = new JournaledDataTreeFactory(new InMemoryDataTreeFactory(), directory);
+        final var root = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(SchemaContext.NAME))
+            .withChild(ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(FOO))
+                .withChild(ImmutableNodes.leafNode(BAR, "initial"))
+                .build())
+            .build();
+
+        try (var tree = factory.create(DataTreeConfiguration.DEFAULT_OPERATIONAL, CONTEXT, root)) {
+            assertBar(tree, "initial");
+            writeBar(tree, "one");
+            tree.sync().get(10, TimeUnit.SECONDS);
+        }
+
+        // Initial root is ignored once there is persisted state
+        try (var tree = factory.create(DataTreeConfiguration.DEFAULT_OPERATIONAL, CONTEXT, root)) {
+            assertBar(tree, "one");
+        }
+    }
+
+    @Test
+    void testModelChange() throws Exception {
+        final var config = JournalConfiguration.builder().setDurability(JournalConfiguration.Durability.SYNC).build();
+        try (var tree = open(config)) {
+            writeBar(tree, "one");
+        }
+
+        // Records committed with the old model, replayed with the new one
+        final var ex = assertThrows(UncheckedIOException.class, () -> open(config, NEW_CONTEXT));
+        final var message = ex.getCause().getMessage();
+        assertTrue(message.startsWith("Journal record 2 was committed with model "), message);
+
+        // Upgrade through the old model
+        try (var tree = open(config)) {
+            assertBar(tree, "one");
+            tree.setEffectiveModelContext(NEW_CONTEXT);
+            writeBar(tree, "two");
+        }
+        try (var tree = open(config, NEW_CONTEXT)) {
+            assertBar(tree, "two");
+        }
+    }
+
+    @Test
+    void testRootPathMismatch() throws Exception {
+        final var factory = new JournaledDataTreeFactory(new InMemoryDataTreeFactory(), directory);
+        final var root = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(SchemaContext.NAME))
+            .withChild(ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(FOO))
+                .withChild(ImmutableNodes.leafNode(BAR, "initial"))
+                .build())
+            .build();
+        factory.create(DataTreeConfiguration.DEFAULT_OPERATIONAL, CONTEXT, root).close();
+
+        final var treeConfig = DataTreeConfiguration.builder(TreeType.OPERATIONAL)
+            .setRootPath(YangInstanceIdentifier.of(new NodeIdentifier(FOO)))
+            .build();
+        final var ex = assertThrows(UncheckedIOException.class, () -> factory.create(treeConfig, CONTEXT));
+        assertEquals("Snapshot 0 holds data rooted at " + YangInstanceIdentifier.of()
+            + ", cannot restore it into a tree rooted at " + treeConfig.getRootPath(), ex.getCause().getMessage());
+    }
+
+    private JournaledDataTree open(final JournalConfiguration config) {
+        return open(config, CONTEXT);
+    }
+
+    private JournaledDataTree open(final JournalConfiguration config, final EffectiveModelContext modelContext) {
+        return new JournaledDataTreeFactory(new InMemoryDataTreeFactory(), directory, config)
+            .create(DataTreeConfiguration.DEFAULT_OPERATIONAL, modelContext);
+    }
+
+    private static void writeBar(final JournaledDataTree tree, final String value)
+            throws DataValidationFailedException {
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(BAR_PATH, ImmutableNodes.leafNode(BAR, value));
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    private static void assertBar(final JournaledDataTree tree, final String expected) {
+        assertEquals(Optional.of(ImmutableNodes.leafNode(BAR, expected)), tree.takeSnapshot().readNode(BAR_PATH));
+    }
+}
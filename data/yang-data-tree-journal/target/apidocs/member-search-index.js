@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Builder","l":"build()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"builder()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Builder","l":"Builder()","u":"%3Cinit%3E()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"close()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"commit(DataTreeCandidate)","u":"commit(org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"copyBuilder()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTreeFactory","l":"create(DataTreeConfiguration)","u":"create(org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTreeFactory","l":"create(DataTreeConfiguration, EffectiveModelContext)","u":"create(org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration,org.opendaylight.yangtools.yang.model.api.EffectiveModelContext)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTreeFactory","l":"create(DataTreeConfiguration, EffectiveModelContext, DistinctNodeContainer<?, ?>)","u":"create(org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration,org.opendaylight.yangtools.yang.model.api.EffectiveModelContext,org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"DEFAULT"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"getDurability()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"getGroupCommitInterval()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"getRootPath()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"getSegmentSize()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"getSnapshotInterval()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Durability","l":"GROUP"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTreeFactory","l":"JournaledDataTreeFactory(DataTreeFactory, Path)","u":"%3Cinit%3E(org.opendaylight.yangtools.yang.data.tree.api.DataTreeFactory,java.nio.file.Path)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTreeFactory","l":"JournaledDataTreeFactory(DataTreeFactory, Path, JournalConfiguration)","u":"%3Cinit%3E(org.opendaylight.yangtools.yang.data.tree.api.DataTreeFactory,java.nio.file.Path,org.opendaylight.yangtools.yang.data.tree.journal.JournalConfiguration)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"prepare(DataTreeModification)","u":"prepare(org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Builder","l":"setDurability(JournalConfiguration.Durability)","u":"setDurability(org.opendaylight.yangtools.yang.data.tree.journal.JournalConfiguration.Durability)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"setEffectiveModelContext(EffectiveModelContext)","u":"setEffectiveModelContext(org.opendaylight.yangtools.yang.model.api.EffectiveModelContext)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Builder","l":"setGroupCommitInterval(Duration)","u":"setGroupCommitInterval(java.time.Duration)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Builder","l":"setSegmentSize(long)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Builder","l":"setSnapshotInterval(long)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Durability","l":"SYNC"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"sync()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"takeSnapshot()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration","l":"toString()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"toString()"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournaledDataTree","l":"validate(DataTreeModification)","u":"validate(org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Durability","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","c":"JournalConfiguration.Durability","l":"values()"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+moduleSearchIndex = [{"l":"org.opendaylight.yangtools.yang.data.tree.journal"}];updateSearchResults();
\ No newline at end of file
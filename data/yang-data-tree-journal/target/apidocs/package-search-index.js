@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"m":"org.opendaylight.yangtools.yang.data.tree.journal","l":"org.opendaylight.yangtools.yang.data.tree.journal"}];updateSearchResults();
\ No newline at end of file
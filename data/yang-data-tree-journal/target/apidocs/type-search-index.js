@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","l":"JournalConfiguration.Builder"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","l":"JournalConfiguration.Durability"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","l":"JournalConfiguration"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","l":"JournaledDataTree"},{"p":"org.opendaylight.yangtools.yang.data.tree.journal","l":"JournaledDataTreeFactory"}];updateSearchResults();
\ No newline at end of file
@@ -10,12 +10,14 @@ import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory
 
 module org.opendaylight.yangtools.yang.data.tree {
     exports org.opendaylight.yangtools.yang.data.tree.impl.di;
+    exports org.opendaylight.yangtools.yang.data.tree.impl.stats;
     exports org.opendaylight.yangtools.yang.data.tree.leafref;
 
     provides DataTreeFactory with InMemoryDataTreeFactory;
 
     requires transitive org.opendaylight.yangtools.yang.data.tree.api;
     requires com.google.common;
+    requires java.management;
     requires org.opendaylight.yangtools.concepts;
     requires org.opendaylight.yangtools.yang.common;
     requires org.opendaylight.yangtools.yang.data.api;
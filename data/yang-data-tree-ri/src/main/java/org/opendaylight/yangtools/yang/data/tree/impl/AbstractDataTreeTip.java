@@ -10,9 +10,11 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation.Phase;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeTip;
 import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 
 abstract class AbstractDataTreeTip implements DataTreeTip {
@@ -28,13 +30,21 @@ abstract class AbstractDataTreeTip implements DataTreeTip {
     @Override
     public final void validate(final DataTreeModification modification) throws DataValidationFailedException {
         final var m = accessMod(modification, "validate");
-        m.getStrategy().checkApplicable(new ModificationPath(getRootPath()), m.getRootModification(), getTipRoot(),
-            m.getVersion());
+        final var instrumentation = m.instrumentation();
+        final long start = instrumentation != null ? System.nanoTime() : 0;
+        final var path = new ModificationPath(getRootPath(), instrumentation != null);
+        m.getStrategy().checkApplicable(path, m.getRootModification(), getTipRoot(), m.getVersion());
+        if (instrumentation != null) {
+            instrumentation.phaseCompleted(Phase.VALIDATE, System.nanoTime() - start);
+            instrumentation.modificationValidated(path.validatedNodes());
+        }
     }
 
     @Override
     public final DataTreeCandidateTip prepare(final DataTreeModification modification) {
         final var m = accessMod(modification, "prepare");
+        final var instrumentation = m.instrumentation();
+        final long start = instrumentation != null ? System.nanoTime() : 0;
         final var root = m.getRootModification();
 
         final var currentRoot = getTipRoot();
@@ -47,7 +57,12 @@ abstract class AbstractDataTreeTip implements DataTreeTip {
             throw new IllegalStateException("Apply strategy failed to produce root node for modification "
                 + modification);
         }
-        return new InMemoryDataTreeCandidate(YangInstanceIdentifier.of(), root, currentRoot, newRoot);
+        final var candidate = new InMemoryDataTreeCandidate(YangInstanceIdentifier.of(), root, currentRoot,
+            OffHeapPolicy.wrapRoot(newRoot));
+        if (instrumentation != null) {
+            instrumentation.phaseCompleted(Phase.PREPARE, System.nanoTime() - start);
+        }
+        return candidate;
     }
 
     private static @NonNull InMemoryDataTreeModification accessMod(final DataTreeModification mod, final String op) {
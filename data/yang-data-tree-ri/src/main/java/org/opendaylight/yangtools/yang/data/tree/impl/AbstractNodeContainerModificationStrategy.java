@@ -25,8 +25,10 @@ import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedExcepti
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.opendaylight.yangtools.yang.data.tree.api.ModifiedNodeDoesNotExistException;
 import org.opendaylight.yangtools.yang.data.tree.api.SchemaValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.SubtreeCodec;
 import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.MutableTreeNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
@@ -89,11 +91,15 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
 
     private final NormalizedNodeContainerSupport<?, ?> support;
     private final boolean verifyChildrenStructure;
+    private final int parallelVerificationThreshold;
+    private final @Nullable SubtreeCodec offHeapCodec;
 
     AbstractNodeContainerModificationStrategy(final NormalizedNodeContainerSupport<?, ?> support,
             final DataTreeConfiguration treeConfig) {
         this.support = requireNonNull(support);
         verifyChildrenStructure = treeConfig.getTreeType() == TreeType.CONFIGURATION;
+        parallelVerificationThreshold = treeConfig.getParallelVerificationThreshold();
+        offHeapCodec = treeConfig.getOffHeapCodec();
     }
 
     @Override
@@ -112,14 +118,12 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
     final void verifyValueChildren(final NormalizedNode writtenValue) {
         final var container = (DistinctNodeContainer<?, ?>) writtenValue;
         if (verifyChildrenStructure) {
-            for (var child : container.body()) {
-                final var childOp = childByArg(child.name());
-                if (childOp == null) {
-                    throw new SchemaValidationFailedException(String.format(
-                        "Node %s is not a valid child of %s according to the schema.",
-                        child.name(), container.name()));
+            if (parallelVerificationThreshold != 0 && container.size() >= parallelVerificationThreshold) {
+                ParallelChildVerifier.verify(this, container);
+            } else {
+                for (var child : container.body()) {
+                    verifyChild(container, child);
                 }
-                childOp.fullVerifyStructure(child);
             }
 
             optionalVerifyValueChildren(container);
@@ -127,6 +131,21 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
         mandatoryVerifyValueChildren(container);
     }
 
+    /**
+     * Fully verify a single child of a written value. This method may be invoked concurrently for multiple children.
+     *
+     * @param container Written value
+     * @param child Child to verify
+     */
+    final void verifyChild(final DistinctNodeContainer<?, ?> container, final NormalizedNode child) {
+        final var childOp = childByArg(child.name());
+        if (childOp == null) {
+            throw new SchemaValidationFailedException(String.format(
+                "Node %s is not a valid child of %s according to the schema.", child.name(), container.name()));
+        }
+        childOp.fullVerifyStructure(child);
+    }
+
     /**
      * Perform additional verification on written value's child structure, like presence of mandatory children and
      * exclusion. The default implementation does nothing and is not invoked for non-CONFIG data trees.
@@ -165,10 +184,10 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
     @Override
     protected TreeNode applyWrite(final ModifiedNode modification, final NormalizedNode newValue,
             final TreeNode currentMeta, final Version version) {
-        final var newValueMeta = TreeNode.of(newValue, version);
         if (modification.isEmpty()) {
-            return newValueMeta;
+            return TreeNode.of(OffHeapPolicy.wrap(newValue, offHeapCodec), version);
         }
+        final var newValueMeta = TreeNode.of(newValue, version);
 
         /*
          * This is where things get interesting. The user has performed a write and then she applied some more
@@ -193,7 +212,7 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
         // We are good to go except one detail: this is a single logical write, but
         // we have a result TreeNode which has been forced to materialized, e.g. it
         // is larger than it needs to be. Create a new TreeNode to host the data.
-        return TreeNode.of(result.getData(), version);
+        return TreeNode.of(OffHeapPolicy.wrap(result.getData(), offHeapCodec), version);
     }
 
     /**
@@ -11,22 +11,44 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Iterator;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
 
 abstract class AbstractReadyIterator {
+    /**
+     * Counts of nodes remaining in a sealed modification, collected as they are sealed.
+     */
+    static final class Counters {
+        int modifiedNodes;
+        int writtenValues;
+
+        void sealed(final ModifiedNode node) {
+            modifiedNodes++;
+            switch (node.getOperation()) {
+                case MERGE, WRITE -> writtenValues++;
+                default -> {
+                    // No value
+                }
+            }
+        }
+    }
+
     final Iterator<ModifiedNode> children;
     final ModifiedNode node;
     final ModificationApplyOperation op;
+    final @Nullable Counters counters;
 
     private AbstractReadyIterator(final ModifiedNode node, final Iterator<ModifiedNode> children,
-            final ModificationApplyOperation operation) {
+            final ModificationApplyOperation operation, final @Nullable Counters counters) {
         this.children = requireNonNull(children);
         this.node = requireNonNull(node);
         op = requireNonNull(operation);
+        this.counters = counters;
     }
 
-    static AbstractReadyIterator create(final ModifiedNode root, final ModificationApplyOperation operation) {
-        return new RootReadyIterator(root, root.getChildren().iterator(), operation);
+    static AbstractReadyIterator create(final ModifiedNode root, final ModificationApplyOperation operation,
+            final @Nullable Counters counters) {
+        return new RootReadyIterator(root, root.getChildren().iterator(), operation, counters);
     }
 
     final AbstractReadyIterator process(final Version version) {
@@ -44,6 +66,8 @@ abstract class AbstractReadyIterator {
                 child.seal(childOp, version);
                 if (child.getOperation() == LogicalOperation.NONE) {
                     children.remove();
+                } else if (counters != null) {
+                    counters.sealed(child);
                 }
             } else {
                 return new NestedReadyIterator(this, child, child.getChildren().iterator(), childOp);
@@ -56,6 +80,8 @@ abstract class AbstractReadyIterator {
         // Remove from parent if we have one and this is a no-op
         if (node.getOperation() == LogicalOperation.NONE) {
             removeFromParent();
+        } else if (counters != null) {
+            counters.sealed(node);
         }
 
         // Sub-iteration complete, return back to parent
@@ -71,7 +97,7 @@ abstract class AbstractReadyIterator {
 
         private NestedReadyIterator(final AbstractReadyIterator parent, final ModifiedNode node,
                 final Iterator<ModifiedNode> children, final ModificationApplyOperation operation) {
-            super(node, children, operation);
+            super(node, children, operation, parent.counters);
             this.parent = requireNonNull(parent);
         }
 
@@ -88,8 +114,8 @@ abstract class AbstractReadyIterator {
 
     private static final class RootReadyIterator extends AbstractReadyIterator {
         private RootReadyIterator(final ModifiedNode node, final Iterator<ModifiedNode> children,
-                final ModificationApplyOperation operation) {
-            super(node, children, operation);
+                final ModificationApplyOperation operation, final @Nullable Counters counters) {
+            super(node, children, operation, counters);
         }
 
         @Override
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+
+/**
+ * Ring buffer of the most recent {@link DataTreeCandidate}s committed to an {@link InMemoryDataTree}, indexed by their
+ * sequence number. Commits update the tree state before they reach this buffer, hence appends may arrive slightly out
+ * of order. We therefore track the highest sequence number up to which all candidates have been appended and expose
+ * only those.
+ *
+ * <p>
+ * An append which is overtaken by as many appends as the buffer can hold would have its slot reused before it arrives.
+ * Rather than waiting for it, which would stall publication, or overwriting candidates which have not been published
+ * yet, we give up on the sequence numbers leading up to the overtaking append: subscribers which have not seen them are
+ * asked to resynchronize and the late append is dropped.
+ */
+final class ChangeFeedBuffer {
+    private final DataTreeCandidate[] candidates;
+    private final long[] sequences;
+
+    // Guarded by this
+    private long published;
+    // Guarded by this, sequence numbers up to and including this one are no longer available
+    private long lost;
+
+    ChangeFeedBuffer(final int capacity) {
+        checkArgument(capacity > 0);
+        candidates = new DataTreeCandidate[capacity];
+        sequences = new long[capacity];
+    }
+
+    synchronized void append(final long sequence, final DataTreeCandidate candidate) {
+        requireNonNull(candidate);
+        if (sequence <= published) {
+            // Overtaken by too many appends, see below
+            return;
+        }
+        if (sequence > published + candidates.length) {
+            // Storing this candidate would reuse the slot of a sequence number which has not been published yet, as
+            // its append is lagging behind. Give up on that sequence number and all the ones before it.
+            lost = sequence - candidates.length;
+            published = lost;
+        }
+
+        final int slot = slot(sequence);
+        candidates[slot] = candidate;
+        sequences[slot] = sequence;
+
+        while (true) {
+            final long next = published + 1;
+            if (sequences[slot(next)] != next) {
+                break;
+            }
+            published = next;
+        }
+    }
+
+    /**
+     * Read candidates following a sequence number.
+     *
+     * @param lastSeen Last sequence number seen
+     * @param maxCandidates Maximum number of candidates to return
+     * @return Candidates following {@code lastSeen}, or {@code null} if some of them are no longer retained
+     */
+    synchronized @Nullable List<DataTreeCandidate> read(final long lastSeen, final int maxCandidates) {
+        if (lastSeen < lost || lastSeen < published - candidates.length) {
+            return null;
+        }
+        if (lastSeen >= published) {
+            return List.of();
+        }
+
+        final long last = Math.min(published, lastSeen + maxCandidates);
+        final var ret = new ArrayList<DataTreeCandidate>((int) (last - lastSeen));
+        for (long seq = lastSeen + 1; seq <= last; ++seq) {
+            final int slot = slot(seq);
+            if (sequences[slot] != seq) {
+                // Should never happen, but if it does, the subscriber needs to resynchronize
+                return null;
+            }
+            ret.add(candidates[slot]);
+        }
+        return ret;
+    }
+
+    private int slot(final long sequence) {
+        return (int) (sequence % candidates.length);
+    }
+}
@@ -11,7 +11,9 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
@@ -24,19 +26,22 @@ final class DataTreeState {
     private final LatestOperationHolder holder;
     private final EffectiveModelContext schemaContext;
     private final @NonNull TreeNode root;
+    private final long sequence;
 
     private DataTreeState(final TreeNode root) {
         this.root = requireNonNull(root);
         holder = new LatestOperationHolder();
         schemaContext = null;
+        sequence = 0;
     }
 
     private DataTreeState(final TreeNode root, final LatestOperationHolder holder,
-            final EffectiveModelContext schemaContext) {
+            final EffectiveModelContext schemaContext, final long sequence) {
         // It should be impossible to instantiate a new root without a SchemaContext
         this.schemaContext = requireNonNull(schemaContext);
         this.holder = requireNonNull(holder);
         this.root = requireNonNull(root);
+        this.sequence = sequence;
     }
 
     static DataTreeState createInitial(final TreeNode root) {
@@ -47,18 +52,27 @@ final class DataTreeState {
         return root;
     }
 
-    @NonNull InMemoryDataTreeSnapshot newSnapshot() {
-        return new InMemoryDataTreeSnapshot(schemaContext, root, holder.newSnapshot());
+    /**
+     * Return the sequence number of the commit which produced this state.
+     *
+     * @return Commit sequence number, {@code 0} for the initial state
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    @NonNull InMemoryDataTreeSnapshot newSnapshot(final @Nullable DataTreeInstrumentation instrumentation) {
+        return new InMemoryDataTreeSnapshot(schemaContext, root, holder.newSnapshot(), instrumentation);
     }
 
     DataTreeState withSchemaContext(final EffectiveModelContext newSchemaContext,
             final ModificationApplyOperation operation) {
         holder.setCurrent(operation);
-        return new DataTreeState(root, holder, newSchemaContext);
+        return new DataTreeState(root, holder, newSchemaContext, sequence);
     }
 
     DataTreeState withRoot(final TreeNode newRoot) {
-        return new DataTreeState(newRoot, holder, schemaContext);
+        return new DataTreeState(newRoot, holder, schemaContext, sequence + 1);
     }
 
     @Override
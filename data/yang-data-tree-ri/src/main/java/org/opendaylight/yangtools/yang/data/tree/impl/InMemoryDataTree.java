@@ -7,20 +7,28 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeChangeFeed;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation.Phase;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.ContainerLike;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
@@ -33,7 +41,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Read-only snapshot of the data tree.
  */
-public final class InMemoryDataTree extends AbstractDataTreeTip implements DataTree {
+public final class InMemoryDataTree extends AbstractDataTreeTip implements DataTree, DataTreeChangeFeed {
     private static final VarHandle STATE;
 
     static {
@@ -47,6 +55,8 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
     private static final Logger LOG = LoggerFactory.getLogger(InMemoryDataTree.class);
 
     private final DataTreeConfiguration treeConfig;
+    private final @Nullable ChangeFeedBuffer changeFeed;
+    private final @Nullable OffHeapPolicy offHeap;
     private final boolean maskMandatory;
 
     /**
@@ -59,6 +69,8 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
     public InMemoryDataTree(final TreeNode rootNode, final DataTreeConfiguration treeConfig,
             final EffectiveModelContext schemaContext) {
         this.treeConfig = requireNonNull(treeConfig, "treeConfig");
+        changeFeed = createChangeFeed(treeConfig);
+        offHeap = treeConfig.getOffHeapCodec() != null ? new OffHeapPolicy() : null;
         maskMandatory = true;
         state = DataTreeState.createInitial(rootNode);
         if (schemaContext != null) {
@@ -70,11 +82,18 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             final EffectiveModelContext schemaContext, final DataSchemaNode rootSchemaNode,
             final boolean maskMandatory) {
         this.treeConfig = requireNonNull(treeConfig, "treeConfig");
+        changeFeed = createChangeFeed(treeConfig);
+        offHeap = treeConfig.getOffHeapCodec() != null ? new OffHeapPolicy() : null;
         this.maskMandatory = maskMandatory;
 
         state = DataTreeState.createInitial(rootNode).withSchemaContext(schemaContext, getOperation(rootSchemaNode));
     }
 
+    private static @Nullable ChangeFeedBuffer createChangeFeed(final DataTreeConfiguration treeConfig) {
+        final int capacity = treeConfig.getChangeFeedCapacity();
+        return capacity == 0 ? null : new ChangeFeedBuffer(capacity);
+    }
+
     private ModificationApplyOperation getOperation(final DataSchemaNode rootSchemaNode) {
         if (rootSchemaNode instanceof ContainerLike rootContainerLike && maskMandatory) {
             return new ContainerModificationStrategy(rootContainerLike, treeConfig);
@@ -133,7 +152,7 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
 
     @Override
     public InMemoryDataTreeSnapshot takeSnapshot() {
-        return currentState().newSnapshot();
+        return currentState().newSnapshot(treeConfig.getInstrumentation());
     }
 
     @Override
@@ -149,6 +168,9 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             LOG.trace("Data Tree is {}", NormalizedNodes.toStringTree(c.getTipRoot().getData()));
         }
 
+        final var instrumentation = treeConfig.getInstrumentation();
+        final long start = instrumentation != null ? System.nanoTime() : 0;
+
         final TreeNode newRoot = c.getTipRoot();
         DataTreeState currentState;
         DataTreeState newState;
@@ -169,6 +191,61 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             LOG.trace("Updated state from {} to {}", currentState, newState);
             // TODO: can we lower this to compareAndSwapRelease?
         } while (!STATE.compareAndSet(this, currentState, newState));
+
+        if (changeFeed != null) {
+            changeFeed.append(newState.getSequence(), c);
+        }
+        if (offHeap != null) {
+            trackWritten(offHeap, c.getModificationRoot(), newRoot);
+            offHeap.committed();
+        }
+        if (instrumentation != null) {
+            instrumentation.phaseCompleted(Phase.COMMIT, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public long lastSequence() {
+        return currentState().getSequence();
+    }
+
+    @Override
+    public Batch poll(final long lastSeen, final int maxCandidates) {
+        checkArgument(maxCandidates > 0, "Invalid maximum candidates %s", maxCandidates);
+        final var currentState = currentState();
+        final long sequence = currentState.getSequence();
+        checkArgument(lastSeen >= 0 && lastSeen <= sequence, "Invalid sequence %s, last is %s", lastSeen, sequence);
+
+        if (changeFeed != null) {
+            final var candidates = changeFeed.read(lastSeen, maxCandidates);
+            if (candidates != null) {
+                return new Batch(lastSeen + candidates.size(), candidates, false);
+            }
+        } else if (lastSeen == sequence) {
+            return new Batch(sequence, List.of(), false);
+        }
+
+        LOG.debug("Resynchronizing change feed subscriber from {} to {}", lastSeen, sequence);
+        return new Batch(sequence, List.of(DataTreeCandidates.fromNormalizedNode(getRootPath(),
+            currentState.getRoot().getData())), true);
+    }
+
+    /**
+     * Start tracking off-heap subtrees written by a committed modification. Only written nodes can be backed by
+     * off-heap storage, hence we descend only through nodes whose children have been modified.
+     */
+    private static void trackWritten(final OffHeapPolicy policy, final ModifiedNode mod, final TreeNode after) {
+        final var type = mod.getModificationType();
+        if (type == ModificationType.WRITE) {
+            policy.track(after.getData());
+        } else if (type == ModificationType.SUBTREE_MODIFIED || type == ModificationType.APPEARED) {
+            for (var child : mod.getChildren()) {
+                final var childAfter = after.childByArg(child.getIdentifier());
+                if (childAfter != null) {
+                    trackWritten(policy, child, childAfter);
+                }
+            }
+        }
     }
 
     private static String simpleToString(final Object obj) {
@@ -45,6 +45,10 @@ final class InMemoryDataTreeCandidate extends AbstractDataTreeCandidate {
         return root.getOldMeta();
     }
 
+    ModifiedNode getModificationRoot() {
+        return root.getMod();
+    }
+
     @Override
     public DataTreeCandidateNode getRootNode() {
         return root;
@@ -14,6 +14,8 @@ import static java.util.Objects.requireNonNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -22,8 +24,11 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.StoreTreeNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.CursorAwareDataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation.Phase;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModificationCursor;
 import org.opendaylight.yangtools.yang.data.tree.api.SchemaValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -79,6 +84,10 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         return rootNode;
     }
 
+    @Nullable DataTreeInstrumentation instrumentation() {
+        return snapshot.instrumentation();
+    }
+
     ModificationApplyOperation getStrategy() {
         final var ret = strategyTree.delegate();
         if (ret == null) {
@@ -127,7 +136,66 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         final var terminalPath = terminal.getKey();
 
         final var result = resolveSnapshot(terminalPath, terminal.getValue());
-        return result == null ? Optional.empty() : NormalizedNodes.findNode(terminalPath, result.getData(), path);
+        return result == null ? Optional.empty()
+            : NormalizedNodes.findNode(terminalPath, result.getData(), path).map(OffHeapPolicy::unwrap);
+    }
+
+    @Override
+    public List<@Nullable NormalizedNode> nodesByPath(final List<YangInstanceIdentifier> paths) {
+        final var results = new NormalizedNode[paths.size()];
+        lookup(PathTrie.of(paths), YangInstanceIdentifier.of(), rootNode, results);
+        return Arrays.asList(results);
+    }
+
+    /*
+     * Batch equivalent of readNode(): we follow the trie through modified nodes until we hit one which has been
+     * modified, or where the trie diverges from the modification, at which point we resolve that node's snapshot and
+     * continue with a plain lookup. Each snapshot is resolved at most once.
+     */
+    private void lookup(final PathTrie trie, final YangInstanceIdentifier path, final ModifiedNode modification,
+            final @Nullable NormalizedNode[] results) {
+        switch (modification.getOperation()) {
+            case DELETE, MERGE, WRITE -> {
+                final var meta = resolveSnapshot(path, modification);
+                if (meta != null) {
+                    trie.lookup(meta.getData(), results);
+                }
+                return;
+            }
+            default -> {
+                // TOUCH or NONE: continue below
+            }
+        }
+
+        boolean resolved = false;
+        NormalizedNode data = null;
+        if (trie.hasTerminals()) {
+            data = resolveData(path, modification);
+            resolved = true;
+            trie.report(data, results);
+        }
+
+        for (var entry : trie.children().entrySet()) {
+            final var arg = entry.getKey();
+            final var child = modification.childByArg(arg);
+            if (child != null) {
+                lookup(entry.getValue(), path.node(arg), child, results);
+                continue;
+            }
+
+            if (!resolved) {
+                data = resolveData(path, modification);
+                resolved = true;
+            }
+            if (data != null) {
+                entry.getValue().lookup(NormalizedNodes.childByArg(data, arg), results);
+            }
+        }
+    }
+
+    private @Nullable NormalizedNode resolveData(final YangInstanceIdentifier path, final ModifiedNode modification) {
+        final var meta = resolveSnapshot(path, modification);
+        return meta == null ? null : meta.getData();
     }
 
     @SuppressWarnings("checkstyle:illegalCatch")
@@ -212,7 +280,8 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         if (newRoot == null) {
             throw new IllegalStateException("Data tree root is not present, possibly removed by previous modification");
         }
-        return new InMemoryDataTreeSnapshot(snapshot.modelContext(), newRoot, strategyTree).newModification();
+        return new InMemoryDataTreeSnapshot(snapshot.modelContext(), OffHeapPolicy.wrapRoot(newRoot), strategyTree,
+            snapshot.instrumentation()).newModification();
     }
 
     Version getVersion() {
@@ -306,7 +375,10 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
             throw new IllegalStateException("Attempted to seal an already-sealed Data Tree.");
         }
 
-        var current = AbstractReadyIterator.create(rootNode, getStrategy());
+        final var instrumentation = snapshot.instrumentation();
+        final long start = instrumentation != null ? System.nanoTime() : 0;
+        final var counters = instrumentation != null ? new AbstractReadyIterator.Counters() : null;
+        var current = AbstractReadyIterator.create(rootNode, getStrategy(), counters);
         do {
             current = current.process(version);
         } while (current != null);
@@ -315,5 +387,10 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         // needs to see any HashMap.modCount mutations completed. This is needed because isSealed() is now performing
         // only the equivalent of an acquireFence()
         STATE.setRelease(this, STATE_SEALED);
+
+        if (instrumentation != null) {
+            instrumentation.phaseCompleted(Phase.READY, System.nanoTime() - start);
+            instrumentation.modificationReady(counters.modifiedNodes, counters.writtenValues);
+        }
     }
 }
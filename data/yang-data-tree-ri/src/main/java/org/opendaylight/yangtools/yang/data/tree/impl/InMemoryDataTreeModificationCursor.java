@@ -21,6 +21,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgum
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModificationCursor;
 import org.opendaylight.yangtools.yang.data.tree.api.SchemaValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
 
 final class InMemoryDataTreeModificationCursor extends AbstractCursor<InMemoryDataTreeModification>
         implements DataTreeModificationCursor {
@@ -94,7 +95,7 @@ final class InMemoryDataTreeModificationCursor extends AbstractCursor<InMemoryDa
 
     @Override
     public Optional<NormalizedNode> readNode(final PathArgument child) {
-        return stack.peek().read(child, getParent().getVersion());
+        return stack.peek().read(child, getParent().getVersion()).map(OffHeapPolicy::unwrap);
     }
 
     @Override
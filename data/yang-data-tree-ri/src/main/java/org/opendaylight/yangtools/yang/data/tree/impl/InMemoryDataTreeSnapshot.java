@@ -10,14 +10,19 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.CursorAwareDataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshotCursor;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
@@ -25,18 +30,29 @@ final class InMemoryDataTreeSnapshot extends AbstractCursorAware implements Curs
     private final @NonNull EffectiveModelContext modelContext;
     private final @NonNull RootApplyStrategy applyOper;
     private final @NonNull TreeNode rootNode;
+    private final @Nullable DataTreeInstrumentation instrumentation;
 
     InMemoryDataTreeSnapshot(final EffectiveModelContext modelContext, final TreeNode rootNode,
             final RootApplyStrategy applyOper) {
+        this(modelContext, rootNode, applyOper, null);
+    }
+
+    InMemoryDataTreeSnapshot(final EffectiveModelContext modelContext, final TreeNode rootNode,
+            final RootApplyStrategy applyOper, final @Nullable DataTreeInstrumentation instrumentation) {
         this.modelContext = requireNonNull(modelContext);
         this.rootNode = requireNonNull(rootNode);
         this.applyOper = requireNonNull(applyOper);
+        this.instrumentation = instrumentation;
     }
 
     @NonNull TreeNode getRootNode() {
         return rootNode;
     }
 
+    @Nullable DataTreeInstrumentation instrumentation() {
+        return instrumentation;
+    }
+
     @Override
     public EffectiveModelContext modelContext() {
         return modelContext;
@@ -44,7 +60,19 @@ final class InMemoryDataTreeSnapshot extends AbstractCursorAware implements Curs
 
     @Override
     public Optional<NormalizedNode> readNode(final YangInstanceIdentifier path) {
-        return NormalizedNodes.findNode(rootNode.getData(), path);
+        return Optional.ofNullable(nodeByPath(path));
+    }
+
+    @Override
+    public @Nullable NormalizedNode nodeByPath(final YangInstanceIdentifier path) {
+        return OffHeapPolicy.unwrap(NormalizedNodes.childByPath(rootNode.getData(), path));
+    }
+
+    @Override
+    public List<@Nullable NormalizedNode> nodesByPath(final List<YangInstanceIdentifier> paths) {
+        final var results = new NormalizedNode[paths.size()];
+        PathTrie.of(paths).lookup(rootNode.getData(), results);
+        return Arrays.asList(results);
     }
 
     @Override
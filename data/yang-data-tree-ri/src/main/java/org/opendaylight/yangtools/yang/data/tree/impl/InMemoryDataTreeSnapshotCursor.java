@@ -19,6 +19,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
 
 final class InMemoryDataTreeSnapshotCursor extends AbstractCursor<InMemoryDataTreeSnapshot> {
     private final Deque<DistinctNodeContainer<?, ?>> stack = new ArrayDeque<>();
@@ -75,6 +76,6 @@ final class InMemoryDataTreeSnapshotCursor extends AbstractCursor<InMemoryDataTr
 
     @Override
     public Optional<NormalizedNode> readNode(final PathArgument child) {
-        return NormalizedNodes.findNode(stack.peek(), child);
+        return NormalizedNodes.findNode(stack.peek(), child).map(OffHeapPolicy::unwrap);
     }
 }
@@ -10,8 +10,12 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Mutable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -23,12 +27,17 @@ final class ModificationPath implements Mutable {
         "org.opendaylight.yangtools.yang.data.impl.schema.tree.ModificationPath.ALLOC_SIZE", DEFAULT_ALLOC_SIZE);
 
     private final YangInstanceIdentifier root;
+    // Number of nodes validated by each strategy type, null if not counted
+    private final @Nullable HashMap<String, Integer> validated;
 
     private PathArgument[] entries = new PathArgument[ALLOC_SIZE];
     private int used;
 
-    ModificationPath(final YangInstanceIdentifier root) {
+    @SuppressFBWarnings(value = "NP_STORE_INTO_NONNULL_FIELD",
+        justification = "https://github.com/spotbugs/spotbugs/issues/743")
+    ModificationPath(final YangInstanceIdentifier root, final boolean countValidated) {
         this.root = requireNonNull(root);
+        validated = countValidated ? new HashMap<>() : null;
     }
 
     void push(final PathArgument arg) {
@@ -44,6 +53,18 @@ final class ModificationPath implements Mutable {
         used--;
     }
 
+    void validated(final ModificationApplyOperation strategy) {
+        final var local = validated;
+        if (local != null) {
+            local.merge(strategy.getClass().getSimpleName(), 1, Integer::sum);
+        }
+    }
+
+    Map<String, Integer> validatedNodes() {
+        final var local = validated;
+        return local != null ? local : Map.of();
+    }
+
     YangInstanceIdentifier toInstanceIdentifier() {
         return YangInstanceIdentifier.builder(root).append(Arrays.asList(entries).subList(0, used)).build();
     }
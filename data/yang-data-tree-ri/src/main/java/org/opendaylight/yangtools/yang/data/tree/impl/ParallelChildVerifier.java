@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Fork-join verification of the children of a large written container. The children are split into ranges, each of
+ * which is verified by {@link AbstractNodeContainerModificationStrategy#verifyChild(DistinctNodeContainer,
+ * NormalizedNode)}. The failure of the first failing child in iteration order is rethrown as-is in the calling thread,
+ * rather than being wrapped by {@link java.util.concurrent.ForkJoinTask}, so that callers observe the same exception as
+ * with sequential verification, regardless of how the ranges were scheduled. Ranges starting past an already-failed
+ * child are not verified at all.
+ */
+@SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED",
+    justification = "Serializable only by virtue of ForkJoinTask, instances never outlive verify()")
+final class ParallelChildVerifier extends RecursiveAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    /**
+     * Minimum number of children verified by a single task.
+     */
+    private static final int MIN_GRANULARITY = 64;
+
+    /**
+     * A failed child and its index.
+     */
+    private record Failure(int index, RuntimeException cause) {
+        // Nothing else
+    }
+
+    private final transient AbstractNodeContainerModificationStrategy<?> strategy;
+    private final transient DistinctNodeContainer<?, ?> container;
+    private final transient NormalizedNode[] children;
+    private final transient AtomicReference<Failure> failure;
+    private final int granularity;
+    private final int from;
+    private final int to;
+
+    private ParallelChildVerifier(final AbstractNodeContainerModificationStrategy<?> strategy,
+            final DistinctNodeContainer<?, ?> container, final NormalizedNode[] children,
+            final AtomicReference<Failure> failure, final int granularity, final int from, final int to) {
+        this.strategy = requireNonNull(strategy);
+        this.container = requireNonNull(container);
+        this.children = requireNonNull(children);
+        this.failure = requireNonNull(failure);
+        this.granularity = granularity;
+        this.from = from;
+        this.to = to;
+    }
+
+    static void verify(final AbstractNodeContainerModificationStrategy<?> strategy,
+            final DistinctNodeContainer<?, ?> container) {
+        final var children = container.body().toArray(NormalizedNode[]::new);
+        final int granularity = Math.max(MIN_GRANULARITY,
+            children.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        final var failure = new AtomicReference<Failure>();
+
+        new ParallelChildVerifier(strategy, container, children, failure, granularity, 0, children.length).invoke();
+
+        final var local = failure.get();
+        if (local != null) {
+            throw local.cause;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:illegalCatch")
+    protected void compute() {
+        if (to - from > granularity) {
+            final int mid = (from + to) >>> 1;
+            invokeAll(new ParallelChildVerifier(strategy, container, children, failure, granularity, from, mid),
+                new ParallelChildVerifier(strategy, container, children, failure, granularity, mid, to));
+            return;
+        }
+
+        // Children past a failed one need not be verified, as their failures would not be reported
+        for (int i = from; i < to && !failedBefore(i); ++i) {
+            try {
+                strategy.verifyChild(container, children[i]);
+            } catch (RuntimeException e) {
+                // Verification reports failures through a variety of RuntimeExceptions, all of which need to reach
+                // the caller of verify() as-is
+                recordFailure(new Failure(i, e));
+                return;
+            }
+        }
+    }
+
+    private boolean failedBefore(final int index) {
+        final var local = failure.get();
+        return local != null && local.index < index;
+    }
+
+    private void recordFailure(final Failure newFailure) {
+        var local = failure.get();
+        while (local == null || local.index > newFailure.index) {
+            final var witness = failure.compareAndExchange(local, newFailure);
+            if (witness == local) {
+                return;
+            }
+            local = witness;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.OffHeapPolicy;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+
+/**
+ * A prefix trie of a number of {@link YangInstanceIdentifier}s, used to look them all up in a single walk of the tree.
+ * Each node of the trie remembers the positions of the paths which terminate at it, so that results can be reported
+ * in request order.
+ */
+final class PathTrie {
+    private static final int[] NO_TERMINALS = new int[0];
+
+    private Map<PathArgument, PathTrie> children = Map.of();
+    private int[] terminals = NO_TERMINALS;
+
+    private PathTrie() {
+        // Hidden on purpose
+    }
+
+    static @NonNull PathTrie of(final List<YangInstanceIdentifier> paths) {
+        final var root = new PathTrie();
+        for (int i = 0, size = paths.size(); i < size; ++i) {
+            final var args = paths.get(i).getPathArguments();
+            var current = root;
+            for (int j = 0, depth = args.size(); j < depth; ++j) {
+                current = current.ensureChild(args.get(j));
+            }
+            current.addTerminal(i);
+        }
+        return root;
+    }
+
+    @NonNull Map<PathArgument, PathTrie> children() {
+        return children;
+    }
+
+    /**
+     * Report a node as the result of all paths terminating at this trie node.
+     *
+     * @param node Node, {@code null} if not present
+     * @param results Results array
+     */
+    void report(final @Nullable NormalizedNode node, final @Nullable NormalizedNode[] results) {
+        for (int index : terminals) {
+            results[index] = OffHeapPolicy.unwrap(node);
+        }
+    }
+
+    boolean hasTerminals() {
+        return terminals.length != 0;
+    }
+
+    /**
+     * Look up this trie in a {@link NormalizedNode} tree. The tree is walked via
+     * {@link NormalizedNodes#childByArg(NormalizedNode, PathArgument)}, which does not allocate, unlike walking the
+     * corresponding {@link TreeNode}s.
+     *
+     * @param node Node corresponding to this trie node, {@code null} if not present
+     * @param results Results array, which is expected to be initialized to {@code null}s
+     */
+    void lookup(final @Nullable NormalizedNode node, final @Nullable NormalizedNode[] results) {
+        if (node != null) {
+            report(node, results);
+            for (var entry : children.entrySet()) {
+                entry.getValue().lookup(NormalizedNodes.childByArg(node, entry.getKey()), results);
+            }
+        }
+    }
+
+    private @NonNull PathTrie ensureChild(final PathArgument arg) {
+        var child = children.get(arg);
+        if (child == null) {
+            if (children.isEmpty()) {
+                children = new HashMap<>();
+            }
+            child = new PathTrie();
+            children.put(arg, child);
+        }
+        return child;
+    }
+
+    private void addTerminal(final int index) {
+        final int length = terminals.length;
+        terminals = Arrays.copyOf(terminals, length + 1);
+        terminals[length] = index;
+    }
+}
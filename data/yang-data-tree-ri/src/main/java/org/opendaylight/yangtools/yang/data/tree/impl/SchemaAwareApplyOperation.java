@@ -104,7 +104,11 @@ abstract sealed class SchemaAwareApplyOperation<T extends DataSchemaNode> extend
     @Override
     final void checkApplicable(final ModificationPath path, final NodeModification modification,
             final TreeNode currentMeta, final Version version) throws DataValidationFailedException {
-        switch (modification.getOperation()) {
+        final var operation = modification.getOperation();
+        if (operation != LogicalOperation.NONE) {
+            path.validated(this);
+        }
+        switch (operation) {
             case DELETE -> checkDeleteApplicable(modification, currentMeta);
             case TOUCH -> checkTouchApplicable(path, modification, currentMeta, version);
             case WRITE -> checkWriteApplicable(path, modification, currentMeta, version);
@@ -113,7 +117,7 @@ abstract sealed class SchemaAwareApplyOperation<T extends DataSchemaNode> extend
                 // No-op
             }
             default -> throw new UnsupportedOperationException(
-                "Suplied modification type " + modification.getOperation() + " is not supported.");
+                "Suplied modification type " + operation + " is not supported.");
         }
     }
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.node;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+
+/**
+ * A {@link ContainerNode} whose body is managed by an {@link OffHeapSubtree}.
+ */
+final class OffHeapContainerNode extends org.opendaylight.yangtools.yang.data.api.schema.AbstractContainerNode {
+    private final @NonNull NodeIdentifier name;
+    private final @NonNull OffHeapSubtree subtree;
+    private final int size;
+    private final int valueHashCode;
+
+    OffHeapContainerNode(final ContainerNode node, final OffHeapSubtree subtree) {
+        name = node.name();
+        this.subtree = requireNonNull(subtree);
+        size = node.size();
+        valueHashCode = node.hashCode() - 31 * name.hashCode();
+    }
+
+    @Override
+    public NodeIdentifier name() {
+        return name;
+    }
+
+    @Override
+    public DataContainerChild childByArg(final NodeIdentifier child) {
+        return delegate().childByArg(child);
+    }
+
+    @Override
+    public Collection<DataContainerChild> body() {
+        return delegate().body();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected int valueHashCode() {
+        return valueHashCode;
+    }
+
+    @Override
+    protected boolean valueEquals(final ContainerNode other) {
+        return delegate().equals(other);
+    }
+
+    @NonNull OffHeapSubtree subtree() {
+        return subtree;
+    }
+
+    @NonNull ContainerNode delegate() {
+        return (ContainerNode) subtree.get();
+    }
+}
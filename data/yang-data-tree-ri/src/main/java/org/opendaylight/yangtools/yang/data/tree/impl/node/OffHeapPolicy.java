@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.node;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.SubtreeCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Policy deciding which subtrees of a data tree are moved off heap. Written {@link ContainerNode}s and
+ * {@link MapEntryNode}s are wrapped via {@link #wrap(NormalizedNode, SubtreeCodec)} when the modification is applied
+ * and they are tracked via {@link #track(NormalizedNode)} once it is committed, so that subtrees of rejected or
+ * abandoned modifications are never considered. Every 1024 commits (tunable via
+ * {@code org.opendaylight.yangtools.yang.data.tree.offheap.sweep-interval}) a background sweep moves off heap all
+ * tracked subtrees which have not been accessed since the previous sweep, unless their encoded size is below 4096
+ * bytes (tunable via {@code org.opendaylight.yangtools.yang.data.tree.offheap.minimum-size}). An access to a spilled
+ * subtree inflates it back onto heap, where it remains until it goes cold again.
+ *
+ * <p>
+ * Tracking granularity follows writes: a container or map entry written as a whole is tracked as a whole, and each
+ * entry of a map written as a whole is tracked separately. A write of the tree root is tracked one level down, i.e.
+ * each of the root's children is tracked as if it were written on its own, so that accessing one part of the tree does
+ * not inflate all of it. The root is identified by its position, see {@link #wrapRoot(TreeNode)}, not by its name.
+ * Subtrees reached through a modification of their parent are rebuilt on heap and are not tracked.
+ *
+ * <p>
+ * Off-heap backed nodes are an implementation detail of the data tree. Nodes handed out by reads and candidates are
+ * passed through {@link #unwrap(NormalizedNode)}, which replaces them with their on-heap form. Descendants of such
+ * nodes are not replaced, as that would require copying the entire subtree.
+ *
+ * <p>
+ * Each data tree with off-heap storage enabled has its own policy, so that commit counts and tracked subtrees of one
+ * tree do not influence sweeps of another. Sweeps of all policies are executed on a single dedicated thread, so that
+ * they do not compete with other work, such as parallel verification, for the common pool.
+ */
+public final class OffHeapPolicy {
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapPolicy.class);
+    private static final String PROP_PREFIX = "org.opendaylight.yangtools.yang.data.tree.offheap.";
+    private static final String MINIMUM_SIZE_PROP = PROP_PREFIX + "minimum-size";
+    private static final String SWEEP_INTERVAL_PROP = PROP_PREFIX + "sweep-interval";
+    private static final int DEFAULT_MINIMUM_SIZE = 4096;
+    private static final int DEFAULT_SWEEP_INTERVAL = 1024;
+
+    private static final class SweepExecutorHolder {
+        // Lazily started, as most deployments do not enable off-heap storage at all
+        static final Executor EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("offheap-sweeper").setDaemon(true).build());
+    }
+
+    private final ConcurrentLinkedQueue<WeakReference<OffHeapSubtree>> tracked = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong commits = new AtomicLong();
+    private final @NonNull Executor executor;
+    private final int minimumSize;
+    private final int sweepInterval;
+
+    /**
+     * Create a policy for a single data tree, configured from system properties.
+     */
+    public OffHeapPolicy() {
+        this(Integer.getInteger(MINIMUM_SIZE_PROP, DEFAULT_MINIMUM_SIZE),
+            Integer.getInteger(SWEEP_INTERVAL_PROP, DEFAULT_SWEEP_INTERVAL),
+            command -> SweepExecutorHolder.EXECUTOR.execute(command));
+    }
+
+    OffHeapPolicy(final int minimumSize, final int sweepInterval, final Executor executor) {
+        this.executor = requireNonNull(executor);
+        this.minimumSize = minimumSize;
+        this.sweepInterval = Math.max(sweepInterval, 1);
+        LOG.debug("Off-heap minimum size {} bytes, sweep every {} commits", minimumSize, this.sweepInterval);
+    }
+
+    /**
+     * Wrap a written node, if it is eligible for being moved off heap. The returned node is not tracked until it is
+     * passed to {@link #track(NormalizedNode)}.
+     *
+     * @param data Written node
+     * @param codec Codec to use, {@code null} if off-heap storage is disabled
+     * @return A node equal to {@code data}, which should be stored in its stead
+     */
+    public static @NonNull NormalizedNode wrap(final @NonNull NormalizedNode data,
+            final @Nullable SubtreeCodec codec) {
+        return codec == null ? data : wrapNode(data, codec);
+    }
+
+    /**
+     * Adjust the root of a data tree produced by applying a modification. If the root has been written as a whole, its
+     * children are wrapped instead of the root itself.
+     *
+     * @param root Root of a data tree
+     * @return A root equal to {@code root}, which should be used in its stead
+     */
+    public static @NonNull TreeNode wrapRoot(final @NonNull TreeNode root) {
+        final var data = root.getData();
+        if (data instanceof OffHeapContainerNode container) {
+            return TreeNode.of(wrapChildren(container.delegate(), container.subtree().codec()), root.getVersion());
+        } else if (data instanceof OffHeapMapEntryNode entry) {
+            return TreeNode.of(wrapChildren(entry.delegate(), entry.subtree().codec()), root.getVersion());
+        } else {
+            return root;
+        }
+    }
+
+    /**
+     * Return the on-heap form of a node, inflating it if needed. Nodes which are not backed by off-heap storage are
+     * returned unchanged.
+     *
+     * @param data Node to unwrap, may be {@code null}
+     * @return On-heap form of the node, {@code null} if {@code data} was {@code null}
+     */
+    public static @Nullable NormalizedNode unwrap(final @Nullable NormalizedNode data) {
+        if (data instanceof OffHeapContainerNode container) {
+            return container.delegate();
+        } else if (data instanceof OffHeapMapEntryNode entry) {
+            return entry.delegate();
+        } else {
+            return data;
+        }
+    }
+
+    /**
+     * Start tracking a committed node, as written into the data tree. Wrapped nodes are tracked, as are wrapped entries
+     * of a map. Any other node is assumed to be the root of the tree and its wrapped children are tracked. Nodes which
+     * are already tracked are ignored.
+     *
+     * @param data Committed node
+     */
+    public void track(final @NonNull NormalizedNode data) {
+        if (!register(data)) {
+            if (data instanceof MapNode map) {
+                registerEntries(map);
+            } else if (data instanceof DataContainerNode container) {
+                for (var child : container.body()) {
+                    if (!register(child) && child instanceof MapNode map) {
+                        registerEntries(map);
+                    }
+                }
+            }
+        }
+    }
+
+    private static @NonNull NormalizedNode wrapNode(final @NonNull NormalizedNode data,
+            final @NonNull SubtreeCodec codec) {
+        if (data instanceof ContainerNode container && !(data instanceof OffHeapContainerNode)) {
+            return new OffHeapContainerNode(container, new OffHeapSubtree(codec, container));
+        }
+        if (data instanceof MapEntryNode entry && !(data instanceof OffHeapMapEntryNode)) {
+            return new OffHeapMapEntryNode(entry, new OffHeapSubtree(codec, entry));
+        }
+        if (data instanceof MapNode map && !allWrapped(map)) {
+            // Note: only rebuild the map if it needs it, so that a map carrying over already-wrapped entries is not
+            //       copied again
+            if (map instanceof SystemMapNode) {
+                final var builder = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(map.name());
+                for (var entry : map.body()) {
+                    builder.withChild((MapEntryNode) wrapNode(entry, codec));
+                }
+                return builder.build();
+            }
+            if (map instanceof UserMapNode) {
+                final var builder = ImmutableNodes.newUserMapBuilder().withNodeIdentifier(map.name());
+                for (var entry : map.body()) {
+                    builder.withChild((MapEntryNode) wrapNode(entry, codec));
+                }
+                return builder.build();
+            }
+        }
+        return data;
+    }
+
+    private static boolean allWrapped(final MapNode map) {
+        for (var entry : map.body()) {
+            if (!(entry instanceof OffHeapMapEntryNode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @NonNull NormalizedNode wrapChildren(final @NonNull NormalizedNode data,
+            final @NonNull SubtreeCodec codec) {
+        if (data instanceof ContainerNode container) {
+            final var builder = ImmutableNodes.newContainerBuilder().withNodeIdentifier(container.name());
+            for (var child : container.body()) {
+                builder.withChild(wrapChild(child, codec));
+            }
+            return builder.build();
+        }
+        if (data instanceof MapEntryNode entry) {
+            final var builder = ImmutableNodes.newMapEntryBuilder().withNodeIdentifier(entry.name());
+            for (var child : entry.body()) {
+                builder.withChild(wrapChild(child, codec));
+            }
+            return builder.build();
+        }
+        return wrapNode(data, codec);
+    }
+
+    private static @NonNull DataContainerChild wrapChild(final DataContainerChild child, final SubtreeCodec codec) {
+        return child instanceof ContainerNode || child instanceof MapNode
+            ? (DataContainerChild) wrapNode(child, codec) : child;
+    }
+
+    /**
+     * Note a commit to the data tree, possibly triggering a sweep.
+     */
+    public void committed() {
+        if (commits.incrementAndGet() % sweepInterval == 0 && sweeping.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    sweep();
+                } finally {
+                    sweeping.set(false);
+                }
+            });
+        }
+    }
+
+    long sweep() {
+        long total = 0;
+        long spilled = 0;
+        int count = 0;
+        final var it = tracked.iterator();
+        while (it.hasNext()) {
+            final var subtree = it.next().get();
+            if (subtree == null) {
+                it.remove();
+                continue;
+            }
+
+            spilled += subtree.sweep(minimumSize);
+            if (subtree.isOffHeap()) {
+                count++;
+            }
+            total++;
+        }
+
+        LOG.debug("Swept {} subtrees, {} are off heap, {} bytes newly moved off heap", total, count, spilled);
+        return spilled;
+    }
+
+    private boolean register(final NormalizedNode data) {
+        final OffHeapSubtree subtree;
+        if (data instanceof OffHeapContainerNode container) {
+            subtree = container.subtree();
+        } else if (data instanceof OffHeapMapEntryNode entry) {
+            subtree = entry.subtree();
+        } else {
+            return false;
+        }
+        if (subtree.startTracking()) {
+            tracked.add(new WeakReference<>(subtree));
+        }
+        return true;
+    }
+
+    private void registerEntries(final MapNode map) {
+        for (var entry : map.body()) {
+            register(entry);
+        }
+    }
+}
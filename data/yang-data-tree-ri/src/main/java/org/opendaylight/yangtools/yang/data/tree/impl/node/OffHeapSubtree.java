@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.node;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.tree.api.SubtreeCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Storage of a single {@link DataContainerNode} subtree, which is either held on heap or encoded in a direct
+ * {@link ByteBuffer}. Transitions between the two states are driven by {@link OffHeapPolicy} and by accesses, which
+ * inflate the subtree back onto heap. The subtree is only ever held in one of the forms, hence the encoded form is
+ * released on inflation and a subtree which goes cold again needs to be encoded again.
+ */
+final class OffHeapSubtree {
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapSubtree.class);
+
+    private final @NonNull SubtreeCodec codec;
+
+    private volatile DataContainerNode onHeap;
+    // Written only when not already set, so that hot reads do not keep invalidating the cache line
+    private volatile boolean accessed;
+    // Guarded by this
+    private ByteBuffer offHeap;
+    private boolean pinned;
+    private boolean tracked;
+
+    OffHeapSubtree(final SubtreeCodec codec, final DataContainerNode node) {
+        this.codec = requireNonNull(codec);
+        onHeap = requireNonNull(node);
+    }
+
+    @NonNull SubtreeCodec codec() {
+        return codec;
+    }
+
+    @NonNull DataContainerNode get() {
+        if (!accessed) {
+            accessed = true;
+        }
+        final var local = onHeap;
+        return local != null ? local : inflate();
+    }
+
+    private synchronized @NonNull DataContainerNode inflate() {
+        var local = onHeap;
+        if (local == null) {
+            final var bytes = new byte[offHeap.capacity()];
+            offHeap.get(0, bytes);
+            try {
+                local = (DataContainerNode) codec.decode(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to inflate subtree", e);
+            }
+            onHeap = local;
+            offHeap = null;
+        }
+        return local;
+    }
+
+    /**
+     * Mark this subtree as tracked by an {@link OffHeapPolicy}.
+     *
+     * @return {@code true} if this subtree was not tracked before
+     */
+    synchronized boolean startTracking() {
+        if (tracked) {
+            return false;
+        }
+        tracked = true;
+        return true;
+    }
+
+    /**
+     * Consider this subtree for spilling. A subtree which has been accessed since the last invocation of this method
+     * is kept on heap.
+     *
+     * @param minimumSize Minimum encoded size for a subtree to be spilled
+     * @return Number of bytes moved off heap
+     */
+    synchronized int sweep(final int minimumSize) {
+        final boolean recent = accessed;
+        accessed = false;
+
+        final var local = onHeap;
+        if (recent || local == null || pinned) {
+            return 0;
+        }
+
+        final byte[] bytes;
+        try {
+            bytes = codec.encode(local);
+        } catch (IOException e) {
+            LOG.warn("Failed to encode subtree {}, keeping it on heap", local.name(), e);
+            pinned = true;
+            return 0;
+        }
+        if (bytes.length < minimumSize) {
+            // Not worth the trouble, and the subtree is immutable, so it will not become worth it later
+            pinned = true;
+            return 0;
+        }
+
+        offHeap = ByteBuffer.allocateDirect(bytes.length).put(0, bytes);
+        onHeap = null;
+        return offHeap.capacity();
+    }
+
+    boolean isOffHeap() {
+        return onHeap == null;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.stats;
+
+import com.google.common.base.MoreObjects;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation;
+
+/**
+ * A {@link DataTreeInstrumentation} aggregating measurements into latency histograms and counters. An instance is
+ * installed via {@link DataTreeConfiguration.Builder#setInstrumentation(DataTreeInstrumentation)} and its metrics are
+ * available via {@link #getMXBean()}. It is up to the caller to register the MXBean with an MBeanServer.
+ */
+public final class DataTreeStatistics implements DataTreeInstrumentation {
+    private final EnumMap<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    private final ConcurrentHashMap<String, LongAdder> validatedNodes = new ConcurrentHashMap<>();
+    private final LongAdder modifications = new LongAdder();
+    private final LongAdder modifiedNodes = new LongAdder();
+    private final LongAdder writtenValues = new LongAdder();
+    private final @NonNull DataTreeStatisticsMXBean mxBean = new DataTreeStatisticsMXBeanImpl(this);
+
+    public DataTreeStatistics() {
+        for (var phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Return the MXBean reporting metrics of this instance.
+     *
+     * @return An MXBean
+     */
+    public @NonNull DataTreeStatisticsMXBean getMXBean() {
+        return mxBean;
+    }
+
+    @Override
+    public void phaseCompleted(final Phase phase, final long elapsedNanos) {
+        phases.get(phase).record(elapsedNanos);
+    }
+
+    @Override
+    public void modificationReady(final int modifiedNodeCount, final int writtenValueCount) {
+        modifications.increment();
+        modifiedNodes.add(modifiedNodeCount);
+        writtenValues.add(writtenValueCount);
+    }
+
+    @Override
+    public void modificationValidated(final Map<String, Integer> validatedNodeCounts) {
+        for (var entry : validatedNodeCounts.entrySet()) {
+            validatedNodes.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(entry.getValue());
+        }
+    }
+
+    @NonNull LatencyHistogram phase(final String phase) {
+        return phases.get(Phase.valueOf(phase));
+    }
+
+    long modificationCount() {
+        return modifications.sum();
+    }
+
+    long modifiedNodeCount() {
+        return modifiedNodes.sum();
+    }
+
+    long writtenValueCount() {
+        return writtenValues.sum();
+    }
+
+    @NonNull Map<String, Long> validatedNodeCounts() {
+        final var ret = new TreeMap<String, Long>();
+        validatedNodes.forEach((strategy, count) -> ret.put(strategy, count.sum()));
+        return ret;
+    }
+
+    void reset() {
+        phases.values().forEach(LatencyHistogram::reset);
+        validatedNodes.clear();
+        modifications.reset();
+        modifiedNodes.reset();
+        writtenValues.reset();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("modifications", modificationCount())
+            .add("modifiedNodes", modifiedNodeCount())
+            .toString();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.stats;
+
+import java.util.Map;
+import javax.management.MXBean;
+
+/**
+ * MXBean interface for {@link DataTreeStatistics} metrics. Phases are identified by the names of
+ * {@link org.opendaylight.yangtools.yang.data.tree.api.DataTreeInstrumentation.Phase} constants.
+ */
+@MXBean
+public interface DataTreeStatisticsMXBean {
+    /**
+     * Returns the number of times a phase has completed.
+     */
+    long getPhaseCount(String phase);
+
+    /**
+     * Returns the mean time spent in a phase, in nanoseconds.
+     */
+    long getPhaseMeanNanos(String phase);
+
+    /**
+     * Returns the maximum time spent in a phase, in nanoseconds.
+     */
+    long getPhaseMaxNanos(String phase);
+
+    /**
+     * Returns the time within which the specified percentage of phase invocations have completed, in nanoseconds.
+     * The result is accurate to within 1/16 of its value.
+     */
+    long getPhasePercentileNanos(String phase, double percentile);
+
+    /**
+     * Returns the number of modifications which have been sealed.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the total number of nodes touched by sealed modifications.
+     */
+    long getModifiedNodeCount();
+
+    /**
+     * Returns the total number of values written or merged by sealed modifications.
+     */
+    long getWrittenValueCount();
+
+    /**
+     * Returns the total number of validated nodes, keyed by the type of the strategy which validated them.
+     */
+    Map<String, Long> getValidatedNodeCounts();
+
+    /**
+     * Resets all metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+final class DataTreeStatisticsMXBeanImpl implements DataTreeStatisticsMXBean {
+    private final DataTreeStatistics statistics;
+
+    DataTreeStatisticsMXBeanImpl(final DataTreeStatistics statistics) {
+        this.statistics = requireNonNull(statistics);
+    }
+
+    @Override
+    public long getPhaseCount(final String phase) {
+        return statistics.phase(phase).count();
+    }
+
+    @Override
+    public long getPhaseMeanNanos(final String phase) {
+        return statistics.phase(phase).mean();
+    }
+
+    @Override
+    public long getPhaseMaxNanos(final String phase) {
+        return statistics.phase(phase).max();
+    }
+
+    @Override
+    public long getPhasePercentileNanos(final String phase, final double percentile) {
+        return statistics.phase(phase).percentile(percentile);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return statistics.modificationCount();
+    }
+
+    @Override
+    public long getModifiedNodeCount() {
+        return statistics.modifiedNodeCount();
+    }
+
+    @Override
+    public long getWrittenValueCount() {
+        return statistics.writtenValueCount();
+    }
+
+    @Override
+    public Map<String, Long> getValidatedNodeCounts() {
+        return statistics.validatedNodeCounts();
+    }
+
+    @Override
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+
+class ChangeFeedBufferTest {
+    private final DataTreeCandidate first = mock(DataTreeCandidate.class);
+    private final DataTreeCandidate second = mock(DataTreeCandidate.class);
+    private final DataTreeCandidate third = mock(DataTreeCandidate.class);
+
+    @Test
+    void testOutOfOrder() {
+        final var buffer = new ChangeFeedBuffer(4);
+        buffer.append(2, second);
+        assertEquals(List.of(), buffer.read(0, 10));
+
+        buffer.append(1, first);
+        assertEquals(List.of(first, second), buffer.read(0, 10));
+        assertEquals(List.of(second), buffer.read(1, 10));
+    }
+
+    @Test
+    void testWrapAround() {
+        final var buffer = new ChangeFeedBuffer(2);
+        buffer.append(1, first);
+        buffer.append(2, second);
+        buffer.append(3, third);
+
+        assertNull(buffer.read(0, 10));
+        assertEquals(List.of(second, third), buffer.read(1, 10));
+        assertEquals(List.of(), buffer.read(3, 10));
+    }
+
+    @Test
+    void testOvertaken() {
+        final var buffer = new ChangeFeedBuffer(2);
+        buffer.append(2, second);
+        assertEquals(List.of(), buffer.read(0, 10));
+
+        // Would reuse the slot of the first sequence number, which is given up instead of stalling publication
+        buffer.append(3, third);
+        assertNull(buffer.read(0, 10));
+        assertEquals(List.of(second, third), buffer.read(1, 10));
+
+        // The late append is dropped and does not overwrite anything
+        buffer.append(1, first);
+        assertNull(buffer.read(0, 10));
+        assertEquals(List.of(second, third), buffer.read(1, 10));
+    }
+}
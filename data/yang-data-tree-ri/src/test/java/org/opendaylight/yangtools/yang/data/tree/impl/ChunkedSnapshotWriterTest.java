@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.FormattingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.ChunkedSnapshotWriter;
+
+class ChunkedSnapshotWriterTest extends AbstractTestModelTest {
+    private DataTreeSnapshot snapshot;
+
+    @BeforeEach
+    void beforeEach() throws DataValidationFailedException {
+        final var outerList = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+        for (int i = 0; i < 10; ++i) {
+            final var id = Uint16.valueOf(i);
+            outerList.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, id))
+                .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, id))
+                .build());
+        }
+
+        final var tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            SCHEMA_CONTEXT);
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(outerList.build())
+            .build());
+        mod.write(TestModel.NON_PRESENCE_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.NON_PRESENCE_QNAME))
+            .withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "foo"))
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+        snapshot = tree.takeSnapshot();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 7, 100 })
+    void testChunks(final int maxNodes) throws IOException {
+        final var writer = new FormattingNormalizedNodeStreamWriter();
+        final var chunked = ChunkedSnapshotWriter.start(snapshot, YangInstanceIdentifier.of());
+        assertNotNull(chunked);
+        while (chunked.writeChunk(writer, maxNodes) != null) {
+            // Keep going
+        }
+        writer.close();
+
+        assertEquals(expected(), writer.result());
+        assertThrows(IllegalStateException.class, () -> chunked.writeChunk(writer, maxNodes));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 7, 100 })
+    void testResume(final int maxNodes) throws IOException {
+        final var writer = new FormattingNormalizedNodeStreamWriter();
+        var continuation = ChunkedSnapshotWriter.start(snapshot, YangInstanceIdentifier.of())
+            .writeChunk(writer, maxNodes);
+        while (continuation != null) {
+            continuation = ChunkedSnapshotWriter.resume(snapshot, continuation).writeChunk(writer, maxNodes);
+        }
+        writer.close();
+
+        assertEquals(expected(), writer.result());
+    }
+
+    @Test
+    void testAbsent() {
+        assertNull(ChunkedSnapshotWriter.start(snapshot, TestModel.INNER_CONTAINER_PATH));
+    }
+
+    private String expected() throws IOException {
+        final var writer = new FormattingNormalizedNodeStreamWriter();
+        try (var nnWriter = NormalizedNodeWriter.forStreamWriter(writer, false)) {
+            nnWriter.write(snapshot.readNode(YangInstanceIdentifier.of()).orElseThrow());
+        }
+        return writer.result();
+    }
+}
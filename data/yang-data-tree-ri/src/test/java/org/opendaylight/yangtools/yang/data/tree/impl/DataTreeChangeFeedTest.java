@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeChangeFeed;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+
+class DataTreeChangeFeedTest extends AbstractTestModelTest {
+    @Test
+    void testPoll() throws DataValidationFailedException {
+        final var tree = createTree(2);
+        final var feed = assertInstanceOf(DataTreeChangeFeed.class, tree);
+        assertEquals(0, feed.lastSequence());
+        assertTrue(feed.poll(0, 10).isEmpty());
+
+        writeName(tree, "one");
+        writeName(tree, "two");
+        writeName(tree, "three");
+        assertEquals(3, feed.lastSequence());
+
+        final var batch = feed.poll(1, 10);
+        assertFalse(batch.resync());
+        assertEquals(3, batch.sequence());
+        assertEquals(2, batch.candidates().size());
+        assertEquals(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "three"), batch.candidates().get(1).getRootNode()
+            .getModifiedChild(new NodeIdentifier(TestModel.NON_PRESENCE_QNAME))
+            .getModifiedChild(new NodeIdentifier(TestModel.NAME_QNAME))
+            .dataAfter());
+
+        final var limited = feed.poll(1, 1);
+        assertEquals(2, limited.sequence());
+        assertEquals(batch.candidates().subList(0, 1), limited.candidates());
+
+        assertTrue(feed.poll(3, 10).isEmpty());
+        assertEquals(3, feed.poll(3, 10).sequence());
+    }
+
+    @Test
+    void testResync() throws DataValidationFailedException {
+        final var tree = createTree(2);
+        final var feed = (DataTreeChangeFeed) tree;
+        writeName(tree, "one");
+        writeName(tree, "two");
+        writeName(tree, "three");
+
+        final var batch = feed.poll(0, 10);
+        assertTrue(batch.resync());
+        assertEquals(3, batch.sequence());
+        final var candidate = batch.candidates().get(0);
+        assertEquals(YangInstanceIdentifier.of(), candidate.getRootPath());
+        assertEquals(ModificationType.WRITE, candidate.getRootNode().modificationType());
+        assertEquals(tree.takeSnapshot().readNode(YangInstanceIdentifier.of()),
+            candidate.getRootNode().findDataAfter());
+    }
+
+    @Test
+    void testDisabled() throws DataValidationFailedException {
+        final var tree = createTree(0);
+        final var feed = (DataTreeChangeFeed) tree;
+        writeName(tree, "one");
+        assertEquals(1, feed.lastSequence());
+        assertTrue(feed.poll(1, 10).isEmpty());
+        assertTrue(feed.poll(0, 10).resync());
+        assertThrows(IllegalArgumentException.class, () -> feed.poll(2, 10));
+        assertThrows(IllegalArgumentException.class, () -> feed.poll(0, 0));
+    }
+
+    private static DataTree createTree(final int capacity) {
+        return new InMemoryDataTreeFactory().create(DataTreeConfiguration.builder(TreeType.OPERATIONAL)
+            .setChangeFeedCapacity(capacity)
+            .build(), SCHEMA_CONTEXT);
+    }
+
+    private static void writeName(final DataTree tree, final String name) throws DataValidationFailedException {
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.NON_PRESENCE_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.NON_PRESENCE_QNAME))
+            .withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, name))
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+}
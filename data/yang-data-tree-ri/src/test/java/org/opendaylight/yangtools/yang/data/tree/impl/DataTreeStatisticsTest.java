@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.impl.stats.DataTreeStatistics;
+
+class DataTreeStatisticsTest extends AbstractTestModelTest {
+    @Test
+    void testCommit() throws DataValidationFailedException {
+        final var statistics = new DataTreeStatistics();
+        final var tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.builder(TreeType.OPERATIONAL)
+            .setInstrumentation(statistics)
+            .build(), SCHEMA_CONTEXT);
+
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.NON_PRESENCE_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.NON_PRESENCE_QNAME))
+            .withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "foo"))
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+
+        final var mxBean = statistics.getMXBean();
+        for (var phase : new String[] { "READY", "VALIDATE", "PREPARE", "COMMIT" }) {
+            assertEquals(1, mxBean.getPhaseCount(phase));
+            final long max = mxBean.getPhaseMaxNanos(phase);
+            assertEquals(max, mxBean.getPhaseMeanNanos(phase));
+            assertEquals(max, mxBean.getPhasePercentileNanos(phase, 50));
+        }
+        assertThrows(IllegalArgumentException.class, () -> mxBean.getPhaseCount("FOO"));
+
+        // Root and the written container
+        assertEquals(1, mxBean.getModificationCount());
+        assertEquals(2, mxBean.getModifiedNodeCount());
+        assertEquals(1, mxBean.getWrittenValueCount());
+        assertEquals(2, mxBean.getValidatedNodeCounts().values().stream().mapToLong(Long::longValue).sum());
+
+        mxBean.reset();
+        assertEquals(0, mxBean.getPhaseCount("COMMIT"));
+        assertEquals(0, mxBean.getModificationCount());
+        assertTrue(mxBean.getValidatedNodeCounts().isEmpty());
+    }
+}
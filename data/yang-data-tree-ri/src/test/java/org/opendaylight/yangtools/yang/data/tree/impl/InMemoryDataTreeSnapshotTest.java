@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
+
+class InMemoryDataTreeSnapshotTest extends AbstractTestModelTest {
+    private static final YangInstanceIdentifier OUTER_LIST_1_PATH = YangInstanceIdentifier.builder(
+        TestModel.OUTER_LIST_PATH)
+            .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, (short) 1)
+            .build();
+    private static final YangInstanceIdentifier OUTER_LIST_3_PATH = YangInstanceIdentifier.builder(
+        TestModel.OUTER_LIST_PATH)
+            .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, (short) 3)
+            .build();
+
+    private InMemoryDataTreeSnapshot snapshot;
+
+    @BeforeEach
+    void beforeEach() throws ExcludedDataSchemaNodeException {
+        snapshot = new InMemoryDataTreeSnapshot(SCHEMA_CONTEXT,
+            TreeNode.of(StoreTreeNodesTest.createDocumentOne(), Version.initial()),
+            RootApplyStrategy.from(SchemaAwareApplyOperation.from(SCHEMA_CONTEXT,
+                DataTreeConfiguration.DEFAULT_OPERATIONAL)));
+    }
+
+    @Test
+    void testNodeByPath() {
+        final var outerList = snapshot.nodeByPath(OUTER_LIST_1_PATH);
+        assertEquals(Optional.of(outerList), snapshot.readNode(OUTER_LIST_1_PATH));
+        assertSame(snapshot.getRootNode().getData(), snapshot.nodeByPath(YangInstanceIdentifier.of()));
+
+        // Stacked identifier walks the same cached arguments
+        final var idPath = OUTER_LIST_1_PATH.node(TestModel.ID_QNAME);
+        assertEquals(snapshot.readNode(idPath).orElseThrow(), snapshot.nodeByPath(idPath));
+    }
+
+    @Test
+    void testNodeByPathAbsent() {
+        assertNull(snapshot.nodeByPath(OUTER_LIST_3_PATH));
+        assertNull(snapshot.nodeByPath(OUTER_LIST_3_PATH.node(TestModel.ID_QNAME)));
+        assertEquals(Optional.empty(), snapshot.readNode(OUTER_LIST_3_PATH));
+    }
+
+    @Test
+    void testNodesByPath() {
+        final List<NormalizedNode> expected = Arrays.asList(snapshot.nodeByPath(OUTER_LIST_1_PATH), null,
+            snapshot.nodeByPath(TestModel.TEST_PATH));
+        assertEquals(expected, snapshot.nodesByPath(List.of(OUTER_LIST_1_PATH, OUTER_LIST_3_PATH,
+            TestModel.TEST_PATH)));
+    }
+
+    @Test
+    void testNodesByPathSharedPrefixes() {
+        final var idPath = OUTER_LIST_1_PATH.node(TestModel.ID_QNAME);
+        final var paths = List.of(idPath, TestModel.OUTER_LIST_PATH, OUTER_LIST_3_PATH, idPath,
+            YangInstanceIdentifier.of(), OUTER_LIST_1_PATH);
+        assertEquals(paths.stream().map(snapshot::nodeByPath).toList(), snapshot.nodesByPath(paths));
+    }
+
+    @Test
+    void testModificationNodesByPath() {
+        final var mod = snapshot.newModification();
+        mod.delete(OUTER_LIST_1_PATH);
+        mod.write(OUTER_LIST_3_PATH, ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME,
+                (short) 3))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, (short) 3))
+            .build());
+
+        final var paths = List.of(OUTER_LIST_1_PATH, OUTER_LIST_1_PATH.node(TestModel.ID_QNAME), OUTER_LIST_3_PATH,
+            OUTER_LIST_3_PATH.node(TestModel.ID_QNAME), TestModel.OUTER_LIST_PATH, YangInstanceIdentifier.of(),
+            TestModel.INNER_CONTAINER_PATH);
+        final var results = mod.nodesByPath(paths);
+        assertEquals(paths.stream().map(path -> mod.readNode(path).orElse(null)).toList(), results);
+        assertNull(results.get(0));
+        assertEquals(ImmutableNodes.leafNode(TestModel.ID_QNAME, (short) 3), results.get(3));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.SchemaValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+
+class ParallelVerificationTest extends AbstractTestModelTest {
+    private static final QName BOGUS_QNAME = QName.create(TestModel.TEST_QNAME, "bogus");
+    private static final int SIZE = 1000;
+
+    private final DataTree dataTree = new InMemoryDataTreeFactory().create(
+        DataTreeConfiguration.builder(TreeType.CONFIGURATION).setParallelVerificationThreshold(100).build(),
+        SCHEMA_CONTEXT);
+
+    @Test
+    void testValidWrite() throws DataValidationFailedException {
+        final var data = testContainer();
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, data);
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+
+        assertEquals(data, dataTree.takeSnapshot().nodeByPath(TestModel.TEST_PATH));
+    }
+
+    @Test
+    void testInvalidChild() {
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, testContainer(SIZE - 3));
+
+        final var ex = assertThrows(SchemaValidationFailedException.class, mod::ready);
+        assertEquals("Node " + new NodeIdentifier(BOGUS_QNAME) + " is not a valid child of " + entryId(SIZE - 3)
+            + " according to the schema.", ex.getMessage());
+    }
+
+    @Test
+    void testFirstInvalidChildReported() {
+        final var data = testContainer(SIZE - 3, 500, 10);
+        final var outerList = (MapNode) data.getChildByArg(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+        final var first = outerList.body().stream()
+            .filter(entry -> entry.childByArg(new NodeIdentifier(BOGUS_QNAME)) != null)
+            .findFirst().orElseThrow();
+
+        // Failures are reported in iteration order, regardless of scheduling
+        for (int i = 0; i < 10; ++i) {
+            final var mod = dataTree.takeSnapshot().newModification();
+            mod.write(TestModel.TEST_PATH, data);
+
+            final var ex = assertThrows(SchemaValidationFailedException.class, mod::ready);
+            assertEquals("Node " + new NodeIdentifier(BOGUS_QNAME) + " is not a valid child of " + first.name()
+                + " according to the schema.", ex.getMessage());
+        }
+    }
+
+    private static ContainerNode testContainer(final int... invalid) {
+        final var outerList = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+        for (int i = 0; i < SIZE; ++i) {
+            final int id = i;
+            outerList.withChild(entry(i, IntStream.of(invalid).anyMatch(value -> value == id)));
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(outerList.build())
+            .build();
+    }
+
+    private static MapEntryNode entry(final int id, final boolean invalid) {
+        final var builder = ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryId(id))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, Uint16.valueOf(id)));
+        if (invalid) {
+            builder.withChild(ImmutableNodes.leafNode(BOGUS_QNAME, "bogus"));
+        }
+        return builder.build();
+    }
+
+    private static NodeIdentifierWithPredicates entryId(final int id) {
+        return NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.ReadProjection;
+
+class ReadProjectionTest extends AbstractTestModelTest {
+    private static final QName ONE_QNAME = QName.create(TestModel.TEST_QNAME, "one");
+    private static final Uint16 ID = Uint16.ONE;
+    private static final NodeIdentifierWithPredicates ENTRY_ID = NodeIdentifierWithPredicates.of(
+        TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, ID);
+
+    private final NormalizedNodeStreamWriter writer = mock(NormalizedNodeStreamWriter.class);
+
+    private DataTreeSnapshot snapshot;
+
+    @BeforeEach
+    void beforeEach() throws DataValidationFailedException {
+        final var tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            SCHEMA_CONTEXT);
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(ImmutableNodes.newSystemMapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME))
+                .withChild(ImmutableNodes.newMapEntryBuilder()
+                    .withNodeIdentifier(ENTRY_ID)
+                    .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, ID))
+                    .withChild(ImmutableNodes.newChoiceBuilder()
+                        .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME))
+                        .withChild(ImmutableNodes.leafNode(ONE_QNAME, "one"))
+                        .build())
+                    .withChild(ImmutableNodes.newSystemMapBuilder()
+                        .withNodeIdentifier(new NodeIdentifier(TestModel.INNER_LIST_QNAME))
+                        .withChild(ImmutableNodes.newMapEntryBuilder()
+                            .withNodeIdentifier(NodeIdentifierWithPredicates.of(TestModel.INNER_LIST_QNAME,
+                                TestModel.NAME_QNAME, "foo"))
+                            .withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "foo"))
+                            .build())
+                        .build())
+                    .build())
+                .build())
+            .build());
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+        snapshot = tree.takeSnapshot();
+    }
+
+    @Test
+    void testDepth() throws IOException {
+        assertTrue(ReadProjection.builder().setMaxDepth(2).build().read(snapshot, TestModel.TEST_PATH, writer));
+
+        final var inOrder = inOrder(writer);
+        inOrder.verify(writer).startContainerNode(new NodeIdentifier(TestModel.TEST_QNAME), 1);
+        inOrder.verify(writer).startMapNode(new NodeIdentifier(TestModel.OUTER_LIST_QNAME), 1);
+        inOrder.verify(writer).startMapEntryNode(ENTRY_ID, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        inOrder.verify(writer).startLeafNode(new NodeIdentifier(TestModel.ID_QNAME));
+        inOrder.verify(writer).scalarValue(ID);
+        inOrder.verify(writer, times(4)).endNode();
+        verifyNoMoreInteractions(writer);
+    }
+
+    @Test
+    void testFields() throws IOException {
+        assertTrue(ReadProjection.builder()
+            .addField(TestModel.OUTER_LIST_QNAME, ONE_QNAME)
+            .build()
+            .read(snapshot, TestModel.TEST_PATH, writer));
+
+        final var inOrder = inOrder(writer);
+        inOrder.verify(writer).startContainerNode(new NodeIdentifier(TestModel.TEST_QNAME),
+            NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        inOrder.verify(writer).startMapNode(new NodeIdentifier(TestModel.OUTER_LIST_QNAME), 1);
+        inOrder.verify(writer).startMapEntryNode(ENTRY_ID, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        inOrder.verify(writer).startLeafNode(new NodeIdentifier(TestModel.ID_QNAME));
+        inOrder.verify(writer).scalarValue(ID);
+        inOrder.verify(writer).endNode();
+        inOrder.verify(writer).startChoiceNode(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME),
+            NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        inOrder.verify(writer).startLeafNode(new NodeIdentifier(ONE_QNAME));
+        inOrder.verify(writer).scalarValue("one");
+        inOrder.verify(writer, times(5)).endNode();
+        verifyNoMoreInteractions(writer);
+    }
+
+    @Test
+    void testAbsent() throws IOException {
+        assertFalse(ReadProjection.ALL.read(snapshot, TestModel.NON_PRESENCE_PATH, writer));
+        verifyNoMoreInteractions(writer);
+    }
+
+    @Test
+    void testBuilder() {
+        assertSame(ReadProjection.ALL, ReadProjection.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> ReadProjection.builder().setMaxDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> ReadProjection.builder().addField());
+    }
+}
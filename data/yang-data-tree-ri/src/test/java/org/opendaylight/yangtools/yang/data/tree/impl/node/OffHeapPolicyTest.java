@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.SubtreeCodec;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+class OffHeapPolicyTest {
+    /**
+     * A codec which keeps the nodes on heap and encodes only their index.
+     */
+    private static final class IndexCodec implements SubtreeCodec {
+        final List<NormalizedNode> nodes = new ArrayList<>();
+        int decodes;
+
+        @Override
+        public byte[] encode(final NormalizedNode node) {
+            nodes.add(node);
+            return ByteBuffer.allocate(Integer.BYTES).putInt(0, nodes.size() - 1).array();
+        }
+
+        @Override
+        public NormalizedNode decode(final byte[] bytes) {
+            decodes++;
+            return nodes.get(ByteBuffer.wrap(bytes).getInt());
+        }
+    }
+
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+    private static final QName BAZ = QName.create(FOO, "baz");
+    private static final MapEntryNode ENTRY = ImmutableNodes.newMapEntryBuilder()
+        .withNodeIdentifier(NodeIdentifierWithPredicates.of(BAR, BAZ, "one"))
+        .withChild(ImmutableNodes.leafNode(BAZ, "one"))
+        .build();
+    private static final ContainerNode CONTAINER = ImmutableNodes.newContainerBuilder()
+        .withNodeIdentifier(new NodeIdentifier(FOO))
+        .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+        .build();
+
+    private final OffHeapPolicy policy = new OffHeapPolicy(0, 1, Runnable::run);
+    private final IndexCodec codec = new IndexCodec();
+
+    @Test
+    void testSpillAndInflate() {
+        final var wrapped = assertInstanceOf(OffHeapContainerNode.class, OffHeapPolicy.wrap(CONTAINER, codec));
+        assertEquals(CONTAINER.hashCode(), wrapped.hashCode());
+        assertEquals(CONTAINER.size(), wrapped.size());
+
+        // Not tracked yet: left alone
+        assertEquals(0, policy.sweep());
+        assertEquals(0, codec.nodes.size());
+        policy.track(wrapped);
+
+        // Not accessed since creation: spilled
+        assertEquals(Integer.BYTES, policy.sweep());
+        assertEquals(1, codec.nodes.size());
+        assertEquals(0, codec.decodes);
+
+        // Access inflates it
+        assertEquals(ImmutableNodes.leafNode(BAR, "bar"), wrapped.childByArg(new NodeIdentifier(BAR)));
+        assertEquals(1, codec.decodes);
+
+        // Recently accessed: kept on heap
+        assertEquals(0, policy.sweep());
+
+        // Cold again: encoded form was released on inflation, hence it is encoded again
+        assertEquals(Integer.BYTES, policy.sweep());
+        assertEquals(2, codec.nodes.size());
+        assertEquals(CONTAINER, wrapped);
+        assertEquals(2, codec.decodes);
+    }
+
+    @Test
+    void testMinimumSize() {
+        final var sizedPolicy = new OffHeapPolicy(Integer.BYTES + 1, 1, Runnable::run);
+        final var wrapped = OffHeapPolicy.wrap(CONTAINER, codec);
+        sizedPolicy.track(wrapped);
+        assertEquals(0, sizedPolicy.sweep());
+        assertEquals(0, sizedPolicy.sweep());
+        assertEquals(1, codec.nodes.size());
+        assertEquals(CONTAINER, wrapped);
+        assertEquals(0, codec.decodes);
+    }
+
+    @Test
+    void testIneligible() {
+        final LeafNode<String> leaf = ImmutableNodes.leafNode(BAR, "bar");
+        assertSame(leaf, OffHeapPolicy.wrap(leaf, codec));
+        assertSame(CONTAINER, OffHeapPolicy.wrap(CONTAINER, null));
+
+        final var wrapped = OffHeapPolicy.wrap(CONTAINER, codec);
+        assertSame(wrapped, OffHeapPolicy.wrap(wrapped, codec));
+        assertNotSame(CONTAINER, wrapped);
+    }
+
+    @Test
+    void testTrackOnce() {
+        final var wrapped = OffHeapPolicy.wrap(CONTAINER, codec);
+        policy.track(wrapped);
+        policy.track(wrapped);
+        assertEquals(Integer.BYTES, policy.sweep());
+        assertEquals(1, codec.nodes.size());
+    }
+
+    @Test
+    void testPoliciesAreIndependent() {
+        final var other = new OffHeapPolicy(0, 1, Runnable::run);
+        final var wrapped = OffHeapPolicy.wrap(CONTAINER, codec);
+        other.track(wrapped);
+
+        assertEquals(0, policy.sweep());
+        assertEquals(Integer.BYTES, other.sweep());
+    }
+
+    @Test
+    void testUnwrap() {
+        final var wrapped = OffHeapPolicy.wrap(CONTAINER, codec);
+        policy.track(wrapped);
+        assertEquals(Integer.BYTES, policy.sweep());
+        assertSame(CONTAINER, OffHeapPolicy.unwrap(wrapped));
+        assertSame(CONTAINER, OffHeapPolicy.unwrap(CONTAINER));
+        assertNull(OffHeapPolicy.unwrap(null));
+    }
+
+    @Test
+    void testMapEntries() {
+        final var map = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(BAR))
+            .withChild(ENTRY)
+            .build();
+
+        final var wrapped = assertInstanceOf(SystemMapNode.class, OffHeapPolicy.wrap(map, codec));
+        assertEquals(map, wrapped);
+        assertInstanceOf(OffHeapMapEntryNode.class, wrapped.childByArg(ENTRY.name()));
+
+        // Already wrapped entries are not copied again
+        assertSame(wrapped, OffHeapPolicy.wrap(wrapped, codec));
+
+        // Entries are tracked individually, the one accessed by the assertions above is spilled by the second sweep
+        policy.track(wrapped);
+        assertEquals(0, policy.sweep());
+        assertEquals(Integer.BYTES, policy.sweep());
+    }
+
+    @Test
+    void testRootChildren() {
+        final var root = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(SchemaContext.NAME))
+            .withChild(CONTAINER)
+            .withChild(ImmutableNodes.leafNode(BAZ, "baz"))
+            .build();
+
+        final var version = Version.initial();
+        final var treeRoot = OffHeapPolicy.wrapRoot(TreeNode.of(OffHeapPolicy.wrap(root, codec), version));
+        assertSame(version, treeRoot.getVersion());
+        final var wrapped = assertInstanceOf(ContainerNode.class, treeRoot.getData());
+        assertNotSame(root, wrapped);
+        assertEquals(root, wrapped);
+        assertInstanceOf(OffHeapContainerNode.class, wrapped.childByArg(CONTAINER.name()));
+        assertInstanceOf(LeafNode.class, wrapped.childByArg(new NodeIdentifier(BAZ)));
+
+        // A root which has not been written is left alone
+        final var unwritten = TreeNode.of(root, version);
+        assertSame(unwritten, OffHeapPolicy.wrapRoot(unwritten));
+
+        // Children of the root are tracked, the root is not. The child accessed by the assertions above is spilled by
+        // the second sweep
+        policy.track(wrapped);
+        assertEquals(0, policy.sweep());
+        assertEquals(Integer.BYTES, policy.sweep());
+        assertEquals(List.of(CONTAINER), codec.nodes);
+    }
+
+    @Test
+    void testNestedRootName() {
+        // A nested container sharing the root's name is a regular subtree
+        final var nested = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(SchemaContext.NAME))
+            .withChild(CONTAINER)
+            .build();
+        assertInstanceOf(OffHeapContainerNode.class, OffHeapPolicy.wrap(nested, codec));
+    }
+}
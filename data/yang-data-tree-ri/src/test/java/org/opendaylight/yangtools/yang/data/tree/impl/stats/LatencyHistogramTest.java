@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    @Test
+    void testBuckets() {
+        for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE }) {
+            final long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+            assertTrue(highest >= value, () -> "Value " + value + " highest " + highest);
+            assertTrue(highest - value <= value / 16, () -> "Value " + value + " highest " + highest);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testPercentiles() {
+        final var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(99));
+
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(100, histogram.count());
+        assertEquals(50_500, histogram.mean());
+        assertEquals(100_000, histogram.max());
+
+        final long median = histogram.percentile(50);
+        assertTrue(median >= 50_000 && median <= 50_000 + 50_000 / 16, () -> "Median " + median);
+        assertEquals(100_000, histogram.percentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.max());
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemLeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserLeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshotCursor;
+
+/**
+ * A resumable traversal of a {@link DataTreeSnapshot} subtree, emitting it into a {@link NormalizedNodeStreamWriter}
+ * in bounded chunks. Concatenating the events of all chunks yields the same event stream as writing the subtree with a
+ * {@link NormalizedNodeWriter} would, hence a chunk generally leaves some nodes open, to be closed by later chunks.
+ *
+ * <p>
+ * Each chunk ends with a {@link Continuation}, which can be used to resume the traversal with a new instance, for
+ * example after a network link has been interrupted. A continuation is valid only for the snapshot it has been
+ * obtained from, as it refers to nodes by their position in iteration order.
+ *
+ * <p>
+ * Instances are not thread-safe. Unlike a {@link DataTreeSnapshotCursor}, an instance does not hold any exclusive
+ * resources, hence it is safe to keep it around while waiting for the receiver to catch up.
+ */
+@Beta
+public final class ChunkedSnapshotWriter {
+    /**
+     * Position of a {@link ChunkedSnapshotWriter} within a snapshot.
+     */
+    public static final class Continuation implements Immutable, Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull YangInstanceIdentifier path;
+        private final int @NonNull [] positions;
+
+        Continuation(final YangInstanceIdentifier path, final int[] positions) {
+            this.path = requireNonNull(path);
+            this.positions = requireNonNull(positions);
+        }
+
+        /**
+         * Return the path of the subtree being traversed.
+         *
+         * @return Path of the subtree being traversed
+         */
+        public @NonNull YangInstanceIdentifier path() {
+            return path;
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode() * 31 + Arrays.hashCode(positions);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || obj instanceof Continuation other && path.equals(other.path)
+                && Arrays.equals(positions, other.positions);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("path", path).add("positions", Arrays.toString(positions))
+                .toString();
+        }
+    }
+
+    /**
+     * An open node, along with the iterator over its children.
+     */
+    private static final class Frame {
+        final Iterator<? extends NormalizedNode> children;
+        int consumed;
+
+        Frame(final NormalizedNodeContainer<?> node) {
+            children = node.body().iterator();
+        }
+    }
+
+    private final ArrayList<Frame> frames = new ArrayList<>();
+    private final @NonNull YangInstanceIdentifier path;
+
+    private NormalizedNode root;
+
+    private ChunkedSnapshotWriter(final YangInstanceIdentifier path, final NormalizedNode root) {
+        this.path = requireNonNull(path);
+        this.root = requireNonNull(root);
+    }
+
+    /**
+     * Start a traversal of a subtree.
+     *
+     * @param snapshot Snapshot to traverse
+     * @param path Path to the subtree
+     * @return A new instance, or {@code null} if the subtree does not exist
+     */
+    public static @Nullable ChunkedSnapshotWriter start(final DataTreeSnapshot snapshot,
+            final YangInstanceIdentifier path) {
+        final var root = snapshot.nodeByPath(path);
+        return root == null ? null : new ChunkedSnapshotWriter(path, root);
+    }
+
+    /**
+     * Resume a traversal of a subtree.
+     *
+     * @param snapshot Snapshot to traverse, which has to be the snapshot {@code continuation} was obtained from
+     * @param continuation Continuation returned from {@link #writeChunk(NormalizedNodeStreamWriter, int)}
+     * @return A new instance
+     * @throws IllegalArgumentException if {@code continuation} does not match {@code snapshot}
+     */
+    public static @NonNull ChunkedSnapshotWriter resume(final DataTreeSnapshot snapshot,
+            final Continuation continuation) {
+        final var path = continuation.path;
+        var node = snapshot.nodeByPath(path);
+        checkArgument(node != null, "Subtree %s is not present", path);
+
+        final var ret = new ChunkedSnapshotWriter(path, node);
+        ret.root = null;
+
+        final var positions = continuation.positions;
+        for (int i = 0; i < positions.length; ++i) {
+            checkArgument(node instanceof NormalizedNodeContainer, "Continuation %s does not match snapshot",
+                continuation);
+            final var frame = new Frame((NormalizedNodeContainer<?>) node);
+            node = null;
+            for (int skip = positions[i]; skip > 0; --skip) {
+                checkArgument(frame.children.hasNext(), "Continuation %s does not match snapshot", continuation);
+                node = frame.children.next();
+            }
+            frame.consumed = positions[i];
+            ret.frames.add(frame);
+        }
+        return ret;
+    }
+
+    /**
+     * Emit the next chunk of the traversal. A chunk contains at most {@code maxNodes} nodes, plus any closing events
+     * which immediately follow them.
+     *
+     * @param writer Writer to emit events into
+     * @param maxNodes Maximum number of nodes to emit
+     * @return A continuation for the next chunk, or {@code null} if the traversal has completed
+     * @throws IllegalArgumentException if {@code maxNodes} is not positive
+     * @throws IllegalStateException if the traversal has already completed
+     * @throws IOException if the writer reports an error
+     */
+    public @Nullable Continuation writeChunk(final NormalizedNodeStreamWriter writer, final int maxNodes)
+            throws IOException {
+        checkArgument(maxNodes > 0, "Invalid maximum nodes %s", maxNodes);
+
+        final var nodeWriter = NormalizedNodeWriter.forStreamWriter(writer, false);
+        int emitted = 0;
+        final var local = root;
+        if (local != null) {
+            root = null;
+            emit(writer, nodeWriter, local);
+            emitted++;
+        } else if (frames.isEmpty()) {
+            throw new IllegalStateException("Traversal of " + path + " has already completed");
+        }
+
+        while (!frames.isEmpty()) {
+            final var frame = frames.get(frames.size() - 1);
+            if (!frame.children.hasNext()) {
+                writer.endNode();
+                frames.remove(frames.size() - 1);
+            } else if (emitted < maxNodes) {
+                final var child = frame.children.next();
+                frame.consumed++;
+                emit(writer, nodeWriter, child);
+                emitted++;
+            } else {
+                break;
+            }
+        }
+
+        writer.flush();
+        return frames.isEmpty() ? null : continuation();
+    }
+
+    private @NonNull Continuation continuation() {
+        final var positions = new int[frames.size()];
+        for (int i = 0; i < positions.length; ++i) {
+            positions[i] = frames.get(i).consumed;
+        }
+        return new Continuation(path, positions);
+    }
+
+    private void emit(final NormalizedNodeStreamWriter writer, final NormalizedNodeWriter nodeWriter,
+            final NormalizedNode node) throws IOException {
+        if (node instanceof NormalizedNodeContainer<?> container) {
+            startNode(writer, container);
+            frames.add(new Frame(container));
+        } else {
+            // Leaves, leaf-set entries, anydata and anyxml
+            nodeWriter.write(node);
+        }
+    }
+
+    private static void startNode(final NormalizedNodeStreamWriter writer, final NormalizedNodeContainer<?> node)
+            throws IOException {
+        if (node instanceof ContainerNode n) {
+            writer.startContainerNode(n.name(), n.size());
+        } else if (node instanceof MapEntryNode n) {
+            writer.startMapEntryNode(n.name(), n.size());
+        } else if (node instanceof UnkeyedListEntryNode n) {
+            writer.startUnkeyedListItem(n.name(), n.size());
+        } else if (node instanceof ChoiceNode n) {
+            writer.startChoiceNode(n.name(), n.size());
+        } else if (node instanceof UnkeyedListNode n) {
+            writer.startUnkeyedList(n.name(), n.size());
+        } else if (node instanceof UserMapNode n) {
+            writer.startOrderedMapNode(n.name(), n.size());
+        } else if (node instanceof SystemMapNode n) {
+            writer.startMapNode(n.name(), n.size());
+        } else if (node instanceof UserLeafSetNode<?> n) {
+            writer.startOrderedLeafSet(n.name(), n.size());
+        } else if (node instanceof SystemLeafSetNode<?> n) {
+            writer.startLeafSet(n.name(), n.size());
+        } else {
+            throw new IllegalStateException("Unhandled container " + node);
+        }
+    }
+}
@@ -234,7 +234,7 @@ public final class DataTreeCandidateNodes {
     }
 
     @SuppressWarnings("unchecked")
-    private static @NonNull DataTreeCandidateNode deleteNode(final NormalizedNode data) {
+    static @NonNull DataTreeCandidateNode deleteNode(final NormalizedNode data) {
         if (data instanceof DistinctNodeContainer) {
             return new RecursiveDeleteCandidateNode(
                 (DistinctNodeContainer<PathArgument, NormalizedNode>) data);
@@ -243,7 +243,7 @@ public final class DataTreeCandidateNodes {
     }
 
     @SuppressWarnings("unchecked")
-    private static @NonNull DataTreeCandidateNode replaceNode(final NormalizedNode oldData,
+    static @NonNull DataTreeCandidateNode replaceNode(final NormalizedNode oldData,
             final NormalizedNode newData) {
         if (oldData instanceof DistinctNodeContainer) {
             return new RecursiveReplaceCandidateNode(
@@ -254,7 +254,7 @@ public final class DataTreeCandidateNodes {
     }
 
     @SuppressWarnings("unchecked")
-    private static @NonNull DataTreeCandidateNode writeNode(final NormalizedNode data) {
+    static @NonNull DataTreeCandidateNode writeNode(final NormalizedNode data) {
         if (data instanceof DistinctNodeContainer) {
             return new RecursiveWriteCandidateNode((DistinctNodeContainer<PathArgument, NormalizedNode>) data);
         }
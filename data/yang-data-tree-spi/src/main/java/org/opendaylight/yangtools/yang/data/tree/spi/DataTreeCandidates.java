@@ -25,6 +25,7 @@ import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModificationCursor;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +51,38 @@ public final class DataTreeCandidates {
         return new DefaultDataTreeCandidate(rootPath, new NormalizedNodeDataTreeCandidateNode(node));
     }
 
+    /**
+     * Compute the difference between two versions of a subtree. The resulting candidate reports only the nodes which
+     * have actually changed. Subtrees which are shared between the two versions are recognized by identity and are
+     * not traversed, hence comparing two snapshots of the same data tree costs time proportional to the changed part
+     * of the tree.
+     *
+     * @param rootPath Path to the subtree
+     * @param before Subtree before the change, may be null
+     * @param after Subtree after the change, may be null
+     * @return A {@link DataTreeCandidate} transforming {@code before} into {@code after}
+     */
+    public static @NonNull DataTreeCandidate diff(final YangInstanceIdentifier rootPath,
+            final @Nullable NormalizedNode before, final @Nullable NormalizedNode after) {
+        final var rootNode = DiffCandidateNode.diff(before, after);
+        return new DefaultDataTreeCandidate(rootPath, rootNode != null ? rootNode
+            : new TerminalDataTreeCandidateNode(null, ModificationType.UNMODIFIED, null, null));
+    }
+
+    /**
+     * Compute the difference between two {@link DataTreeSnapshot}s of a subtree, as per
+     * {@link #diff(YangInstanceIdentifier, NormalizedNode, NormalizedNode)}.
+     *
+     * @param rootPath Path to the subtree
+     * @param before Snapshot before the change
+     * @param after Snapshot after the change
+     * @return A {@link DataTreeCandidate} transforming {@code before} into {@code after}
+     */
+    public static @NonNull DataTreeCandidate diff(final YangInstanceIdentifier rootPath,
+            final DataTreeSnapshot before, final DataTreeSnapshot after) {
+        return diff(rootPath, before.nodeByPath(rootPath), after.nodeByPath(rootPath));
+    }
+
     public static void applyToCursor(final DataTreeModificationCursor cursor, final DataTreeCandidate candidate) {
         DataTreeCandidateNodes.applyToCursor(cursor, candidate.getRootNode());
     }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedNodeContainer;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+/**
+ * A {@link ModificationType#SUBTREE_MODIFIED} node resulting from comparing two versions of a container. Children are
+ * compared eagerly, so that only nodes which have actually changed are reported. Subtrees which are shared between
+ * the two versions, which is the common case for snapshots of the same data tree, are recognized by identity and are
+ * not traversed at all.
+ */
+final class DiffCandidateNode extends AbstractDataTreeCandidateNode {
+    private final @NonNull ImmutableMap<PathArgument, DataTreeCandidateNode> children;
+    private final @NonNull NormalizedNode oldData;
+
+    private DiffCandidateNode(final DistinctNodeContainer<PathArgument, NormalizedNode> oldData,
+            final DistinctNodeContainer<PathArgument, NormalizedNode> newData,
+            final ImmutableMap<PathArgument, DataTreeCandidateNode> children) {
+        super(newData);
+        this.oldData = requireNonNull(oldData);
+        this.children = requireNonNull(children);
+    }
+
+    /**
+     * Compare two versions of a node.
+     *
+     * @param oldData Old data, may be null
+     * @param newData New data, may be null
+     * @return A {@link DataTreeCandidateNode} describing the change, or {@code null} if neither version is present
+     */
+    @SuppressWarnings("unchecked")
+    static @Nullable DataTreeCandidateNode diff(final @Nullable NormalizedNode oldData,
+            final @Nullable NormalizedNode newData) {
+        if (oldData == null) {
+            return newData == null ? null : DataTreeCandidateNodes.writeNode(newData);
+        }
+        if (newData == null) {
+            return DataTreeCandidateNodes.deleteNode(oldData);
+        }
+        if (oldData == newData) {
+            return DataTreeCandidateNodes.unmodified(newData);
+        }
+
+        if (oldData instanceof DistinctNodeContainer && oldData.contract() == newData.contract()) {
+            final var oldContainer = (DistinctNodeContainer<PathArgument, NormalizedNode>) oldData;
+            final var newContainer = (DistinctNodeContainer<PathArgument, NormalizedNode>) newData;
+            if (!(oldData instanceof OrderedNodeContainer) || isOrderPreserved(oldContainer, newContainer)) {
+                final var children = diffChildren(oldContainer, newContainer);
+                return children.isEmpty() ? DataTreeCandidateNodes.unmodified(newData)
+                    : new DiffCandidateNode(oldContainer, newContainer, children);
+            }
+        } else if (oldData.equals(newData)) {
+            return DataTreeCandidateNodes.unmodified(newData);
+        }
+        return DataTreeCandidateNodes.replaceNode(oldData, newData);
+    }
+
+    private static @NonNull ImmutableMap<PathArgument, DataTreeCandidateNode> diffChildren(
+            final DistinctNodeContainer<PathArgument, NormalizedNode> oldData,
+            final DistinctNodeContainer<PathArgument, NormalizedNode> newData) {
+        final var result = new LinkedHashMap<PathArgument, DataTreeCandidateNode>();
+        int retained = 0;
+        for (var newChild : newData.body()) {
+            final var oldChild = oldData.childByArg(newChild.name());
+            if (oldChild != null) {
+                retained++;
+            }
+            if (oldChild != newChild) {
+                final var node = diff(oldChild, newChild);
+                if (node != null && node.modificationType() != ModificationType.UNMODIFIED) {
+                    result.put(node.name(), node);
+                }
+            }
+        }
+        if (retained != oldData.size()) {
+            // Some children have been removed
+            for (var oldChild : oldData.body()) {
+                if (newData.childByArg(oldChild.name()) == null) {
+                    result.put(oldChild.name(), DataTreeCandidateNodes.deleteNode(oldChild));
+                }
+            }
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    /**
+     * Check whether applying child changes to an ordered container yields the order in {@code newData}. That is the
+     * case when retained children keep their relative order and all new children follow them, as new children are
+     * appended when they are written.
+     */
+    private static boolean isOrderPreserved(final DistinctNodeContainer<PathArgument, NormalizedNode> oldData,
+            final DistinctNodeContainer<PathArgument, NormalizedNode> newData) {
+        final var oldIt = oldData.body().iterator();
+        boolean appending = false;
+        for (var newChild : newData.body()) {
+            if (oldData.childByArg(newChild.name()) == null) {
+                appending = true;
+                continue;
+            }
+            if (appending) {
+                return false;
+            }
+
+            NormalizedNode oldChild;
+            do {
+                oldChild = oldIt.next();
+            } while (newData.childByArg(oldChild.name()) == null);
+            if (!oldChild.name().equals(newChild.name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ModificationType modificationType() {
+        return ModificationType.SUBTREE_MODIFIED;
+    }
+
+    @Override
+    public NormalizedNode dataBefore() {
+        return oldData;
+    }
+
+    @Override
+    public NormalizedNode dataAfter() {
+        return data;
+    }
+
+    @Override
+    public Collection<DataTreeCandidateNode> childNodes() {
+        return children.values();
+    }
+
+    @Override
+    public DataTreeCandidateNode modifiedChild(final PathArgument childName) {
+        return children.get(requireNonNull(childName));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("name", name()).add("children", children.keySet()).toString();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemLeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserLeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.tree.spi.ReadProjection.Selection;
+
+/**
+ * Single-use worker emitting a {@link ReadProjection} of a node. Children of a node are iterated and matched against
+ * the selection by name. Those which are not selected are skipped without being descended into, hence we do not know
+ * how many children will be emitted and report {@link NormalizedNodeStreamWriter#UNKNOWN_SIZE} unless everything is
+ * selected.
+ *
+ * <p>
+ * Selected children are not looked up directly, as choices are transparent to the selection: a selected name may be
+ * nested in any number of choices, which cannot be determined without the schema.
+ */
+final class ProjectionWriter {
+    private final NormalizedNodeStreamWriter writer;
+    private final NormalizedNodeWriter nodeWriter;
+    private final int maxDepth;
+
+    ProjectionWriter(final NormalizedNodeStreamWriter writer, final int maxDepth) {
+        this.writer = requireNonNull(writer);
+        this.maxDepth = maxDepth;
+        nodeWriter = NormalizedNodeWriter.forStreamWriter(writer, false);
+    }
+
+    void write(final NormalizedNode node, final Selection selection) throws IOException {
+        writeNode(node, 1, selection);
+    }
+
+    private void writeNode(final NormalizedNode node, final int depth, final Selection selection) throws IOException {
+        if (node instanceof ContainerNode container) {
+            writer.startContainerNode(container.name(), sizeHint(container.size(), depth, selection));
+            writeChildren(container, depth, selection);
+            writer.endNode();
+        } else if (node instanceof ChoiceNode choice) {
+            // A choice at the top level: its children are at the same depth
+            writer.startChoiceNode(choice.name(), sizeHint(choice.size(), depth - 1, selection));
+            writeChildren(choice, depth - 1, selection);
+            writer.endNode();
+        } else if (node instanceof SystemMapNode map) {
+            writer.startMapNode(map.name(), map.size());
+            for (var entry : map.body()) {
+                writeMapEntry(entry, depth, selection);
+            }
+            writer.endNode();
+        } else if (node instanceof UserMapNode map) {
+            writer.startOrderedMapNode(map.name(), map.size());
+            for (var entry : map.body()) {
+                writeMapEntry(entry, depth, selection);
+            }
+            writer.endNode();
+        } else if (node instanceof MapEntryNode entry) {
+            writeMapEntry(entry, depth, selection);
+        } else if (node instanceof UnkeyedListNode list) {
+            writer.startUnkeyedList(list.name(), list.size());
+            for (var entry : list.body()) {
+                writeUnkeyedListEntry(entry, depth, selection);
+            }
+            writer.endNode();
+        } else if (node instanceof UnkeyedListEntryNode entry) {
+            writeUnkeyedListEntry(entry, depth, selection);
+        } else if (node instanceof SystemLeafSetNode<?> leafSet) {
+            writer.startLeafSet(leafSet.name(), leafSet.size());
+            writeLeafSetEntries(leafSet);
+        } else if (node instanceof UserLeafSetNode<?> leafSet) {
+            writer.startOrderedLeafSet(leafSet.name(), leafSet.size());
+            writeLeafSetEntries(leafSet);
+        } else {
+            // Leaves, leaf-set entries, anydata and anyxml
+            nodeWriter.write(node);
+        }
+    }
+
+    private void writeMapEntry(final MapEntryNode entry, final int depth, final Selection selection)
+            throws IOException {
+        final var name = entry.name();
+        if (depth < maxDepth && selection.isAll()) {
+            writer.startMapEntryNode(name, entry.size());
+            writeChildren(entry, depth, selection);
+            writer.endNode();
+            return;
+        }
+
+        // Key leaves are always emitted, followed by any selected non-key children
+        writer.startMapEntryNode(name, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        final var keys = name.keySet();
+        for (var key : keys) {
+            final var leaf = entry.childByArg(new NodeIdentifier(key));
+            if (leaf != null) {
+                nodeWriter.write(leaf);
+            }
+        }
+        if (depth < maxDepth) {
+            for (var child : entry.body()) {
+                if (!keys.contains(child.name().getNodeType())) {
+                    writeChild(child, depth, selection);
+                }
+            }
+        }
+        writer.endNode();
+    }
+
+    private void writeUnkeyedListEntry(final UnkeyedListEntryNode entry, final int depth, final Selection selection)
+            throws IOException {
+        writer.startUnkeyedListItem(entry.name(), sizeHint(entry.size(), depth, selection));
+        writeChildren(entry, depth, selection);
+        writer.endNode();
+    }
+
+    private void writeLeafSetEntries(final LeafSetNode<?> leafSet) throws IOException {
+        for (var entry : leafSet.body()) {
+            nodeWriter.write(entry);
+        }
+        writer.endNode();
+    }
+
+    private void writeChildren(final DataContainerNode parent, final int depth, final Selection selection)
+            throws IOException {
+        if (depth < maxDepth) {
+            for (var child : parent.body()) {
+                writeChild(child, depth, selection);
+            }
+        }
+    }
+
+    private void writeChild(final NormalizedNode child, final int parentDepth, final Selection parentSelection)
+            throws IOException {
+        if (child instanceof ChoiceNode choice) {
+            // Choices are transparent: they neither count as a level nor are they named in fields
+            if (parentSelection.isAll() || hasSelectedChild(choice, parentSelection)) {
+                writer.startChoiceNode(choice.name(), sizeHint(choice.size(), parentDepth, parentSelection));
+                for (var grandChild : choice.body()) {
+                    writeChild(grandChild, parentDepth, parentSelection);
+                }
+                writer.endNode();
+            }
+            return;
+        }
+
+        final var selection = parentSelection.child(child.name().getNodeType());
+        if (selection != null) {
+            writeNode(child, parentDepth + 1, selection);
+        }
+    }
+
+    private static boolean hasSelectedChild(final ChoiceNode choice, final Selection selection) {
+        for (var child : choice.body()) {
+            if (child instanceof ChoiceNode nested ? hasSelectedChild(nested, selection)
+                : selection.child(child.name().getNodeType()) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int sizeHint(final int size, final int depth, final Selection selection) {
+        if (depth >= maxDepth) {
+            return 0;
+        }
+        return selection.isAll() ? size : NormalizedNodeStreamWriter.UNKNOWN_SIZE;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.concepts.Mutable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+
+/**
+ * A projection of a data subtree, selecting only some of its nodes. This corresponds to RESTCONF {@code depth} and
+ * {@code fields} query parameters, as defined in
+ * <a href="https://www.rfc-editor.org/rfc/rfc8040#section-4.8.2">RFC8040</a>.
+ *
+ * <p>
+ * Depth is counted in data nodes, starting with the projected node at depth 1. A list or a leaf-list and its entries
+ * are considered to be a single level, while choice nodes do not count at all. Nodes at maximum depth are emitted
+ * without any children, except for list entries, which always include their key leaves.
+ *
+ * <p>
+ * Fields are sequences of data node names relative to the projected node. As with depth, list entries and choices are
+ * transparent. A field selects the entire subtree of the named node, subject to the depth limit. If there are no
+ * fields, all nodes are selected.
+ */
+@Beta
+public final class ReadProjection implements Immutable {
+    /**
+     * Depth value indicating no limit.
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+    /**
+     * Projection selecting everything.
+     */
+    public static final @NonNull ReadProjection ALL = new ReadProjection(UNBOUNDED, Selection.ALL);
+
+    /**
+     * A node in the trie of selected fields.
+     *
+     * @param children Selected children, {@code null} if all children are selected
+     */
+    record Selection(@Nullable ImmutableMap<QName, Selection> children) {
+        static final @NonNull Selection ALL = new Selection(null);
+
+        @Nullable Selection child(final QName name) {
+            final var local = children;
+            return local == null ? this : local.get(name);
+        }
+
+        boolean isAll() {
+            return children == null;
+        }
+    }
+
+    private final int maxDepth;
+    private final @NonNull Selection selection;
+
+    private ReadProjection(final int maxDepth, final Selection selection) {
+        this.maxDepth = maxDepth;
+        this.selection = selection;
+    }
+
+    public static @NonNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Return the maximum depth of emitted nodes.
+     *
+     * @return Maximum depth, or {@link #UNBOUNDED}
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Emit the projection of a node into a {@link NormalizedNodeStreamWriter}. Nodes which are not selected are neither
+     * emitted nor descended into.
+     *
+     * @param node Node to project
+     * @param writer Writer to emit events into
+     * @throws IOException if the writer reports an error
+     */
+    public void write(final NormalizedNode node, final NormalizedNodeStreamWriter writer) throws IOException {
+        new ProjectionWriter(writer, maxDepth).write(node, selection);
+    }
+
+    /**
+     * Read the projection of a particular node from a {@link DataTreeSnapshot}, emitting it into a
+     * {@link NormalizedNodeStreamWriter}. Only the nodes selected by this projection are visited, hence this method is
+     * suitable for reading small parts of large subtrees.
+     *
+     * @param snapshot Snapshot to read from
+     * @param path Path of the node
+     * @param writer Writer to emit events into
+     * @return {@code true} if the node was present and has been emitted, {@code false} otherwise
+     * @throws IOException if the writer reports an error
+     */
+    public boolean read(final DataTreeSnapshot snapshot, final YangInstanceIdentifier path,
+            final NormalizedNodeStreamWriter writer) throws IOException {
+        final var node = snapshot.nodeByPath(path);
+        if (node == null) {
+            return false;
+        }
+        write(node, writer);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("maxDepth", maxDepth == UNBOUNDED ? null : maxDepth)
+            .add("fields", selection.children())
+            .toString();
+    }
+
+    /**
+     * Builder for {@link ReadProjection}s.
+     */
+    public static final class Builder implements Mutable {
+        private final Map<QName, Object> fields = new HashMap<>();
+        private int maxDepth = UNBOUNDED;
+        private boolean all = true;
+
+        private Builder() {
+            // Hidden on purpose
+        }
+
+        /**
+         * Set the maximum depth of emitted nodes.
+         *
+         * @param maxDepth Maximum depth, or {@link #UNBOUNDED}
+         * @return This builder
+         * @throws IllegalArgumentException if {@code maxDepth} is less than 1
+         */
+        public @NonNull Builder setMaxDepth(final int maxDepth) {
+            checkArgument(maxDepth > 0, "Invalid depth %s", maxDepth);
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Add a selected field.
+         *
+         * @param path Names of data nodes leading to the field
+         * @return This builder
+         * @throws IllegalArgumentException if {@code path} is empty
+         */
+        @SuppressWarnings("unchecked")
+        public @NonNull Builder addField(final List<QName> path) {
+            checkArgument(!path.isEmpty(), "Field path must not be empty");
+            all = false;
+
+            var current = fields;
+            final int last = path.size() - 1;
+            for (int i = 0; i < last; ++i) {
+                final var name = path.get(i);
+                final var existing = current.get(name);
+                if (existing == Selection.ALL) {
+                    // A prefix has already been selected in its entirety
+                    return this;
+                }
+                if (existing == null) {
+                    final var child = new HashMap<QName, Object>();
+                    current.put(name, child);
+                    current = child;
+                } else {
+                    current = (Map<QName, Object>) existing;
+                }
+            }
+            current.put(path.get(last), Selection.ALL);
+            return this;
+        }
+
+        /**
+         * Add a selected field.
+         *
+         * @param path Names of data nodes leading to the field
+         * @return This builder
+         * @throws IllegalArgumentException if {@code path} is empty
+         */
+        public @NonNull Builder addField(final QName... path) {
+            return addField(List.of(path));
+        }
+
+        public @NonNull ReadProjection build() {
+            if (all && maxDepth == UNBOUNDED) {
+                return ALL;
+            }
+            return new ReadProjection(maxDepth, all ? Selection.ALL : toSelection(fields));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Selection toSelection(final Map<QName, Object> map) {
+            final var builder = ImmutableMap.<QName, Selection>builderWithExpectedSize(map.size());
+            for (var entry : map.entrySet()) {
+                final var value = entry.getValue();
+                builder.put(entry.getKey(), value instanceof Selection selection ? selection
+                    : toSelection((Map<QName, Object>) value));
+            }
+            return new Selection(builder.build());
+        }
+    }
+}
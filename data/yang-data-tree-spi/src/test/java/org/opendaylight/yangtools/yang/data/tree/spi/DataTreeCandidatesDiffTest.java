@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+class DataTreeCandidatesDiffTest {
+    private static final QName ROOT = QName.create("test", "root");
+    private static final QName LIST = QName.create(ROOT, "list");
+    private static final QName KEY = QName.create(ROOT, "key");
+    private static final QName VALUE = QName.create(ROOT, "value");
+    private static final NodeIdentifier LIST_ID = new NodeIdentifier(LIST);
+
+    @Test
+    void testIdentical() {
+        final var root = root(entry("a", "1"), entry("b", "2"));
+        final var candidate = DataTreeCandidates.diff(YangInstanceIdentifier.of(), root, root);
+        assertEquals(ModificationType.UNMODIFIED, candidate.getRootNode().modificationType());
+    }
+
+    @Test
+    void testEqual() {
+        final var candidate = DataTreeCandidates.diff(YangInstanceIdentifier.of(),
+            root(entry("a", "1"), entry("b", "2")), root(entry("a", "1"), entry("b", "2")));
+        assertEquals(ModificationType.UNMODIFIED, candidate.getRootNode().modificationType());
+    }
+
+    @Test
+    void testAbsent() {
+        final var candidate = DataTreeCandidates.diff(YangInstanceIdentifier.of(), (ContainerNode) null, null);
+        assertEquals(ModificationType.UNMODIFIED, candidate.getRootNode().modificationType());
+        assertNull(candidate.getRootNode().dataBefore());
+        assertNull(candidate.getRootNode().dataAfter());
+    }
+
+    @Test
+    void testSharedSubtrees() {
+        final var a = entry("a", "1");
+        final var b = entry("b", "2");
+        final var c = entry("c", "3");
+        final var before = root(a, b, c);
+        final var after = root(a, entry("b", "changed"), entry("d", "4"));
+
+        final var rootNode = DataTreeCandidates.diff(YangInstanceIdentifier.of(), before, after).getRootNode();
+        assertEquals(ModificationType.SUBTREE_MODIFIED, rootNode.modificationType());
+        assertSame(before, rootNode.dataBefore());
+        assertSame(after, rootNode.dataAfter());
+
+        final var list = rootNode.modifiedChild(LIST_ID);
+        assertEquals(ModificationType.SUBTREE_MODIFIED, list.modificationType());
+        assertEquals(Set.of(b.name(), c.name(), entryId("d")), names(list));
+        assertNull(list.modifiedChild(a.name()));
+        assertEquals(ModificationType.DELETE, list.modifiedChild(c.name()).modificationType());
+        assertEquals(ModificationType.WRITE, list.modifiedChild(entryId("d")).modificationType());
+
+        final var changed = list.modifiedChild(b.name());
+        assertEquals(ModificationType.SUBTREE_MODIFIED, changed.modificationType());
+        final var value = changed.modifiedChild(new NodeIdentifier(VALUE));
+        assertEquals(ModificationType.WRITE, value.modificationType());
+        assertEquals(ImmutableNodes.leafNode(VALUE, "2"), value.dataBefore());
+        assertEquals(ImmutableNodes.leafNode(VALUE, "changed"), value.dataAfter());
+        assertEquals(Set.of(new NodeIdentifier(VALUE)), names(changed));
+    }
+
+    @Test
+    void testUserOrderedReorder() {
+        final var before = userList(entry("a", "1"), entry("b", "2"));
+
+        final var appended = DataTreeCandidates.diff(YangInstanceIdentifier.of(LIST_ID), before,
+            userList(entry("a", "1"), entry("b", "2"), entry("c", "3"))).getRootNode();
+        assertEquals(ModificationType.SUBTREE_MODIFIED, appended.modificationType());
+        assertEquals(Set.of(entryId("c")), names(appended));
+
+        final var reordered = DataTreeCandidates.diff(YangInstanceIdentifier.of(LIST_ID), before,
+            userList(entry("b", "2"), entry("a", "1"))).getRootNode();
+        assertEquals(ModificationType.WRITE, reordered.modificationType());
+    }
+
+    private static Set<PathArgument> names(final DataTreeCandidateNode node) {
+        return node.childNodes().stream().map(DataTreeCandidateNode::name).collect(Collectors.toSet());
+    }
+
+    private static ContainerNode root(final MapEntryNode... entries) {
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(ROOT))
+            .withChild(ImmutableNodes.newSystemMapBuilder()
+                .withNodeIdentifier(LIST_ID)
+                .withValue(List.of(entries))
+                .build())
+            .build();
+    }
+
+    private static MapNode userList(final MapEntryNode... entries) {
+        return ImmutableNodes.newUserMapBuilder().withNodeIdentifier(LIST_ID).withValue(List.of(entries)).build();
+    }
+
+    private static NodeIdentifierWithPredicates entryId(final String key) {
+        return NodeIdentifierWithPredicates.of(LIST, KEY, key);
+    }
+
+    private static MapEntryNode entry(final String key, final String value) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryId(key))
+            .withChild(ImmutableNodes.leafNode(KEY, key))
+            .withChild(ImmutableNodes.leafNode(VALUE, value))
+            .build();
+    }
+}
@@ -9,6 +9,9 @@ package org.opendaylight.yangtools.yang.data.util;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.escape.Escaper;
 import com.google.common.escape.Escapers;
 import java.util.Set;
@@ -40,8 +43,75 @@ public abstract class AbstractStringInstanceIdentifierCodec extends AbstractName
         .addEscape('\\', "\\\\")
         .build();
 
+    private final @Nullable Cache<String, YangInstanceIdentifier> deserializeCache;
+    private final @Nullable Cache<YangInstanceIdentifier, String> serializeCache;
+
+    /**
+     * Default constructor. Results are not cached.
+     */
+    protected AbstractStringInstanceIdentifierCodec() {
+        this(0);
+    }
+
+    /**
+     * Constructor for implementations whose results depend only on their input, so that they can be cached. This is
+     * the case of implementations which are bound to a particular {@link DataSchemaContextTree} and do not consult
+     * any per-invocation state, such as a {@link javax.xml.namespace.NamespaceContext}.
+     *
+     * @param cacheSize maximum number of results to cache in each direction, {@code 0} to disable caching
+     * @throws IllegalArgumentException if {@code cacheSize} is negative
+     */
+    protected AbstractStringInstanceIdentifierCodec(final int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Invalid cache size " + cacheSize);
+        }
+        if (cacheSize != 0) {
+            deserializeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+            serializeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+        } else {
+            deserializeCache = null;
+            serializeCache = null;
+        }
+    }
+
+    /**
+     * Return statistics of the cache of {@link #deserialize(Object)} results.
+     *
+     * @return Cache statistics, or {@code null} if this codec does not cache results
+     */
+    public final @Nullable CacheStats deserializeCacheStats() {
+        final var cache = deserializeCache;
+        return cache == null ? null : cache.stats();
+    }
+
+    /**
+     * Return statistics of the cache of {@link #serialize(Object)} results.
+     *
+     * @return Cache statistics, or {@code null} if this codec does not cache results
+     */
+    public final @Nullable CacheStats serializeCacheStats() {
+        final var cache = serializeCache;
+        return cache == null ? null : cache.stats();
+    }
+
     @Override
     protected final String serializeImpl(final YangInstanceIdentifier data) {
+        final var cache = serializeCache;
+        if (cache == null) {
+            return serializeIdentifier(data);
+        }
+
+        // Note: not using Cache.get(), as that would wrap IllegalArgumentException and we would need to unwrap it
+        final var cached = cache.getIfPresent(data);
+        if (cached != null) {
+            return cached;
+        }
+        final var ret = serializeIdentifier(data);
+        cache.put(data, ret);
+        return ret;
+    }
+
+    private @NonNull String serializeIdentifier(final YangInstanceIdentifier data) {
         final StringBuilder sb = new StringBuilder();
         DataSchemaContext current = getDataContextTree().getRoot();
         QNameModule lastModule = null;
@@ -158,6 +228,21 @@ public abstract class AbstractStringInstanceIdentifierCodec extends AbstractName
 
     @Override
     protected final YangInstanceIdentifier deserializeImpl(final String data) {
+        final var cache = deserializeCache;
+        if (cache == null) {
+            return deserializeIdentifier(data);
+        }
+
+        final var cached = cache.getIfPresent(data);
+        if (cached != null) {
+            return cached;
+        }
+        final var ret = deserializeIdentifier(data);
+        cache.put(data, ret);
+        return ret;
+    }
+
+    private @NonNull YangInstanceIdentifier deserializeIdentifier(final String data) {
         return YangInstanceIdentifier.of(
             new XpathStringParsingPathArgumentBuilder(this, requireNonNull(data)).build());
     }
@@ -55,6 +55,25 @@ public final class DataSchemaContextTree {
         return TREES.getUnchecked(ctx);
     }
 
+    /**
+     * Return the tree for specified {@link EffectiveModelContext}, with all of its nodes instantiated upfront, so that
+     * subsequent lookups do not incur schema lookups. Each top-level subtree is processed in parallel. This is useful
+     * when a new context is being installed, as it moves the cost of populating the tree away from first access.
+     *
+     * <p>
+     * Trees are cached only as long as they are reachable, hence callers should hold on to the returned tree for as
+     * long as they use the context.
+     *
+     * @param ctx An {@link EffectiveModelContext}
+     * @return A fully-populated {@link DataSchemaContextTree}
+     * @throws NullPointerException if {@code ctx} is {@code null}
+     */
+    public static @NonNull DataSchemaContextTree precomputedFrom(final @NonNull EffectiveModelContext ctx) {
+        final var ret = from(ctx);
+        ret.root.precomputeTree();
+        return ret;
+    }
+
     /**
      * Return the {@link EffectiveModelContext} used to derive this tree.
      *
@@ -39,15 +39,13 @@ public final class IdentityCodecUtil {
     public static IdentitySchemaNode parseIdentity(final String value, final EffectiveModelContext schemaContext,
             final Function<String, QNameModule> prefixToModule) {
         final var qname = QNameCodecUtil.decodeQName(value, prefixToModule);
-        final var module = schemaContext.findModule(qname.getModule())
-            .orElseThrow(() -> new IllegalStateException("Parsed QName " + qname + " refers to a non-existent module"));
-
-        for (var identity : module.getIdentities()) {
-            if (qname.equals(identity.getQName())) {
-                return identity;
-            }
+        final var identity = IdentityIndex.of(schemaContext).findIdentity(qname);
+        if (identity != null) {
+            return identity;
+        }
+        if (schemaContext.findModule(qname.getModule()).isEmpty()) {
+            throw new IllegalStateException("Parsed QName " + qname + " refers to a non-existent module");
         }
-
         throw new IllegalArgumentException("Parsed QName " + qname + " does not refer to a valid identity");
     }
 }
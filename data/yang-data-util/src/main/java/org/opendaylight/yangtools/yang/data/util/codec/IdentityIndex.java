@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util.codec;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of all {@link IdentitySchemaNode}s defined in an {@link EffectiveModelContext}. Each identity is assigned
+ * a dense integer id and the transitive closure of identities derived from it is precomputed as a {@link BitSet}, so
+ * that checking whether an identity is derived from a base is a single bit test.
+ *
+ * <p>
+ * Indices are held in {@link ModelContextCache}, hence they are shared by all users of the same
+ * {@link EffectiveModelContext} and are released once that context is no longer referenced.
+ *
+ * <p>
+ * <a href="https://www.rfc-editor.org/rfc/rfc7950#section-9.10.2">RFC7950 section 9.10.2</a> requires a value of an
+ * {@code identityref} type to be derived from its bases, i.e. a base identity itself is not a valid value. Existing
+ * models and deployments rely on base identities being accepted, hence {@link #derivedIdentities(Collection)} accepts
+ * them unless the {@value #STRICT_PROP} system property is set to {@code true}.
+ */
+@Beta
+public final class IdentityIndex {
+    /**
+     * The set of identities which are valid values of an {@code identityref} type, i.e. identities which are derived
+     * from all of its bases, optionally including the bases themselves.
+     */
+    public static final class DerivedIdentities {
+        private final @NonNull IdentityIndex index;
+        private final @NonNull ImmutableSet<QName> bases;
+        private final @NonNull BitSet members;
+        private final @NonNull ImmutableMap<String, QName> jsonNames;
+        private final boolean acceptBases;
+
+        DerivedIdentities(final IdentityIndex index, final ImmutableSet<QName> bases, final BitSet members,
+                final ImmutableMap<String, QName> jsonNames, final boolean acceptBases) {
+            this.index = requireNonNull(index);
+            this.bases = requireNonNull(bases);
+            this.members = requireNonNull(members);
+            this.jsonNames = requireNonNull(jsonNames);
+            this.acceptBases = acceptBases;
+        }
+
+        /**
+         * Return the bases of this set.
+         *
+         * @return Base identities
+         */
+        public @NonNull ImmutableSet<QName> bases() {
+            return bases;
+        }
+
+        /**
+         * Check whether an identity is a member of this set.
+         *
+         * @param identity identity to check
+         * @return {@code true} if the identity is a member of this set
+         */
+        public boolean contains(final QName identity) {
+            final var id = index.ids.get(requireNonNull(identity));
+            return id != null && members.get(id);
+        }
+
+        /**
+         * Look up a member of this set by its JSON encoding, as defined in
+         * <a href="https://www.rfc-editor.org/rfc/rfc7951#section-6.8">RFC7951 section 6.8</a>. Only the fully
+         * qualified {@code module-name:identity-name} form is recognized.
+         *
+         * @param str JSON encoding of the identity
+         * @return The identity, or {@code null} if {@code str} does not name a member of this set
+         */
+        public @Nullable QName lookupJsonName(final String str) {
+            return jsonNames.get(requireNonNull(str));
+        }
+
+        /**
+         * Check that an identity is a member of this set.
+         *
+         * @param identity identity to check
+         * @return The identity
+         * @throws IllegalArgumentException if the identity is not a member of this set
+         */
+        public @NonNull QName checkMember(final QName identity) {
+            checkArgument(contains(identity), "Identity %s is not derived from %s", identity, bases);
+            return identity;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("bases", bases).add("acceptBases", acceptBases)
+                .add("size", members.cardinality()).toString();
+        }
+    }
+
+    /**
+     * Name of the system property which, when set to {@code true}, makes {@link #derivedIdentities(Collection)} reject
+     * base identities, as required by RFC7950.
+     */
+    public static final String STRICT_PROP = "org.opendaylight.yangtools.yang.data.util.codec.identityref.strict";
+
+    private static final boolean STRICT;
+
+    static {
+        STRICT = Boolean.getBoolean(STRICT_PROP);
+        if (STRICT) {
+            LoggerFactory.getLogger(IdentityIndex.class).info("Identityref values must be derived from their bases");
+        }
+    }
+
+    // Note: we must not retain the EffectiveModelContext, as it is the weak key of ModelContextCache
+    private final @NonNull ImmutableMap<QName, Integer> ids;
+    private final @NonNull ImmutableMap<QName, IdentitySchemaNode> identities;
+    private final QName[] qnames;
+    // JSON encoding of each identity, indexed by id, null if it cannot be referenced by module name
+    private final String[] jsonNames;
+    // Identities derived from each identity, not including itself, indexed by id
+    private final BitSet[] derived;
+    private final ConcurrentHashMap<ImmutableSet<QName>, DerivedIdentities> strictIdentities =
+        new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ImmutableSet<QName>, DerivedIdentities> compatIdentities =
+        new ConcurrentHashMap<>();
+
+    private IdentityIndex(final EffectiveModelContext modelContext) {
+        final var nodes = new ArrayList<IdentitySchemaNode>();
+        for (var module : modelContext.getModules()) {
+            nodes.addAll(module.getIdentities());
+        }
+
+        final var idBuilder = ImmutableMap.<QName, Integer>builderWithExpectedSize(nodes.size());
+        final var identityBuilder = ImmutableMap.<QName, IdentitySchemaNode>builderWithExpectedSize(nodes.size());
+        qnames = new QName[nodes.size()];
+        jsonNames = new String[qnames.length];
+        for (int i = 0; i < qnames.length; ++i) {
+            final var node = nodes.get(i);
+            final var qname = node.getQName();
+            qnames[i] = qname;
+            jsonNames[i] = jsonName(modelContext, qname);
+            idBuilder.put(qname, i);
+            identityBuilder.put(qname, node);
+        }
+        ids = idBuilder.build();
+        identities = identityBuilder.build();
+
+        derived = new BitSet[qnames.length];
+        for (int i = 0; i < derived.length; ++i) {
+            derived[i] = new BitSet();
+        }
+
+        // Walk the bases of each identity transitively, marking it as derived from each of them
+        final var visited = new BitSet(qnames.length);
+        for (int i = 0; i < qnames.length; ++i) {
+            visited.clear();
+            for (var base : nodes.get(i).getBaseIdentities()) {
+                markDerived(i, base, visited);
+            }
+        }
+    }
+
+    // Only names which resolve back to the same module, i.e. identities from the latest revision, can be looked up
+    private static @Nullable String jsonName(final EffectiveModelContext modelContext, final QName qname) {
+        final var module = modelContext.findModuleStatement(qname.getModule()).orElse(null);
+        if (module == null) {
+            return null;
+        }
+        final var moduleName = module.argument().getLocalName();
+        final var latest = modelContext.findModuleStatements(moduleName).iterator();
+        return latest.hasNext() && qname.getModule().equals(latest.next().localQNameModule())
+            ? moduleName + ':' + qname.getLocalName() : null;
+    }
+
+    private void markDerived(final int id, final IdentitySchemaNode node, final BitSet visited) {
+        final var nodeId = ids.get(node.getQName());
+        if (nodeId == null || visited.get(nodeId)) {
+            return;
+        }
+        visited.set(nodeId);
+        derived[nodeId].set(id);
+        for (var base : node.getBaseIdentities()) {
+            markDerived(id, base, visited);
+        }
+    }
+
+    /**
+     * Return the IdentityIndex of an {@link EffectiveModelContext}.
+     *
+     * @param modelContext EffectiveModelContext to index
+     * @return An IdentityIndex
+     */
+    public static @NonNull IdentityIndex of(final EffectiveModelContext modelContext) {
+        return ModelContextCache.getComponent(modelContext, IdentityIndex.class, IdentityIndex::new);
+    }
+
+    /**
+     * Find an identity by its {@link QName}.
+     *
+     * @param qname identity name
+     * @return The identity, or {@code null} if no such identity exists
+     */
+    public @Nullable IdentitySchemaNode findIdentity(final QName qname) {
+        return identities.get(requireNonNull(qname));
+    }
+
+    /**
+     * Check whether an identity is transitively derived from a base identity.
+     *
+     * @param identity identity to check
+     * @param base base identity
+     * @return {@code true} if {@code identity} is derived from {@code base}
+     */
+    public boolean isDerived(final QName identity, final QName base) {
+        final var identityId = ids.get(requireNonNull(identity));
+        final var baseId = ids.get(requireNonNull(base));
+        return identityId != null && baseId != null && derived[baseId].get(identityId);
+    }
+
+    /**
+     * Return the set of valid values of an {@code identityref} type with specified bases. Base identities are members
+     * of the set unless the {@value #STRICT_PROP} system property is set to {@code true}.
+     *
+     * @param bases base identities, typically those of an {@code identityref} type
+     * @return A DerivedIdentities
+     * @throws IllegalArgumentException if {@code bases} is empty or contains an identity not present in this index
+     */
+    public @NonNull DerivedIdentities derivedIdentities(final Collection<? extends IdentitySchemaNode> bases) {
+        return derivedIdentities(bases, !STRICT);
+    }
+
+    /**
+     * Return the set of identities derived from all specified bases. If {@code acceptBases} is {@code true}, the set
+     * also includes each base identity which is the same as, or is derived from, all the other bases.
+     *
+     * @param bases base identities, typically those of an {@code identityref} type
+     * @param acceptBases {@code true} if base identities should be members of the set
+     * @return A DerivedIdentities
+     * @throws IllegalArgumentException if {@code bases} is empty or contains an identity not present in this index
+     */
+    public @NonNull DerivedIdentities derivedIdentities(final Collection<? extends IdentitySchemaNode> bases,
+            final boolean acceptBases) {
+        final var qnameSet = bases.stream().map(IdentitySchemaNode::getQName).collect(ImmutableSet.toImmutableSet());
+        return acceptBases ? compatIdentities.computeIfAbsent(qnameSet, key -> computeDerivedIdentities(key, true))
+            : strictIdentities.computeIfAbsent(qnameSet, key -> computeDerivedIdentities(key, false));
+    }
+
+    private @NonNull DerivedIdentities computeDerivedIdentities(final ImmutableSet<QName> bases,
+            final boolean acceptBases) {
+        checkArgument(!bases.isEmpty(), "At least one base identity is required");
+
+        BitSet members = null;
+        for (var base : bases) {
+            final int baseId = baseId(base);
+            final var baseMembers = (BitSet) derived[baseId].clone();
+            if (acceptBases) {
+                baseMembers.set(baseId);
+            }
+            if (members == null) {
+                members = baseMembers;
+            } else {
+                members.and(baseMembers);
+            }
+        }
+
+        final var names = new HashMap<String, QName>();
+        for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+            final var jsonName = jsonNames[i];
+            if (jsonName != null) {
+                names.put(jsonName, qnames[i]);
+            }
+        }
+        return new DerivedIdentities(this, bases, members, ImmutableMap.copyOf(names), acceptBases);
+    }
+
+    private int baseId(final QName base) {
+        final var baseId = ids.get(base);
+        checkArgument(baseId != null, "Unknown base identity %s", base);
+        return baseId;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("identities", qnames.length).toString();
+    }
+}
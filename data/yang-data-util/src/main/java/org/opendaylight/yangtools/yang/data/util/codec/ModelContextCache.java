@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util.codec;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Components derived from an {@link EffectiveModelContext}, which are shared by all codecs operating on that context,
+ * such as codecs of individual types. Each component is identified by its class and is created at most once for each
+ * context.
+ *
+ * <p>
+ * Contexts are held weakly, while their components are held strongly. Components are therefore retained for as long
+ * as their context is in use and are released together with it. For this to work, a component must not reference the
+ * context it was created for.
+ *
+ * <p>
+ * Do not use this class outside of yangtools, its presence does not fall into the API stability contract.
+ */
+@Beta
+public final class ModelContextCache {
+    // Weak keys to force identity lookup and to release components once their context is gone
+    private static final LoadingCache<EffectiveModelContext, ConcurrentHashMap<Class<?>, Object>> COMPONENTS =
+        CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(() -> new ConcurrentHashMap<>()));
+
+    private ModelContextCache() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Return the component of specified type for an {@link EffectiveModelContext}, creating it if it does not exist.
+     *
+     * @param <T> component type
+     * @param modelContext EffectiveModelContext
+     * @param type component class
+     * @param factory Function creating the component, must not retain its argument
+     * @return A component
+     * @throws NullPointerException if any argument is {@code null} or if {@code factory} returns {@code null}
+     */
+    public static <T> @NonNull T getComponent(final EffectiveModelContext modelContext, final Class<T> type,
+            final Function<EffectiveModelContext, ? extends T> factory) {
+        requireNonNull(factory);
+        return type.cast(COMPONENTS.getUnchecked(modelContext).computeIfAbsent(type,
+            key -> requireNonNull(factory.apply(modelContext))));
+    }
+}
@@ -9,6 +9,8 @@ package org.opendaylight.yangtools.yang.data.util.impl.context;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -26,6 +28,9 @@ public abstract sealed class AbstractCompositeContext extends AbstractContext im
     private final ConcurrentMap<QName, AbstractContext> byQName = new ConcurrentHashMap<>();
     private final DataNodeContainer container;
 
+    // Immutable index of all children, populated by precompute(). Lookups missing it fall back to the maps above.
+    private volatile ChildIndex index;
+
     AbstractCompositeContext(final NodeIdentifier pathStep, final DataNodeContainer container,
             final DataSchemaNode schema) {
         super(pathStep, schema);
@@ -34,6 +39,14 @@ public abstract sealed class AbstractCompositeContext extends AbstractContext im
 
     @Override
     public final AbstractContext childByArg(final PathArgument arg) {
+        final var local = index;
+        if (local != null) {
+            final var indexed = local.get(arg.getNodeType());
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         final var existing = byArg.get(requireNonNull(arg));
         if (existing != null) {
             return existing;
@@ -43,6 +56,14 @@ public abstract sealed class AbstractCompositeContext extends AbstractContext im
 
     @Override
     public final AbstractContext childByQName(final QName qname) {
+        final var local = index;
+        if (local != null) {
+            final var indexed = local.get(qname);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         var existing = byQName.get(requireNonNull(qname));
         if (existing != null) {
             return existing;
@@ -60,6 +81,37 @@ public abstract sealed class AbstractCompositeContext extends AbstractContext im
         return pushToStack(stack, childByArg(arg));
     }
 
+    @Override
+    final void precompute() {
+        precompute(false);
+    }
+
+    final void precompute(final boolean parallel) {
+        if (index != null) {
+            return;
+        }
+
+        final var contexts = new ArrayList<AbstractContext>();
+        final var children = new HashMap<QName, AbstractContext>();
+        for (var child : container.getChildNodes()) {
+            final var context = childByArg(NodeIdentifier.create(child.getQName()));
+            if (context != null) {
+                contexts.add(context);
+                children.put(child.getQName(), context);
+                for (var qname : context.qnameIdentifiers()) {
+                    children.put(qname, context);
+                }
+            }
+        }
+
+        if (parallel) {
+            contexts.parallelStream().forEach(AbstractContext::precompute);
+        } else {
+            contexts.forEach(AbstractContext::precompute);
+        }
+        index = new ChildIndex(children);
+    }
+
     private static AbstractContext pushToStack(final SchemaInferenceStack stack, final AbstractContext child) {
         requireNonNull(stack);
         if (child != null) {
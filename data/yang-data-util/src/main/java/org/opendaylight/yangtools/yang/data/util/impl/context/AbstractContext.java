@@ -67,6 +67,14 @@ public abstract sealed class AbstractContext implements DataSchemaContext
         stack.enterSchemaTree(dataSchemaNode.getQName());
     }
 
+    /**
+     * Instantiate all contexts reachable from this context, so that subsequent lookups do not need to perform any
+     * schema lookups.
+     */
+    void precompute() {
+        // No children by default
+    }
+
     static AbstractContext fromSchemaAndQNameChecked(final DataNodeContainer schema, final QName child) {
         return lenientOf(findChildSchemaNode(schema, child));
     }
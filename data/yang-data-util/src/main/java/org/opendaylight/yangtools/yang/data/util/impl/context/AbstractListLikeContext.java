@@ -37,6 +37,11 @@ abstract sealed class AbstractListLikeContext extends AbstractPathMixinContext
     @Override
     public abstract AbstractContext childByArg(PathArgument arg);
 
+    @Override
+    final void precompute() {
+        child.precompute();
+    }
+
     // Stack is already pointing to the corresponding statement, now we are just working with the child
     @Override
     public final AbstractContext enterChild(final SchemaInferenceStack stack, final QName qname) {
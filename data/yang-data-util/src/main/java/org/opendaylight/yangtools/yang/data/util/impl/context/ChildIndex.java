@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util.impl.context;
+
+import static com.google.common.base.Verify.verify;
+
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+
+/**
+ * An immutable, array-based index of {@link AbstractContext} children by {@link QName}. This is an open-addressing
+ * table with linear probing and a load factor of at most 0.5, so that lookups are a couple of array reads without any
+ * synchronization.
+ */
+final class ChildIndex {
+    private final QName[] keys;
+    private final AbstractContext[] values;
+    private final int mask;
+
+    ChildIndex(final @NonNull Map<QName, AbstractContext> children) {
+        // Power-of-two capacity of at least twice the size
+        final int capacity = Integer.highestOneBit(Math.max(children.size(), 1) * 4 - 1);
+        keys = new QName[capacity];
+        values = new AbstractContext[capacity];
+        mask = capacity - 1;
+
+        for (var entry : children.entrySet()) {
+            final var key = entry.getKey();
+            int slot = slotOf(key);
+            while (keys[slot] != null) {
+                verify(!key.equals(keys[slot]), "Duplicate key %s", key);
+                slot = slot + 1 & mask;
+            }
+            keys[slot] = key;
+            values[slot] = entry.getValue();
+        }
+    }
+
+    @Nullable AbstractContext get(final @NonNull QName qname) {
+        int slot = slotOf(qname);
+        while (true) {
+            final var key = keys[slot];
+            if (key == null) {
+                return null;
+            }
+            if (qname.equals(key)) {
+                return values[slot];
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    private int slotOf(final QName qname) {
+        final int hash = qname.hashCode();
+        return (hash ^ hash >>> 16) & mask;
+    }
+}
@@ -70,6 +70,11 @@ final class ChoiceContext extends AbstractPathMixinContext {
         return pushToStack(stack, childByArg(arg));
     }
 
+    @Override
+    void precompute() {
+        byArg.values().forEach(AbstractContext::precompute);
+    }
+
     @Override
     void pushToStack(final SchemaInferenceStack stack) {
         stack.enterChoice(dataSchemaNode.getQName());
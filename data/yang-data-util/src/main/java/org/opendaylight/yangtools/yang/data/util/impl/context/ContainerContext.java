@@ -14,4 +14,11 @@ public final class ContainerContext extends AbstractCompositeContext {
     public ContainerContext(final ContainerLike schema) {
         super(NodeIdentifier.create(schema.getQName()), schema, schema);
     }
+
+    /**
+     * Instantiate all contexts reachable from this context, processing each child subtree in parallel.
+     */
+    public void precomputeTree() {
+        precompute(true);
+    }
 }
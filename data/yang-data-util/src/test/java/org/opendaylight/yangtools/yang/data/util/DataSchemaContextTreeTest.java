@@ -8,6 +8,8 @@
 package org.opendaylight.yangtools.yang.data.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Optional;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContext.Composite;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
 
 class DataSchemaContextTreeTest {
@@ -64,4 +67,21 @@ class DataSchemaContextTreeTest {
     void testNestedBad() {
         assertEquals(Optional.empty(), CONTEXT.findChild(YangInstanceIdentifier.of(BAR, BAZ)));
     }
+
+    @Test
+    void testPrecomputed() {
+        final var bar = CONTEXT.findChild(YangInstanceIdentifier.of(FOO, BAR)).orElseThrow();
+
+        final var tree = DataSchemaContextTree.precomputedFrom(CONTEXT.modelContext());
+        assertSame(CONTEXT, tree);
+        // Contexts instantiated before precomputation are retained
+        assertSame(bar, tree.findChild(YangInstanceIdentifier.of(FOO, BAR)).orElseThrow());
+
+        final var foo = assertInstanceOf(Composite.class,
+            tree.findChild(YangInstanceIdentifier.of(FOO)).orElseThrow());
+        assertSame(bar, foo.childByQName(BAZ));
+        assertSame(bar, foo.childByQName(BAR));
+        assertTrue(tree.findChild(YangInstanceIdentifier.of(FOO, BAR, BAZ)).isPresent());
+        assertEquals(Optional.empty(), tree.findChild(YangInstanceIdentifier.of(BAR, BAZ)));
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class IdentityIndexTest {
+    private static final QNameModule FOO = QNameModule.of("foo");
+    private static final QNameModule BAR = QNameModule.of("bar");
+    private static final QName BASE = QName.create(FOO, "base");
+    private static final QName ONE = QName.create(FOO, "one");
+    private static final QName TWO = QName.create(BAR, "two");
+    private static final QName OTHER = QName.create(FOO, "other");
+    private static final QName BOTH = QName.create(BAR, "both");
+    private static final QName UNRELATED = QName.create(BAR, "unrelated");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+    private static IdentityIndex INDEX;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+
+              identity base;
+              identity one {
+                base base;
+              }
+              identity other;
+            }""", """
+            module bar {
+              yang-version 1.1;
+              namespace bar;
+              prefix bar;
+
+              import foo {
+                prefix foo;
+              }
+
+              identity two {
+                base foo:one;
+              }
+              identity both {
+                base two;
+                base foo:other;
+              }
+              identity unrelated;
+            }""");
+        INDEX = IdentityIndex.of(MODEL_CONTEXT);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+        INDEX = null;
+    }
+
+    @Test
+    void testIndexIsShared() {
+        assertSame(INDEX, IdentityIndex.of(MODEL_CONTEXT));
+    }
+
+    @Test
+    void testFindIdentity() {
+        assertEquals(TWO, assertIdentity(TWO).getQName());
+        assertNull(INDEX.findIdentity(QName.create(FOO, "nonexistent")));
+    }
+
+    @Test
+    void testIsDerived() {
+        assertFalse(INDEX.isDerived(BASE, BASE));
+        assertTrue(INDEX.isDerived(ONE, BASE));
+        assertTrue(INDEX.isDerived(TWO, BASE));
+        assertTrue(INDEX.isDerived(BOTH, BASE));
+        assertTrue(INDEX.isDerived(BOTH, OTHER));
+        assertFalse(INDEX.isDerived(BASE, ONE));
+        assertFalse(INDEX.isDerived(OTHER, BASE));
+        assertFalse(INDEX.isDerived(UNRELATED, BASE));
+        assertFalse(INDEX.isDerived(QName.create(FOO, "nonexistent"), BASE));
+    }
+
+    @Test
+    void testDerivedIdentities() {
+        final var derived = INDEX.derivedIdentities(List.of(assertIdentity(ONE)), false);
+        assertSame(derived, INDEX.derivedIdentities(List.of(assertIdentity(ONE)), false));
+
+        assertFalse(derived.contains(ONE));
+        assertTrue(derived.contains(TWO));
+        assertTrue(derived.contains(BOTH));
+        assertFalse(derived.contains(BASE));
+        assertFalse(derived.contains(OTHER));
+
+        assertEquals(TWO, derived.lookupJsonName("bar:two"));
+        assertNull(derived.lookupJsonName("foo:one"));
+        assertNull(derived.lookupJsonName("two"));
+        assertNull(derived.lookupJsonName("foo:base"));
+        assertNull(derived.lookupJsonName("bar:unrelated"));
+
+        assertSame(TWO, derived.checkMember(TWO));
+        final var ex = assertThrows(IllegalArgumentException.class, () -> derived.checkMember(ONE));
+        assertEquals("Identity (foo)one is not derived from [(foo)one]", ex.getMessage());
+    }
+
+    @Test
+    void testDerivedIdentitiesAcceptingBases() {
+        final var derived = INDEX.derivedIdentities(List.of(assertIdentity(ONE)), true);
+        assertSame(derived, INDEX.derivedIdentities(List.of(assertIdentity(ONE)), true));
+        assertNotSame(derived, INDEX.derivedIdentities(List.of(assertIdentity(ONE)), false));
+
+        assertTrue(derived.contains(ONE));
+        assertTrue(derived.contains(TWO));
+        assertTrue(derived.contains(BOTH));
+        assertFalse(derived.contains(BASE));
+        assertFalse(derived.contains(OTHER));
+
+        assertEquals(ONE, derived.lookupJsonName("foo:one"));
+        assertEquals(TWO, derived.lookupJsonName("bar:two"));
+        assertNull(derived.lookupJsonName("foo:base"));
+
+        assertSame(ONE, derived.checkMember(ONE));
+        final var ex = assertThrows(IllegalArgumentException.class, () -> derived.checkMember(UNRELATED));
+        assertEquals("Identity (bar)unrelated is not derived from [(foo)one]", ex.getMessage());
+    }
+
+    @Test
+    void testDefaultAcceptsBases() {
+        // Compatibility mode, unless overridden by the system property
+        assertSame(INDEX.derivedIdentities(List.of(assertIdentity(ONE)), true),
+            INDEX.derivedIdentities(List.of(assertIdentity(ONE))));
+    }
+
+    @Test
+    void testDerivedFromMultipleBases() {
+        final var derived = INDEX.derivedIdentities(List.of(assertIdentity(BASE), assertIdentity(OTHER)), false);
+        assertTrue(derived.contains(BOTH));
+        assertFalse(derived.contains(BASE));
+        assertFalse(derived.contains(ONE));
+        assertFalse(derived.contains(TWO));
+        assertFalse(derived.contains(OTHER));
+        assertEquals(BOTH, derived.lookupJsonName("bar:both"));
+        assertNull(derived.lookupJsonName("bar:two"));
+    }
+
+    @Test
+    void testMultipleBasesAcceptingBases() {
+        // A base is accepted only if it is derived from the other bases
+        final var unrelated = INDEX.derivedIdentities(List.of(assertIdentity(BASE), assertIdentity(OTHER)), true);
+        assertTrue(unrelated.contains(BOTH));
+        assertFalse(unrelated.contains(BASE));
+        assertFalse(unrelated.contains(OTHER));
+
+        final var related = INDEX.derivedIdentities(List.of(assertIdentity(BASE), assertIdentity(ONE)), true);
+        assertTrue(related.contains(ONE));
+        assertTrue(related.contains(TWO));
+        assertFalse(related.contains(BASE));
+    }
+
+    @Test
+    void testNoBases() {
+        final var ex = assertThrows(IllegalArgumentException.class,
+            () -> INDEX.derivedIdentities(List.of()));
+        assertEquals("At least one base identity is required", ex.getMessage());
+    }
+
+    private static IdentitySchemaNode assertIdentity(final QName qname) {
+        final var identity = INDEX.findIdentity(qname);
+        assertNotNull(identity);
+        return identity;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class ModelContextCacheTest {
+    private static final String FOO = """
+        module foo {
+          namespace foo;
+          prefix foo;
+        }""";
+
+    @Test
+    void componentIsCreatedOncePerContext() {
+        final var first = YangParserTestUtils.parseYang(FOO);
+        final var second = YangParserTestUtils.parseYang(FOO);
+        final var created = new AtomicInteger();
+
+        final var component = ModelContextCache.getComponent(first, StringBuilder.class, ctx -> {
+            created.incrementAndGet();
+            return new StringBuilder();
+        });
+        assertSame(component, ModelContextCache.getComponent(first, StringBuilder.class, ctx -> new StringBuilder()));
+        assertEquals(1, created.get());
+
+        assertNotSame(component, ModelContextCache.getComponent(second, StringBuilder.class,
+            ctx -> new StringBuilder()));
+    }
+
+    @Test
+    void nullComponentIsRejected() {
+        final var modelContext = YangParserTestUtils.parseYang(FOO);
+        assertThrows(NullPointerException.class,
+            () -> ModelContextCache.getComponent(modelContext, StringBuilder.class, ctx -> null));
+    }
+}
@@ -218,8 +218,9 @@ public final class SchemaInferenceStack implements Mutable, LeafrefResolver {
      * @throws IllegalArgumentException if {@code path} cannot be resolved in the effective model
      */
     public static @NonNull SchemaInferenceStack of(final EffectiveModelContext effectiveModel, final Absolute path) {
-        final var ret = new SchemaInferenceStack(effectiveModel);
-        path.getNodeIdentifiers().forEach(ret::enterSchemaTree);
+        final var resolved = SchemaTreePathIndex.of(effectiveModel).resolve(effectiveModel, path);
+        final var ret = new SchemaInferenceStack(effectiveModel, resolved.statements().size());
+        ret.loadResolved(resolved);
         return ret;
     }
 
@@ -419,6 +420,16 @@ public final class SchemaInferenceStack implements Mutable, LeafrefResolver {
         return Status.CURRENT;
     }
 
+    @NonNull ImmutableList<EffectiveStatement<?, ?>> toStatementList() {
+        return ImmutableList.copyOf(deque);
+    }
+
+    // Load a resolved Absolute path into an empty stack
+    private void loadResolved(final SchemaTreePathIndex.Resolved resolved) {
+        deque.addAll(resolved.statements());
+        currentModule = resolved.module();
+    }
+
     /**
      * Reset this stack to empty state.
      */
@@ -429,6 +440,40 @@ public final class SchemaInferenceStack implements Mutable, LeafrefResolver {
         clean = true;
     }
 
+    /**
+     * Reset this stack to the state of an {@link EffectiveStatementInference}. The result is equivalent to
+     * {@link #ofInference(EffectiveStatementInference)}, except the storage of this stack is reused, which allows this
+     * stack to be reused across multiple traversals.
+     *
+     * @param inference Inference to use for initialization
+     * @throws NullPointerException if {@code inference} is {@code null}
+     * @throws IllegalArgumentException if {@code inference} is attached to a different {@link EffectiveModelContext}
+     *                                  or its implementation is not supported
+     */
+    public void resetTo(final EffectiveStatementInference inference) {
+        checkArgument(modelContext == inference.modelContext(), "Inference %s uses a different model context",
+            inference);
+        clear();
+        if (inference instanceof Inference inf) {
+            deque.addAll(inf.deque);
+            currentModule = inf.currentModule;
+            groupingDepth = inf.groupingDepth;
+            clean = inf.clean;
+        } else if (inference.statementPath().isEmpty()) {
+            // Nothing else to do
+        } else if (inference instanceof DefaultSchemaTreeInference dsti && !VERIFY_DEFAULT_SCHEMA_TREE_INFERENCE) {
+            final var path = dsti.statementPath();
+            currentModule = getModule(path.get(0).argument());
+            deque.addAll(path);
+        } else {
+            final var other = ofInference(inference);
+            deque.addAll(other.deque);
+            currentModule = other.currentModule;
+            groupingDepth = other.groupingDepth;
+            clean = other.clean;
+        }
+    }
+
     /**
      * Lookup a {@code choice} by its node identifier and push it to the stack. This step is very similar to
      * {@link #enterSchemaTree(QName)}, except it handles the use case where traversal ignores actual {@code case}
@@ -511,8 +556,11 @@ public final class SchemaInferenceStack implements Mutable, LeafrefResolver {
      * @throws IllegalArgumentException if the corresponding node cannot be found
      */
     public @NonNull SchemaTreeEffectiveStatement<?> enterSchemaTree(final SchemaNodeIdentifier nodeIdentifier) {
-        if (nodeIdentifier instanceof Absolute) {
+        if (nodeIdentifier instanceof Absolute absolute) {
+            final var resolved = SchemaTreePathIndex.of(modelContext).resolve(modelContext, absolute);
             clear();
+            loadResolved(resolved);
+            return (SchemaTreeEffectiveStatement<?>) deque.getLast();
         }
 
         final var it = nodeIdentifier.getNodeIdentifiers().iterator();
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+/**
+ * Per-{@link EffectiveModelContext} index of {@link Absolute} schema node identifiers to their resolved statement
+ * paths. Codecs and {@code DataSchemaContextTree} instantiate {@link SchemaInferenceStack}s for the same handful of
+ * paths over and over, hence we resolve each path only once and copy the result on subsequent requests.
+ *
+ * <p>
+ * Only successful resolutions are indexed. The index holds on to statements of its context, but not to the context
+ * itself, so it is released together with the context.
+ */
+final class SchemaTreePathIndex {
+    /**
+     * A resolved path: the module in which it starts and the statements along it.
+     */
+    record Resolved(
+            @NonNull ModuleEffectiveStatement module,
+            @NonNull ImmutableList<EffectiveStatement<?, ?>> statements) {
+        Resolved {
+            requireNonNull(module);
+            requireNonNull(statements);
+        }
+    }
+
+    private static final LoadingCache<EffectiveModelContext, SchemaTreePathIndex> INDICES =
+        CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(() -> new SchemaTreePathIndex()));
+
+    private final ConcurrentHashMap<Absolute, Resolved> paths = new ConcurrentHashMap<>();
+
+    private SchemaTreePathIndex() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Return the index of specified context.
+     *
+     * @param modelContext Context to index
+     * @return A SchemaTreePathIndex
+     */
+    static @NonNull SchemaTreePathIndex of(final @NonNull EffectiveModelContext modelContext) {
+        return INDICES.getUnchecked(modelContext);
+    }
+
+    /**
+     * Resolve an {@link Absolute} path in specified context, which must be the context this index was obtained for.
+     *
+     * @param modelContext Context to resolve the path in
+     * @param path Path to resolve
+     * @return Resolved path
+     * @throws IllegalArgumentException if {@code path} cannot be resolved in the effective model
+     */
+    @NonNull Resolved resolve(final @NonNull EffectiveModelContext modelContext, final @NonNull Absolute path) {
+        final var existing = paths.get(path);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Resolve outside of computeIfAbsent(), so that failures propagate without touching the map
+        final var stack = SchemaInferenceStack.of(modelContext);
+        path.getNodeIdentifiers().forEach(stack::enterSchemaTree);
+        final var resolved = new Resolved(stack.currentModule(), stack.toStatementList());
+        final var raced = paths.putIfAbsent(path, resolved);
+        return raced != null ? raced : resolved;
+    }
+}
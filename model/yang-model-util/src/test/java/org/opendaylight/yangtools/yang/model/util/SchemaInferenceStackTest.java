@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -31,6 +32,7 @@ import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.PathExpression;
 import org.opendaylight.yangtools.yang.model.api.PathExpression.LocationPathSteps;
 import org.opendaylight.yangtools.yang.model.api.Status;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
 import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath;
 import org.opendaylight.yangtools.yang.xpath.api.YangXPathAxis;
@@ -103,6 +105,71 @@ class SchemaInferenceStackTest {
             ex.getMessage());
     }
 
+    @Test
+    void ofAbsoluteTest() {
+        final var myContainer = QName.create(myModule.getQNameModule(), "my-container");
+        final var myLeaf = QName.create(myModule.getQNameModule(), "my-leaf-in-container");
+        final var path = Absolute.of(myContainer, myLeaf);
+
+        final var first = SchemaInferenceStack.of(CONTEXT, path);
+        final var second = SchemaInferenceStack.of(CONTEXT, path);
+        assertSame(first.currentStatement(), second.currentStatement());
+        assertSame(first.currentModule(), second.currentModule());
+
+        // Stacks instantiated from the same path are independent of each other
+        assertEquals(myLeaf, first.exit().argument());
+        assertEquals(myContainer, first.currentStatement().argument());
+        assertEquals(myLeaf, second.currentStatement().argument());
+
+        // Entering an absolute path replaces current state
+        assertSame(second.currentStatement(), first.enterSchemaTree(path));
+        assertEquals(second.toSchemaTreeInference().statementPath(), first.toSchemaTreeInference().statementPath());
+    }
+
+    @Test
+    void resetToTest() {
+        final var myContainer = QName.create(myModule.getQNameModule(), "my-container");
+        final var myLeaf = QName.create(myModule.getQNameModule(), "my-leaf-in-container");
+        final var source = SchemaInferenceStack.of(CONTEXT, Absolute.of(myContainer, myLeaf));
+
+        final var stack = SchemaInferenceStack.of(CONTEXT);
+        stack.enterGrouping(getGroupingByName(myModule, "my-grouping").getQName());
+        stack.resetTo(source.toInference());
+        assertEquals(myLeaf, stack.currentStatement().argument());
+        assertSame(source.currentModule(), stack.currentModule());
+        assertEquals(source.toSchemaTreeInference().statementPath(), stack.toSchemaTreeInference().statementPath());
+
+        stack.resetTo(source.toSchemaTreeInference());
+        assertEquals(myLeaf, stack.currentStatement().argument());
+        assertEquals(myLeaf, stack.exit().argument());
+        assertEquals(myContainer, stack.currentStatement().argument());
+
+        stack.resetTo(SchemaInferenceStack.Inference.of(CONTEXT));
+        assertTrue(stack.isEmpty());
+
+        final var other = YangParserTestUtils.parseYang("""
+            module other {
+              namespace other;
+              prefix other;
+            }""");
+        final var otherInference = SchemaInferenceStack.Inference.of(other);
+        final var ex = assertThrows(IllegalArgumentException.class, () -> stack.resetTo(otherInference));
+        assertEquals("Inference " + otherInference + " uses a different model context", ex.getMessage());
+    }
+
+    @Test
+    void ofAbsoluteNegativeTest() {
+        final var path = Absolute.of(QName.create(myModule.getQNameModule(), "my-container"),
+            QName.create(myModule.getQNameModule(), "does-not-exist"));
+        assertThrows(IllegalArgumentException.class, () -> SchemaInferenceStack.of(CONTEXT, path));
+        // Failures are not remembered
+        assertThrows(IllegalArgumentException.class, () -> SchemaInferenceStack.of(CONTEXT, path));
+
+        final var stack = SchemaInferenceStack.of(CONTEXT);
+        stack.enterDataTree(QName.create(myModule.getQNameModule(), "my-container"));
+        assertThrows(IllegalArgumentException.class, () -> stack.enterSchemaTree(path));
+    }
+
     @Test
     void enterGroupingNegativeTest() {
         final var stack = SchemaInferenceStack.of(CONTEXT);
@@ -11,6 +11,8 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 
@@ -217,6 +219,10 @@ public abstract sealed class IRArgument extends AbstractIRObject {
         }
     }
 
+    // Arguments such as type names, boolean values and common descriptions recur across sources. Intern them JVM-wide,
+    // so that each distinct argument is retained only once, regardless of how many sources use it.
+    private static final Interner<Single> SINGLES = Interners.newWeakInterner();
+
     private IRArgument() {
         // Hidden on purpose
     }
@@ -226,19 +232,19 @@ public abstract sealed class IRArgument extends AbstractIRObject {
     }
 
     public static @NonNull Single identifier(final String string) {
-        return new Identifier(string);
+        return SINGLES.intern(new Identifier(string));
     }
 
     public static @NonNull Single singleQuoted(final String string) {
-        return new SingleQuoted(string);
+        return string.isEmpty() ? empty() : SINGLES.intern(new SingleQuoted(string));
     }
 
     public static @NonNull Single doubleQuoted(final String string) {
-        return new DoubleQuoted(string);
+        return SINGLES.intern(new DoubleQuoted(string));
     }
 
     public static @NonNull Single unquoted(final String string) {
-        return new Unquoted(string);
+        return SINGLES.intern(new Unquoted(string));
     }
 
     public static @NonNull IRArgument of(final List<Single> parts) {
@@ -10,6 +10,8 @@ package org.opendaylight.yangtools.yang.ir;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -36,7 +38,7 @@ public abstract sealed class IRKeyword extends AbstractIRObject {
         }
 
         public static @NonNull Qualified of(final String prefix, final String localName) {
-            return new Qualified(prefix, localName);
+            return (Qualified) INTERNER.intern(new Qualified(prefix, localName));
         }
 
         @Override
@@ -61,7 +63,7 @@ public abstract sealed class IRKeyword extends AbstractIRObject {
         }
 
         public static @NonNull Unqualified of(final String localName) {
-            return new Unqualified(localName);
+            return (Unqualified) INTERNER.intern(new Unqualified(localName));
         }
 
         @Override
@@ -80,6 +82,9 @@ public abstract sealed class IRKeyword extends AbstractIRObject {
         }
     }
 
+    // Keywords are shared across all sources, hence we intern them JVM-wide
+    private static final Interner<IRKeyword> INTERNER = Interners.newWeakInterner();
+
     private final @NonNull String identifier;
 
     IRKeyword(final String localName) {
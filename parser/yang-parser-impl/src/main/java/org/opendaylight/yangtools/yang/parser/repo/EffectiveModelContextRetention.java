@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.repo;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retention policy for {@link EffectiveModelContext}s built by a {@link SharedSchemaRepository}. Contexts are held
+ * strongly until their total weight exceeds a configured maximum, at which point the least valuable ones are released
+ * back to {@link SharedEffectiveModelContextFactory}'s reference-based cache, where they remain available for as long
+ * as someone else holds them.
+ *
+ * <p>
+ * Eviction order follows the GreedyDual-Size algorithm: each context is assigned a priority equal to its build time
+ * divided by its weight, offset by an inflation value which is raised to the priority of each evicted context. The
+ * context with the lowest priority is evicted first, hence contexts which are cheap to rebuild relative to the memory
+ * they occupy go first, while recently-accessed contexts age out gradually. Weight is estimated as the number of
+ * effective statements in the context.
+ *
+ * <p>
+ * Pinned contexts are never evicted, but their weight still counts towards the maximum.
+ */
+final class EffectiveModelContextRetention implements SharedSchemaRepositoryMXBean {
+    private static final class Node {
+        private final long sequence;
+        private final long cost;
+        private final long weight;
+
+        // Guarded by EffectiveModelContextRetention.this
+        private @Nullable EffectiveModelContext context;
+        private double priority;
+        private int pins;
+
+        Node(final long sequence, final long cost, final long weight) {
+            this.sequence = sequence;
+            this.cost = cost;
+            this.weight = weight;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                .add("cost", cost)
+                .add("weight", weight)
+                .add("priority", priority)
+                .add("pins", pins)
+                .add("retained", context != null)
+                .toString();
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(EffectiveModelContextRetention.class);
+    private static final Comparator<Node> EVICTION_ORDER = Comparator.<Node>comparingDouble(node -> node.priority)
+        .thenComparingLong(node -> node.sequence);
+
+    // Weak keys imply identity comparison, which is what we want
+    private final ConcurrentMap<EffectiveModelContext, Node> nodes = new MapMaker().weakKeys().makeMap();
+    private final TreeSet<Node> evictable = new TreeSet<>(EVICTION_ORDER);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder buildNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final long maximumWeight;
+
+    // Guarded by this
+    private long nextSequence;
+    private double inflation;
+    private long retainedWeight;
+    private int retainedCount;
+    private int pinnedCount;
+
+    EffectiveModelContextRetention(final long maximumWeight) {
+        checkArgument(maximumWeight >= 0, "Invalid maximum weight %s", maximumWeight);
+        this.maximumWeight = maximumWeight;
+    }
+
+    void recordHit(final ListenableFuture<EffectiveModelContext> future) {
+        hits.increment();
+        if (future.isDone() && !future.isCancelled()) {
+            final EffectiveModelContext context;
+            try {
+                context = Futures.getDone(future);
+            } catch (ExecutionException e) {
+                LOG.trace("Ignoring failed future {}", future, e);
+                return;
+            }
+            touch(context);
+        }
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordFailure(final long elapsedNanos) {
+        failures.increment();
+        buildNanos.add(elapsedNanos);
+    }
+
+    void recordSuccess(final @NonNull EffectiveModelContext context, final long elapsedNanos) {
+        builds.increment();
+        buildNanos.add(elapsedNanos);
+
+        // Walk the context outside of the lock
+        final long weight = estimateWeight(context);
+        synchronized (this) {
+            final var node = new Node(nextSequence++, Math.max(elapsedNanos, 1), weight);
+            nodes.put(context, node);
+            retain(node, context);
+            makeEvictable(node);
+            evict();
+        }
+    }
+
+    synchronized @NonNull Registration pin(final EffectiveModelContext context) {
+        final var node = nodes.get(requireNonNull(context));
+        checkArgument(node != null, "Context %s was not built by this repository", context);
+
+        if (node.pins++ == 0) {
+            pinnedCount++;
+            if (node.context == null) {
+                // Evicted, but still in use: take it back
+                retain(node, context);
+                evict();
+            } else {
+                evictable.remove(node);
+            }
+        }
+
+        return new AbstractRegistration() {
+            @Override
+            protected void removeRegistration() {
+                unpin(node);
+            }
+        };
+    }
+
+    private synchronized void unpin(final Node node) {
+        if (--node.pins == 0) {
+            pinnedCount--;
+            makeEvictable(node);
+            evict();
+        }
+    }
+
+    private synchronized void touch(final EffectiveModelContext context) {
+        final var node = nodes.get(context);
+        if (node != null && node.pins == 0) {
+            if (node.context == null) {
+                // Evicted, but still in use and requested again: take it back
+                retain(node, context);
+            } else {
+                evictable.remove(node);
+            }
+            makeEvictable(node);
+            evict();
+        }
+    }
+
+    // Guarded by this
+    private void retain(final Node node, final EffectiveModelContext context) {
+        node.context = context;
+        retainedWeight += node.weight;
+        retainedCount++;
+    }
+
+    // Guarded by this
+    private void makeEvictable(final Node node) {
+        node.priority = inflation + (double) node.cost / node.weight;
+        evictable.add(node);
+    }
+
+    // Guarded by this
+    private void evict() {
+        while (retainedWeight > maximumWeight) {
+            final var victim = evictable.pollFirst();
+            if (victim == null) {
+                LOG.debug("Retained weight {} exceeds maximum {} due to pinned contexts", retainedWeight,
+                    maximumWeight);
+                return;
+            }
+
+            LOG.debug("Evicting {}", victim);
+            inflation = victim.priority;
+            victim.context = null;
+            retainedWeight -= victim.weight;
+            retainedCount--;
+            evictions.increment();
+        }
+    }
+
+    private static long estimateWeight(final EffectiveModelContext context) {
+        final var queue = new ArrayDeque<EffectiveStatement<?, ?>>(context.getModuleStatements().values());
+        long weight = 0;
+        while (!queue.isEmpty()) {
+            weight++;
+            queue.addAll(queue.pop().effectiveSubstatements());
+        }
+        return Math.max(weight, 1);
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getBuildCount() {
+        return builds.sum();
+    }
+
+    @Override
+    public long getBuildFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getTotalBuildTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(buildNanos.sum());
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public synchronized int getRetainedContextCount() {
+        return retainedCount;
+    }
+
+    @Override
+    public synchronized int getPinnedContextCount() {
+        return pinnedCount;
+    }
+
+    @Override
+    public synchronized long getRetainedWeight() {
+        return retainedWeight;
+    }
+
+    @Override
+    public long getMaximumRetainedWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("hits", getHitCount())
+            .add("misses", getMissCount())
+            .add("retained", getRetainedContextCount())
+            .add("weight", getRetainedWeight())
+            .add("maximumWeight", maximumWeight)
+            .toString();
+    }
+}
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -113,14 +114,15 @@ final class SharedEffectiveModelContextFactory implements EffectiveModelContextF
     private static final Cleaner CLEANER = Cleaner.create();
 
     private final ConcurrentMap<Set<SourceIdentifier>, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final EffectiveModelContextRetention retention;
     private final AssembleSources assembleSources;
     private final SchemaRepository repository;
 
     SharedEffectiveModelContextFactory(final @NonNull SharedSchemaRepository repository,
             final @NonNull SchemaContextFactoryConfiguration config) {
         this.repository = requireNonNull(repository);
+        retention = repository.retention();
         assembleSources = new AssembleSources(repository.factory(), config);
-
     }
 
     @Override
@@ -141,6 +143,7 @@ final class SharedEffectiveModelContextFactory implements EffectiveModelContextF
         // Request a future from the entry, which indicates the context is either available or being constructed
         final ListenableFuture<EffectiveModelContext> existing = entry.future();
         if (existing != null) {
+            retention.recordHit(existing);
             return existing;
         }
         // The entry cannot satisfy our request: remove it and fall back to computation
@@ -162,6 +165,7 @@ final class SharedEffectiveModelContextFactory implements EffectiveModelContextF
             final ListenableFuture<EffectiveModelContext> existing = prevEntry.future();
             if (existing != null) {
                 // .. yup, we are done here
+                retention.recordHit(existing);
                 return existing;
             }
 
@@ -173,6 +177,7 @@ final class SharedEffectiveModelContextFactory implements EffectiveModelContextF
         // EffectiveModelContext being garbage-collected just after have computed it and before we have acquired a
         // reference to it.
         final ListenableFuture<EffectiveModelContext> result = ourEntry.getFuture();
+        retention.recordMiss();
         resolveEntry(sources, ourEntry);
         return result;
     }
@@ -210,13 +215,15 @@ final class SharedEffectiveModelContextFactory implements EffectiveModelContextF
                     cache.remove(sources, entry);
                 });
 
-                // Flip the entry to resolved
+                // Flip the entry to resolved and let retention policy decide how long to hold it strongly
                 entry.resolve(result);
+                retention.recordSuccess(result, sw.elapsed(TimeUnit.NANOSECONDS));
             }
 
             @Override
             public void onFailure(final Throwable cause) {
                 LOG.debug("Failed assembly of {} in {}", sources, sw, cause);
+                retention.recordFailure(sw.elapsed(TimeUnit.NANOSECONDS));
                 entry.getFuture().setException(cause);
 
                 // remove failed result from the cache so it can be recomputed, as this might have been a transient
@@ -16,6 +16,8 @@ import com.google.common.cache.LoadingCache;
 import org.eclipse.jdt.annotation.NonNull;
 import org.kohsuke.MetaInfServices;
 import org.opendaylight.yangtools.concepts.Identifiable;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
 import org.opendaylight.yangtools.yang.model.repo.api.EffectiveModelContextFactory;
@@ -30,12 +32,25 @@ import org.opendaylight.yangtools.yang.parser.impl.DefaultYangParserFactory;
  *
  * <p>
  * Note: for current implementation, "same" means the same filter and the same set of {@link SourceIdentifier}s.
+ *
+ * <p>
+ * Built contexts are shared for as long as they are in use. In addition, the repository can hold on to contexts which
+ * are not in use, up to a maximum total weight expressed in effective statements, evicting those which are cheapest to
+ * rebuild relative to their weight first. The default maximum weight is taken from the
+ * {@value #RETAINED_WEIGHT_PROP} system property and defaults to {@code 0}, i.e. no contexts are retained. Contexts
+ * in active use can be protected from eviction via {@link #pinEffectiveModelContext(EffectiveModelContext)}. Cache
+ * performance can be monitored via {@link #getMXBean()}.
  */
 @Beta
 @MetaInfServices(value = SchemaRepository.class)
 public final class SharedSchemaRepository extends AbstractSchemaRepository implements Identifiable<String> {
+    private static final String RETAINED_WEIGHT_PROP = "org.opendaylight.yangtools.yang.parser.repo.retained-weight";
+    private static final long DEFAULT_RETAINED_WEIGHT = Long.getLong(RETAINED_WEIGHT_PROP, 0);
+
+    // Factories are cheap and their number is bounded by the number of distinct configurations, hence we hold them
+    // strongly. Contexts are bounded by retention.
     private final LoadingCache<SchemaContextFactoryConfiguration, EffectiveModelContextFactory> cacheByConfig =
-            CacheBuilder.newBuilder().softValues()
+            CacheBuilder.newBuilder()
             .build(new CacheLoader<SchemaContextFactoryConfiguration, EffectiveModelContextFactory>() {
                 @Override
                 public EffectiveModelContextFactory load(final SchemaContextFactoryConfiguration key) {
@@ -45,6 +60,7 @@ public final class SharedSchemaRepository extends AbstractSchemaRepository imple
 
     private final @NonNull String id;
     private final @NonNull YangParserFactory factory;
+    private final @NonNull EffectiveModelContextRetention retention;
 
     public SharedSchemaRepository() {
         this("unnamed");
@@ -55,8 +71,21 @@ public final class SharedSchemaRepository extends AbstractSchemaRepository imple
     }
 
     public SharedSchemaRepository(final String id, final YangParserFactory factory) {
+        this(id, factory, DEFAULT_RETAINED_WEIGHT);
+    }
+
+    /**
+     * Construct a new repository retaining up to specified weight of unused contexts.
+     *
+     * @param id Repository identifier
+     * @param factory Parser factory
+     * @param maximumRetainedWeight Maximum total weight of retained contexts, in effective statements
+     * @throws IllegalArgumentException if {@code maximumRetainedWeight} is negative
+     */
+    public SharedSchemaRepository(final String id, final YangParserFactory factory, final long maximumRetainedWeight) {
         this.id = requireNonNull(id);
         this.factory = requireNonNull(factory);
+        retention = new EffectiveModelContextRetention(maximumRetainedWeight);
     }
 
     @Override
@@ -70,10 +99,37 @@ public final class SharedSchemaRepository extends AbstractSchemaRepository imple
         return cacheByConfig.getUnchecked(config);
     }
 
+    /**
+     * Pin an {@link EffectiveModelContext} built by this repository, preventing it from being evicted until the
+     * returned registration is closed. Pinning an evicted context which is still in use makes it retained again.
+     *
+     * @param context Context to pin
+     * @return A {@link Registration}, which needs to be closed to unpin the context
+     * @throws NullPointerException if {@code context} is {@code null}
+     * @throws IllegalArgumentException if {@code context} was not built by this repository
+     */
+    public @NonNull Registration pinEffectiveModelContext(final EffectiveModelContext context) {
+        return retention.pin(context);
+    }
+
+    /**
+     * Return the MXBean reporting effective model context cache metrics of this repository. It is up to the caller to
+     * register it with an MBean server.
+     *
+     * @return An MXBean
+     */
+    public @NonNull SharedSchemaRepositoryMXBean getMXBean() {
+        return retention;
+    }
+
     @NonNull YangParserFactory factory() {
         return factory;
     }
 
+    @NonNull EffectiveModelContextRetention retention() {
+        return retention;
+    }
+
     @Override
     public String toString() {
         return "SchemaRepository: " + id;
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.repo;
+
+import javax.management.MXBean;
+
+/**
+ * MXBean interface for {@link SharedSchemaRepository} effective model context cache metrics.
+ */
+@MXBean
+public interface SharedSchemaRepositoryMXBean {
+    /**
+     * Returns the number of requests satisfied by a context which was either available or being built.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of requests which had to start building a new context.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of contexts built successfully.
+     */
+    long getBuildCount();
+
+    /**
+     * Returns the number of context builds which have failed.
+     */
+    long getBuildFailureCount();
+
+    /**
+     * Returns the cumulative time spent building contexts, in milliseconds.
+     */
+    long getTotalBuildTimeMillis();
+
+    /**
+     * Returns the number of contexts evicted from the retained set.
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of contexts currently retained.
+     */
+    int getRetainedContextCount();
+
+    /**
+     * Returns the number of retained contexts which are currently pinned.
+     */
+    int getPinnedContextCount();
+
+    /**
+     * Returns the total estimated weight of retained contexts, in effective statements.
+     */
+    long getRetainedWeight();
+
+    /**
+     * Returns the configured maximum weight of retained contexts, in effective statements.
+     */
+    long getMaximumRetainedWeight();
+}
@@ -10,6 +10,8 @@ package org.opendaylight.yangtools.yang.parser.repo;
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFailedFluentFuture;
 import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
@@ -18,8 +20,10 @@ import com.google.common.util.concurrent.ListenableFuture;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.api.stmt.DescriptionEffectiveStatement;
 import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactoryConfiguration;
 import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource;
@@ -59,6 +63,19 @@ class SharedEffectiveModelContextFactoryTest {
         assertNotNull(schemaContext.get());
     }
 
+    @Test
+    void testStatementsSharedAcrossContexts() throws Exception {
+        final var sharedSchemaContextFactory = new SharedEffectiveModelContextFactory(repository, config);
+        final var first = sharedSchemaContextFactory.createEffectiveModelContext(s1).get();
+        final var second = sharedSchemaContextFactory.createEffectiveModelContext(s1, s2).get();
+        assertNotSame(first, second);
+
+        final var firstDescription = assertInetTypesDescription(first);
+        final var secondDescription = assertInetTypesDescription(second);
+        assertSame(firstDescription, secondDescription);
+        assertSame(firstDescription.getDeclared(), secondDescription.getDeclared());
+    }
+
     @Test
     void testSourceRegisteredWithDifferentSI() throws Exception {
         final var source1 = assertYangText("/ietf/ietf-inet-types@2010-09-24.yang");
@@ -102,6 +119,11 @@ class SharedEffectiveModelContextFactoryTest {
         assertNotNull(schemaContext.get());
     }
 
+    private static DescriptionEffectiveStatement assertInetTypesDescription(final EffectiveModelContext context) {
+        return context.findModuleStatements("ietf-inet-types").iterator().next()
+            .findFirstEffectiveSubstatement(DescriptionEffectiveStatement.class).orElseThrow();
+    }
+
     private static URLYangTextSource assertYangText(final String resourceName) {
         return new URLYangTextSource(AbstractSchemaRepositoryTest.class.getResource(resourceName));
     }
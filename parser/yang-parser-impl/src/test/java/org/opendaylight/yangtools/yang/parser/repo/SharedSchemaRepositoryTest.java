@@ -23,6 +23,7 @@ import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
 import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
 import org.opendaylight.yangtools.yang.model.spi.source.URLYangTextSource;
 import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.parser.impl.DefaultYangParserFactory;
 import org.opendaylight.yangtools.yang.parser.rfc7950.repo.TextToIRTransformer;
 
 class SharedSchemaRepositoryTest extends AbstractSchemaRepositoryTest {
@@ -151,6 +152,64 @@ class SharedSchemaRepositoryTest extends AbstractSchemaRepositoryTest {
         verify(immediateInetTypesYang).getSource(id);
     }
 
+    @Test
+    void testRetention() throws Exception {
+        final var sharedSchemaRepository = new SharedSchemaRepository("netconf-mounts", new DefaultYangParserFactory(),
+            1);
+        final var mxBean = sharedSchemaRepository.getMXBean();
+        assertEquals(1, mxBean.getMaximumRetainedWeight());
+
+        final var inetTypesYang = assertYangTextResource("/ietf/ietf-inet-types@2010-09-24.yang");
+        inetTypesYang.register(sharedSchemaRepository);
+        inetTypesYang.setResult();
+
+        final var fact = sharedSchemaRepository.createEffectiveModelContextFactory();
+        final var firstSchemaContext = fact.createEffectiveModelContext(inetTypesYang.getId()).get();
+        assertSchemaContext(firstSchemaContext, 1);
+        assertEquals(1, mxBean.getMissCount());
+        assertEquals(1, mxBean.getBuildCount());
+        assertEquals(0, mxBean.getBuildFailureCount());
+
+        // The context outweighs the maximum, hence it is evicted immediately
+        assertEquals(1, mxBean.getEvictionCount());
+        assertEquals(0, mxBean.getRetainedContextCount());
+        assertEquals(0, mxBean.getRetainedWeight());
+
+        // ... but it is still shared as long as it is in use
+        assertSame(firstSchemaContext, fact.createEffectiveModelContext(inetTypesYang.getId()).get());
+        assertEquals(1, mxBean.getHitCount());
+        assertEquals(1, mxBean.getMissCount());
+
+        // Pinned contexts are retained regardless of their weight
+        try (var reg = sharedSchemaRepository.pinEffectiveModelContext(firstSchemaContext)) {
+            assertEquals(1, mxBean.getPinnedContextCount());
+            assertEquals(1, mxBean.getRetainedContextCount());
+            assertTrue(mxBean.getRetainedWeight() > 1);
+        }
+
+        assertEquals(0, mxBean.getPinnedContextCount());
+        assertEquals(0, mxBean.getRetainedContextCount());
+        assertEquals(0, mxBean.getRetainedWeight());
+    }
+
+    @Test
+    void testRetainedWithinWeight() throws Exception {
+        final var sharedSchemaRepository = new SharedSchemaRepository("netconf-mounts", new DefaultYangParserFactory(),
+            Long.MAX_VALUE);
+        final var mxBean = sharedSchemaRepository.getMXBean();
+
+        final var inetTypesYang = assertYangTextResource("/ietf/ietf-inet-types@2010-09-24.yang");
+        inetTypesYang.register(sharedSchemaRepository);
+        inetTypesYang.setResult();
+
+        final var schemaContext = sharedSchemaRepository.createEffectiveModelContextFactory()
+            .createEffectiveModelContext(inetTypesYang.getId()).get();
+        assertSchemaContext(schemaContext, 1);
+        assertEquals(0, mxBean.getEvictionCount());
+        assertEquals(1, mxBean.getRetainedContextCount());
+        assertTrue(mxBean.getRetainedWeight() > 1);
+    }
+
     static SettableSchemaProvider<YangIRSource> getRemoteYangSourceProviderFromResource(final String resourceName)
             throws Exception {
         return SettableSchemaProvider.createRemote(TextToIRTransformer.transformText(
@@ -80,12 +80,17 @@ abstract class AbstractResumedStatement<A, D extends DeclaredStatement<A>, E ext
     private @NonNull D loadDeclared() {
         final var phase = getCompletedPhase();
         return switch (phase) {
-            case FULL_DECLARATION, EFFECTIVE_MODEL ->
-                declaredInstance = definition().getFactory().createDeclared(this, substatementsAsDeclared());
+            case FULL_DECLARATION, EFFECTIVE_MODEL -> declaredInstance = createDeclared();
             default -> throw new IllegalStateException("Cannot build declared instance after phase " + phase);
         };
     }
 
+    private @NonNull D createDeclared() {
+        final var def = definition();
+        final var ret = def.getFactory().createDeclared(this, substatementsAsDeclared());
+        return def.support().isSharingStatements() ? sharedStatements().shareDeclared(ret) : ret;
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private @NonNull Stream<DeclaredStatement<?>> substatementsAsDeclared() {
         final Stream<AbstractResumedStatement<?, ?, ?>> stream;
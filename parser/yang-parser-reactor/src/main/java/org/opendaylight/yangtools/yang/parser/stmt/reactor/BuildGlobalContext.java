@@ -29,6 +29,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
+import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
@@ -74,14 +75,17 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Globa
     private final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supports;
     private final Set<SourceSpecificContext> sources = new HashSet<>();
     private final ImmutableSet<YangVersion> supportedVersions;
+    private final SharedStatements sharedStatements;
 
     private Set<SourceSpecificContext> libSources = new HashSet<>();
     private ModelProcessingPhase currentPhase = ModelProcessingPhase.INIT;
     private ModelProcessingPhase finishedPhase = ModelProcessingPhase.INIT;
 
     BuildGlobalContext(final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supports,
-            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation) {
+            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation,
+            final SharedStatements sharedStatements) {
         this.supports = requireNonNull(supports, "BuildGlobalContext#supports cannot be null");
+        this.sharedStatements = requireNonNull(sharedStatements);
 
         final var access = accessNamespace(ValidationBundles.NAMESPACE);
         for (var validationBundle : supportedValidation.entrySet()) {
@@ -92,6 +96,10 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Globa
             verifyNotNull(supports.get(ModelProcessingPhase.INIT)).getSupportedVersions());
     }
 
+    @NonNull SharedStatements sharedStatements() {
+        return sharedStatements;
+    }
+
     StatementSupportBundle getSupportsForPhase(final ModelProcessingPhase phase) {
         return supports.get(phase);
     }
@@ -29,6 +29,7 @@ import org.opendaylight.yangtools.yang.parser.spi.validation.ValidationBundles.V
 public final class CrossSourceStatementReactor {
     private final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology;
     private final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation;
+    private final SharedStatements sharedStatements = new SharedStatements();
 
     CrossSourceStatementReactor(final Map<ModelProcessingPhase, StatementSupportBundle> supportedTerminology,
             final Map<ValidationBundleType, Collection<?>> supportedValidation) {
@@ -51,7 +52,7 @@ public final class CrossSourceStatementReactor {
      * @return A new {@link BuildAction}.
      */
     public @NonNull BuildAction newBuild() {
-        return new BuildAction(supportedTerminology, supportedValidation);
+        return new BuildAction(supportedTerminology, supportedValidation, sharedStatements);
     }
 
     public static class Builder implements Mutable {
@@ -88,8 +89,9 @@ public final class CrossSourceStatementReactor {
         private boolean modulesDeviatedByModulesSet = false;
 
         BuildAction(final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology,
-                final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation) {
-            context = new BuildGlobalContext(supportedTerminology, supportedValidation);
+                final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation,
+                final SharedStatements sharedStatements) {
+            context = new BuildGlobalContext(supportedTerminology, supportedValidation, sharedStatements);
         }
 
         /**
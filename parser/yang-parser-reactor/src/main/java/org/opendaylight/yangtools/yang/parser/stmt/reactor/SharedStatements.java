@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.stmt.reactor;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.StatementDefinition;
+import org.opendaylight.yangtools.yang.parser.spi.meta.StatementSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of statements shared across all builds performed by a single {@link CrossSourceStatementReactor}. This allows
+ * multiple {@code EffectiveModelContext}s built from overlapping sets of sources to share their statement instances,
+ * so that retained heap grows with the number of distinct statements rather than with the number of contexts.
+ *
+ * <p>
+ * Statements are hash-consed bottom-up: a statement is considered equivalent to a pooled one if its identifying state
+ * is equal and all of its substatements are the same objects. Since substatements are interned before their parent,
+ * this extends to whole subtrees. Only statements whose {@link StatementSupport#isSharingStatements()} returns
+ * {@code true} participate. Their effective instances are fully determined by their declared instance and effective
+ * substatements, hence the effects of features and deviations are captured by the key.
+ *
+ * <p>
+ * The pool holds its statements weakly, hence it does not prevent unused statements from being garbage-collected.
+ */
+final class SharedStatements {
+    private static final Logger LOG = LoggerFactory.getLogger(SharedStatements.class);
+
+    private final Cache<DeclaredKey, DeclaredStatement<?>> declared = CacheBuilder.newBuilder().weakValues().build();
+    private final Cache<EffectiveKey, EffectiveStatement<?, ?>> effective =
+        CacheBuilder.newBuilder().weakValues().build();
+
+    /**
+     * Return a shared equivalent of specified declared statement, or the statement itself if it is the first of its
+     * kind. Statements with a {@code DeclarationReference} are never shared, as they are tied to a particular source.
+     *
+     * @param <D> Declared Statement representation
+     * @param stmt Declared statement
+     * @return A shared declared statement
+     */
+    <D extends DeclaredStatement<?>> @NonNull D shareDeclared(final @NonNull D stmt) {
+        if (stmt.declarationReference().isPresent()) {
+            return stmt;
+        }
+
+        final var existing = declared.asMap().putIfAbsent(new DeclaredKey(stmt.getClass(), stmt.statementDefinition(),
+            stmt.rawArgument(), stmt.argument(), stmt.declaredSubstatements()), stmt);
+        if (existing == null) {
+            return stmt;
+        }
+
+        LOG.trace("Reusing declared {}", existing);
+        @SuppressWarnings("unchecked")
+        final var ret = (D) existing;
+        return ret;
+    }
+
+    /**
+     * Return a shared equivalent of specified effective statement, or the statement itself if it is the first of its
+     * kind. Statements which do not have a declared view are never shared.
+     *
+     * @param <E> Effective Statement representation
+     * @param stmt Effective statement
+     * @return A shared effective statement
+     */
+    <E extends EffectiveStatement<?, ?>> @NonNull E shareEffective(final @NonNull E stmt) {
+        final var decl = stmt.getDeclared();
+        if (decl == null) {
+            return stmt;
+        }
+
+        final var existing = effective.asMap().putIfAbsent(
+            new EffectiveKey(stmt.getClass(), decl, stmt.effectiveSubstatements()), stmt);
+        if (existing == null) {
+            return stmt;
+        }
+
+        LOG.trace("Reusing effective {}", existing);
+        @SuppressWarnings("unchecked")
+        final var ret = (E) existing;
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("declared", declared.size())
+            .add("effective", effective.size())
+            .toString();
+    }
+
+    /**
+     * Identity of a declared statement. Substatements are compared by identity, as they are expected to have been
+     * shared before their parent.
+     */
+    private record DeclaredKey(
+            @NonNull Class<?> type,
+            @NonNull StatementDefinition definition,
+            @Nullable String rawArgument,
+            @Nullable Object argument,
+            @NonNull List<?> substatements) {
+        DeclaredKey {
+            requireNonNull(type);
+            requireNonNull(definition);
+            requireNonNull(substatements);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, definition, rawArgument, argument, identityHashCode(substatements));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || obj instanceof DeclaredKey other && type == other.type
+                && definition.equals(other.definition) && Objects.equals(rawArgument, other.rawArgument)
+                && Objects.equals(argument, other.argument) && identityEquals(substatements, other.substatements);
+        }
+    }
+
+    /**
+     * Identity of an effective statement. Both the declared statement and substatements are compared by identity.
+     */
+    private record EffectiveKey(
+            @NonNull Class<?> type,
+            @NonNull DeclaredStatement<?> declared,
+            @NonNull List<?> substatements) {
+        EffectiveKey {
+            requireNonNull(type);
+            requireNonNull(declared);
+            requireNonNull(substatements);
+        }
+
+        @Override
+        public int hashCode() {
+            return (type.hashCode() * 31 + System.identityHashCode(declared)) * 31 + identityHashCode(substatements);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || obj instanceof EffectiveKey other && type == other.type
+                && declared == other.declared && identityEquals(substatements, other.substatements);
+        }
+    }
+
+    private static int identityHashCode(final List<?> list) {
+        int result = 1;
+        for (var obj : list) {
+            result = result * 31 + System.identityHashCode(obj);
+        }
+        return result;
+    }
+
+    private static boolean identityEquals(final List<?> first, final List<?> second) {
+        if (first == second) {
+            return true;
+        }
+        final int size = first.size();
+        if (size != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
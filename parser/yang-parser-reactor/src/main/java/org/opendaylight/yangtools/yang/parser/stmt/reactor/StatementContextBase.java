@@ -418,12 +418,17 @@ abstract class StatementContextBase<A, D extends DeclaredStatement<A>, E extends
         final E result = createEffective(definition.getFactory());
         if (result instanceof MutableStatement mutable) {
             getRoot().addMutableStmtToSeal(mutable);
+            return result;
         }
-        return result;
+        return definition.support().isSharingStatements() ? sharedStatements().shareEffective(result) : result;
     }
 
     abstract @NonNull E createEffective(@NonNull StatementFactory<A, D, E> factory);
 
+    final @NonNull SharedStatements sharedStatements() {
+        return getRoot().getSourceContext().globalContext().sharedStatements();
+    }
+
     /**
      * Return a stream of declared statements which can be built into an {@link EffectiveStatement}, as per
      * {@link StmtContext#buildEffective()} contract.
@@ -49,7 +49,7 @@ abstract class AbstractIfFeatureStatementSupport
         SubstatementValidator.builder(YangStmtMapping.IF_FEATURE).build();
 
     AbstractIfFeatureStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.IF_FEATURE, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.IF_FEATURE, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
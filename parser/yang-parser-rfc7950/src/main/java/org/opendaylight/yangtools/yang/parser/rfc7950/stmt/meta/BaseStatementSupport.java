@@ -41,7 +41,7 @@ public final class BaseStatementSupport extends AbstractQNameStatementSupport<Ba
             SubstatementValidator.builder(YangStmtMapping.BASE).build();
 
     public BaseStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.BASE, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.BASE, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
@@ -48,7 +48,7 @@ public final class BitStatementSupport extends AbstractStatementSupport<String,
             .build();
 
     private BitStatementSupport(final YangParserConfiguration config, final SubstatementValidator validator) {
-        super(YangStmtMapping.BIT, StatementPolicy.contextIndependent(), config, requireNonNull(validator));
+        super(YangStmtMapping.BIT, StatementPolicy.sharedContextIndependent(), config, requireNonNull(validator));
     }
 
     public static @NonNull BitStatementSupport rfc6020Instance(final YangParserConfiguration config) {
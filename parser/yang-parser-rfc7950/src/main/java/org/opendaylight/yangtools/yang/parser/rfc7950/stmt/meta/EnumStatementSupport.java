@@ -44,7 +44,7 @@ public final class EnumStatementSupport
             .build();
 
     private EnumStatementSupport(final YangParserConfiguration config, final SubstatementValidator validator) {
-        super(YangStmtMapping.ENUM, StatementPolicy.contextIndependent(), config, validator);
+        super(YangStmtMapping.ENUM, StatementPolicy.sharedContextIndependent(), config, validator);
     }
 
     public static @NonNull EnumStatementSupport rfc6020Instance(final YangParserConfiguration config) {
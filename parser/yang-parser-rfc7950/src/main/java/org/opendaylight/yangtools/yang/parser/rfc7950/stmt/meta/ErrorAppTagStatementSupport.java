@@ -29,7 +29,8 @@ public final class ErrorAppTagStatementSupport
         SubstatementValidator.builder(YangStmtMapping.ERROR_APP_TAG).build();
 
     public ErrorAppTagStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.ERROR_APP_TAG, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.ERROR_APP_TAG, StatementPolicy.sharedContextIndependent(),
+            config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
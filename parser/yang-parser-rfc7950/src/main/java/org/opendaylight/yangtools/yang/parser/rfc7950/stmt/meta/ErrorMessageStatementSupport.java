@@ -29,7 +29,8 @@ public final class ErrorMessageStatementSupport
         SubstatementValidator.builder(YangStmtMapping.ERROR_MESSAGE).build();
 
     public ErrorMessageStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.ERROR_MESSAGE, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.ERROR_MESSAGE, StatementPolicy.sharedContextIndependent(),
+            config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
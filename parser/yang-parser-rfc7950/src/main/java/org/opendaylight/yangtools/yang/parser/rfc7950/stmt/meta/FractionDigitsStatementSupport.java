@@ -46,7 +46,8 @@ public final class FractionDigitsStatementSupport
     }
 
     public FractionDigitsStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.FRACTION_DIGITS, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.FRACTION_DIGITS, StatementPolicy.sharedContextIndependent(),
+            config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
@@ -46,7 +46,7 @@ public final class LengthStatementSupport
             .build();
 
     public LengthStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.LENGTH, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.LENGTH, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
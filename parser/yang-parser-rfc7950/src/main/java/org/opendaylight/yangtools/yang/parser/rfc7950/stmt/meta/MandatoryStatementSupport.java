@@ -30,7 +30,7 @@ public final class MandatoryStatementSupport extends
         super(YangStmtMapping.MANDATORY,
             EffectiveStatements.createMandatory(DeclaredStatements.createMandatory(Boolean.FALSE)),
             EffectiveStatements.createMandatory(DeclaredStatements.createMandatory(Boolean.TRUE)),
-            StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+            StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
@@ -29,7 +29,7 @@ public final class MaxElementsStatementSupport
         SubstatementValidator.builder(YangStmtMapping.MAX_ELEMENTS).build();
 
     public MaxElementsStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.MAX_ELEMENTS, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.MAX_ELEMENTS, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
@@ -29,7 +29,7 @@ public final class MinElementsStatementSupport
         SubstatementValidator.builder(YangStmtMapping.MIN_ELEMENTS).build();
 
     public MinElementsStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.MIN_ELEMENTS, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.MIN_ELEMENTS, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
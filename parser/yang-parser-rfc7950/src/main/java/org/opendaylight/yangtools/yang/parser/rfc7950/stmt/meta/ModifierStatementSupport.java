@@ -32,7 +32,7 @@ public final class ModifierStatementSupport
         SubstatementValidator.builder(YangStmtMapping.MODIFIER).build();
 
     public ModifierStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.MODIFIER, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.MODIFIER, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
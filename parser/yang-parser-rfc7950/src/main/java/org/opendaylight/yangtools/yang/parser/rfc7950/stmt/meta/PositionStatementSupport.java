@@ -30,7 +30,7 @@ public final class PositionStatementSupport
         SubstatementValidator.builder(YangStmtMapping.POSITION).build();
 
     public PositionStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.POSITION, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.POSITION, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
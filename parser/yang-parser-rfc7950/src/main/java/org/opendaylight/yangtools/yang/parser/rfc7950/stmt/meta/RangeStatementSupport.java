@@ -47,7 +47,7 @@ public final class RangeStatementSupport
             .build();
 
     public RangeStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.RANGE, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.RANGE, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
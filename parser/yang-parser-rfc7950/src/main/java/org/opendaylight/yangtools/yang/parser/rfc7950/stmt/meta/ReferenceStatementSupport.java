@@ -27,7 +27,7 @@ public final class ReferenceStatementSupport
         SubstatementValidator.builder(YangStmtMapping.REFERENCE).build();
 
     public ReferenceStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.REFERENCE, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.REFERENCE, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
@@ -33,7 +33,8 @@ public final class RevisionDateStatementSupport
         SubstatementValidator.builder(YangStmtMapping.REVISION_DATE).build();
 
     public RevisionDateStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.REVISION_DATE, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.REVISION_DATE, StatementPolicy.sharedContextIndependent(),
+            config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
@@ -32,7 +32,7 @@ public final class StatusStatementSupport
         SubstatementValidator.builder(YangStmtMapping.STATUS).build();
 
     public StatusStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.STATUS, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.STATUS, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
@@ -30,7 +30,7 @@ public final class ValueStatementSupport
         SubstatementValidator.builder(YangStmtMapping.VALUE).build();
 
     public ValueStatementSupport(final YangParserConfiguration config) {
-        super(YangStmtMapping.VALUE, StatementPolicy.contextIndependent(), config, SUBSTATEMENT_VALIDATOR);
+        super(YangStmtMapping.VALUE, StatementPolicy.sharedContextIndependent(), config, SUBSTATEMENT_VALIDATOR);
     }
 
     @Override
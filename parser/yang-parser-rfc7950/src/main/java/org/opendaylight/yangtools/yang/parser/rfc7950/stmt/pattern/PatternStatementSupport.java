@@ -50,7 +50,7 @@ public final class PatternStatementSupport
             .build();
 
     private PatternStatementSupport(final YangParserConfiguration config, final SubstatementValidator validator) {
-        super(YangStmtMapping.PATTERN, StatementPolicy.contextIndependent(), config, validator);
+        super(YangStmtMapping.PATTERN, StatementPolicy.sharedContextIndependent(), config, validator);
     }
 
     public static @NonNull PatternStatementSupport rfc6020Instance(final YangParserConfiguration config) {
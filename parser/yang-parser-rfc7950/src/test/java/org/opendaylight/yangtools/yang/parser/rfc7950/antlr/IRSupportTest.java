@@ -8,11 +8,42 @@
 package org.opendaylight.yangtools.yang.parser.rfc7950.antlr;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.opendaylight.yangtools.yang.parser.rfc7950.antlr.IRSupport.trimWhitespace;
 
 import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.ir.IRStatement;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.spi.source.StringYangTextSource;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.TextToIRTransformer;
 
 class IRSupportTest {
+    @Test
+    void testSharedAcrossSources() throws Exception {
+        final var foo = leafOf("foo");
+        final var bar = leafOf("bar");
+        assertNotSame(foo, bar);
+        assertSame(foo.keyword(), bar.keyword());
+        assertSame(foo.argument(), bar.argument());
+
+        final var fooType = foo.statements().get(0);
+        final var barType = bar.statements().get(0);
+        assertSame(fooType.keyword(), barType.keyword());
+        assertSame(fooType.argument(), barType.argument());
+    }
+
+    private static IRStatement leafOf(final String name) throws Exception {
+        return TextToIRTransformer.transformText(new StringYangTextSource(new SourceIdentifier(name), """
+            module %s {
+              namespace %s;
+              prefix %s;
+              leaf baz {
+                type string;
+              }
+            }""".formatted(name, name, name))).statement().statements().get(2);
+    }
+
     @Test
     void testTrimWhitespace() {
         assertEquals("\n", trimWhitespace("\n", 0));
@@ -49,9 +49,15 @@ public abstract class StatementSupport<A, D extends DeclaredStatement<A>, E exte
      */
     public abstract static class StatementPolicy<A, D extends DeclaredStatement<A>> implements Immutable {
         final @NonNull CopyPolicy copyPolicy;
+        final boolean sharingStatements;
 
         StatementPolicy(final CopyPolicy copyPolicy) {
+            this(copyPolicy, false);
+        }
+
+        StatementPolicy(final CopyPolicy copyPolicy, final boolean sharingStatements) {
             this.copyPolicy = requireNonNull(copyPolicy);
+            this.sharingStatements = sharingStatements;
         }
 
         /**
@@ -66,6 +72,22 @@ public abstract class StatementSupport<A, D extends DeclaredStatement<A>, E exte
             return (StatementPolicy<A, D>) EqualSemantics.CONTEXT_INDEPENDENT;
         }
 
+        /**
+         * Return a {@link StatementPolicy} for {@link CopyPolicy#CONTEXT_INDEPENDENT}, whose statements are
+         * furthermore completely determined by their argument and substatements. Such statements are shared across
+         * reactor builds, as described in {@link StatementSupport#isSharingStatements()}.
+         *
+         * @param <A> Argument type
+         * @param <D> Declared Statement representation
+         * @return Shared context-independent policy
+         */
+        @Beta
+        @SuppressWarnings("unchecked")
+        public static final <A, D extends DeclaredStatement<A>> @NonNull StatementPolicy<A, D>
+                sharedContextIndependent() {
+            return (StatementPolicy<A, D>) EqualSemantics.SHARED_CONTEXT_INDEPENDENT;
+        }
+
         /**
          * Return a {@link StatementPolicy} for {@link CopyPolicy#EXACT_REPLICA}.
          *
@@ -151,16 +173,23 @@ public abstract class StatementSupport<A, D extends DeclaredStatement<A>, E exte
                 new EqualSemantics<>((copy, stmt, substatements) -> false);
             static final @NonNull EqualSemantics<?, ?> CONTEXT_INDEPENDENT =
                 new EqualSemantics<>(CopyPolicy.CONTEXT_INDEPENDENT, (copy, stmt, substatements) -> true);
+            static final @NonNull EqualSemantics<?, ?> SHARED_CONTEXT_INDEPENDENT =
+                new EqualSemantics<>(CopyPolicy.CONTEXT_INDEPENDENT, true, (copy, stmt, substatements) -> true);
             static final @NonNull EqualSemantics<?, ?> EXACT_REPLICA =
                 new EqualSemantics<>(CopyPolicy.EXACT_REPLICA, (copy, stmt, substatements) -> true);
 
             private final @NonNull StatementEquality<A, D> equality;
 
-            private EqualSemantics(final CopyPolicy copyPolicy, final StatementEquality<A, D> equality) {
-                super(copyPolicy);
+            private EqualSemantics(final CopyPolicy copyPolicy, final boolean sharingStatements,
+                    final StatementEquality<A, D> equality) {
+                super(copyPolicy, sharingStatements);
                 this.equality = requireNonNull(equality);
             }
 
+            private EqualSemantics(final CopyPolicy copyPolicy, final StatementEquality<A, D> equality) {
+                this(copyPolicy, false, equality);
+            }
+
             EqualSemantics(final StatementEquality<A, D> equality) {
                 this(CopyPolicy.DECLARED_COPY, equality);
             }
@@ -452,6 +481,21 @@ public abstract class StatementSupport<A, D extends DeclaredStatement<A>, E exte
         return false;
     }
 
+    /**
+     * Returns true if statements created by this support are completely determined by their argument and substatements
+     * and therefore can be shared across independent reactor builds, for example between multiple
+     * {@code EffectiveModelContext}s built from overlapping sets of sources. This implies {@link #createDeclared} and
+     * {@link #createEffective} do not capture any other state from the statement context, such as its
+     * {@link CopyHistory}. This is a static value, determined by the {@link StatementPolicy} this support was created
+     * with, see {@link StatementPolicy#sharedContextIndependent()}.
+     *
+     * @return true if statements created by this support can be shared across reactor builds, otherwise false.
+     */
+    @Beta
+    public final boolean isSharingStatements() {
+        return policy.sharingStatements;
+    }
+
     public final @NonNull QName statementName() {
         return publicDefinition.getStatementName();
     }